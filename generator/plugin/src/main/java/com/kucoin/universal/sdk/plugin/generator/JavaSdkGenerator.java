@@ -1,5 +1,7 @@
 package com.kucoin.universal.sdk.plugin.generator;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kucoin.universal.sdk.plugin.model.EnumEntry;
 import com.kucoin.universal.sdk.plugin.model.Meta;
 import com.kucoin.universal.sdk.plugin.model.ModeSwitch;
@@ -39,13 +41,27 @@ import static org.openapitools.codegen.utils.StringUtils.camelize;
 public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService {
     private final Logger LOGGER = LoggerFactory.getLogger(JavaSdkGenerator.class);
 
+    /** request fields holding the page number of paged endpoints */
+    private static final List<String> PAGE_FIELDS = Arrays.asList("currentPage", "pageNumber", "pageNum", "pageId");
+
+    private static final String FIXED_POINT_DECIMAL = "FIXED_POINT_DECIMAL";
+
+    /** last word of the names of the monetary fields mapped to Decimal */
+    private static final Set<String> MONETARY_WORDS = new HashSet<>(Arrays.asList(
+            "price", "size", "qty", "quantity", "amount", "funds", "fee", "fees", "balance", "margin", "pnl",
+            "equity", "volume", "vol", "turnover", "value", "increment", "cost", "interest", "debt", "liability", "rate"));
+
     private SchemaService schemaService;
     private OperationService operationService;
     private ModeSwitch modeSwitch;
+    private boolean fixedPointDecimal;
 
     private String service;
     private String subService;
 
+    /** data of the websocket response examples by event class name, built on first use */
+    private Map<String, JsonNode> wsExamples;
+
     public CodegenType getTag() {
         return CodegenType.OTHER;
     }
@@ -61,6 +77,7 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
     public JavaSdkGenerator() {
         super();
         cliOptions.add(ModeSwitch.option);
+        cliOptions.add(CliOption.newBoolean(FIXED_POINT_DECIMAL, "map prices, sizes and other monetary fields to the fixed-point Decimal type", false));
         this.modelTemplateFiles.clear();
         this.apiTemplateFiles.clear();
         this.apiTestTemplateFiles.clear();
@@ -74,6 +91,7 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
         super.processOpts();
         this.supportingFiles.clear();
         modeSwitch = new ModeSwitch(additionalProperties);
+        fixedPointDecimal = convertPropertyToBooleanAndWriteBack(FIXED_POINT_DECIMAL);
         service = KeywordsUtil.getKeyword(camelize(openAPI.getInfo().getTitle()));
         subService = camelize(openAPI.getInfo().getDescription());
         apiPackage = String.format("com.kucoin.universal.sdk.generate.%s.%s", service.toLowerCase(), subService.toLowerCase());
@@ -233,10 +251,34 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
             prop.vendorExtensions.put("x-enums-isString", enumDataType.equalsIgnoreCase("string"));
         }
 
+        if (fixedPointDecimal && isMonetary(prop)) {
+            // numbers keep being sent as json numbers, text as json strings
+            prop.vendorExtensions.put("x-decimal-number", prop.isNumber || prop.isFloat || prop.isDouble);
+            prop.dataType = "Decimal";
+            prop.datatypeWithEnum = "Decimal";
+            prop.baseType = "Decimal";
+        }
 
         return prop;
     }
 
+    /**
+     * Scalar string or number fields without a default, named after a price, size, amount, fee, ... Array cells
+     * such as kline rows and order book levels keep their type.
+     */
+    private boolean isMonetary(CodegenProperty prop) {
+        if (prop.isEnum || prop.isArray || prop.isMap || prop.isModel || prop.defaultValue != null
+                || !("String".equals(prop.dataType) && prop.getFormat() == null || "Double".equals(prop.dataType))) {
+            return false;
+        }
+        String name = prop.name;
+        int i = name.length() - 1;
+        while (i > 0 && !Character.isUpperCase(name.charAt(i))) {
+            i--;
+        }
+        return MONETARY_WORDS.contains(name.substring(i).toLowerCase(Locale.ROOT));
+    }
+
     @Override
     public String toModelName(String name) {
         return formatService(schemaService.getGeneratedModelName(name));
@@ -340,7 +382,9 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
                 Map<String, Object> vendorExtension = codegenModel.getVendorExtensions();
 
                 if (vendorExtension.containsKey("x-request-model")) {
-                    annotation.add("@Builder");
+                    // paged requests are copied with the next page or lastId by the generated iterators
+                    boolean paged = codegenModel.getVars().stream().anyMatch(v -> PAGE_FIELDS.contains(v.getName()) || "lastId".equals(v.getName()));
+                    annotation.add(paged ? "@Builder(toBuilder = true)" : "@Builder");
                     imports.add("import lombok.Builder;");
                     imports.add("import com.kucoin.universal.sdk.internal.interfaces.Request;");
                 }
@@ -359,6 +403,50 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
 
                 }
 
+                // flat websocket events can be refilled in place from the next frame
+                if (modeSwitch.isWs() && vendorExtension.containsKey("x-response-model") && !vendorExtension.containsKey("x-original-response")
+                        && codegenModel.getVars().stream().allMatch(var -> reader(var) != null)) {
+                    vendorExtension.put("x-reusable", true);
+                    imports.add("import java.io.IOException;");
+                    imports.add("import com.fasterxml.jackson.core.JsonParser;");
+                    imports.add("import com.fasterxml.jackson.core.JsonToken;");
+                    imports.add("import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;");
+                    JsonNode example = wsExampleData(codegenModel.getClassname());
+                    for (CodegenProperty var : codegenModel.getVars()) {
+                        var.getVendorExtensions().put("x-read", reader(var));
+                        JsonNode value = example != null ? example.get(var.getBaseName()) : null;
+                        if (!var.isEnum && "String".equals(var.getDataType()) && value != null && value.isTextual()) {
+                            // numeric text also gets a primitive accessor: ids, times and sequences as long, the rest
+                            // (prices, sizes, ...) as double, as their example may happen to be integral
+                            String text = value.asText();
+                            if (text.matches("-?\\d+") && var.getName().matches("^(id|time|ts|timestamp|sequence|version)$|.*(Id|Time|Ts|Timestamp|At|Sequence|Version)$")) {
+                                var.getVendorExtensions().put("x-as-long", true);
+                            } else if (text.matches("-?\\d*\\.?\\d+")) {
+                                var.getVendorExtensions().put("x-as-double", true);
+                            }
+                            if (var.getVendorExtensions().containsKey("x-as-double")) {
+                                imports.add("import com.kucoin.universal.sdk.internal.infra.Numbers;");
+                            }
+                        }
+                    }
+                    // numeric text is parsed into primitives by readFrom; its String is only created on demand
+                    int columns = 0;
+                    for (CodegenProperty var : codegenModel.getVars()) {
+                        if (var.getVendorExtensions().containsKey("x-as-long") || var.getVendorExtensions().containsKey("x-as-double")) {
+                            var.getVendorExtensions().put("x-numeric", true);
+                            var.getVendorExtensions().put("x-numeric-index", columns++);
+                        }
+                    }
+                    if (columns > 0) {
+                        vendorExtension.put("x-numeric-columns", columns);
+                        imports.add("import com.kucoin.universal.sdk.internal.infra.NumericText;");
+                        imports.add("import lombok.AccessLevel;");
+                        imports.add("import lombok.EqualsAndHashCode;");
+                        imports.add("import lombok.Getter;");
+                        imports.add("import lombok.ToString;");
+                    }
+                }
+
                 if (vendorExtension.containsKey("x-original-response") || vendorExtension.containsKey("x-request-raw-array")) {
                     imports.add("import com.fasterxml.jackson.annotation.JsonCreator;");
                     imports.add("import com.fasterxml.jackson.annotation.JsonValue;");
@@ -378,6 +466,15 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
                         }
                     }
 
+                    if ("Decimal".equals(var.getDataType())) {
+                        imports.add("import com.kucoin.universal.sdk.model.Decimal;");
+                        if (Boolean.TRUE.equals(var.getVendorExtensions().get("x-decimal-number"))) {
+                            List<String> varAnnotation = (List<String>) var.getVendorExtensions().computeIfAbsent("x-annotation", key -> new ArrayList<String>());
+                            varAnnotation.add("@JsonSerialize(using = Decimal.NumberSerializer.class)");
+                            imports.add("import com.fasterxml.jackson.databind.annotation.JsonSerialize;");
+                        }
+                    }
+
                     if (var.getIsArray()) {
                         imports.add(String.format("import %s;", importMapping.get("List")));
                         imports.add(String.format("import %s;", importMapping.get("ArrayList")));
@@ -394,6 +491,15 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
                 });
 
 
+                // GET/DELETE requests whose fields all render as plain query values get a generated encoder
+                Object requestMethod = vendorExtension.get("x-request-method");
+                if (vendorExtension.containsKey("x-request-model") && !vendorExtension.containsKey("x-request-raw-array")
+                        && ("GET".equals(requestMethod) || "DELETE".equals(requestMethod))
+                        && codegenModel.getVars().stream().allMatch(this::isQueryValue)) {
+                    vendorExtension.put("x-query-encoder", true);
+                    imports.add("import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;");
+                }
+
                 vendorExtension.put("x-imports", imports);
                 vendorExtension.put("x-annotation", annotation);
             }
@@ -402,6 +508,148 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
     }
 
 
+    /**
+     * Describes how to walk the pages of an operation, or returns null if it is not paged: either by page
+     * number up to the reported totalPage, or by the id of the last item returned.
+     */
+    private Map<String, Object> pagination(Meta meta, List<ModelMap> allModels) {
+        CodegenModel req = findModel(allModels, meta.getMethodServiceFmt() + "Req");
+        CodegenModel resp = findModel(allModels, meta.getMethodServiceFmt() + "Resp");
+        if (req == null || resp == null) {
+            return null;
+        }
+        String respClass = meta.getMethodServiceFmt() + "Resp";
+        Map<String, Object> page = new HashMap<>();
+
+        CodegenProperty pageVar = findVar(req, PAGE_FIELDS.toArray(new String[0]));
+        CodegenProperty totalPage = findVar(resp, "totalPage");
+        CodegenProperty items = findVar(resp, "items");
+        if (pageVar != null && totalPage != null && items != null && items.isArray) {
+            boolean isLong = "Long".equals(pageVar.getDataType());
+            page.put("byPage", true);
+            page.put("itemType", items.getComplexType());
+            page.put("firstPage", String.format("req.%s() != null ? req.%s()%s : 1", pageVar.getGetter(), pageVar.getGetter(), isLong ? ".intValue()" : ""));
+            page.put("withPage", String.format("%s(%s)", pageVar.getName(), isLong ? "(long) page" : "page"));
+            page.put("items", respClass + "::" + items.getGetter());
+            page.put("totalPage", respClass + "::" + totalPage.getGetter());
+            return page;
+        }
+
+        CodegenProperty lastId = findVar(req, "lastId");
+        CodegenProperty limit = findVar(req, "limit");
+        if (lastId == null || !"Long".equals(lastId.getDataType())) {
+            return null;
+        }
+        CodegenProperty respLastId = findVar(resp, "lastId");
+        if (items != null && items.isArray && respLastId != null) {
+            page.put("nextLastId", respClass + "::" + respLastId.getGetter());
+        } else {
+            CodegenProperty data = findVar(resp, "data");
+            CodegenModel item = data != null && data.isArray ? findModel(allModels, data.getComplexType()) : null;
+            CodegenProperty id = item != null ? findVar(item, "id") : null;
+            if (id == null) {
+                return null;
+            }
+            items = data;
+            page.put("nextLastId", String.format("resp -> Paged.lastId(resp.%s(), %s::%s)", data.getGetter(), data.getComplexType(), id.getGetter()));
+        }
+        page.put("byLastId", true);
+        page.put("itemType", items.getComplexType());
+        page.put("items", respClass + "::" + items.getGetter());
+        page.put("limit", limit != null ? String.format("req.%s() != null ? req.%s() : 0", limit.getGetter(), limit.getGetter()) : "0");
+        return page;
+    }
+
+    private CodegenModel findModel(List<ModelMap> allModels, String name) {
+        String importPath = String.format("%s.%s", modelPackage, name);
+        for (ModelMap m : allModels) {
+            if (importPath.equalsIgnoreCase((String) m.get("importPath"))) {
+                return m.getModel();
+            }
+        }
+        return null;
+    }
+
+    private CodegenProperty findVar(CodegenModel model, String... names) {
+        for (CodegenProperty var : model.getVars()) {
+            for (String name : names) {
+                if (name.equals(var.getName())) {
+                    return var;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Streaming read of a flat event field from a JsonParser named p, or null if the field is not a scalar.
+     */
+    private String reader(CodegenProperty var) {
+        if (var.isArray || var.isMap || var.isModel) {
+            return null;
+        }
+        String read;
+        switch (var.getDataType()) {
+            case "String":
+                read = "p.getValueAsString()";
+                break;
+            case "Long":
+                read = "p.getValueAsLong()";
+                break;
+            case "Integer":
+                read = "p.getValueAsInt()";
+                break;
+            case "Double":
+                read = "p.getValueAsDouble()";
+                break;
+            case "Boolean":
+                read = "p.getValueAsBoolean()";
+                break;
+            case "Decimal":
+                read = "Decimal.read(p)";
+                break;
+            default:
+                return null;
+        }
+        return var.isEnum ? String.format("%s.fromValue(%s)", var.getDatatypeWithEnum(), read) : read;
+    }
+
+    /**
+     * The data of the response example of the websocket operation whose event class is eventName.
+     */
+    private JsonNode wsExampleData(String eventName) {
+        if (wsExamples == null) {
+            wsExamples = new HashMap<>();
+            ObjectMapper mapper = new ObjectMapper();
+            openAPI.getPaths().values().forEach(path -> path.readOperations().forEach(operation -> {
+                Meta meta = SpecificationUtil.getMeta(operation);
+                Object example = operation.getExtensions() != null ? operation.getExtensions().get("x-response-example") : null;
+                if (meta == null || example == null) {
+                    return;
+                }
+                try {
+                    JsonNode data = mapper.readTree(StringEscapeUtils.unescapeJson((String) example)).get("data");
+                    if (data != null && data.isObject()) {
+                        wsExamples.put(meta.getMethodServiceFmt() + "Event", data);
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("invalid response example of {}", meta.getMethodServiceFmt(), e);
+                }
+            }));
+        }
+        return wsExamples.get(eventName);
+    }
+
+    private boolean isQueryValue(CodegenProperty var) {
+        if (var.getVendorExtensions().containsKey("x-tag-path")) {
+            return true;
+        }
+        if (var.isModel || var.isMap) {
+            return false;
+        }
+        return !var.isArray || var.items != null && !var.items.isModel && !var.items.isMap && !var.items.isArray;
+    }
+
     @Override
     public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
         objs = super.postProcessOperationsWithModels(objs, allModels);
@@ -452,7 +700,14 @@ public class JavaSdkGenerator extends AbstractJavaCodegen implements NameService
                         break;
                     }
 
-                    case API:
+                    case API: {
+                        Map<String, Object> page = pagination(meta, allModels);
+                        if (page != null) {
+                            op.vendorExtensions.put("x-page", page);
+                            objs.put("x-paged", true);
+                        }
+                        break;
+                    }
                     case TEST: {
                         break;
                     }
@@ -18,6 +18,8 @@ public class Meta extends HashMap<String, Object> {
         this.put("webSocket", webSocket);
         this.put("otherProperties", topicMeta);
         this.put("broker", broker);
+        this.put("rateLimitPool", "");
+        this.put("rateLimitWeight", 0);
     }
 
     public PathItem.HttpMethod getHttpMethod() {
@@ -103,4 +105,20 @@ public class Meta extends HashMap<String, Object> {
     public void setBroker(boolean broker) {
         this.put("broker", broker);
     }
+
+    public String getRateLimitPool() {
+        return (String) this.get("rateLimitPool");
+    }
+
+    public void setRateLimitPool(String rateLimitPool) {
+        this.put("rateLimitPool", rateLimitPool);
+    }
+
+    public int getRateLimitWeight() {
+        return (int) this.get("rateLimitWeight");
+    }
+
+    public void setRateLimitWeight(int rateLimitWeight) {
+        this.put("rateLimitWeight", rateLimitWeight);
+    }
 }
@@ -14,6 +14,7 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 
 import java.util.*;
 
@@ -33,6 +34,8 @@ public class OperationServiceImpl implements OperationService {
     public static String EXTENSION_DEPRECATED = "x-deprecated";
     public static String BROKER_KEY_NAME = "broker";
     public static String EXTENSION_OVERRIDE_METHOD = "x-original-method";
+    public static String EXTENSION_RATE_LIMIT_POOL = "x-api-rate-limit-pool";
+    public static String EXTENSION_RATE_LIMIT_WEIGHT = "x-api-rate-limit-weight";
 
     private final Map<String, Meta> serviceMeta = new HashMap<>();
 
@@ -128,6 +131,8 @@ public class OperationServiceImpl implements OperationService {
                     (boolean) extensions.get(EXTENSION_WS_PRIVATE), true, TopicUtil.parseTopic(nameService, topic), false);
         } else {
             meta = new Meta(httpMethod, domain, service, subService, method, nameService.formatService(method), false, false, null, broker);
+            meta.setRateLimitPool(extensions.getOrDefault(EXTENSION_RATE_LIMIT_POOL, "").toString().toLowerCase());
+            meta.setRateLimitWeight(NumberUtils.toInt(extensions.getOrDefault(EXTENSION_RATE_LIMIT_WEIGHT, "").toString(), 0));
         }
 
         // use patch to mark override method
@@ -141,8 +146,8 @@ public class OperationServiceImpl implements OperationService {
                 {"API-DOMAIN", operation.getExtensions().getOrDefault("x-domain", "NULL").toString().toUpperCase()},
                 {"API-CHANNEL", operation.getExtensions().getOrDefault("x-api-channel", "NULL").toString().toUpperCase()},
                 {"API-PERMISSION", operation.getExtensions().getOrDefault("x-api-permission", "NULL").toString().toUpperCase()},
-                {"API-RATE-LIMIT-POOL", operation.getExtensions().getOrDefault("x-api-rate-limit-pool", "NULL").toString().toUpperCase()},
-                {"API-RATE-LIMIT-WEIGHT", operation.getExtensions().getOrDefault("x-api-rate-limit-weight", "NULL").toString().toUpperCase()},
+                {"API-RATE-LIMIT-POOL", operation.getExtensions().getOrDefault(EXTENSION_RATE_LIMIT_POOL, "NULL").toString().toUpperCase()},
+                {"API-RATE-LIMIT-WEIGHT", operation.getExtensions().getOrDefault(EXTENSION_RATE_LIMIT_WEIGHT, "NULL").toString().toUpperCase()},
         };
 
 
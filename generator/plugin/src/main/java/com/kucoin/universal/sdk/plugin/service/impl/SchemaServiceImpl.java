@@ -315,6 +315,20 @@ public class SchemaServiceImpl implements SchemaService {
                 }
             }
         }
+
+        // record the http method on the root request model; a patch stands in for a second
+        // operation on the same path and carries the method actually sent
+        if (generated) {
+            Schema rootSchema = ModelUtils.getSchema(openAPI, generatedSchemaName);
+            if (rootSchema != null) {
+                String method = meta.getHttpMethod().toString();
+                if (meta.getHttpMethod() == PathItem.HttpMethod.PATCH && operation.getExtensions() != null
+                        && operation.getExtensions().get("x-original-method") != null) {
+                    method = operation.getExtensions().get("x-original-method").toString();
+                }
+                rootSchema.addExtension("x-request-method", method.toUpperCase());
+            }
+        }
     }
 
 
@@ -0,0 +1,51 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Generated {@code CallbackAdapters.of} decode path for messages whose data was kept as a tree,
+ * i.e. topics without a pre-bound payload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallbackAdaptersBenchmark {
+
+  @Param({"level2", "match", "execution", "level50", "tickerV2"})
+  public String frame;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private WebSocketMessageCallback adapter;
+  private String json;
+  private WsMessage parsed;
+  private Object last;
+
+  @Setup
+  public void setup() throws Exception {
+    Frames f = Frames.valueOf(frame);
+    adapter = f.adapter(event -> last = event);
+    json = f.json();
+    parsed = mapper.readValue(json, WsMessage.class);
+  }
+
+  /** Tree already parsed; measures the conversion into the event class. */
+  @Benchmark
+  public Object adapter() {
+    adapter.onMessage(parsed, mapper);
+    return last;
+  }
+
+  /** Frame to tree to event, as done for topics without a typed callback. */
+  @Benchmark
+  public Object treeDecode() throws Exception {
+    adapter.onMessage(mapper.readValue(json, WsMessage.class), mapper);
+    return last;
+  }
+}
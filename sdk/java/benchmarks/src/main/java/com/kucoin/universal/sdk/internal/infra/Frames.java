@@ -0,0 +1,73 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/** Recorded WebSocket frames and the generated callback adapter of each topic. */
+enum Frames {
+  level2("/market/level2", "BTC-USDT") {
+    @Override
+    WebSocketMessageCallback adapter(Consumer<Object> sink) {
+      return com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookIncrementEvent
+          .CallbackAdapters.of((topic, subject, event) -> sink.accept(event));
+    }
+  },
+  match("/market/match", "BTC-USDT") {
+    @Override
+    WebSocketMessageCallback adapter(Consumer<Object> sink) {
+      return com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent.CallbackAdapters.of(
+          (topic, subject, event) -> sink.accept(event));
+    }
+  },
+  execution("/contractMarket/execution", "XBTUSDTM") {
+    @Override
+    WebSocketMessageCallback adapter(Consumer<Object> sink) {
+      return com.kucoin.universal.sdk.generate.futures.futurespublic.ExecutionEvent.CallbackAdapters
+          .of((topic, subject, event) -> sink.accept(event));
+    }
+  },
+  level50("/spotMarket/level2Depth50", "BTC-USDT") {
+    @Override
+    WebSocketMessageCallback adapter(Consumer<Object> sink) {
+      return com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookLevel50Event
+          .CallbackAdapters.of((topic, subject, event) -> sink.accept(event));
+    }
+  },
+  tickerV2("/contractMarket/tickerV2", "XBTUSDTM") {
+    @Override
+    WebSocketMessageCallback adapter(Consumer<Object> sink) {
+      return com.kucoin.universal.sdk.generate.futures.futurespublic.TickerV2Event.CallbackAdapters
+          .of((topic, subject, event) -> sink.accept(event));
+    }
+  };
+
+  final String prefix;
+  final String arg;
+
+  Frames(String prefix, String arg) {
+    this.prefix = prefix;
+    this.arg = arg;
+  }
+
+  abstract WebSocketMessageCallback adapter(Consumer<Object> sink);
+
+  String topic() {
+    return prefix + ":" + arg;
+  }
+
+  /** The recorded frame, as sent by the server. */
+  String json() {
+    try (InputStream in = Frames.class.getResourceAsStream("/frames/" + name() + ".json")) {
+      if (in == null) {
+        throw new IllegalStateException("missing frame " + name());
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.openjdk.jmh.annotations.*;
+
+/** {@link KcSigner} header generation for a typical GET and POST payload. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignerBenchmark {
+
+  private static final String GET =
+      "GET/api/v1/market/candles?symbol=BTC-USDT&type=1min&startAt=1729823400&endAt=1729827000";
+
+  private static final String POST =
+      "POST/api/v1/hf/orders{\"clientOid\":\"5c52e11203aa677f33e493fb\",\"side\":\"buy\","
+          + "\"symbol\":\"BTC-USDT\",\"type\":\"limit\",\"price\":\"50000\",\"size\":\"0.00001\","
+          + "\"timeInForce\":\"GTC\",\"remark\":\"order remarks\"}";
+
+  private static final byte[] POST_BODY =
+      POST.substring("POST/api/v1/hf/orders".length()).getBytes(StandardCharsets.UTF_8);
+
+  private final KcSigner signer =
+      new KcSigner("key", "secret", "passphrase", "broker", "partner", "broker-key");
+
+  private int hash;
+  private final BiConsumer<String, String> sink = (k, v) -> hash += v.length();
+
+  @Benchmark
+  public int headersGet() {
+    signer.headers(GET, sink);
+    return hash;
+  }
+
+  @Benchmark
+  public int headersPost() {
+    signer.headers(POST, sink);
+    return hash;
+  }
+
+  @Benchmark
+  public int headersPostBytes() {
+    signer.headers("POST", "/api/v1/hf/orders", POST_BODY, POST_BODY.length, sink);
+    return hash;
+  }
+
+  @Benchmark
+  public Map<String, String> headersMap() {
+    return signer.headers(POST);
+  }
+
+  @Benchmark
+  public int brokerHeaders() {
+    signer.brokerHeaders(POST, sink);
+    return hash;
+  }
+}
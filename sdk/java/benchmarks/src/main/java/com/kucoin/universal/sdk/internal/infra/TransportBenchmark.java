@@ -0,0 +1,215 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.generate.spot.market.GetKlinesReq;
+import com.kucoin.universal.sdk.generate.spot.market.GetKlinesResp;
+import com.kucoin.universal.sdk.generate.spot.order.AddOrderReq;
+import com.kucoin.universal.sdk.generate.spot.order.AddOrderResp;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.TransportOption;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.net.ServerSocketFactory;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * REST hot path: {@code DefaultTransport.processRequest} (query building, body serialization and
+ * signing) in isolation, and full {@code call} round trips against a local mock server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+
+  private static final String KLINES =
+      "{\"code\":\"200000\",\"data\":[[\"1729827000\",\"67502.1\",\"67502.2\",\"67502.3\","
+          + "\"67502\",\"0.0123\",\"830.3\"],[\"1729826940\",\"67510\",\"67502.1\",\"67510\","
+          + "\"67500\",\"0.0501\",\"3382.2\"]]}";
+
+  private static final String ADD_ORDER =
+      "{\"code\":\"200000\",\"data\":{\"orderId\":\"670fd33bf9406e0007ab3945\","
+          + "\"clientOid\":\"5c52e11203aa677f33e493fb\"}}";
+
+  private MockWebServer server;
+  private DefaultTransport transport;
+  private String endpoint;
+
+  private final GetKlinesReq klinesReq =
+      GetKlinesReq.builder()
+          .symbol("BTC-USDT")
+          .type(GetKlinesReq.TypeEnum._1MIN)
+          .startAt(1729823400L)
+          .endAt(1729827000L)
+          .build();
+
+  private final AddOrderReq addOrderReq =
+      AddOrderReq.builder()
+          .clientOid("5c52e11203aa677f33e493fb")
+          .side(AddOrderReq.SideEnum.BUY)
+          .symbol("BTC-USDT")
+          .type(AddOrderReq.TypeEnum.LIMIT)
+          .price("50000")
+          .size("0.00001")
+          .remark("order remarks")
+          .build();
+
+  @Setup
+  public void setup() throws Exception {
+    server = new MockWebServer();
+    server.setServerSocketFactory(new NoDelayServerSocketFactory());
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            String body = "POST".equals(request.getMethod()) ? ADD_ORDER : KLINES;
+            return new MockResponse()
+                .setBody(body)
+                .addHeader("gw-ratelimit-limit", "4000")
+                .addHeader("gw-ratelimit-remaining", "3999")
+                .addHeader("gw-ratelimit-reset", "29000");
+          }
+        });
+    server.start();
+    endpoint = server.url("/").toString().replaceAll("/$", "");
+
+    ClientOption option =
+        ClientOption.builder()
+            .key("key")
+            .secret("secret")
+            .passphrase("passphrase")
+            .spotEndpoint(endpoint)
+            .futuresEndpoint(endpoint)
+            .brokerEndpoint(endpoint)
+            .transportOption(TransportOption.defaults())
+            .build();
+    transport = new DefaultTransport(option, "bench");
+  }
+
+  /** Disables Nagle on accepted sockets, otherwise every response stalls on a delayed ACK. */
+  private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+
+    @Override
+    public ServerSocket createServerSocket() throws IOException {
+      return new NoDelayServerSocket();
+    }
+
+    @Override
+    public ServerSocket createServerSocket(int port) throws IOException {
+      return new NoDelayServerSocket(port, 0, null);
+    }
+
+    @Override
+    public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+      return new NoDelayServerSocket(port, backlog, null);
+    }
+
+    @Override
+    public ServerSocket createServerSocket(int port, int backlog, InetAddress address)
+        throws IOException {
+      return new NoDelayServerSocket(port, backlog, address);
+    }
+  }
+
+  private static final class NoDelayServerSocket extends ServerSocket {
+
+    NoDelayServerSocket() throws IOException {}
+
+    /** Bound like {@link ServerSocket#ServerSocket(int, int, InetAddress)}. */
+    NoDelayServerSocket(int port, int backlog, InetAddress address) throws IOException {
+      super(port, backlog, address);
+    }
+
+    @Override
+    public Socket accept() throws IOException {
+      Socket socket = super.accept();
+      socket.setTcpNoDelay(true);
+      return socket;
+    }
+  }
+
+  /** MockWebServer records every request; drain them so the heap stays flat. */
+  @TearDown(Level.Iteration)
+  public void drain() throws InterruptedException {
+    while (server.takeRequest(0, TimeUnit.MILLISECONDS) != null) {}
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    transport.close();
+    server.shutdown();
+  }
+
+  @Benchmark
+  public okhttp3.Request processRequestGet() throws Exception {
+    JsonBody body = JsonBody.pooled();
+    try {
+      return transport.processRequest(
+          klinesReq,
+          "/api/v1/market/candles",
+          Collections.emptySet(),
+          endpoint,
+          "GET",
+          false,
+          false,
+          body);
+    } finally {
+      body.release();
+    }
+  }
+
+  @Benchmark
+  public okhttp3.Request processRequestPost() throws Exception {
+    JsonBody body = JsonBody.pooled();
+    try {
+      return transport.processRequest(
+          addOrderReq,
+          "/api/v1/hf/orders",
+          Collections.emptySet(),
+          endpoint,
+          "POST",
+          false,
+          false,
+          body);
+    } finally {
+      body.release();
+    }
+  }
+
+  @Benchmark
+  public GetKlinesResp callGet() {
+    return transport.call(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/candles",
+        klinesReq,
+        GetKlinesResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  @Benchmark
+  public AddOrderResp callPost() {
+    return transport.call(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders",
+        addOrderReq,
+        AddOrderResp.class,
+        false,
+        "spot",
+        1);
+  }
+}
@@ -0,0 +1,92 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Inbound WebSocket path without the socket: {@code DefaultWebsocketTransport.handle} decoding a
+ * recorded frame and dispatching it through {@link DefaultWsService} to the generated callback, and
+ * the {@link TopicManager} / {@link CallbackManager} lookup on its own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WsDispatchBenchmark {
+
+  @Param({"level2", "match", "execution"})
+  public String frame;
+
+  @Param({"false", "true"})
+  public boolean compactOrderBook;
+
+  private DefaultWsService service;
+  private TopicManager topicManager;
+  private Object transport;
+  private MethodHandle handle;
+  private String json;
+  private String topic;
+  private Object last;
+
+  @Setup
+  public void setup() throws Exception {
+    ClientOption option =
+        ClientOption.builder()
+            .compactOrderBook(compactOrderBook)
+            .websocketClientOption(WebSocketClientOption.defaults())
+            .build();
+    service = new DefaultWsService(option, "spot", false, "bench");
+
+    Field tm = DefaultWsService.class.getDeclaredField("topicManager");
+    tm.setAccessible(true);
+    topicManager = (TopicManager) tm.get(service);
+    Field client = DefaultWsService.class.getDeclaredField("client");
+    client.setAccessible(true);
+    transport = client.get(service);
+
+    // every recorded topic is subscribed, as in a service carrying several streams
+    for (Frames f : Frames.values()) {
+      WebSocketMessageCallback cb = f.adapter(event -> last = event);
+      topicManager
+          .getCallbackManager(f.prefix)
+          .add(new SubInfo(f.prefix, Collections.singletonList(f.arg), cb));
+    }
+
+    Frames f = Frames.valueOf(frame);
+    json = f.json();
+    topic = f.topic();
+    handle =
+        MethodHandles.privateLookupIn(DefaultWebsocketTransport.class, MethodHandles.lookup())
+            .findVirtual(
+                DefaultWebsocketTransport.class,
+                "handle",
+                MethodType.methodType(void.class, String.class, CountDownLatch.class));
+  }
+
+  @TearDown
+  public void tearDown() {
+    service.stop();
+  }
+
+  @Benchmark
+  public Object handle() throws Throwable {
+    handle.invoke(transport, json, (CountDownLatch) null);
+    return last;
+  }
+
+  @Benchmark
+  public WebSocketMessageCallback route() {
+    return topicManager.getCallbackManager(topic).get(topic);
+  }
+}
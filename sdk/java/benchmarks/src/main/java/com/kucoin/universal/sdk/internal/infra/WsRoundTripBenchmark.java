@@ -0,0 +1,135 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.TransportOption;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full inbound WebSocket path: a local mock server pushes recorded frames over a real socket to a
+ * subscribed {@link DefaultWsService}; one operation is one frame delivered to the callback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WsRoundTripBenchmark {
+
+  private static final int BATCH = 1000;
+
+  @Param({"level2", "match", "execution"})
+  public String frame;
+
+  /** decode into reused event instances; only changes events made of scalar fields */
+  @Param({"false", "true"})
+  public boolean flyweight;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private MockWebServer server;
+  private DefaultWsService service;
+  private volatile WebSocket serverSocket;
+  private volatile CountDownLatch pending = new CountDownLatch(0);
+  private String json;
+
+  @Setup
+  public void setup() throws Exception {
+    Frames f = Frames.valueOf(frame);
+    json = f.json();
+
+    server = new MockWebServer();
+    server.start();
+    String base = server.url("/").toString().replaceAll("/$", "");
+    String token =
+        "{\"code\":\"200000\",\"data\":{\"token\":\"bench\",\"instanceServers\":[{\"endpoint\":\""
+            + base.replace("http", "ws")
+            + "/ws\",\"encrypt\":false,\"protocol\":\"websocket\",\"pingInterval\":18000,"
+            + "\"pingTimeout\":10000}]}}";
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            if (request.getPath().startsWith("/ws")) {
+              return new MockResponse().withWebSocketUpgrade(new ServerListener());
+            }
+            return new MockResponse().setBody(token);
+          }
+        });
+
+    ClientOption option =
+        ClientOption.builder()
+            .key("key")
+            .secret("secret")
+            .passphrase("passphrase")
+            .spotEndpoint(base)
+            .futuresEndpoint(base)
+            .brokerEndpoint(base)
+            .transportOption(TransportOption.defaults())
+            .websocketClientOption(
+                WebSocketClientOption.builder()
+                    .flyweightTopics(
+                        flyweight ? Collections.singleton(f.prefix) : Collections.emptySet())
+                    .build())
+            .build();
+    service = new DefaultWsService(option, "spot", false, "bench");
+    service.start();
+    service.subscribe(f.prefix, new String[] {f.arg}, f.adapter(event -> pending.countDown()));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    service.stop();
+    server.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void deliver() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    pending = latch;
+    for (int i = 0; i < BATCH; i++) {
+      serverSocket.send(json);
+    }
+    if (!latch.await(30, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("frames lost, pending " + latch.getCount());
+    }
+  }
+
+  /** Minimal server side of the protocol: welcome on connect, ack on subscribe. */
+  private final class ServerListener extends WebSocketListener {
+
+    @Override
+    public void onOpen(WebSocket webSocket, Response response) {
+      serverSocket = webSocket;
+      webSocket.send("{\"id\":\"welcome\",\"type\":\"welcome\"}");
+    }
+
+    @Override
+    public void onMessage(WebSocket webSocket, String text) {
+      try {
+        JsonNode msg = mapper.readTree(text);
+        String type = msg.path("type").asText();
+        if ("ping".equals(type)) {
+          webSocket.send("{\"id\":\"" + msg.path("id").asText() + "\",\"type\":\"pong\"}");
+        } else {
+          webSocket.send("{\"id\":\"" + msg.path("id").asText() + "\",\"type\":\"ack\"}");
+        }
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
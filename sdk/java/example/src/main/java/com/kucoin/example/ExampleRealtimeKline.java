@@ -2,15 +2,19 @@ package com.kucoin.example;
 
 import com.kucoin.universal.sdk.api.DefaultKucoinClient;
 import com.kucoin.universal.sdk.api.KucoinClient;
+import com.kucoin.universal.sdk.candle.Candle;
+import com.kucoin.universal.sdk.candle.CandleEngine;
+import com.kucoin.universal.sdk.candle.CandleEngineOption;
+import com.kucoin.universal.sdk.candle.CandleInterval;
+import com.kucoin.universal.sdk.candle.CandleSeries;
 import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWs;
-import com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent;
 import com.kucoin.universal.sdk.model.ClientOption;
 import com.kucoin.universal.sdk.model.Constants;
 import com.kucoin.universal.sdk.model.TransportOption;
 import com.kucoin.universal.sdk.model.WebSocketClientOption;
-import java.util.HashMap;
-import java.util.Map;
-import lombok.Data;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -27,97 +31,44 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ExampleRealtimeKline {
 
-  // === KLine definition ===
-  @Data
-  public static class KLine {
-    private double open;
-    private double high;
-    private double low;
-    private double close;
-    private double volume;
-    private int startTime;
-    private int endTime;
+  private static final SimpleDateFormat TIME_FORMAT =
+      new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX");
 
-    public KLine(double price, double size, int startTime, int endTime) {
-      this.open = price;
-      this.high = price;
-      this.low = price;
-      this.close = price;
-      this.volume = size;
-      this.startTime = startTime;
-      this.endTime = endTime;
-    }
-
-    public void update(double price, double size) {
-      this.high = Math.max(this.high, price);
-      this.low = Math.min(this.low, price);
-      this.close = price;
-      this.volume += size;
+  private static String format(long epochMillis) {
+    synchronized (TIME_FORMAT) {
+      return TIME_FORMAT.format(new Date(epochMillis));
     }
   }
 
-  // === Global data ===
-  private static final int TIME_INTERVAL = 60; // seconds
-  private static final Map<Integer, Map<String, KLine>> klineData = new HashMap<>();
-
-  public static void processTradeToKline(String topic, String subject, TradeEvent tradeEvent) {
-    String symbol = tradeEvent.getSymbol();
-    double price = Double.parseDouble(tradeEvent.getPrice());
-    double size = Double.parseDouble(tradeEvent.getSize());
-    int timestamp = (int) (Long.parseLong(tradeEvent.getTime()) / 1_000_000_000L);
-
-    int periodStart = Math.floorDiv(timestamp, TIME_INTERVAL) * TIME_INTERVAL;
-    int periodEnd = periodStart + TIME_INTERVAL;
-
-    klineData.computeIfAbsent(periodStart, k -> new HashMap<>());
-    klineData
-        .get(periodStart)
-        .computeIfAbsent(symbol, s -> new KLine(price, size, periodStart, periodEnd))
-        .update(price, size);
-
+  public static void onClose(Candle kline) {
     log.info(
-        "KLine @{} [{}]: O={} H={} L={} C={} V={}",
-        new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX")
-            .format(new java.util.Date(periodStart * 1000L)),
-        symbol,
-        klineData.get(periodStart).get(symbol).getOpen(),
-        klineData.get(periodStart).get(symbol).getHigh(),
-        klineData.get(periodStart).get(symbol).getLow(),
-        klineData.get(periodStart).get(symbol).getClose(),
-        klineData.get(periodStart).get(symbol).getVolume());
+        "KLine @{} [{} {}]: O={} H={} L={} C={} V={}",
+        format(kline.getOpenTime()),
+        kline.getSymbol(),
+        kline.getInterval().type(),
+        kline.getOpen(),
+        kline.getHigh(),
+        kline.getLow(),
+        kline.getClose(),
+        kline.getVolume());
   }
 
-  public static void printKlineData() {
-    klineData.keySet().stream()
-        .sorted()
-        .forEach(
-            periodStart -> {
-              System.out.println(
-                  "\nTime Period: "
-                      + new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX")
-                          .format(new java.util.Date(periodStart * 1000L)));
-              Map<String, KLine> symbols = klineData.get(periodStart);
-              symbols.keySet().stream()
-                  .sorted()
-                  .forEach(
-                      symbol -> {
-                        KLine kline = symbols.get(symbol);
-                        System.out.println("  Symbol: " + symbol);
-                        System.out.println("    Open: " + kline.getOpen());
-                        System.out.println("    High: " + kline.getHigh());
-                        System.out.println("    Low: " + kline.getLow());
-                        System.out.println("    Close: " + kline.getClose());
-                        System.out.println("    Volume: " + kline.getVolume());
-                        System.out.println(
-                            "    Start Time: "
-                                + new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX")
-                                    .format(new java.util.Date(kline.getStartTime() * 1000L)));
-                        System.out.println(
-                            "    End Time:   "
-                                + new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX")
-                                    .format(new java.util.Date(kline.getEndTime() * 1000L)));
-                      });
-            });
+  public static void printKlineData(CandleEngine engine) {
+    for (String symbol : engine.symbols()) {
+      for (CandleInterval interval : engine.intervals()) {
+        CandleSeries series = engine.series(symbol, interval);
+        System.out.println("\nSymbol: " + symbol + ", Interval: " + interval.type());
+        // only the latest bars: the series keeps `capacity` of them
+        for (int i = Math.max(0, series.size() - 5); i < series.size(); i++) {
+          System.out.println("  Time Period: " + format(series.openTime(i)));
+          System.out.println("    Open: " + series.open(i));
+          System.out.println("    High: " + series.high(i));
+          System.out.println("    Low: " + series.low(i));
+          System.out.println("    Close: " + series.close(i));
+          System.out.println("    Volume: " + series.volume(i));
+        }
+      }
+    }
   }
 
   public static void main(String[] args) throws Exception {
@@ -145,16 +96,26 @@ public class ExampleRealtimeKline {
     SpotPublicWs spotWs = client.getWsService().newSpotPublicWS();
     spotWs.start();
 
-    String[] symbols = {"BTC-USDT", "ETH-USDT"};
-    String subId = spotWs.trade(symbols, ExampleRealtimeKline::processTradeToKline);
-
-    log.info("Subscribed with ID: {}", subId);
+    // 1min and 5min bars built from the trade stream, after the latest 100 bars of history
+    CandleEngine engine =
+        CandleEngine.spot(
+            Arrays.asList("BTC-USDT", "ETH-USDT"),
+            Arrays.asList(CandleInterval.MIN_1, CandleInterval.MIN_5),
+            client.getRestService().getSpotService().getMarketApi(),
+            spotWs,
+            CandleEngineOption.builder()
+                .capacity(100)
+                .listener(ExampleRealtimeKline::onClose)
+                .build());
+    engine.start();
+
+    log.info("Building klines...");
     Thread.sleep(180 * 1000);
 
     log.info("Unsubscribing...");
-    spotWs.unSubscribe(subId);
+    engine.close();
     spotWs.stop();
 
-    printKlineData();
+    printKlineData(engine);
   }
 }
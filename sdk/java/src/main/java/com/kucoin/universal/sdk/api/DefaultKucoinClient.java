@@ -1,8 +1,13 @@
 package com.kucoin.universal.sdk.api;
 
+import com.kucoin.universal.sdk.internal.infra.ClientWarmUp;
+import com.kucoin.universal.sdk.internal.infra.HttpRuntime;
+import com.kucoin.universal.sdk.internal.infra.JsonMappers;
+import com.kucoin.universal.sdk.internal.interfaces.Transport;
 import com.kucoin.universal.sdk.internal.rest.DefaultKucoinRestAPIImpl;
 import com.kucoin.universal.sdk.internal.ws.DefaultKucoinWsImpl;
 import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.WarmUpOption;
 
 /*
 Client
@@ -50,6 +55,8 @@ Client
 /** DefaultClient provides the default implementation of the {@link KucoinClient} interface. */
 public final class DefaultKucoinClient implements KucoinClient {
 
+  private final ClientOption option;
+
   /** REST-side facade. */
   private final KucoinRestService restImpl;
 
@@ -57,8 +64,16 @@ public final class DefaultKucoinClient implements KucoinClient {
   private final KucoinWSService wsImpl;
 
   public DefaultKucoinClient(ClientOption option) {
-    this.restImpl = new DefaultKucoinRestAPIImpl(option);
-    this.wsImpl = new DefaultKucoinWsImpl(option);
+    this.option = option;
+    // one OkHttp pool and dispatcher for REST and every WebSocket connection
+    HttpRuntime runtime = new HttpRuntime(option.getTransportOption());
+    Transport transport = DefaultKucoinRestAPIImpl.newTransport(option, runtime);
+    this.restImpl = new DefaultKucoinRestAPIImpl(transport);
+    // WebSocket tokens are fetched over the REST transport
+    this.wsImpl = new DefaultKucoinWsImpl(option, transport, runtime);
+    if (option.isPreWarmJson()) {
+      JsonMappers.preWarm(option);
+    }
   }
 
   @Override
@@ -70,4 +85,9 @@ public final class DefaultKucoinClient implements KucoinClient {
   public KucoinWSService getWsService() {
     return wsImpl;
   }
+
+  @Override
+  public void warmUp(WarmUpOption warmUpOption) {
+    ClientWarmUp.run(option, restImpl, warmUpOption);
+  }
 }
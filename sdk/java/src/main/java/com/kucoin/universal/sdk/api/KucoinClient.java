@@ -1,5 +1,7 @@
 package com.kucoin.universal.sdk.api;
 
+import com.kucoin.universal.sdk.model.WarmUpOption;
+
 /** Client interface defines the methods to get REST and WebSocket services. */
 public interface KucoinClient {
 
@@ -16,4 +18,18 @@ public interface KucoinClient {
    * @return KucoinWSService
    */
   KucoinWSService getWsService();
+
+  /**
+   * Opens pooled connections and initializes the signer and the JSON paths of the selected models,
+   * so the first real request does not pay for it. Blocks until done or the option's {@code
+   * timeout} passes; failures are logged, not thrown.
+   *
+   * @param option what to warm up
+   */
+  void warmUp(WarmUpOption option);
+
+  /** Warms up with {@link WarmUpOption#defaults()}. */
+  default void warmUp() {
+    warmUp(WarmUpOption.defaults());
+  }
 }
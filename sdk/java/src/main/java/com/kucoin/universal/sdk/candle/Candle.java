@@ -0,0 +1,17 @@
+package com.kucoin.universal.sdk.candle;
+
+import lombok.Value;
+
+/** One bar of a candle series; {@code openTime} is in epoch milliseconds. */
+@Value
+public class Candle {
+  String symbol;
+  CandleInterval interval;
+  long openTime;
+  double open;
+  double high;
+  double low;
+  double close;
+  double volume;
+  double turnover;
+}
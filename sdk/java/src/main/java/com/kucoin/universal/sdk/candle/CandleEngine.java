@@ -0,0 +1,428 @@
+package com.kucoin.universal.sdk.candle;
+
+import com.kucoin.universal.sdk.generate.futures.futurespublic.ExecutionEvent;
+import com.kucoin.universal.sdk.generate.futures.futurespublic.FuturesPublicWs;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWs;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Candles of a fixed set of symbols and intervals, built incrementally from trade or kline streams.
+ *
+ * <p>Every symbol and interval pair is a {@link CandleSeries} created up front, so memory is
+ * bounded by {@code symbols * intervals * capacity} whatever the stream sends; events of other
+ * symbols are ignored. With {@link CandleEngineOption.Source#TRADES}, one trade stream per symbol
+ * feeds all of its intervals. On start, every series is backfilled with the latest bars from the
+ * REST API; bars built before the history arrives are kept.
+ *
+ * <p>Closed bars are reported to {@link CandleEngineOption.Listener#onClose}. A periodic check
+ * closes bars of quiet symbols once their end has passed, instead of waiting for the next trade.
+ */
+@Slf4j
+public final class CandleEngine implements AutoCloseable {
+
+  /** Loads up to {@code bars} of the latest bars of a series, in any order. */
+  @FunctionalInterface
+  public interface HistoryLoader {
+    List<Candle> load(String symbol, CandleInterval interval, int bars) throws Exception;
+  }
+
+  /** symbols per trade subscription */
+  private static final int SYMBOLS_PER_TOPIC = 100;
+
+  private final List<CandleInterval> intervals;
+  private final HistoryLoader loader;
+  private final CandleEngineOption option;
+  private final ScheduledExecutorService executor;
+  private final long closeDelay;
+
+  /** series by symbol, indexed by interval ordinal */
+  private final Map<String, CandleSeries[]> series;
+
+  private final Supplier<List<String>> subscribe;
+  private final Consumer<String> unsubscribe;
+  private final List<String> subscriptionIds = new ArrayList<>();
+  private ScheduledFuture<?> tick;
+  private volatile boolean closed;
+
+  public CandleEngine(
+      Collection<String> symbols,
+      Collection<CandleInterval> intervals,
+      HistoryLoader loader,
+      CandleEngineOption option) {
+    this(symbols, intervals, loader, option, null, null);
+  }
+
+  private CandleEngine(
+      Collection<String> symbols,
+      Collection<CandleInterval> intervals,
+      HistoryLoader loader,
+      CandleEngineOption option,
+      Supplier<List<String>> subscribe,
+      Consumer<String> unsubscribe) {
+    this.intervals = Collections.unmodifiableList(new ArrayList<>(intervals));
+    this.loader = loader;
+    this.option = option == null ? CandleEngineOption.defaults() : option;
+    this.executor =
+        this.option.getExecutor() != null ? this.option.getExecutor() : SharedExecutor.INSTANCE;
+    this.closeDelay = this.option.getCloseDelay().toMillis();
+    this.subscribe = subscribe;
+    this.unsubscribe = unsubscribe;
+    if (this.intervals.isEmpty()) {
+      throw new IllegalArgumentException("no candle interval");
+    }
+
+    Consumer<Candle> onClose = this::notifyClose;
+    Map<String, CandleSeries[]> bySymbol = new HashMap<>();
+    for (String symbol : symbols) {
+      CandleSeries[] row = new CandleSeries[CandleInterval.values().length];
+      for (CandleInterval interval : this.intervals) {
+        row[interval.ordinal()] =
+            new CandleSeries(
+                Objects.requireNonNull(symbol, "symbol"),
+                interval,
+                this.option.getCapacity(),
+                onClose);
+      }
+      bySymbol.put(symbol, row);
+    }
+    this.series = Collections.unmodifiableMap(bySymbol);
+  }
+
+  /** Engine for spot symbols fed by {@link SpotPublicWs#trade} or {@link SpotPublicWs#klines}. */
+  public static CandleEngine spot(
+      Collection<String> symbols,
+      Collection<CandleInterval> intervals,
+      com.kucoin.universal.sdk.generate.spot.market.MarketApi marketApi,
+      SpotPublicWs ws,
+      CandleEngineOption option) {
+    HistoryLoader loader =
+        history(KlineDownloader.spot(marketApi, KlineDownloaderOption.defaults()));
+    CandleEngine[] self = new CandleEngine[1];
+    Supplier<List<String>> subscribe =
+        () -> {
+          List<String> ids = new ArrayList<>();
+          if (self[0].option.getSource() == CandleEngineOption.Source.TRADES) {
+            String[] all = symbols.toArray(new String[0]);
+            for (int i = 0; i < all.length; i += SYMBOLS_PER_TOPIC) {
+              String[] chunk =
+                  Arrays.copyOfRange(all, i, Math.min(all.length, i + SYMBOLS_PER_TOPIC));
+              ids.add(ws.trade(chunk, (topic, subject, event) -> self[0].onTrade(event)));
+            }
+            return ids;
+          }
+          for (String symbol : symbols) {
+            for (CandleInterval interval : intervals) {
+              ids.add(
+                  ws.klines(
+                      symbol,
+                      interval.type(),
+                      (topic, subject, event) -> self[0].onKline(interval, event)));
+            }
+          }
+          return ids;
+        };
+    self[0] = new CandleEngine(symbols, intervals, loader, option, subscribe, ws::unSubscribe);
+    return self[0];
+  }
+
+  /**
+   * Engine for futures symbols fed by {@link FuturesPublicWs#execution} or {@link
+   * FuturesPublicWs#klines}. Intervals must be {@link CandleInterval#isFuturesSupported()}.
+   */
+  public static CandleEngine futures(
+      Collection<String> symbols,
+      Collection<CandleInterval> intervals,
+      com.kucoin.universal.sdk.generate.futures.market.MarketApi marketApi,
+      FuturesPublicWs ws,
+      CandleEngineOption option) {
+    for (CandleInterval interval : intervals) {
+      if (!interval.isFuturesSupported()) {
+        throw new IllegalArgumentException("no futures klines for " + interval.type());
+      }
+    }
+    HistoryLoader loader =
+        history(KlineDownloader.futures(marketApi, KlineDownloaderOption.defaults()));
+    CandleEngine[] self = new CandleEngine[1];
+    Supplier<List<String>> subscribe =
+        () -> {
+          List<String> ids = new ArrayList<>();
+          for (String symbol : symbols) {
+            if (self[0].option.getSource() == CandleEngineOption.Source.TRADES) {
+              ids.add(ws.execution(symbol, (topic, subject, event) -> self[0].onExecution(event)));
+              continue;
+            }
+            for (CandleInterval interval : intervals) {
+              ids.add(
+                  ws.klines(
+                      symbol,
+                      interval.type(),
+                      (topic, subject, event) -> self[0].onKline(interval, event)));
+            }
+          }
+          return ids;
+        };
+    self[0] = new CandleEngine(symbols, intervals, loader, option, subscribe, ws::unSubscribe);
+    return self[0];
+  }
+
+  /** Loads the latest bars, the forming one included, through {@code downloader}. */
+  private static HistoryLoader history(KlineDownloader downloader) {
+    return (symbol, interval, bars) -> {
+      long end = interval.openTime(System.currentTimeMillis()) + interval.millis();
+      KlineColumns c = downloader.download(symbol, interval, end - bars * interval.millis(), end);
+      List<Candle> out = new ArrayList<>(c.size());
+      for (int i = 0; i < c.size(); i++) {
+        out.add(
+            new Candle(
+                symbol,
+                interval,
+                c.openTime(i),
+                c.open(i),
+                c.high(i),
+                c.low(i),
+                c.close(i),
+                c.volume(i),
+                c.turnover(i)));
+      }
+      return out;
+    };
+  }
+
+  /**
+   * Subscribes to the streams (when wired to a WebSocket service), starts the periodic close check
+   * and the backfills.
+   */
+  public void start() {
+    if (subscribe != null) {
+      List<String> ids = subscribe.get();
+      synchronized (this) {
+        subscriptionIds.addAll(ids);
+      }
+    }
+    long period = option.getTickInterval().toMillis();
+    if (period > 0) {
+      synchronized (this) {
+        tick =
+            executor.scheduleAtFixedRate(
+                () -> advanceTo(System.currentTimeMillis() - closeDelay),
+                period,
+                period,
+                TimeUnit.MILLISECONDS);
+      }
+    }
+    if (option.isBackfill() && loader != null) {
+      for (CandleSeries[] row : series.values()) {
+        for (CandleInterval interval : intervals) {
+          CandleSeries s = row[interval.ordinal()];
+          executor.execute(() -> backfill(s));
+        }
+      }
+    }
+  }
+
+  /** Unsubscribes and stops the close check and pending backfills. */
+  @Override
+  public void close() {
+    List<String> ids;
+    synchronized (this) {
+      closed = true;
+      if (tick != null) {
+        tick.cancel(false);
+      }
+      ids = new ArrayList<>(subscriptionIds);
+      subscriptionIds.clear();
+    }
+    if (unsubscribe != null) {
+      ids.forEach(unsubscribe);
+    }
+  }
+
+  /* ---------------- feed ---------------- */
+
+  /**
+   * Adds a trade to every interval of {@code symbol}.
+   *
+   * @param timeMs trade time in epoch milliseconds
+   */
+  public void onTrade(String symbol, long timeMs, double price, double size) {
+    CandleSeries[] row = series.get(symbol);
+    if (row == null || Double.isNaN(price)) {
+      return;
+    }
+    for (CandleSeries s : row) {
+      if (s != null) {
+        s.trade(timeMs, price, size);
+      }
+    }
+  }
+
+  /** Adds a spot {@code /market/match} trade. */
+  public void onTrade(TradeEvent event) {
+    // an absent time reads as 0; testing it this way keeps the flyweight from creating the String
+    long time = event.timeAsLong();
+    if (time == 0) {
+      return;
+    }
+    onTrade(event.getSymbol(), time / 1_000_000, event.priceAsDouble(), event.sizeAsDouble());
+  }
+
+  /**
+   * Adds a futures {@code /contractMarket/execution} trade. Volume is counted in lots and turnover
+   * as price times lots, without the contract multiplier.
+   */
+  public void onExecution(ExecutionEvent event) {
+    if (event.getTs() == null || event.getSize() == null) {
+      return;
+    }
+    onTrade(event.getSymbol(), event.getTs() / 1_000_000, event.priceAsDouble(), event.getSize());
+  }
+
+  /**
+   * Sets the state of a bar of {@code symbol} pushed by a kline stream.
+   *
+   * @param openTime bar open time in epoch milliseconds
+   */
+  public void onKline(
+      String symbol,
+      CandleInterval interval,
+      long openTime,
+      double open,
+      double high,
+      double low,
+      double close,
+      double volume,
+      double turnover) {
+    CandleSeries s = series(symbol, interval);
+    if (s != null) {
+      s.kline(openTime, open, high, low, close, volume, turnover);
+    }
+  }
+
+  /** Applies a spot {@code /market/candles} update of the given interval. */
+  public void onKline(
+      CandleInterval interval,
+      com.kucoin.universal.sdk.generate.spot.spotpublic.KlinesEvent event) {
+    onKline(event.getSymbol(), interval, event.getCandles());
+  }
+
+  /** Applies a futures {@code /contractMarket/limitCandle} update of the given interval. */
+  public void onKline(
+      CandleInterval interval,
+      com.kucoin.universal.sdk.generate.futures.futurespublic.KlinesEvent event) {
+    onKline(event.getSymbol(), interval, event.getCandles());
+  }
+
+  /** [time(s), open, close, high, low, volume, turnover] */
+  private void onKline(String symbol, CandleInterval interval, List<String> candles) {
+    if (candles == null || candles.size() < 7) {
+      return;
+    }
+    onKline(
+        symbol,
+        interval,
+        Long.parseLong(candles.get(0)) * 1000,
+        Double.parseDouble(candles.get(1)),
+        Double.parseDouble(candles.get(3)),
+        Double.parseDouble(candles.get(4)),
+        Double.parseDouble(candles.get(2)),
+        Double.parseDouble(candles.get(5)),
+        Double.parseDouble(candles.get(6)));
+  }
+
+  /**
+   * Closes every bar that ended at or before {@code timeMs}. Called periodically when {@code
+   * tickInterval} is set; call it yourself to drive closes from another clock.
+   */
+  public void advanceTo(long timeMs) {
+    for (CandleSeries[] row : series.values()) {
+      for (CandleSeries s : row) {
+        if (s != null) {
+          s.advanceTo(timeMs);
+        }
+      }
+    }
+  }
+
+  /* ---------------- backfill ---------------- */
+
+  private void backfill(CandleSeries s) {
+    if (closed) {
+      return;
+    }
+    List<Candle> history;
+    try {
+      history = new ArrayList<>(loader.load(s.symbol(), s.interval(), s.capacity()));
+    } catch (Exception e) {
+      log.error("load candles failed, symbol:{}, interval:{}", s.symbol(), s.interval().type(), e);
+      if (!closed) {
+        executor.schedule(
+            () -> backfill(s), option.getBackfillRetryDelay().toMillis(), TimeUnit.MILLISECONDS);
+      }
+      return;
+    }
+    history.sort(Comparator.comparingLong(Candle::getOpenTime));
+    s.backfill(history, System.currentTimeMillis());
+    if (option.getListener() != null) {
+      try {
+        option.getListener().onBackfill(s);
+      } catch (Exception e) {
+        log.error("exception when notify backfill", e);
+      }
+    }
+  }
+
+  private void notifyClose(Candle candle) {
+    if (option.getListener() != null) {
+      option.getListener().onClose(candle);
+    }
+  }
+
+  /* ---------------- read ---------------- */
+
+  /** Series of {@code symbol} and {@code interval}, or {@code null} if not tracked. */
+  public CandleSeries series(String symbol, CandleInterval interval) {
+    CandleSeries[] row = series.get(symbol);
+    return row == null ? null : row[interval.ordinal()];
+  }
+
+  /** Intervals tracked for every symbol. */
+  public List<CandleInterval> intervals() {
+    return intervals;
+  }
+
+  /** Symbols tracked. */
+  public Collection<String> symbols() {
+    return series.keySet();
+  }
+
+  private static final class SharedExecutor {
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    static final ScheduledExecutorService INSTANCE =
+        Executors.newScheduledThreadPool(
+            2,
+            r -> {
+              Thread t = new Thread(r);
+              t.setName("candle-engine-" + COUNTER.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            });
+  }
+}
@@ -0,0 +1,74 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.*;
+
+/** CandleEngineOption holds the tuning knobs of a {@link CandleEngine}. */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CandleEngineOption {
+
+  /** Stream the bars are built from. */
+  public enum Source {
+    /** spot {@code /market/match} or futures {@code /contractMarket/execution}, all intervals */
+    TRADES,
+    /** spot {@code /market/candles} or futures {@code /contractMarket/limitCandle}, per interval */
+    KLINES
+  }
+
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Invoked once per bar when it closes: when the first update of a later bar arrives, or when
+     * the bar's end has passed by {@code closeDelay}. Bars of intervals without any update are
+     * closed as flat bars. Runs on the thread that closed the bar.
+     *
+     * @param candle the closed bar
+     */
+    void onClose(Candle candle);
+
+    /**
+     * Invoked after the history of a series has been loaded.
+     *
+     * @param series the backfilled series
+     */
+    default void onBackfill(CandleSeries series) {}
+  }
+
+  /**
+   * Bars kept per series. Every series preallocates its ring buffer, about {@code 56 * capacity}
+   * bytes.
+   */
+  @Builder.Default private final int capacity = 200;
+
+  /** Stream the bars are built from. */
+  @Builder.Default private final Source source = Source.TRADES;
+
+  /** Load the latest {@code capacity} bars of every series from the REST API on start. */
+  @Builder.Default private final boolean backfill = true;
+
+  /** Delay before retrying a failed backfill. */
+  @Builder.Default private final Duration backfillRetryDelay = Duration.ofSeconds(5);
+
+  /** How long after its end a bar without later updates is closed, to let late trades in. */
+  @Builder.Default private final Duration closeDelay = Duration.ofSeconds(2);
+
+  /** Period of the check closing ended bars; {@link Duration#ZERO} disables it. */
+  @Builder.Default private final Duration tickInterval = Duration.ofSeconds(1);
+
+  /**
+   * Executor running backfills and the close check; {@code null} means a shared daemon executor.
+   */
+  @Builder.Default private final ScheduledExecutorService executor = null;
+
+  /** Close / backfill listener; may be {@code null} */
+  @Builder.Default private final Listener listener = null;
+
+  /** no-op option with all defaults */
+  public static CandleEngineOption defaults() {
+    return CandleEngineOption.builder().build();
+  }
+}
@@ -0,0 +1,66 @@
+package com.kucoin.universal.sdk.candle;
+
+/**
+ * Candle intervals shared by the spot and futures kline endpoints. Bars are aligned on UTC epoch
+ * multiples of the interval, like the exchange's own klines.
+ */
+public enum CandleInterval {
+  MIN_1("1min", 1, true),
+  MIN_3("3min", 3, false),
+  MIN_5("5min", 5, true),
+  MIN_15("15min", 15, true),
+  MIN_30("30min", 30, true),
+  HOUR_1("1hour", 60, true),
+  HOUR_2("2hour", 120, true),
+  HOUR_4("4hour", 240, true),
+  HOUR_6("6hour", 360, false),
+  HOUR_8("8hour", 480, true),
+  HOUR_12("12hour", 720, true),
+  DAY_1("1day", 1440, true);
+
+  private final String type;
+  private final int minutes;
+  private final long millis;
+  private final boolean futures;
+
+  CandleInterval(String type, int minutes, boolean futures) {
+    this.type = type;
+    this.minutes = minutes;
+    this.millis = minutes * 60_000L;
+    this.futures = futures;
+  }
+
+  /** Kline type of the spot REST endpoint and of the WebSocket topics, e.g. {@code 1hour}. */
+  public String type() {
+    return type;
+  }
+
+  /** Length in minutes, the granularity of the futures REST endpoint. */
+  public int minutes() {
+    return minutes;
+  }
+
+  public long millis() {
+    return millis;
+  }
+
+  /** Whether futures klines exist for this interval. */
+  public boolean isFuturesSupported() {
+    return futures;
+  }
+
+  /** Open time of the bar holding {@code timeMs}. */
+  public long openTime(long timeMs) {
+    return Math.floorDiv(timeMs, millis) * millis;
+  }
+
+  /** Interval of a kline type such as {@code 1hour}. */
+  public static CandleInterval fromType(String type) {
+    for (CandleInterval i : values()) {
+      if (i.type.equals(type)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("unsupported candle interval: " + type);
+  }
+}
@@ -0,0 +1,460 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bars of one symbol and interval, kept in a fixed-size ring buffer of primitive columns. Index
+ * {@code 0} is the oldest bar kept and {@code size() - 1} the latest, which is still forming until
+ * {@link #isLastClosed()}. Once full, every new bar evicts the oldest one.
+ *
+ * <p>Updates come from a {@link CandleEngine}. Reads are optimistic and never block the writer;
+ * they may be called from any thread.
+ */
+@Slf4j
+public final class CandleSeries {
+
+  private static final int OPEN = 0;
+  private static final int HIGH = 1;
+  private static final int LOW = 2;
+  private static final int CLOSE = 3;
+  private static final int VOLUME = 4;
+  private static final int TURNOVER = 5;
+
+  private final String symbol;
+  private final CandleInterval interval;
+  private final int capacity;
+  private final Consumer<Candle> onClose;
+
+  private final StampedLock lock = new StampedLock();
+  private final long[] openTimes;
+  private final double[][] columns;
+  private int head;
+  private int size;
+  private boolean lastOpen;
+  private volatile boolean backfilled;
+
+  // bars closed by the current update, notified once the write lock is released; guarded by this
+  private final List<Candle> closed = new ArrayList<>();
+
+  CandleSeries(String symbol, CandleInterval interval, int capacity, Consumer<Candle> onClose) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.symbol = symbol;
+    this.interval = interval;
+    this.capacity = capacity;
+    this.onClose = onClose;
+    this.openTimes = new long[capacity];
+    this.columns = new double[TURNOVER + 1][capacity];
+  }
+
+  /* ---------------- write ---------------- */
+
+  /** Adds a trade to the bar of {@code timeMs}. Trades older than the latest bar are dropped. */
+  synchronized void trade(long timeMs, double price, double qty) {
+    long t = interval.openTime(timeMs);
+    long stamp = lock.writeLock();
+    try {
+      if (size > 0 && t <= lastOpenTime()) {
+        if (t == lastOpenTime() && lastOpen) {
+          int i = index(size - 1);
+          columns[HIGH][i] = Math.max(columns[HIGH][i], price);
+          columns[LOW][i] = Math.min(columns[LOW][i], price);
+          columns[CLOSE][i] = price;
+          columns[VOLUME][i] += qty;
+          columns[TURNOVER][i] += price * qty;
+        }
+        return;
+      }
+      roll(t);
+      push(t, price, price, price, price, qty, price * qty, true);
+    } finally {
+      lock.unlockWrite(stamp);
+      flush();
+    }
+  }
+
+  /** Replaces the bar opened at {@code openTime} with the state pushed by a kline stream. */
+  synchronized void kline(
+      long openTime,
+      double open,
+      double high,
+      double low,
+      double close,
+      double volume,
+      double turnover) {
+    long stamp = lock.writeLock();
+    try {
+      if (size > 0 && openTime <= lastOpenTime()) {
+        if (openTime == lastOpenTime()) {
+          int i = index(size - 1);
+          columns[OPEN][i] = open;
+          columns[HIGH][i] = high;
+          columns[LOW][i] = low;
+          columns[CLOSE][i] = close;
+          columns[VOLUME][i] = volume;
+          columns[TURNOVER][i] = turnover;
+        }
+        return;
+      }
+      roll(openTime);
+      push(openTime, open, high, low, close, volume, turnover, true);
+    } finally {
+      lock.unlockWrite(stamp);
+      flush();
+    }
+  }
+
+  /**
+   * Closes the bars that ended at or before {@code timeMs}, adding flat bars for idle intervals.
+   */
+  synchronized void advanceTo(long timeMs) {
+    if (size == 0) {
+      return;
+    }
+    long stamp = lock.writeLock();
+    try {
+      if (lastOpen && lastOpenTime() + interval.millis() <= timeMs) {
+        closeLast();
+      }
+      if (!lastOpen) {
+        fillTo(interval.openTime(timeMs));
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+      flush();
+    }
+  }
+
+  /**
+   * Puts {@code history} (oldest first) in front of the live bars. The bar both have in common
+   * keeps the history's open and the live close.
+   */
+  synchronized void backfill(List<Candle> history, long nowMs) {
+    long stamp = lock.writeLock();
+    try {
+      int n = size;
+      long[] liveTimes = new long[n];
+      double[][] live = new double[columns.length][n];
+      for (int j = 0; j < n; j++) {
+        int i = index(j);
+        liveTimes[j] = openTimes[i];
+        for (int c = 0; c < columns.length; c++) {
+          live[c][j] = columns[c][i];
+        }
+      }
+      boolean liveOpen = lastOpen;
+      long firstLive = n > 0 ? liveTimes[0] : Long.MAX_VALUE;
+
+      head = 0;
+      size = 0;
+      for (Candle c : history) {
+        if (c.getOpenTime() < firstLive && (size == 0 || c.getOpenTime() > lastOpenTime())) {
+          push(
+              c.getOpenTime(),
+              c.getOpen(),
+              c.getHigh(),
+              c.getLow(),
+              c.getClose(),
+              c.getVolume(),
+              c.getTurnover(),
+              false);
+        } else if (c.getOpenTime() == firstLive) {
+          live[OPEN][0] = c.getOpen();
+          live[HIGH][0] = Math.max(live[HIGH][0], c.getHigh());
+          live[LOW][0] = Math.min(live[LOW][0], c.getLow());
+          live[VOLUME][0] = Math.max(live[VOLUME][0], c.getVolume());
+          live[TURNOVER][0] = Math.max(live[TURNOVER][0], c.getTurnover());
+        }
+      }
+      for (int j = 0; j < n; j++) {
+        push(
+            liveTimes[j],
+            live[OPEN][j],
+            live[HIGH][j],
+            live[LOW][j],
+            live[CLOSE][j],
+            live[VOLUME][j],
+            live[TURNOVER][j],
+            false);
+      }
+      if (n > 0) {
+        lastOpen = liveOpen;
+      } else if (size > 0) {
+        // the latest historical bar may still be forming
+        lastOpen = lastOpenTime() + interval.millis() > nowMs;
+      }
+      backfilled = true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /** Closes the latest bar and adds flat bars for the intervals before {@code openTime}. */
+  private void roll(long openTime) {
+    if (size == 0) {
+      return;
+    }
+    if (lastOpen) {
+      closeLast();
+    }
+    fillTo(openTime);
+  }
+
+  /** Adds closed flat bars after the latest one, up to {@code openTime} excluded. */
+  private void fillTo(long openTime) {
+    long step = interval.millis();
+    long next = lastOpenTime() + step;
+    double price = columns[CLOSE][index(size - 1)];
+    if ((openTime - next) / step > capacity) {
+      // idle longer than the buffer: only the latest flat bars would be kept
+      next = openTime - capacity * step;
+    }
+    for (; next < openTime; next += step) {
+      push(next, price, price, price, price, 0, 0, false);
+      closed.add(candle(size - 1));
+    }
+  }
+
+  private void closeLast() {
+    lastOpen = false;
+    closed.add(candle(size - 1));
+  }
+
+  private void push(
+      long openTime,
+      double open,
+      double high,
+      double low,
+      double close,
+      double volume,
+      double turnover,
+      boolean forming) {
+    if (size == capacity) {
+      head = (head + 1) % capacity;
+      size--;
+    }
+    int i = index(size);
+    openTimes[i] = openTime;
+    columns[OPEN][i] = open;
+    columns[HIGH][i] = high;
+    columns[LOW][i] = low;
+    columns[CLOSE][i] = close;
+    columns[VOLUME][i] = volume;
+    columns[TURNOVER][i] = turnover;
+    size++;
+    lastOpen = forming;
+  }
+
+  private void flush() {
+    if (closed.isEmpty()) {
+      return;
+    }
+    for (Candle c : closed) {
+      try {
+        onClose.accept(c);
+      } catch (Exception e) {
+        log.error("exception when notify candle close", e);
+      }
+    }
+    closed.clear();
+  }
+
+  private long lastOpenTime() {
+    return openTimes[index(size - 1)];
+  }
+
+  private int index(int i) {
+    return (head + i) % capacity;
+  }
+
+  private Candle candle(int j) {
+    int i = index(j);
+    return new Candle(
+        symbol,
+        interval,
+        openTimes[i],
+        columns[OPEN][i],
+        columns[HIGH][i],
+        columns[LOW][i],
+        columns[CLOSE][i],
+        columns[VOLUME][i],
+        columns[TURNOVER][i]);
+  }
+
+  /* ---------------- read ---------------- */
+
+  public String symbol() {
+    return symbol;
+  }
+
+  public CandleInterval interval() {
+    return interval;
+  }
+
+  /** Maximum number of bars kept. */
+  public int capacity() {
+    return capacity;
+  }
+
+  /** Whether the history has been loaded. */
+  public boolean isBackfilled() {
+    return backfilled;
+  }
+
+  /** Number of bars kept. */
+  public int size() {
+    long stamp = lock.tryOptimisticRead();
+    int n = size;
+    if (lock.validate(stamp)) {
+      return n;
+    }
+    stamp = lock.readLock();
+    try {
+      return size;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /** Whether the latest bar is closed; {@code false} when the series is empty. */
+  public boolean isLastClosed() {
+    long stamp = lock.tryOptimisticRead();
+    boolean c = size > 0 && !lastOpen;
+    if (lock.validate(stamp)) {
+      return c;
+    }
+    stamp = lock.readLock();
+    try {
+      return size > 0 && !lastOpen;
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /** Open time of bar {@code i}, in epoch milliseconds. */
+  public long openTime(int i) {
+    long stamp = lock.tryOptimisticRead();
+    boolean in = i >= 0 && i < size;
+    long v = in ? openTimes[index(i)] : 0;
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        in = i >= 0 && i < size;
+        v = in ? openTimes[index(i)] : 0;
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    checkIndex(in, i);
+    return v;
+  }
+
+  public double open(int i) {
+    return value(OPEN, i);
+  }
+
+  public double high(int i) {
+    return value(HIGH, i);
+  }
+
+  public double low(int i) {
+    return value(LOW, i);
+  }
+
+  public double close(int i) {
+    return value(CLOSE, i);
+  }
+
+  public double volume(int i) {
+    return value(VOLUME, i);
+  }
+
+  public double turnover(int i) {
+    return value(TURNOVER, i);
+  }
+
+  /** Bar {@code i} as a value. */
+  public Candle get(int i) {
+    long stamp = lock.readLock();
+    try {
+      checkIndex(i >= 0 && i < size, i);
+      return candle(i);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /** Latest bar, or {@code null} when the series is empty. */
+  public Candle last() {
+    long stamp = lock.readLock();
+    try {
+      return size == 0 ? null : candle(size - 1);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Copies the closes of the latest {@code dst.length} bars, oldest first.
+   *
+   * @return number of closes copied
+   */
+  public int closes(double[] dst) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      int n = copy(CLOSE, dst);
+      if (lock.validate(stamp)) {
+        return n;
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return copy(CLOSE, dst);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private int copy(int column, double[] dst) {
+    int s = size;
+    int n = Math.min(dst.length, s);
+    int from = s - n;
+    for (int j = 0; j < n; j++) {
+      dst[j] = columns[column][index(from + j)];
+    }
+    return n;
+  }
+
+  private double value(int column, int i) {
+    long stamp = lock.tryOptimisticRead();
+    boolean in = i >= 0 && i < size;
+    double v = in ? columns[column][index(i)] : Double.NaN;
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        in = i >= 0 && i < size;
+        v = in ? columns[column][index(i)] : Double.NaN;
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    checkIndex(in, i);
+    return v;
+  }
+
+  private void checkIndex(boolean in, int i) {
+    if (!in) {
+      throw new IndexOutOfBoundsException("index: " + i + ", size: " + size());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CandleSeries{" + symbol + ", " + interval.type() + ", size=" + size() + "}";
+  }
+}
@@ -0,0 +1,163 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.util.Arrays;
+
+/**
+ * Bars held in growable primitive columns, oldest first. The column arrays returned by {@link
+ * #openTimes()}, {@link #closes()}, ... are the storage itself, trimmed to {@link #size()}; they
+ * are not copied.
+ */
+public final class KlineColumns implements KlineSink {
+
+  private long[] openTimes;
+  private double[] opens;
+  private double[] highs;
+  private double[] lows;
+  private double[] closes;
+  private double[] volumes;
+  private double[] turnovers;
+  private int size;
+
+  public KlineColumns() {
+    this(16);
+  }
+
+  /**
+   * @param initialCapacity bars allocated up front
+   */
+  public KlineColumns(int initialCapacity) {
+    int n = Math.max(1, initialCapacity);
+    openTimes = new long[n];
+    opens = new double[n];
+    highs = new double[n];
+    lows = new double[n];
+    closes = new double[n];
+    volumes = new double[n];
+    turnovers = new double[n];
+  }
+
+  @Override
+  public void bar(
+      long openTime,
+      double open,
+      double high,
+      double low,
+      double close,
+      double volume,
+      double turnover) {
+    if (size == openTimes.length) {
+      resize(size + (size >> 1) + 1);
+    }
+    openTimes[size] = openTime;
+    opens[size] = open;
+    highs[size] = high;
+    lows[size] = low;
+    closes[size] = close;
+    volumes[size] = volume;
+    turnovers[size] = turnover;
+    size++;
+  }
+
+  /** Number of bars. */
+  public int size() {
+    return size;
+  }
+
+  public long openTime(int i) {
+    checkIndex(i);
+    return openTimes[i];
+  }
+
+  public double open(int i) {
+    checkIndex(i);
+    return opens[i];
+  }
+
+  public double high(int i) {
+    checkIndex(i);
+    return highs[i];
+  }
+
+  public double low(int i) {
+    checkIndex(i);
+    return lows[i];
+  }
+
+  public double close(int i) {
+    checkIndex(i);
+    return closes[i];
+  }
+
+  public double volume(int i) {
+    checkIndex(i);
+    return volumes[i];
+  }
+
+  public double turnover(int i) {
+    checkIndex(i);
+    return turnovers[i];
+  }
+
+  /** Open times in epoch milliseconds. */
+  public long[] openTimes() {
+    trim();
+    return openTimes;
+  }
+
+  public double[] opens() {
+    trim();
+    return opens;
+  }
+
+  public double[] highs() {
+    trim();
+    return highs;
+  }
+
+  public double[] lows() {
+    trim();
+    return lows;
+  }
+
+  public double[] closes() {
+    trim();
+    return closes;
+  }
+
+  public double[] volumes() {
+    trim();
+    return volumes;
+  }
+
+  public double[] turnovers() {
+    trim();
+    return turnovers;
+  }
+
+  private void trim() {
+    if (openTimes.length != size) {
+      resize(size);
+    }
+  }
+
+  private void resize(int n) {
+    openTimes = Arrays.copyOf(openTimes, n);
+    opens = Arrays.copyOf(opens, n);
+    highs = Arrays.copyOf(highs, n);
+    lows = Arrays.copyOf(lows, n);
+    closes = Arrays.copyOf(closes, n);
+    volumes = Arrays.copyOf(volumes, n);
+    turnovers = Arrays.copyOf(turnovers, n);
+  }
+
+  private void checkIndex(int i) {
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException("index: " + i + ", size: " + size);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "KlineColumns{size=" + size + "}";
+  }
+}
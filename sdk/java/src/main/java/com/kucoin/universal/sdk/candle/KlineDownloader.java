@@ -0,0 +1,381 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Downloads kline history over any time range.
+ *
+ * <p>The range is split into windows of at most one response each. Up to {@code parallelism}
+ * windows, of the same or of different symbols, are requested at once through the async API, so a
+ * rate limiter configured on the client's transport paces them like any other call. Windows are
+ * delivered in order to one {@link KlineSink} per symbol, and bars repeated by overlapping windows
+ * are dropped.
+ */
+@Slf4j
+public final class KlineDownloader {
+
+  /**
+   * Fetches the bars opened in {@code [startMs, endMs)}, at most one window. Bars may come in
+   * ascending or descending open time.
+   */
+  @FunctionalInterface
+  public interface WindowFetcher {
+    CompletableFuture<KlineColumns> fetch(
+        String symbol, CandleInterval interval, long startMs, long endMs);
+  }
+
+  /** bars returned by one spot / futures kline request */
+  static final int SPOT_WINDOW_BARS = 1500;
+
+  static final int FUTURES_WINDOW_BARS = 500;
+
+  /** largest column preallocated for a symbol */
+  private static final int MAX_INITIAL_BARS = 1 << 16;
+
+  private final WindowFetcher fetcher;
+  private final int windowBars;
+  private final KlineDownloaderOption option;
+
+  /**
+   * @param fetcher requests one window
+   * @param windowBars most bars a window request returns
+   * @param option tuning knobs; {@code null} for the defaults
+   */
+  public KlineDownloader(WindowFetcher fetcher, int windowBars, KlineDownloaderOption option) {
+    if (windowBars < 1) {
+      throw new IllegalArgumentException("windowBars must be positive");
+    }
+    this.fetcher = fetcher;
+    this.windowBars = windowBars;
+    this.option = option == null ? KlineDownloaderOption.defaults() : option;
+    if (this.option.getParallelism() < 1) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+  }
+
+  /** Downloader of spot klines, 1500 bars per request. */
+  public static KlineDownloader spot(
+      com.kucoin.universal.sdk.generate.spot.market.MarketApi marketApi,
+      KlineDownloaderOption option) {
+    WindowFetcher fetcher =
+        (symbol, interval, startMs, endMs) ->
+            marketApi
+                .getKlinesAsync(
+                    com.kucoin.universal.sdk.generate.spot.market.GetKlinesReq.builder()
+                        .symbol(symbol)
+                        .type(
+                            com.kucoin.universal.sdk.generate.spot.market.GetKlinesReq.TypeEnum
+                                .fromValue(interval.type()))
+                        .startAt(startMs / 1000)
+                        // inclusive on the server side
+                        .endAt((endMs - 1) / 1000)
+                        .build())
+                .thenApply(
+                    resp -> {
+                      // [time(s), open, close, high, low, volume, turnover], newest first
+                      KlineColumns out = new KlineColumns(resp.getData().size());
+                      for (List<String> row : resp.getData()) {
+                        out.bar(
+                            Long.parseLong(row.get(0)) * 1000,
+                            Double.parseDouble(row.get(1)),
+                            Double.parseDouble(row.get(3)),
+                            Double.parseDouble(row.get(4)),
+                            Double.parseDouble(row.get(2)),
+                            Double.parseDouble(row.get(5)),
+                            Double.parseDouble(row.get(6)));
+                      }
+                      return out;
+                    });
+    return new KlineDownloader(fetcher, SPOT_WINDOW_BARS, option);
+  }
+
+  /**
+   * Downloader of futures klines, 500 bars per request. Intervals must be {@link
+   * CandleInterval#isFuturesSupported()}.
+   */
+  public static KlineDownloader futures(
+      com.kucoin.universal.sdk.generate.futures.market.MarketApi marketApi,
+      KlineDownloaderOption option) {
+    WindowFetcher fetcher =
+        (symbol, interval, startMs, endMs) -> {
+          if (!interval.isFuturesSupported()) {
+            throw new IllegalArgumentException("no futures klines for " + interval.type());
+          }
+          return marketApi
+              .getKlinesAsync(
+                  com.kucoin.universal.sdk.generate.futures.market.GetKlinesReq.builder()
+                      .symbol(symbol)
+                      .granularity(
+                          com.kucoin.universal.sdk.generate.futures.market.GetKlinesReq
+                              .GranularityEnum.fromValue(interval.minutes()))
+                      .from(startMs)
+                      .to(endMs - 1)
+                      .build())
+              .thenApply(
+                  resp -> {
+                    // [time(ms), open, high, low, close, volume, turnover], oldest first
+                    KlineColumns out = new KlineColumns(resp.getData().size());
+                    for (List<Double> row : resp.getData()) {
+                      out.bar(
+                          row.get(0).longValue(),
+                          row.get(1),
+                          row.get(2),
+                          row.get(3),
+                          row.get(4),
+                          row.get(5),
+                          row.size() > 6 ? row.get(6) : 0);
+                    }
+                    return out;
+                  });
+        };
+    return new KlineDownloader(fetcher, FUTURES_WINDOW_BARS, option);
+  }
+
+  /**
+   * Bars of {@code symbol} opened in {@code [startMs, endMs)}.
+   *
+   * @param startMs start of the range in epoch milliseconds, rounded down to the interval
+   * @param endMs end of the range in epoch milliseconds, excluded
+   */
+  public KlineColumns download(String symbol, CandleInterval interval, long startMs, long endMs) {
+    return download(Collections.singletonList(symbol), interval, startMs, endMs).get(symbol);
+  }
+
+  /** Bars of every symbol opened in {@code [startMs, endMs)}, by symbol. */
+  public Map<String, KlineColumns> download(
+      Collection<String> symbols, CandleInterval interval, long startMs, long endMs) {
+    int bars = (int) Math.min(MAX_INITIAL_BARS, Math.max(0, endMs - startMs) / interval.millis());
+    Map<String, KlineColumns> out = new LinkedHashMap<>();
+    try {
+      download(
+          symbols,
+          interval,
+          startMs,
+          endMs,
+          symbol -> out.computeIfAbsent(symbol, s -> new KlineColumns(bars)));
+    } catch (IOException e) {
+      // columns never throw
+      throw new IllegalStateException(e);
+    }
+    return out;
+  }
+
+  /**
+   * Writes the bars of every symbol opened in {@code [startMs, endMs)} to {@code
+   * <symbol>_<type>.kline} files of {@code dir}, see {@link KlineFile}. A file left incomplete by a
+   * failure is deleted.
+   *
+   * @return written file by symbol
+   */
+  public Map<String, Path> downloadTo(
+      Collection<String> symbols, CandleInterval interval, long startMs, long endMs, Path dir)
+      throws IOException {
+    Files.createDirectories(dir);
+    Map<String, Path> paths = new LinkedHashMap<>();
+    KlineFile.Writer[] current = new KlineFile.Writer[1];
+    String[] currentSymbol = new String[1];
+    try {
+      download(
+          symbols,
+          interval,
+          startMs,
+          endMs,
+          symbol -> {
+            Path path = dir.resolve(symbol + "_" + interval.type() + ".kline");
+            try {
+              current[0] = KlineFile.create(path, interval);
+            } catch (IOException e) {
+              throw new IllegalStateException("create kline file failed, path:" + path, e);
+            }
+            paths.put(symbol, path);
+            currentSymbol[0] = symbol;
+            return current[0];
+          });
+    } catch (IOException | RuntimeException e) {
+      // the files of the symbols done so far are complete; the current one is not
+      if (current[0] != null && !current[0].isClosed()) {
+        closeQuietly(current[0]);
+        Files.deleteIfExists(paths.remove(currentSymbol[0]));
+      }
+      throw e;
+    }
+    return paths;
+  }
+
+  /**
+   * Streams the bars of every symbol opened in {@code [startMs, endMs)} to the sink {@code sinks}
+   * returns for it. Symbols are downloaded one after the other, each sink receiving all of its bars
+   * then {@link KlineSink#end()}, while the windows of the following symbols are already being
+   * fetched.
+   *
+   * @throws IOException thrown by a sink
+   */
+  public void download(
+      Collection<String> symbols,
+      CandleInterval interval,
+      long startMs,
+      long endMs,
+      Function<String, ? extends KlineSink> sinks)
+      throws IOException {
+    long from = interval.openTime(startMs);
+    if (from >= endMs) {
+      for (String symbol : symbols) {
+        sinks.apply(symbol).end();
+      }
+      return;
+    }
+    Windows windows = new Windows(new ArrayList<>(symbols), interval, from, endMs);
+    Deque<Window> inFlight = new ArrayDeque<>();
+    try {
+      windows.fill(inFlight);
+      String symbol = null;
+      KlineSink sink = null;
+      long last = Long.MIN_VALUE;
+      while (!inFlight.isEmpty()) {
+        Window w = inFlight.poll();
+        KlineColumns chunk = await(w);
+        windows.fill(inFlight);
+        if (!w.symbol.equals(symbol)) {
+          if (sink != null) {
+            sink.end();
+          }
+          symbol = w.symbol;
+          sink = sinks.apply(symbol);
+          last = Long.MIN_VALUE;
+        }
+        last = emit(chunk, w, sink, last);
+      }
+      if (sink != null) {
+        sink.end();
+      }
+    } finally {
+      for (Window w : inFlight) {
+        w.future.cancel(true);
+      }
+    }
+  }
+
+  /** Passes the new bars of {@code w} to {@code sink}; returns the latest open time passed. */
+  private static long emit(KlineColumns chunk, Window w, KlineSink sink, long last)
+      throws IOException {
+    int n = chunk.size();
+    boolean descending = n > 1 && chunk.openTime(0) > chunk.openTime(n - 1);
+    for (int k = 0; k < n; k++) {
+      int i = descending ? n - 1 - k : k;
+      long t = chunk.openTime(i);
+      if (t <= last || t < w.start || t >= w.end) {
+        continue;
+      }
+      sink.bar(
+          t,
+          chunk.open(i),
+          chunk.high(i),
+          chunk.low(i),
+          chunk.close(i),
+          chunk.volume(i),
+          chunk.turnover(i));
+      last = t;
+    }
+    return last;
+  }
+
+  /** Result of {@code w}, requested again up to {@code retries} times when it fails. */
+  private KlineColumns await(Window w) {
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return w.future.join();
+      } catch (CompletionException e) {
+        RuntimeException cause =
+            e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        if (attempt >= option.getRetries()) {
+          throw cause;
+        }
+        log.warn(
+            "kline window failed, retrying, symbol:{}, start:{}, end:{}, error:{}",
+            w.symbol,
+            w.start,
+            w.end,
+            cause.getMessage());
+        try {
+          Thread.sleep(option.getRetryDelay().toMillis());
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          throw cause;
+        }
+        w.future = fetcher.fetch(w.symbol, w.interval, w.start, w.end);
+      }
+    }
+  }
+
+  private static void closeQuietly(Closeable c) {
+    try {
+      c.close();
+    } catch (IOException e) {
+      log.warn("close kline file failed", e);
+    }
+  }
+
+  private static final class Window {
+    final String symbol;
+    final CandleInterval interval;
+    final long start;
+    final long end;
+    CompletableFuture<KlineColumns> future;
+
+    Window(String symbol, CandleInterval interval, long start, long end) {
+      this.symbol = symbol;
+      this.interval = interval;
+      this.start = start;
+      this.end = end;
+    }
+  }
+
+  /** Windows of every symbol in order, created as they are requested. */
+  private final class Windows {
+    private final List<String> symbols;
+    private final CandleInterval interval;
+    private final long from;
+    private final long to;
+    private final long span;
+    private int symbol;
+    private long next;
+
+    Windows(List<String> symbols, CandleInterval interval, long from, long to) {
+      this.symbols = symbols;
+      this.interval = interval;
+      this.from = from;
+      this.to = to;
+      this.span = windowBars * interval.millis();
+      this.next = from;
+    }
+
+    /** Requests windows until {@code parallelism} are in flight. */
+    void fill(Deque<Window> inFlight) {
+      while (inFlight.size() < option.getParallelism() && symbol < symbols.size()) {
+        Window w = new Window(symbols.get(symbol), interval, next, Math.min(to, next + span));
+        w.future = fetcher.fetch(w.symbol, interval, w.start, w.end);
+        inFlight.add(w);
+        next = w.end;
+        if (next >= to) {
+          symbol++;
+          next = from;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.time.Duration;
+import lombok.*;
+
+/** KlineDownloaderOption holds the tuning knobs of a {@link KlineDownloader}. */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KlineDownloaderOption {
+
+  /** Kline requests in flight at once, across all symbols of a download. */
+  @Builder.Default private final int parallelism = 4;
+
+  /** Times a failed window is requested again before the download fails. */
+  @Builder.Default private final int retries = 2;
+
+  /** Delay before requesting a failed window again. */
+  @Builder.Default private final Duration retryDelay = Duration.ofSeconds(1);
+
+  /** no-op option with all defaults */
+  public static KlineDownloaderOption defaults() {
+    return KlineDownloaderOption.builder().build();
+  }
+}
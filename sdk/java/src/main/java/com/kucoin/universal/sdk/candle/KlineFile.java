@@ -0,0 +1,237 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Bars of one series stored in a compact binary file and read through a memory mapping, without
+ * parsing or copying the file.
+ *
+ * <p>Layout, little endian: a 16 byte header ({@code int} magic {@code KLN1}, {@code int} interval
+ * minutes, {@code long} bar count) followed by one 56 byte record per bar, oldest first: {@code
+ * long} open time in epoch milliseconds, then open, high, low, close, volume and turnover as {@code
+ * double}. The bar count is written when the writer is closed, so an unfinished file is rejected.
+ */
+public final class KlineFile {
+
+  private static final int MAGIC = 0x4B4C4E31;
+  private static final int HEADER = 16;
+  private static final int RECORD = 56;
+
+  private final CandleInterval interval;
+  private final int size;
+  private final ByteBuffer data;
+
+  private KlineFile(CandleInterval interval, int size, ByteBuffer data) {
+    this.interval = interval;
+    this.size = size;
+    this.data = data;
+  }
+
+  /** Creates (or truncates) {@code path} and returns a writer for the bars of {@code interval}. */
+  public static Writer create(Path path, CandleInterval interval) throws IOException {
+    return new Writer(
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING),
+        interval);
+  }
+
+  /** Maps the file written by {@link #create}. The mapping stays valid after the method returns. */
+  public static KlineFile open(Path path) throws IOException {
+    try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+      long length = ch.size();
+      if (length > Integer.MAX_VALUE) {
+        throw new IOException("kline file too large to map: " + path);
+      }
+      if (length < HEADER) {
+        throw new IOException("not a kline file: " + path);
+      }
+      MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, length);
+      map.order(ByteOrder.LITTLE_ENDIAN);
+      if (map.getInt(0) != MAGIC) {
+        throw new IOException("not a kline file: " + path);
+      }
+      CandleInterval interval = fromMinutes(map.getInt(4), path);
+      long count = map.getLong(8);
+      if (count != (length - HEADER) / RECORD || (length - HEADER) % RECORD != 0) {
+        throw new IOException("truncated kline file: " + path);
+      }
+      return new KlineFile(interval, (int) count, map);
+    }
+  }
+
+  private static CandleInterval fromMinutes(int minutes, Path path) throws IOException {
+    for (CandleInterval i : CandleInterval.values()) {
+      if (i.minutes() == minutes) {
+        return i;
+      }
+    }
+    throw new IOException("unsupported kline file interval: " + minutes + " min, " + path);
+  }
+
+  public CandleInterval interval() {
+    return interval;
+  }
+
+  /** Number of bars. */
+  public int size() {
+    return size;
+  }
+
+  public long openTime(int i) {
+    return data.getLong(offset(i));
+  }
+
+  public double open(int i) {
+    return data.getDouble(offset(i) + 8);
+  }
+
+  public double high(int i) {
+    return data.getDouble(offset(i) + 16);
+  }
+
+  public double low(int i) {
+    return data.getDouble(offset(i) + 24);
+  }
+
+  public double close(int i) {
+    return data.getDouble(offset(i) + 32);
+  }
+
+  public double volume(int i) {
+    return data.getDouble(offset(i) + 40);
+  }
+
+  public double turnover(int i) {
+    return data.getDouble(offset(i) + 48);
+  }
+
+  /** Copies the bars into primitive columns. */
+  public KlineColumns toColumns() {
+    KlineColumns columns = new KlineColumns(size);
+    for (int i = 0; i < size; i++) {
+      int o = HEADER + i * RECORD;
+      columns.bar(
+          data.getLong(o),
+          data.getDouble(o + 8),
+          data.getDouble(o + 16),
+          data.getDouble(o + 24),
+          data.getDouble(o + 32),
+          data.getDouble(o + 40),
+          data.getDouble(o + 48));
+    }
+    return columns;
+  }
+
+  private int offset(int i) {
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException("index: " + i + ", size: " + size);
+    }
+    return HEADER + i * RECORD;
+  }
+
+  @Override
+  public String toString() {
+    return "KlineFile{" + interval.type() + ", size=" + size + "}";
+  }
+
+  /**
+   * Appends bars through a buffer; {@link #end()} or {@link #close()} writes the header and closes
+   * the file.
+   */
+  public static final class Writer implements KlineSink, Closeable {
+
+    /** Records buffered between writes. */
+    private static final int BUFFERED = 1024;
+
+    private final FileChannel channel;
+    private final CandleInterval interval;
+    private final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(BUFFERED * RECORD).order(ByteOrder.LITTLE_ENDIAN);
+    private long count;
+    private boolean closed;
+
+    private Writer(FileChannel channel, CandleInterval interval) throws IOException {
+      this.channel = channel;
+      this.interval = interval;
+      // header placeholder, written for real on close
+      channel.write(ByteBuffer.allocate(HEADER), 0);
+      channel.position(HEADER);
+    }
+
+    @Override
+    public void bar(
+        long openTime,
+        double open,
+        double high,
+        double low,
+        double close,
+        double volume,
+        double turnover)
+        throws IOException {
+      if (closed) {
+        throw new IOException("kline file closed");
+      }
+      if ((count + 1) * RECORD + HEADER > Integer.MAX_VALUE) {
+        throw new IOException("kline file too large to map");
+      }
+      if (buffer.remaining() < RECORD) {
+        flush();
+      }
+      buffer
+          .putLong(openTime)
+          .putDouble(open)
+          .putDouble(high)
+          .putDouble(low)
+          .putDouble(close)
+          .putDouble(volume)
+          .putDouble(turnover);
+      count++;
+    }
+
+    /** Whether the file has been completed. */
+    public boolean isClosed() {
+      return closed;
+    }
+
+    @Override
+    public void end() throws IOException {
+      close();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        flush();
+        ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(interval.minutes()).putLong(count).flip();
+        while (header.hasRemaining()) {
+          channel.write(header, header.position());
+        }
+      } finally {
+        channel.close();
+      }
+    }
+
+    private void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.kucoin.universal.sdk.candle;
+
+import java.io.IOException;
+
+/**
+ * Receives the bars of one series from a {@link KlineDownloader}, in ascending open time and
+ * without duplicates.
+ */
+@FunctionalInterface
+public interface KlineSink {
+
+  /**
+   * @param openTime open time of the bar, in epoch milliseconds
+   */
+  void bar(
+      long openTime,
+      double open,
+      double high,
+      double low,
+      double close,
+      double volume,
+      double turnover)
+      throws IOException;
+
+  /** Invoked once after the last bar of the series. */
+  default void end() throws IOException {}
+}
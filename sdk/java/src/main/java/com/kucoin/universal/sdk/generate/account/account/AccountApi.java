@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.account.account;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface AccountApi {
   /**
    * Get Account Summary Info
@@ -22,6 +25,13 @@ public interface AccountApi {
    */
   GetAccountInfoResp getAccountInfo();
 
+  /**
+   * Get Account Summary Info, without blocking the calling thread.
+   *
+   * @see #getAccountInfo
+   */
+  CompletableFuture<GetAccountInfoResp> getAccountInfoAsync();
+
   /**
    * Get Apikey Info
    *
@@ -42,6 +52,13 @@ public interface AccountApi {
    */
   GetApikeyInfoResp getApikeyInfo();
 
+  /**
+   * Get Apikey Info, without blocking the calling thread.
+   *
+   * @see #getApikeyInfo
+   */
+  CompletableFuture<GetApikeyInfoResp> getApikeyInfoAsync();
+
   /**
    * Get Account Type - Spot
    *
@@ -62,6 +79,13 @@ public interface AccountApi {
    */
   GetSpotAccountTypeResp getSpotAccountType();
 
+  /**
+   * Get Account Type - Spot , without blocking the calling thread.
+   *
+   * @see #getSpotAccountType
+   */
+  CompletableFuture<GetSpotAccountTypeResp> getSpotAccountTypeAsync();
+
   /**
    * Get Account List - Spot
    *
@@ -82,6 +106,13 @@ public interface AccountApi {
    */
   GetSpotAccountListResp getSpotAccountList(GetSpotAccountListReq req);
 
+  /**
+   * Get Account List - Spot, without blocking the calling thread.
+   *
+   * @see #getSpotAccountList
+   */
+  CompletableFuture<GetSpotAccountListResp> getSpotAccountListAsync(GetSpotAccountListReq req);
+
   /**
    * Get Account Detail - Spot
    *
@@ -101,6 +132,14 @@ public interface AccountApi {
    */
   GetSpotAccountDetailResp getSpotAccountDetail(GetSpotAccountDetailReq req);
 
+  /**
+   * Get Account Detail - Spot, without blocking the calling thread.
+   *
+   * @see #getSpotAccountDetail
+   */
+  CompletableFuture<GetSpotAccountDetailResp> getSpotAccountDetailAsync(
+      GetSpotAccountDetailReq req);
+
   /**
    * Get Account - Cross Margin
    *
@@ -120,6 +159,14 @@ public interface AccountApi {
    */
   GetCrossMarginAccountResp getCrossMarginAccount(GetCrossMarginAccountReq req);
 
+  /**
+   * Get Account - Cross Margin, without blocking the calling thread.
+   *
+   * @see #getCrossMarginAccount
+   */
+  CompletableFuture<GetCrossMarginAccountResp> getCrossMarginAccountAsync(
+      GetCrossMarginAccountReq req);
+
   /**
    * Get Account - Isolated Margin
    *
@@ -139,6 +186,14 @@ public interface AccountApi {
    */
   GetIsolatedMarginAccountResp getIsolatedMarginAccount(GetIsolatedMarginAccountReq req);
 
+  /**
+   * Get Account - Isolated Margin, without blocking the calling thread.
+   *
+   * @see #getIsolatedMarginAccount
+   */
+  CompletableFuture<GetIsolatedMarginAccountResp> getIsolatedMarginAccountAsync(
+      GetIsolatedMarginAccountReq req);
+
   /**
    * Get Account - Futures
    *
@@ -158,6 +213,13 @@ public interface AccountApi {
    */
   GetFuturesAccountResp getFuturesAccount(GetFuturesAccountReq req);
 
+  /**
+   * Get Account - Futures, without blocking the calling thread.
+   *
+   * @see #getFuturesAccount
+   */
+  CompletableFuture<GetFuturesAccountResp> getFuturesAccountAsync(GetFuturesAccountReq req);
+
   /**
    * Get Account Ledgers - Spot/Margin
    *
@@ -179,6 +241,38 @@ public interface AccountApi {
    */
   GetSpotLedgerResp getSpotLedger(GetSpotLedgerReq req);
 
+  /**
+   * Get Account Ledgers - Spot/Margin, without blocking the calling thread.
+   *
+   * @see #getSpotLedger
+   */
+  CompletableFuture<GetSpotLedgerResp> getSpotLedgerAsync(GetSpotLedgerReq req);
+
+  /**
+   * Get Account Ledgers - Spot/Margin, every page from {@code req}'s page on, with up to {@code
+   * parallelism} pages fetched ahead of the consumer.
+   *
+   * @see #getSpotLedger
+   */
+  default Paged<GetSpotLedgerItems> getSpotLedgerPaged(GetSpotLedgerReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getSpotLedgerAsync(req.toBuilder().currentPage(page).build()),
+        GetSpotLedgerResp::getItems,
+        GetSpotLedgerResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Account Ledgers - Spot/Margin, every page from {@code req}'s page on, with the next page
+   * fetched while the current one is consumed.
+   *
+   * @see #getSpotLedger
+   */
+  default Paged<GetSpotLedgerItems> getSpotLedgerPaged(GetSpotLedgerReq req) {
+    return getSpotLedgerPaged(req, 1);
+  }
+
   /**
    * Get Account Ledgers - Trade_hf
    *
@@ -200,6 +294,28 @@ public interface AccountApi {
    */
   GetSpotHFLedgerResp getSpotHFLedger(GetSpotHFLedgerReq req);
 
+  /**
+   * Get Account Ledgers - Trade_hf, without blocking the calling thread.
+   *
+   * @see #getSpotHFLedger
+   */
+  CompletableFuture<GetSpotHFLedgerResp> getSpotHFLedgerAsync(GetSpotHFLedgerReq req);
+
+  /**
+   * Get Account Ledgers - Trade_hf, every page after {@code req}'s lastId, with the next page
+   * fetched while the current one is consumed.
+   *
+   * @see #getSpotHFLedger
+   */
+  default Paged<GetSpotHFLedgerData> getSpotHFLedgerPaged(GetSpotHFLedgerReq req) {
+    return Paged.byLastId(
+        req.getLastId(),
+        lastId -> getSpotHFLedgerAsync(req.toBuilder().lastId(lastId).build()),
+        GetSpotHFLedgerResp::getData,
+        resp -> Paged.lastId(resp.getData(), GetSpotHFLedgerData::getId),
+        req.getLimit() != null ? req.getLimit() : 0);
+  }
+
   /**
    * Get Account Ledgers - Margin_hf
    *
@@ -221,6 +337,28 @@ public interface AccountApi {
    */
   GetMarginHFLedgerResp getMarginHFLedger(GetMarginHFLedgerReq req);
 
+  /**
+   * Get Account Ledgers - Margin_hf, without blocking the calling thread.
+   *
+   * @see #getMarginHFLedger
+   */
+  CompletableFuture<GetMarginHFLedgerResp> getMarginHFLedgerAsync(GetMarginHFLedgerReq req);
+
+  /**
+   * Get Account Ledgers - Margin_hf, every page after {@code req}'s lastId, with the next page
+   * fetched while the current one is consumed.
+   *
+   * @see #getMarginHFLedger
+   */
+  default Paged<GetMarginHFLedgerData> getMarginHFLedgerPaged(GetMarginHFLedgerReq req) {
+    return Paged.byLastId(
+        req.getLastId(),
+        lastId -> getMarginHFLedgerAsync(req.toBuilder().lastId(lastId).build()),
+        GetMarginHFLedgerResp::getData,
+        resp -> Paged.lastId(resp.getData(), GetMarginHFLedgerData::getId),
+        req.getLimit() != null ? req.getLimit() : 0);
+  }
+
   /**
    * Get Account Ledgers - Futures
    *
@@ -240,6 +378,13 @@ public interface AccountApi {
    */
   GetFuturesLedgerResp getFuturesLedger(GetFuturesLedgerReq req);
 
+  /**
+   * Get Account Ledgers - Futures, without blocking the calling thread.
+   *
+   * @see #getFuturesLedger
+   */
+  CompletableFuture<GetFuturesLedgerResp> getFuturesLedgerAsync(GetFuturesLedgerReq req);
+
   /**
    * Get Account Detail - Margin
    *
@@ -260,6 +405,14 @@ public interface AccountApi {
   @Deprecated
   GetMarginAccountDetailResp getMarginAccountDetail();
 
+  /**
+   * Get Account Detail - Margin, without blocking the calling thread.
+   *
+   * @see #getMarginAccountDetail
+   */
+  @Deprecated
+  CompletableFuture<GetMarginAccountDetailResp> getMarginAccountDetailAsync();
+
   /**
    * Get Account List - Isolated Margin - V1
    *
@@ -281,6 +434,15 @@ public interface AccountApi {
   GetIsolatedMarginAccountListV1Resp getIsolatedMarginAccountListV1(
       GetIsolatedMarginAccountListV1Req req);
 
+  /**
+   * Get Account List - Isolated Margin - V1, without blocking the calling thread.
+   *
+   * @see #getIsolatedMarginAccountListV1
+   */
+  @Deprecated
+  CompletableFuture<GetIsolatedMarginAccountListV1Resp> getIsolatedMarginAccountListV1Async(
+      GetIsolatedMarginAccountListV1Req req);
+
   /**
    * Get Account Detail - Isolated Margin - V1
    *
@@ -301,4 +463,13 @@ public interface AccountApi {
   @Deprecated
   GetIsolatedMarginAccountDetailV1Resp getIsolatedMarginAccountDetailV1(
       GetIsolatedMarginAccountDetailV1Req req);
+
+  /**
+   * Get Account Detail - Isolated Margin - V1, without blocking the calling thread.
+   *
+   * @see #getIsolatedMarginAccountDetailV1
+   */
+  @Deprecated
+  CompletableFuture<GetIsolatedMarginAccountDetailV1Resp> getIsolatedMarginAccountDetailV1Async(
+      GetIsolatedMarginAccountDetailV1Req req);
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.account.account;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class AccountApiImpl implements AccountApi {
   private final Transport transport;
@@ -13,12 +14,54 @@ public class AccountApiImpl implements AccountApi {
 
   public GetAccountInfoResp getAccountInfo() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v2/user-info", null, GetAccountInfoResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v2/user-info",
+        null,
+        GetAccountInfoResp.class,
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetAccountInfoResp> getAccountInfoAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v2/user-info",
+        null,
+        GetAccountInfoResp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetApikeyInfoResp getApikeyInfo() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/user/api-key", null, GetApikeyInfoResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/user/api-key",
+        null,
+        GetApikeyInfoResp.class,
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetApikeyInfoResp> getApikeyInfoAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/user/api-key",
+        null,
+        GetApikeyInfoResp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetSpotAccountTypeResp getSpotAccountType() {
@@ -29,12 +72,49 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/hf/accounts/opened",
         null,
         GetSpotAccountTypeResp.class,
-        false);
+        false,
+        "spot",
+        30);
+  }
+
+  public CompletableFuture<GetSpotAccountTypeResp> getSpotAccountTypeAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/accounts/opened",
+        null,
+        GetSpotAccountTypeResp.class,
+        false,
+        "spot",
+        30);
   }
 
   public GetSpotAccountListResp getSpotAccountList(GetSpotAccountListReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/accounts", req, GetSpotAccountListResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/accounts",
+        req,
+        GetSpotAccountListResp.class,
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetSpotAccountListResp> getSpotAccountListAsync(
+      GetSpotAccountListReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/accounts",
+        req,
+        GetSpotAccountListResp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetSpotAccountDetailResp getSpotAccountDetail(GetSpotAccountDetailReq req) {
@@ -45,7 +125,23 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/accounts/{accountId}",
         req,
         GetSpotAccountDetailResp.class,
-        false);
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetSpotAccountDetailResp> getSpotAccountDetailAsync(
+      GetSpotAccountDetailReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/accounts/{accountId}",
+        req,
+        GetSpotAccountDetailResp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetCrossMarginAccountResp getCrossMarginAccount(GetCrossMarginAccountReq req) {
@@ -56,7 +152,23 @@ public class AccountApiImpl implements AccountApi {
         "/api/v3/margin/accounts",
         req,
         GetCrossMarginAccountResp.class,
-        false);
+        false,
+        "spot",
+        15);
+  }
+
+  public CompletableFuture<GetCrossMarginAccountResp> getCrossMarginAccountAsync(
+      GetCrossMarginAccountReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/accounts",
+        req,
+        GetCrossMarginAccountResp.class,
+        false,
+        "spot",
+        15);
   }
 
   public GetIsolatedMarginAccountResp getIsolatedMarginAccount(GetIsolatedMarginAccountReq req) {
@@ -67,7 +179,23 @@ public class AccountApiImpl implements AccountApi {
         "/api/v3/isolated/accounts",
         req,
         GetIsolatedMarginAccountResp.class,
-        false);
+        false,
+        "spot",
+        15);
+  }
+
+  public CompletableFuture<GetIsolatedMarginAccountResp> getIsolatedMarginAccountAsync(
+      GetIsolatedMarginAccountReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/isolated/accounts",
+        req,
+        GetIsolatedMarginAccountResp.class,
+        false,
+        "spot",
+        15);
   }
 
   public GetFuturesAccountResp getFuturesAccount(GetFuturesAccountReq req) {
@@ -78,17 +206,74 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/account-overview",
         req,
         GetFuturesAccountResp.class,
-        false);
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<GetFuturesAccountResp> getFuturesAccountAsync(GetFuturesAccountReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/account-overview",
+        req,
+        GetFuturesAccountResp.class,
+        false,
+        "futures",
+        5);
   }
 
   public GetSpotLedgerResp getSpotLedger(GetSpotLedgerReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/accounts/ledgers", req, GetSpotLedgerResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/accounts/ledgers",
+        req,
+        GetSpotLedgerResp.class,
+        false,
+        "management",
+        2);
+  }
+
+  public CompletableFuture<GetSpotLedgerResp> getSpotLedgerAsync(GetSpotLedgerReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/accounts/ledgers",
+        req,
+        GetSpotLedgerResp.class,
+        false,
+        "management",
+        2);
   }
 
   public GetSpotHFLedgerResp getSpotHFLedger(GetSpotHFLedgerReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/hf/accounts/ledgers", req, GetSpotHFLedgerResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/accounts/ledgers",
+        req,
+        GetSpotHFLedgerResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetSpotHFLedgerResp> getSpotHFLedgerAsync(GetSpotHFLedgerReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/accounts/ledgers",
+        req,
+        GetSpotHFLedgerResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetMarginHFLedgerResp getMarginHFLedger(GetMarginHFLedgerReq req) {
@@ -99,7 +284,22 @@ public class AccountApiImpl implements AccountApi {
         "/api/v3/hf/margin/account/ledgers",
         req,
         GetMarginHFLedgerResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetMarginHFLedgerResp> getMarginHFLedgerAsync(GetMarginHFLedgerReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/account/ledgers",
+        req,
+        GetMarginHFLedgerResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetFuturesLedgerResp getFuturesLedger(GetFuturesLedgerReq req) {
@@ -110,7 +310,22 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/transaction-history",
         req,
         GetFuturesLedgerResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetFuturesLedgerResp> getFuturesLedgerAsync(GetFuturesLedgerReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/transaction-history",
+        req,
+        GetFuturesLedgerResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetMarginAccountDetailResp getMarginAccountDetail() {
@@ -121,7 +336,22 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/margin/account",
         null,
         GetMarginAccountDetailResp.class,
-        false);
+        false,
+        "spot",
+        40);
+  }
+
+  public CompletableFuture<GetMarginAccountDetailResp> getMarginAccountDetailAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/margin/account",
+        null,
+        GetMarginAccountDetailResp.class,
+        false,
+        "spot",
+        40);
   }
 
   public GetIsolatedMarginAccountListV1Resp getIsolatedMarginAccountListV1(
@@ -133,7 +363,23 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/isolated/accounts",
         req,
         GetIsolatedMarginAccountListV1Resp.class,
-        false);
+        false,
+        "spot",
+        50);
+  }
+
+  public CompletableFuture<GetIsolatedMarginAccountListV1Resp> getIsolatedMarginAccountListV1Async(
+      GetIsolatedMarginAccountListV1Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/isolated/accounts",
+        req,
+        GetIsolatedMarginAccountListV1Resp.class,
+        false,
+        "spot",
+        50);
   }
 
   public GetIsolatedMarginAccountDetailV1Resp getIsolatedMarginAccountDetailV1(
@@ -145,6 +391,22 @@ public class AccountApiImpl implements AccountApi {
         "/api/v1/isolated/account/{symbol}",
         req,
         GetIsolatedMarginAccountDetailV1Resp.class,
-        false);
+        false,
+        "spot",
+        50);
+  }
+
+  public CompletableFuture<GetIsolatedMarginAccountDetailV1Resp>
+      getIsolatedMarginAccountDetailV1Async(GetIsolatedMarginAccountDetailV1Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/isolated/account/{symbol}",
+        req,
+        GetIsolatedMarginAccountDetailV1Resp.class,
+        false,
+        "spot",
+        50);
   }
 }
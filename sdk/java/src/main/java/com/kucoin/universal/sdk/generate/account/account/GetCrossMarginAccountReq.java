@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,6 +33,13 @@ public class GetCrossMarginAccountReq implements Request {
   @Builder.Default
   private QueryTypeEnum queryType = QueryTypeEnum.MARGIN;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("quoteCurrency", this.quoteCurrency);
+    query.add("queryType", this.queryType);
+    return true;
+  }
+
   public enum QuoteCurrencyEnum {
     /** */
     USDT("USDT"),
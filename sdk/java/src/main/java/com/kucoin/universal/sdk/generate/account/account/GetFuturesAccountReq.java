@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.account;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,4 +21,10 @@ public class GetFuturesAccountReq implements Request {
   @JsonProperty("currency")
   @Builder.Default
   private String currency = "XBT";
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    return true;
+  }
 }
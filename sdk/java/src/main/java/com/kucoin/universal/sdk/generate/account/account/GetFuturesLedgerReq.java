@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.account;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -54,4 +55,16 @@ public class GetFuturesLedgerReq implements Request {
   /** End time (milliseconds) */
   @JsonProperty("endAt")
   private Long endAt;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("type", this.type);
+    query.add("offset", this.offset);
+    query.add("forward", this.forward);
+    query.add("maxCount", this.maxCount);
+    query.add("startAt", this.startAt);
+    query.add("endAt", this.endAt);
+    return true;
+  }
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,12 @@ public class GetIsolatedMarginAccountListV1Req implements Request {
   @Builder.Default
   private BalanceCurrencyEnum balanceCurrency = BalanceCurrencyEnum.BTC;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("balanceCurrency", this.balanceCurrency);
+    return true;
+  }
+
   public enum BalanceCurrencyEnum {
     /** */
     USDT("USDT"),
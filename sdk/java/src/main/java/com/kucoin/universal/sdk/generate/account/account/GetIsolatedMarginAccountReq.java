@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +37,14 @@ public class GetIsolatedMarginAccountReq implements Request {
   @Builder.Default
   private QueryTypeEnum queryType = QueryTypeEnum.ISOLATED;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("quoteCurrency", this.quoteCurrency);
+    query.add("queryType", this.queryType);
+    return true;
+  }
+
   public enum QuoteCurrencyEnum {
     /** */
     USDT("USDT"),
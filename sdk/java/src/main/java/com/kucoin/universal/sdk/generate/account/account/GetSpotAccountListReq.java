@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +27,13 @@ public class GetSpotAccountListReq implements Request {
   @JsonProperty("type")
   private TypeEnum type;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("type", this.type);
+    return true;
+  }
+
   public enum TypeEnum {
     /** Funding account */
     MAIN("main"),
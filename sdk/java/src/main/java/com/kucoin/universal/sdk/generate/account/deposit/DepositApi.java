@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.account.deposit;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface DepositApi {
   /**
    * Add Deposit Address (V3)
@@ -23,6 +26,13 @@ public interface DepositApi {
    */
   AddDepositAddressV3Resp addDepositAddressV3(AddDepositAddressV3Req req);
 
+  /**
+   * Add Deposit Address (V3), without blocking the calling thread.
+   *
+   * @see #addDepositAddressV3
+   */
+  CompletableFuture<AddDepositAddressV3Resp> addDepositAddressV3Async(AddDepositAddressV3Req req);
+
   /**
    * Get Deposit Address (V3)
    *
@@ -43,6 +53,13 @@ public interface DepositApi {
    */
   GetDepositAddressV3Resp getDepositAddressV3(GetDepositAddressV3Req req);
 
+  /**
+   * Get Deposit Address (V3), without blocking the calling thread.
+   *
+   * @see #getDepositAddressV3
+   */
+  CompletableFuture<GetDepositAddressV3Resp> getDepositAddressV3Async(GetDepositAddressV3Req req);
+
   /**
    * Get Deposit History
    *
@@ -63,6 +80,39 @@ public interface DepositApi {
    */
   GetDepositHistoryResp getDepositHistory(GetDepositHistoryReq req);
 
+  /**
+   * Get Deposit History, without blocking the calling thread.
+   *
+   * @see #getDepositHistory
+   */
+  CompletableFuture<GetDepositHistoryResp> getDepositHistoryAsync(GetDepositHistoryReq req);
+
+  /**
+   * Get Deposit History, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getDepositHistory
+   */
+  default Paged<GetDepositHistoryItems> getDepositHistoryPaged(
+      GetDepositHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getDepositHistoryAsync(req.toBuilder().currentPage(page).build()),
+        GetDepositHistoryResp::getItems,
+        GetDepositHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Deposit History, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getDepositHistory
+   */
+  default Paged<GetDepositHistoryItems> getDepositHistoryPaged(GetDepositHistoryReq req) {
+    return getDepositHistoryPaged(req, 1);
+  }
+
   /**
    * Get Deposit Addresses (V2)
    *
@@ -84,6 +134,14 @@ public interface DepositApi {
   @Deprecated
   GetDepositAddressV2Resp getDepositAddressV2(GetDepositAddressV2Req req);
 
+  /**
+   * Get Deposit Addresses (V2), without blocking the calling thread.
+   *
+   * @see #getDepositAddressV2
+   */
+  @Deprecated
+  CompletableFuture<GetDepositAddressV2Resp> getDepositAddressV2Async(GetDepositAddressV2Req req);
+
   /**
    * Get Deposit Addresses - V1
    *
@@ -105,6 +163,14 @@ public interface DepositApi {
   @Deprecated
   GetDepositAddressV1Resp getDepositAddressV1(GetDepositAddressV1Req req);
 
+  /**
+   * Get Deposit Addresses - V1, without blocking the calling thread.
+   *
+   * @see #getDepositAddressV1
+   */
+  @Deprecated
+  CompletableFuture<GetDepositAddressV1Resp> getDepositAddressV1Async(GetDepositAddressV1Req req);
+
   /**
    * Get Deposit History - Old
    *
@@ -126,6 +192,15 @@ public interface DepositApi {
   @Deprecated
   GetDepositHistoryOldResp getDepositHistoryOld(GetDepositHistoryOldReq req);
 
+  /**
+   * Get Deposit History - Old, without blocking the calling thread.
+   *
+   * @see #getDepositHistoryOld
+   */
+  @Deprecated
+  CompletableFuture<GetDepositHistoryOldResp> getDepositHistoryOldAsync(
+      GetDepositHistoryOldReq req);
+
   /**
    * Add Deposit Address - V1
    *
@@ -146,4 +221,12 @@ public interface DepositApi {
    */
   @Deprecated
   AddDepositAddressV1Resp addDepositAddressV1(AddDepositAddressV1Req req);
+
+  /**
+   * Add Deposit Address - V1, without blocking the calling thread.
+   *
+   * @see #addDepositAddressV1
+   */
+  @Deprecated
+  CompletableFuture<AddDepositAddressV1Resp> addDepositAddressV1Async(AddDepositAddressV1Req req);
 }
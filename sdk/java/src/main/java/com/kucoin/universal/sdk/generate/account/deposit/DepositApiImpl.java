@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.account.deposit;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class DepositApiImpl implements DepositApi {
   private final Transport transport;
@@ -19,7 +20,23 @@ public class DepositApiImpl implements DepositApi {
         "/api/v3/deposit-address/create",
         req,
         AddDepositAddressV3Resp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<AddDepositAddressV3Resp> addDepositAddressV3Async(
+      AddDepositAddressV3Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/deposit-address/create",
+        req,
+        AddDepositAddressV3Resp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetDepositAddressV3Resp getDepositAddressV3(GetDepositAddressV3Req req) {
@@ -30,12 +47,49 @@ public class DepositApiImpl implements DepositApi {
         "/api/v3/deposit-addresses",
         req,
         GetDepositAddressV3Resp.class,
-        false);
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetDepositAddressV3Resp> getDepositAddressV3Async(
+      GetDepositAddressV3Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/deposit-addresses",
+        req,
+        GetDepositAddressV3Resp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetDepositHistoryResp getDepositHistory(GetDepositHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/deposits", req, GetDepositHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/deposits",
+        req,
+        GetDepositHistoryResp.class,
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetDepositHistoryResp> getDepositHistoryAsync(GetDepositHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/deposits",
+        req,
+        GetDepositHistoryResp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetDepositAddressV2Resp getDepositAddressV2(GetDepositAddressV2Req req) {
@@ -46,7 +100,23 @@ public class DepositApiImpl implements DepositApi {
         "/api/v2/deposit-addresses",
         req,
         GetDepositAddressV2Resp.class,
-        false);
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetDepositAddressV2Resp> getDepositAddressV2Async(
+      GetDepositAddressV2Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v2/deposit-addresses",
+        req,
+        GetDepositAddressV2Resp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetDepositAddressV1Resp getDepositAddressV1(GetDepositAddressV1Req req) {
@@ -57,12 +127,50 @@ public class DepositApiImpl implements DepositApi {
         "/api/v1/deposit-addresses",
         req,
         GetDepositAddressV1Resp.class,
-        false);
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetDepositAddressV1Resp> getDepositAddressV1Async(
+      GetDepositAddressV1Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/deposit-addresses",
+        req,
+        GetDepositAddressV1Resp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetDepositHistoryOldResp getDepositHistoryOld(GetDepositHistoryOldReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/hist-deposits", req, GetDepositHistoryOldResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hist-deposits",
+        req,
+        GetDepositHistoryOldResp.class,
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetDepositHistoryOldResp> getDepositHistoryOldAsync(
+      GetDepositHistoryOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hist-deposits",
+        req,
+        GetDepositHistoryOldResp.class,
+        false,
+        "management",
+        5);
   }
 
   public AddDepositAddressV1Resp addDepositAddressV1(AddDepositAddressV1Req req) {
@@ -73,6 +181,22 @@ public class DepositApiImpl implements DepositApi {
         "/api/v1/deposit-addresses",
         req,
         AddDepositAddressV1Resp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<AddDepositAddressV1Resp> addDepositAddressV1Async(
+      AddDepositAddressV1Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/deposit-addresses",
+        req,
+        AddDepositAddressV1Resp.class,
+        false,
+        "management",
+        20);
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.deposit;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,4 +24,11 @@ public class GetDepositAddressV2Req implements Request {
   /** Chain ID of currency */
   @JsonProperty("chain")
   private String chain;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("chain", this.chain);
+    return true;
+  }
 }
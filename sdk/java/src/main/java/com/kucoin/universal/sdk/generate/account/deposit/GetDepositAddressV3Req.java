@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.deposit;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,4 +31,12 @@ public class GetDepositAddressV3Req implements Request {
   /** The chain Id of currency. */
   @JsonProperty("chain")
   private String chain;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("amount", this.amount);
+    query.add("chain", this.chain);
+    return true;
+  }
 }
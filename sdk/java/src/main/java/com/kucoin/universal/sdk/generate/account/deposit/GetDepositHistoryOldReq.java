@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,6 +35,15 @@ public class GetDepositHistoryOldReq implements Request {
   @JsonProperty("endAt")
   private Long endAt;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("status", this.status);
+    query.add("startAt", this.startAt);
+    query.add("endAt", this.endAt);
+    return true;
+  }
+
   public enum StatusEnum {
     /** */
     PROCESSING("PROCESSING"),
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -43,6 +44,17 @@ public class GetDepositHistoryReq implements Request {
   @Builder.Default
   private Integer pageSize = 50;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("status", this.status);
+    query.add("startAt", this.startAt);
+    query.add("endAt", this.endAt);
+    query.add("currentPage", this.currentPage);
+    query.add("pageSize", this.pageSize);
+    return true;
+  }
+
   public enum StatusEnum {
     /** Deposit processing */
     PROCESSING("PROCESSING"),
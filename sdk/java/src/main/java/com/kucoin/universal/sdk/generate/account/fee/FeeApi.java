@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.account.fee;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface FeeApi {
   /**
    * Get Basic Fee - Spot/Margin
@@ -22,6 +24,13 @@ public interface FeeApi {
    */
   GetBasicFeeResp getBasicFee(GetBasicFeeReq req);
 
+  /**
+   * Get Basic Fee - Spot/Margin, without blocking the calling thread.
+   *
+   * @see #getBasicFee
+   */
+  CompletableFuture<GetBasicFeeResp> getBasicFeeAsync(GetBasicFeeReq req);
+
   /**
    * Get Actual Fee - Spot/Margin
    *
@@ -43,6 +52,13 @@ public interface FeeApi {
    */
   GetSpotActualFeeResp getSpotActualFee(GetSpotActualFeeReq req);
 
+  /**
+   * Get Actual Fee - Spot/Margin, without blocking the calling thread.
+   *
+   * @see #getSpotActualFee
+   */
+  CompletableFuture<GetSpotActualFeeResp> getSpotActualFeeAsync(GetSpotActualFeeReq req);
+
   /**
    * Get Actual Fee - Futures
    *
@@ -62,4 +78,11 @@ public interface FeeApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470151">docs</a>
    */
   GetFuturesActualFeeResp getFuturesActualFee(GetFuturesActualFeeReq req);
+
+  /**
+   * Get Actual Fee - Futures, without blocking the calling thread.
+   *
+   * @see #getFuturesActualFee
+   */
+  CompletableFuture<GetFuturesActualFeeResp> getFuturesActualFeeAsync(GetFuturesActualFeeReq req);
 }
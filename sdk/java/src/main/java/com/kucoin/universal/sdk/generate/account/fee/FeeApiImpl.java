@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.account.fee;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class FeeApiImpl implements FeeApi {
   private final Transport transport;
@@ -13,16 +14,64 @@ public class FeeApiImpl implements FeeApi {
 
   public GetBasicFeeResp getBasicFee(GetBasicFeeReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/base-fee", req, GetBasicFeeResp.class, false);
+        "spot", false, "GET", "/api/v1/base-fee", req, GetBasicFeeResp.class, false, "spot", 3);
+  }
+
+  public CompletableFuture<GetBasicFeeResp> getBasicFeeAsync(GetBasicFeeReq req) {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v1/base-fee", req, GetBasicFeeResp.class, false, "spot", 3);
   }
 
   public GetSpotActualFeeResp getSpotActualFee(GetSpotActualFeeReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/trade-fees", req, GetSpotActualFeeResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/trade-fees",
+        req,
+        GetSpotActualFeeResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<GetSpotActualFeeResp> getSpotActualFeeAsync(GetSpotActualFeeReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/trade-fees",
+        req,
+        GetSpotActualFeeResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public GetFuturesActualFeeResp getFuturesActualFee(GetFuturesActualFeeReq req) {
     return this.transport.call(
-        "futures", false, "get", "/api/v1/trade-fees", req, GetFuturesActualFeeResp.class, false);
+        "futures",
+        false,
+        "get",
+        "/api/v1/trade-fees",
+        req,
+        GetFuturesActualFeeResp.class,
+        false,
+        "futures",
+        3);
+  }
+
+  public CompletableFuture<GetFuturesActualFeeResp> getFuturesActualFeeAsync(
+      GetFuturesActualFeeReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "get",
+        "/api/v1/trade-fees",
+        req,
+        GetFuturesActualFeeResp.class,
+        false,
+        "futures",
+        3);
   }
 }
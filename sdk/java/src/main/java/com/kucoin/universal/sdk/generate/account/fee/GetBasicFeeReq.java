@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,12 @@ public class GetBasicFeeReq implements Request {
   @Builder.Default
   private CurrencyTypeEnum currencyType = CurrencyTypeEnum._0;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currencyType", this.currencyType);
+    return true;
+  }
+
   public enum CurrencyTypeEnum {
     /** cryptocurrency */
     _0(0),
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.fee;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,4 +22,10 @@ public class GetFuturesActualFeeReq implements Request {
    */
   @JsonProperty("symbol")
   private String symbol;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    return true;
+  }
 }
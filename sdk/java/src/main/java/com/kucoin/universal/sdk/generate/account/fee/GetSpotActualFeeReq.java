@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.fee;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,4 +20,10 @@ public class GetSpotActualFeeReq implements Request {
   /** Trading pair (optional; you can inquire fee rates of 10 trading pairs each time at most) */
   @JsonProperty("symbols")
   private String symbols;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbols", this.symbols);
+    return true;
+  }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.subaccount;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,4 +28,12 @@ public class DeleteSubAccountApiReq implements Request {
   /** Password (password of the API key) */
   @JsonProperty("passphrase")
   private String passphrase;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("apiKey", this.apiKey);
+    query.add("subName", this.subName);
+    query.add("passphrase", this.passphrase);
+    return true;
+  }
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kucoin.universal.sdk.internal.interfaces.PathVar;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,4 +37,12 @@ public class GetSpotSubAccountDetailReq implements Request {
   /** The currency balance specified must be greater than or equal to the amount */
   @JsonProperty("baseAmount")
   private String baseAmount;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("includeBaseAmount", this.includeBaseAmount);
+    query.add("baseCurrency", this.baseCurrency);
+    query.add("baseAmount", this.baseAmount);
+    return true;
+  }
 }
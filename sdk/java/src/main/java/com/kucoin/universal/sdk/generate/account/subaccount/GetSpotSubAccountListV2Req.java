@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.subaccount;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -25,4 +26,11 @@ public class GetSpotSubAccountListV2Req implements Request {
   @JsonProperty("pageSize")
   @Builder.Default
   private Integer pageSize = 10;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currentPage", this.currentPage);
+    query.add("pageSize", this.pageSize);
+    return true;
+  }
 }
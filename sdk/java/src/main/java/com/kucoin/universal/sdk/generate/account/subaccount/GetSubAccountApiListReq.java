@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.subaccount;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,4 +24,11 @@ public class GetSubAccountApiListReq implements Request {
   /** Sub-account name. */
   @JsonProperty("subName")
   private String subName;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("apiKey", this.apiKey);
+    query.add("subName", this.subName);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.account.subaccount;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface SubAccountApi {
   /**
    * Add sub-account
@@ -22,6 +25,13 @@ public interface SubAccountApi {
    */
   AddSubAccountResp addSubAccount(AddSubAccountReq req);
 
+  /**
+   * Add sub-account, without blocking the calling thread.
+   *
+   * @see #addSubAccount
+   */
+  CompletableFuture<AddSubAccountResp> addSubAccountAsync(AddSubAccountReq req);
+
   /**
    * Add sub-account Margin Permission
    *
@@ -44,6 +54,14 @@ public interface SubAccountApi {
   AddSubAccountMarginPermissionResp addSubAccountMarginPermission(
       AddSubAccountMarginPermissionReq req);
 
+  /**
+   * Add sub-account Margin Permission, without blocking the calling thread.
+   *
+   * @see #addSubAccountMarginPermission
+   */
+  CompletableFuture<AddSubAccountMarginPermissionResp> addSubAccountMarginPermissionAsync(
+      AddSubAccountMarginPermissionReq req);
+
   /**
    * Add sub-account Futures Permission
    *
@@ -66,6 +84,14 @@ public interface SubAccountApi {
   AddSubAccountFuturesPermissionResp addSubAccountFuturesPermission(
       AddSubAccountFuturesPermissionReq req);
 
+  /**
+   * Add sub-account Futures Permission, without blocking the calling thread.
+   *
+   * @see #addSubAccountFuturesPermission
+   */
+  CompletableFuture<AddSubAccountFuturesPermissionResp> addSubAccountFuturesPermissionAsync(
+      AddSubAccountFuturesPermissionReq req);
+
   /**
    * Get sub-account List - Summary Info
    *
@@ -85,6 +111,41 @@ public interface SubAccountApi {
    */
   GetSpotSubAccountsSummaryV2Resp getSpotSubAccountsSummaryV2(GetSpotSubAccountsSummaryV2Req req);
 
+  /**
+   * Get sub-account List - Summary Info, without blocking the calling thread.
+   *
+   * @see #getSpotSubAccountsSummaryV2
+   */
+  CompletableFuture<GetSpotSubAccountsSummaryV2Resp> getSpotSubAccountsSummaryV2Async(
+      GetSpotSubAccountsSummaryV2Req req);
+
+  /**
+   * Get sub-account List - Summary Info, every page from {@code req}'s page on, with up to {@code
+   * parallelism} pages fetched ahead of the consumer.
+   *
+   * @see #getSpotSubAccountsSummaryV2
+   */
+  default Paged<GetSpotSubAccountsSummaryV2Items> getSpotSubAccountsSummaryV2Paged(
+      GetSpotSubAccountsSummaryV2Req req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getSpotSubAccountsSummaryV2Async(req.toBuilder().currentPage(page).build()),
+        GetSpotSubAccountsSummaryV2Resp::getItems,
+        GetSpotSubAccountsSummaryV2Resp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get sub-account List - Summary Info, every page from {@code req}'s page on, with the next page
+   * fetched while the current one is consumed.
+   *
+   * @see #getSpotSubAccountsSummaryV2
+   */
+  default Paged<GetSpotSubAccountsSummaryV2Items> getSpotSubAccountsSummaryV2Paged(
+      GetSpotSubAccountsSummaryV2Req req) {
+    return getSpotSubAccountsSummaryV2Paged(req, 1);
+  }
+
   /**
    * Get sub-account Detail - Balance
    *
@@ -104,6 +165,14 @@ public interface SubAccountApi {
    */
   GetSpotSubAccountDetailResp getSpotSubAccountDetail(GetSpotSubAccountDetailReq req);
 
+  /**
+   * Get sub-account Detail - Balance, without blocking the calling thread.
+   *
+   * @see #getSpotSubAccountDetail
+   */
+  CompletableFuture<GetSpotSubAccountDetailResp> getSpotSubAccountDetailAsync(
+      GetSpotSubAccountDetailReq req);
+
   /**
    * Get sub-account List - Spot Balance (V2)
    *
@@ -124,6 +193,41 @@ public interface SubAccountApi {
    */
   GetSpotSubAccountListV2Resp getSpotSubAccountListV2(GetSpotSubAccountListV2Req req);
 
+  /**
+   * Get sub-account List - Spot Balance (V2), without blocking the calling thread.
+   *
+   * @see #getSpotSubAccountListV2
+   */
+  CompletableFuture<GetSpotSubAccountListV2Resp> getSpotSubAccountListV2Async(
+      GetSpotSubAccountListV2Req req);
+
+  /**
+   * Get sub-account List - Spot Balance (V2), every page from {@code req}'s page on, with up to
+   * {@code parallelism} pages fetched ahead of the consumer.
+   *
+   * @see #getSpotSubAccountListV2
+   */
+  default Paged<GetSpotSubAccountListV2Items> getSpotSubAccountListV2Paged(
+      GetSpotSubAccountListV2Req req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getSpotSubAccountListV2Async(req.toBuilder().currentPage(page).build()),
+        GetSpotSubAccountListV2Resp::getItems,
+        GetSpotSubAccountListV2Resp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get sub-account List - Spot Balance (V2), every page from {@code req}'s page on, with the next
+   * page fetched while the current one is consumed.
+   *
+   * @see #getSpotSubAccountListV2
+   */
+  default Paged<GetSpotSubAccountListV2Items> getSpotSubAccountListV2Paged(
+      GetSpotSubAccountListV2Req req) {
+    return getSpotSubAccountListV2Paged(req, 1);
+  }
+
   /**
    * Get sub-account List - Futures Balance (V2)
    *
@@ -143,6 +247,14 @@ public interface SubAccountApi {
    */
   GetFuturesSubAccountListV2Resp getFuturesSubAccountListV2(GetFuturesSubAccountListV2Req req);
 
+  /**
+   * Get sub-account List - Futures Balance (V2), without blocking the calling thread.
+   *
+   * @see #getFuturesSubAccountListV2
+   */
+  CompletableFuture<GetFuturesSubAccountListV2Resp> getFuturesSubAccountListV2Async(
+      GetFuturesSubAccountListV2Req req);
+
   /**
    * Add sub-account API
    *
@@ -162,6 +274,13 @@ public interface SubAccountApi {
    */
   AddSubAccountApiResp addSubAccountApi(AddSubAccountApiReq req);
 
+  /**
+   * Add sub-account API, without blocking the calling thread.
+   *
+   * @see #addSubAccountApi
+   */
+  CompletableFuture<AddSubAccountApiResp> addSubAccountApiAsync(AddSubAccountApiReq req);
+
   /**
    * Modify sub-account API
    *
@@ -181,6 +300,13 @@ public interface SubAccountApi {
    */
   ModifySubAccountApiResp modifySubAccountApi(ModifySubAccountApiReq req);
 
+  /**
+   * Modify sub-account API, without blocking the calling thread.
+   *
+   * @see #modifySubAccountApi
+   */
+  CompletableFuture<ModifySubAccountApiResp> modifySubAccountApiAsync(ModifySubAccountApiReq req);
+
   /**
    * Get sub-account API List
    *
@@ -201,6 +327,14 @@ public interface SubAccountApi {
    */
   GetSubAccountApiListResp getSubAccountApiList(GetSubAccountApiListReq req);
 
+  /**
+   * Get sub-account API List, without blocking the calling thread.
+   *
+   * @see #getSubAccountApiList
+   */
+  CompletableFuture<GetSubAccountApiListResp> getSubAccountApiListAsync(
+      GetSubAccountApiListReq req);
+
   /**
    * Delete sub-account API
    *
@@ -220,6 +354,13 @@ public interface SubAccountApi {
    */
   DeleteSubAccountApiResp deleteSubAccountApi(DeleteSubAccountApiReq req);
 
+  /**
+   * Delete sub-account API, without blocking the calling thread.
+   *
+   * @see #deleteSubAccountApi
+   */
+  CompletableFuture<DeleteSubAccountApiResp> deleteSubAccountApiAsync(DeleteSubAccountApiReq req);
+
   /**
    * Get sub-account List - Summary Info (V1)
    *
@@ -241,6 +382,14 @@ public interface SubAccountApi {
   @Deprecated
   GetSpotSubAccountsSummaryV1Resp getSpotSubAccountsSummaryV1();
 
+  /**
+   * Get sub-account List - Summary Info (V1), without blocking the calling thread.
+   *
+   * @see #getSpotSubAccountsSummaryV1
+   */
+  @Deprecated
+  CompletableFuture<GetSpotSubAccountsSummaryV1Resp> getSpotSubAccountsSummaryV1Async();
+
   /**
    * Get sub-account List - Spot Balance (V1)
    *
@@ -260,4 +409,12 @@ public interface SubAccountApi {
    */
   @Deprecated
   GetSpotSubAccountListV1Resp getSpotSubAccountListV1();
+
+  /**
+   * Get sub-account List - Spot Balance (V1), without blocking the calling thread.
+   *
+   * @see #getSpotSubAccountListV1
+   */
+  @Deprecated
+  CompletableFuture<GetSpotSubAccountListV1Resp> getSpotSubAccountListV1Async();
 }
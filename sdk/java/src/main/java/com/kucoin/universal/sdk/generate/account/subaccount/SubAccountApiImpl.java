@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.account.subaccount;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class SubAccountApiImpl implements SubAccountApi {
   private final Transport transport;
@@ -13,7 +14,28 @@ public class SubAccountApiImpl implements SubAccountApi {
 
   public AddSubAccountResp addSubAccount(AddSubAccountReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v2/sub/user/created", req, AddSubAccountResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v2/sub/user/created",
+        req,
+        AddSubAccountResp.class,
+        false,
+        "management",
+        15);
+  }
+
+  public CompletableFuture<AddSubAccountResp> addSubAccountAsync(AddSubAccountReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v2/sub/user/created",
+        req,
+        AddSubAccountResp.class,
+        false,
+        "management",
+        15);
   }
 
   public AddSubAccountMarginPermissionResp addSubAccountMarginPermission(
@@ -25,7 +47,23 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v3/sub/user/margin/enable",
         req,
         AddSubAccountMarginPermissionResp.class,
-        false);
+        false,
+        "management",
+        15);
+  }
+
+  public CompletableFuture<AddSubAccountMarginPermissionResp> addSubAccountMarginPermissionAsync(
+      AddSubAccountMarginPermissionReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/sub/user/margin/enable",
+        req,
+        AddSubAccountMarginPermissionResp.class,
+        false,
+        "management",
+        15);
   }
 
   public AddSubAccountFuturesPermissionResp addSubAccountFuturesPermission(
@@ -37,7 +75,23 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v3/sub/user/futures/enable",
         req,
         AddSubAccountFuturesPermissionResp.class,
-        false);
+        false,
+        "management",
+        15);
+  }
+
+  public CompletableFuture<AddSubAccountFuturesPermissionResp> addSubAccountFuturesPermissionAsync(
+      AddSubAccountFuturesPermissionReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/sub/user/futures/enable",
+        req,
+        AddSubAccountFuturesPermissionResp.class,
+        false,
+        "management",
+        15);
   }
 
   public GetSpotSubAccountsSummaryV2Resp getSpotSubAccountsSummaryV2(
@@ -49,7 +103,23 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v2/sub/user",
         req,
         GetSpotSubAccountsSummaryV2Resp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetSpotSubAccountsSummaryV2Resp> getSpotSubAccountsSummaryV2Async(
+      GetSpotSubAccountsSummaryV2Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v2/sub/user",
+        req,
+        GetSpotSubAccountsSummaryV2Resp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetSpotSubAccountDetailResp getSpotSubAccountDetail(GetSpotSubAccountDetailReq req) {
@@ -60,7 +130,23 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v1/sub-accounts/{subUserId}",
         req,
         GetSpotSubAccountDetailResp.class,
-        false);
+        false,
+        "management",
+        15);
+  }
+
+  public CompletableFuture<GetSpotSubAccountDetailResp> getSpotSubAccountDetailAsync(
+      GetSpotSubAccountDetailReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/sub-accounts/{subUserId}",
+        req,
+        GetSpotSubAccountDetailResp.class,
+        false,
+        "management",
+        15);
   }
 
   public GetSpotSubAccountListV2Resp getSpotSubAccountListV2(GetSpotSubAccountListV2Req req) {
@@ -71,7 +157,23 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v2/sub-accounts",
         req,
         GetSpotSubAccountListV2Resp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetSpotSubAccountListV2Resp> getSpotSubAccountListV2Async(
+      GetSpotSubAccountListV2Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v2/sub-accounts",
+        req,
+        GetSpotSubAccountListV2Resp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetFuturesSubAccountListV2Resp getFuturesSubAccountListV2(
@@ -83,12 +185,49 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v1/account-overview-all",
         req,
         GetFuturesSubAccountListV2Resp.class,
-        false);
+        false,
+        "futures",
+        6);
+  }
+
+  public CompletableFuture<GetFuturesSubAccountListV2Resp> getFuturesSubAccountListV2Async(
+      GetFuturesSubAccountListV2Req req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/account-overview-all",
+        req,
+        GetFuturesSubAccountListV2Resp.class,
+        false,
+        "futures",
+        6);
   }
 
   public AddSubAccountApiResp addSubAccountApi(AddSubAccountApiReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/sub/api-key", req, AddSubAccountApiResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/sub/api-key",
+        req,
+        AddSubAccountApiResp.class,
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<AddSubAccountApiResp> addSubAccountApiAsync(AddSubAccountApiReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/sub/api-key",
+        req,
+        AddSubAccountApiResp.class,
+        false,
+        "management",
+        20);
   }
 
   public ModifySubAccountApiResp modifySubAccountApi(ModifySubAccountApiReq req) {
@@ -99,17 +238,77 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v1/sub/api-key/update",
         req,
         ModifySubAccountApiResp.class,
-        false);
+        false,
+        "management",
+        30);
+  }
+
+  public CompletableFuture<ModifySubAccountApiResp> modifySubAccountApiAsync(
+      ModifySubAccountApiReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/sub/api-key/update",
+        req,
+        ModifySubAccountApiResp.class,
+        false,
+        "management",
+        30);
   }
 
   public GetSubAccountApiListResp getSubAccountApiList(GetSubAccountApiListReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/sub/api-key", req, GetSubAccountApiListResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/sub/api-key",
+        req,
+        GetSubAccountApiListResp.class,
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetSubAccountApiListResp> getSubAccountApiListAsync(
+      GetSubAccountApiListReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/sub/api-key",
+        req,
+        GetSubAccountApiListResp.class,
+        false,
+        "management",
+        20);
   }
 
   public DeleteSubAccountApiResp deleteSubAccountApi(DeleteSubAccountApiReq req) {
     return this.transport.call(
-        "spot", false, "DELETE", "/api/v1/sub/api-key", req, DeleteSubAccountApiResp.class, false);
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/sub/api-key",
+        req,
+        DeleteSubAccountApiResp.class,
+        false,
+        "management",
+        30);
+  }
+
+  public CompletableFuture<DeleteSubAccountApiResp> deleteSubAccountApiAsync(
+      DeleteSubAccountApiReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/sub/api-key",
+        req,
+        DeleteSubAccountApiResp.class,
+        false,
+        "management",
+        30);
   }
 
   public GetSpotSubAccountsSummaryV1Resp getSpotSubAccountsSummaryV1() {
@@ -120,7 +319,22 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v1/sub/user",
         null,
         GetSpotSubAccountsSummaryV1Resp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetSpotSubAccountsSummaryV1Resp> getSpotSubAccountsSummaryV1Async() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/sub/user",
+        null,
+        GetSpotSubAccountsSummaryV1Resp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetSpotSubAccountListV1Resp getSpotSubAccountListV1() {
@@ -131,6 +345,21 @@ public class SubAccountApiImpl implements SubAccountApi {
         "/api/v1/sub-accounts",
         null,
         GetSpotSubAccountListV1Resp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetSpotSubAccountListV1Resp> getSpotSubAccountListV1Async() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/sub-accounts",
+        null,
+        GetSpotSubAccountListV1Resp.class,
+        false,
+        "management",
+        20);
   }
 }
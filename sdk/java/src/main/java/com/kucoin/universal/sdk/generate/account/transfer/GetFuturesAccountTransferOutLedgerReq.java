@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +16,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -51,6 +52,18 @@ public class GetFuturesAccountTransferOutLedgerReq implements Request {
   @Builder.Default
   private Long pageSize = 50l;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("type", this.type);
+    query.add("tag", this.tag);
+    query.add("startAt", this.startAt);
+    query.add("endAt", this.endAt);
+    query.add("currentPage", this.currentPage);
+    query.add("pageSize", this.pageSize);
+    return true;
+  }
+
   public enum TypeEnum {
     /** */
     MAIN("MAIN"),
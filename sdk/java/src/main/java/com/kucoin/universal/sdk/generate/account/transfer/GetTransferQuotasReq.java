@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,6 +35,14 @@ public class GetTransferQuotasReq implements Request {
   @Builder.Default
   private String tag = "BTC-USDT";
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("type", this.type);
+    query.add("tag", this.tag);
+    return true;
+  }
+
   public enum TypeEnum {
     /** Funding account */
     MAIN("MAIN"),
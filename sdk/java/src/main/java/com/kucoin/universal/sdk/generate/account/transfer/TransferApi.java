@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.account.transfer;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface TransferApi {
   /**
    * Get Transfer Quotas
@@ -22,6 +25,13 @@ public interface TransferApi {
    */
   GetTransferQuotasResp getTransferQuotas(GetTransferQuotasReq req);
 
+  /**
+   * Get Transfer Quotas, without blocking the calling thread.
+   *
+   * @see #getTransferQuotas
+   */
+  CompletableFuture<GetTransferQuotasResp> getTransferQuotasAsync(GetTransferQuotasReq req);
+
   /**
    * Flex Transfer
    *
@@ -41,6 +51,13 @@ public interface TransferApi {
    */
   FlexTransferResp flexTransfer(FlexTransferReq req);
 
+  /**
+   * Flex Transfer, without blocking the calling thread.
+   *
+   * @see #flexTransfer
+   */
+  CompletableFuture<FlexTransferResp> flexTransferAsync(FlexTransferReq req);
+
   /**
    * Sub-account Transfer
    *
@@ -65,6 +82,14 @@ public interface TransferApi {
   @Deprecated
   SubAccountTransferResp subAccountTransfer(SubAccountTransferReq req);
 
+  /**
+   * Sub-account Transfer, without blocking the calling thread.
+   *
+   * @see #subAccountTransfer
+   */
+  @Deprecated
+  CompletableFuture<SubAccountTransferResp> subAccountTransferAsync(SubAccountTransferReq req);
+
   /**
    * Internal Transfer
    *
@@ -86,6 +111,14 @@ public interface TransferApi {
   @Deprecated
   InnerTransferResp innerTransfer(InnerTransferReq req);
 
+  /**
+   * Internal Transfer, without blocking the calling thread.
+   *
+   * @see #innerTransfer
+   */
+  @Deprecated
+  CompletableFuture<InnerTransferResp> innerTransferAsync(InnerTransferReq req);
+
   /**
    * Get Futures Account Transfer Out Ledger
    *
@@ -107,6 +140,46 @@ public interface TransferApi {
   GetFuturesAccountTransferOutLedgerResp getFuturesAccountTransferOutLedger(
       GetFuturesAccountTransferOutLedgerReq req);
 
+  /**
+   * Get Futures Account Transfer Out Ledger, without blocking the calling thread.
+   *
+   * @see #getFuturesAccountTransferOutLedger
+   */
+  @Deprecated
+  CompletableFuture<GetFuturesAccountTransferOutLedgerResp> getFuturesAccountTransferOutLedgerAsync(
+      GetFuturesAccountTransferOutLedgerReq req);
+
+  /**
+   * Get Futures Account Transfer Out Ledger, every page from {@code req}'s page on, with up to
+   * {@code parallelism} pages fetched ahead of the consumer.
+   *
+   * @see #getFuturesAccountTransferOutLedger
+   */
+  @Deprecated
+  default Paged<GetFuturesAccountTransferOutLedgerItems> getFuturesAccountTransferOutLedgerPaged(
+      GetFuturesAccountTransferOutLedgerReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage().intValue() : 1,
+        page ->
+            getFuturesAccountTransferOutLedgerAsync(
+                req.toBuilder().currentPage((long) page).build()),
+        GetFuturesAccountTransferOutLedgerResp::getItems,
+        GetFuturesAccountTransferOutLedgerResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Futures Account Transfer Out Ledger, every page from {@code req}'s page on, with the next
+   * page fetched while the current one is consumed.
+   *
+   * @see #getFuturesAccountTransferOutLedger
+   */
+  @Deprecated
+  default Paged<GetFuturesAccountTransferOutLedgerItems> getFuturesAccountTransferOutLedgerPaged(
+      GetFuturesAccountTransferOutLedgerReq req) {
+    return getFuturesAccountTransferOutLedgerPaged(req, 1);
+  }
+
   /**
    * Futures Account Transfer Out
    *
@@ -128,6 +201,15 @@ public interface TransferApi {
   @Deprecated
   FuturesAccountTransferOutResp futuresAccountTransferOut(FuturesAccountTransferOutReq req);
 
+  /**
+   * Futures Account Transfer Out, without blocking the calling thread.
+   *
+   * @see #futuresAccountTransferOut
+   */
+  @Deprecated
+  CompletableFuture<FuturesAccountTransferOutResp> futuresAccountTransferOutAsync(
+      FuturesAccountTransferOutReq req);
+
   /**
    * Futures Account Transfer In
    *
@@ -148,4 +230,13 @@ public interface TransferApi {
    */
   @Deprecated
   FuturesAccountTransferInResp futuresAccountTransferIn(FuturesAccountTransferInReq req);
+
+  /**
+   * Futures Account Transfer In, without blocking the calling thread.
+   *
+   * @see #futuresAccountTransferIn
+   */
+  @Deprecated
+  CompletableFuture<FuturesAccountTransferInResp> futuresAccountTransferInAsync(
+      FuturesAccountTransferInReq req);
 }
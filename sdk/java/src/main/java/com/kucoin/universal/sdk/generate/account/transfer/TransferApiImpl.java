@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.account.transfer;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class TransferApiImpl implements TransferApi {
   private final Transport transport;
@@ -19,7 +20,22 @@ public class TransferApiImpl implements TransferApi {
         "/api/v1/accounts/transferable",
         req,
         GetTransferQuotasResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetTransferQuotasResp> getTransferQuotasAsync(GetTransferQuotasReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/accounts/transferable",
+        req,
+        GetTransferQuotasResp.class,
+        false,
+        "management",
+        20);
   }
 
   public FlexTransferResp flexTransfer(FlexTransferReq req) {
@@ -30,7 +46,22 @@ public class TransferApiImpl implements TransferApi {
         "/api/v3/accounts/universal-transfer",
         req,
         FlexTransferResp.class,
-        false);
+        false,
+        "management",
+        4);
+  }
+
+  public CompletableFuture<FlexTransferResp> flexTransferAsync(FlexTransferReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/accounts/universal-transfer",
+        req,
+        FlexTransferResp.class,
+        false,
+        "management",
+        4);
   }
 
   public SubAccountTransferResp subAccountTransfer(SubAccountTransferReq req) {
@@ -41,7 +72,23 @@ public class TransferApiImpl implements TransferApi {
         "/api/v2/accounts/sub-transfer",
         req,
         SubAccountTransferResp.class,
-        false);
+        false,
+        "management",
+        30);
+  }
+
+  public CompletableFuture<SubAccountTransferResp> subAccountTransferAsync(
+      SubAccountTransferReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v2/accounts/sub-transfer",
+        req,
+        SubAccountTransferResp.class,
+        false,
+        "management",
+        30);
   }
 
   public InnerTransferResp innerTransfer(InnerTransferReq req) {
@@ -52,7 +99,22 @@ public class TransferApiImpl implements TransferApi {
         "/api/v2/accounts/inner-transfer",
         req,
         InnerTransferResp.class,
-        false);
+        false,
+        "management",
+        10);
+  }
+
+  public CompletableFuture<InnerTransferResp> innerTransferAsync(InnerTransferReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v2/accounts/inner-transfer",
+        req,
+        InnerTransferResp.class,
+        false,
+        "management",
+        10);
   }
 
   public GetFuturesAccountTransferOutLedgerResp getFuturesAccountTransferOutLedger(
@@ -64,7 +126,23 @@ public class TransferApiImpl implements TransferApi {
         "/api/v1/transfer-list",
         req,
         GetFuturesAccountTransferOutLedgerResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetFuturesAccountTransferOutLedgerResp>
+      getFuturesAccountTransferOutLedgerAsync(GetFuturesAccountTransferOutLedgerReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/transfer-list",
+        req,
+        GetFuturesAccountTransferOutLedgerResp.class,
+        false,
+        "management",
+        20);
   }
 
   public FuturesAccountTransferOutResp futuresAccountTransferOut(FuturesAccountTransferOutReq req) {
@@ -75,7 +153,23 @@ public class TransferApiImpl implements TransferApi {
         "/api/v3/transfer-out",
         req,
         FuturesAccountTransferOutResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<FuturesAccountTransferOutResp> futuresAccountTransferOutAsync(
+      FuturesAccountTransferOutReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v3/transfer-out",
+        req,
+        FuturesAccountTransferOutResp.class,
+        false,
+        "management",
+        20);
   }
 
   public FuturesAccountTransferInResp futuresAccountTransferIn(FuturesAccountTransferInReq req) {
@@ -86,6 +180,22 @@ public class TransferApiImpl implements TransferApi {
         "/api/v1/transfer-in",
         req,
         FuturesAccountTransferInResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<FuturesAccountTransferInResp> futuresAccountTransferInAsync(
+      FuturesAccountTransferInReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/transfer-in",
+        req,
+        FuturesAccountTransferInResp.class,
+        false,
+        "management",
+        20);
   }
 }
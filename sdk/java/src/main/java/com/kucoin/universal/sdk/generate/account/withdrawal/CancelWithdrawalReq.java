@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kucoin.universal.sdk.internal.interfaces.PathVar;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,4 +24,9 @@ public class CancelWithdrawalReq implements Request {
   @PathVar("withdrawalId")
   @JsonProperty("withdrawalId")
   private String withdrawalId;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    return true;
+  }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.account.withdrawal;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,4 +30,11 @@ public class GetWithdrawalQuotasReq implements Request {
   @JsonProperty("chain")
   @Builder.Default
   private String chain = "eth";
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("chain", this.chain);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.account.withdrawal;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface WithdrawalApi {
   /**
    * Get Withdrawal Quotas
@@ -22,6 +25,13 @@ public interface WithdrawalApi {
    */
   GetWithdrawalQuotasResp getWithdrawalQuotas(GetWithdrawalQuotasReq req);
 
+  /**
+   * Get Withdrawal Quotas, without blocking the calling thread.
+   *
+   * @see #getWithdrawalQuotas
+   */
+  CompletableFuture<GetWithdrawalQuotasResp> getWithdrawalQuotasAsync(GetWithdrawalQuotasReq req);
+
   /**
    * Withdraw (V3)
    *
@@ -41,6 +51,13 @@ public interface WithdrawalApi {
    */
   WithdrawalV3Resp withdrawalV3(WithdrawalV3Req req);
 
+  /**
+   * Withdraw (V3), without blocking the calling thread.
+   *
+   * @see #withdrawalV3
+   */
+  CompletableFuture<WithdrawalV3Resp> withdrawalV3Async(WithdrawalV3Req req);
+
   /**
    * Cancel Withdrawal
    *
@@ -61,6 +78,13 @@ public interface WithdrawalApi {
    */
   CancelWithdrawalResp cancelWithdrawal(CancelWithdrawalReq req);
 
+  /**
+   * Cancel Withdrawal, without blocking the calling thread.
+   *
+   * @see #cancelWithdrawal
+   */
+  CompletableFuture<CancelWithdrawalResp> cancelWithdrawalAsync(CancelWithdrawalReq req);
+
   /**
    * Get Withdrawal History
    *
@@ -82,6 +106,40 @@ public interface WithdrawalApi {
    */
   GetWithdrawalHistoryResp getWithdrawalHistory(GetWithdrawalHistoryReq req);
 
+  /**
+   * Get Withdrawal History, without blocking the calling thread.
+   *
+   * @see #getWithdrawalHistory
+   */
+  CompletableFuture<GetWithdrawalHistoryResp> getWithdrawalHistoryAsync(
+      GetWithdrawalHistoryReq req);
+
+  /**
+   * Get Withdrawal History, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getWithdrawalHistory
+   */
+  default Paged<GetWithdrawalHistoryItems> getWithdrawalHistoryPaged(
+      GetWithdrawalHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getWithdrawalHistoryAsync(req.toBuilder().currentPage(page).build()),
+        GetWithdrawalHistoryResp::getItems,
+        GetWithdrawalHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Withdrawal History, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getWithdrawalHistory
+   */
+  default Paged<GetWithdrawalHistoryItems> getWithdrawalHistoryPaged(GetWithdrawalHistoryReq req) {
+    return getWithdrawalHistoryPaged(req, 1);
+  }
+
   /**
    * Get Withdrawal History By ID
    *
@@ -101,6 +159,14 @@ public interface WithdrawalApi {
    */
   GetWithdrawalHistoryByIdResp getWithdrawalHistoryById(GetWithdrawalHistoryByIdReq req);
 
+  /**
+   * Get Withdrawal History By ID, without blocking the calling thread.
+   *
+   * @see #getWithdrawalHistoryById
+   */
+  CompletableFuture<GetWithdrawalHistoryByIdResp> getWithdrawalHistoryByIdAsync(
+      GetWithdrawalHistoryByIdReq req);
+
   /**
    * Get Withdrawal History - Old
    *
@@ -122,6 +188,44 @@ public interface WithdrawalApi {
   @Deprecated
   GetWithdrawalHistoryOldResp getWithdrawalHistoryOld(GetWithdrawalHistoryOldReq req);
 
+  /**
+   * Get Withdrawal History - Old, without blocking the calling thread.
+   *
+   * @see #getWithdrawalHistoryOld
+   */
+  @Deprecated
+  CompletableFuture<GetWithdrawalHistoryOldResp> getWithdrawalHistoryOldAsync(
+      GetWithdrawalHistoryOldReq req);
+
+  /**
+   * Get Withdrawal History - Old, every page from {@code req}'s page on, with up to {@code
+   * parallelism} pages fetched ahead of the consumer.
+   *
+   * @see #getWithdrawalHistoryOld
+   */
+  @Deprecated
+  default Paged<GetWithdrawalHistoryOldItems> getWithdrawalHistoryOldPaged(
+      GetWithdrawalHistoryOldReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getWithdrawalHistoryOldAsync(req.toBuilder().currentPage(page).build()),
+        GetWithdrawalHistoryOldResp::getItems,
+        GetWithdrawalHistoryOldResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Withdrawal History - Old, every page from {@code req}'s page on, with the next page fetched
+   * while the current one is consumed.
+   *
+   * @see #getWithdrawalHistoryOld
+   */
+  @Deprecated
+  default Paged<GetWithdrawalHistoryOldItems> getWithdrawalHistoryOldPaged(
+      GetWithdrawalHistoryOldReq req) {
+    return getWithdrawalHistoryOldPaged(req, 1);
+  }
+
   /**
    * Withdraw - V1
    *
@@ -141,4 +245,12 @@ public interface WithdrawalApi {
    */
   @Deprecated
   WithdrawalV1Resp withdrawalV1(WithdrawalV1Req req);
+
+  /**
+   * Withdraw - V1, without blocking the calling thread.
+   *
+   * @see #withdrawalV1
+   */
+  @Deprecated
+  CompletableFuture<WithdrawalV1Resp> withdrawalV1Async(WithdrawalV1Req req);
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.account.withdrawal;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class WithdrawalApiImpl implements WithdrawalApi {
   private final Transport transport;
@@ -19,12 +20,49 @@ public class WithdrawalApiImpl implements WithdrawalApi {
         "/api/v1/withdrawals/quotas",
         req,
         GetWithdrawalQuotasResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetWithdrawalQuotasResp> getWithdrawalQuotasAsync(
+      GetWithdrawalQuotasReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/withdrawals/quotas",
+        req,
+        GetWithdrawalQuotasResp.class,
+        false,
+        "management",
+        20);
   }
 
   public WithdrawalV3Resp withdrawalV3(WithdrawalV3Req req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/withdrawals", req, WithdrawalV3Resp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v3/withdrawals",
+        req,
+        WithdrawalV3Resp.class,
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<WithdrawalV3Resp> withdrawalV3Async(WithdrawalV3Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/withdrawals",
+        req,
+        WithdrawalV3Resp.class,
+        false,
+        "management",
+        5);
   }
 
   public CancelWithdrawalResp cancelWithdrawal(CancelWithdrawalReq req) {
@@ -35,12 +73,49 @@ public class WithdrawalApiImpl implements WithdrawalApi {
         "/api/v1/withdrawals/{withdrawalId}",
         req,
         CancelWithdrawalResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<CancelWithdrawalResp> cancelWithdrawalAsync(CancelWithdrawalReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/withdrawals/{withdrawalId}",
+        req,
+        CancelWithdrawalResp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetWithdrawalHistoryResp getWithdrawalHistory(GetWithdrawalHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/withdrawals", req, GetWithdrawalHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/withdrawals",
+        req,
+        GetWithdrawalHistoryResp.class,
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetWithdrawalHistoryResp> getWithdrawalHistoryAsync(
+      GetWithdrawalHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/withdrawals",
+        req,
+        GetWithdrawalHistoryResp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetWithdrawalHistoryByIdResp getWithdrawalHistoryById(GetWithdrawalHistoryByIdReq req) {
@@ -51,7 +126,23 @@ public class WithdrawalApiImpl implements WithdrawalApi {
         "/api/v1/withdrawals/{withdrawalId}",
         req,
         GetWithdrawalHistoryByIdResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetWithdrawalHistoryByIdResp> getWithdrawalHistoryByIdAsync(
+      GetWithdrawalHistoryByIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/withdrawals/{withdrawalId}",
+        req,
+        GetWithdrawalHistoryByIdResp.class,
+        false,
+        "management",
+        20);
   }
 
   public GetWithdrawalHistoryOldResp getWithdrawalHistoryOld(GetWithdrawalHistoryOldReq req) {
@@ -62,11 +153,48 @@ public class WithdrawalApiImpl implements WithdrawalApi {
         "/api/v1/hist-withdrawals",
         req,
         GetWithdrawalHistoryOldResp.class,
-        false);
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetWithdrawalHistoryOldResp> getWithdrawalHistoryOldAsync(
+      GetWithdrawalHistoryOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hist-withdrawals",
+        req,
+        GetWithdrawalHistoryOldResp.class,
+        false,
+        "management",
+        20);
   }
 
   public WithdrawalV1Resp withdrawalV1(WithdrawalV1Req req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/withdrawals", req, WithdrawalV1Resp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/withdrawals",
+        req,
+        WithdrawalV1Resp.class,
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<WithdrawalV1Resp> withdrawalV1Async(WithdrawalV1Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/withdrawals",
+        req,
+        WithdrawalV1Resp.class,
+        false,
+        "management",
+        5);
   }
 }
@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.affiliate.affiliate;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AffiliateApi {
   /**
    * Get Account
@@ -21,4 +23,11 @@ public interface AffiliateApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470279">docs</a>
    */
   GetAccountResp getAccount();
+
+  /**
+   * Get Account, without blocking the calling thread.
+   *
+   * @see #getAccount
+   */
+  CompletableFuture<GetAccountResp> getAccountAsync();
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.affiliate.affiliate;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class AffiliateApiImpl implements AffiliateApi {
   private final Transport transport;
@@ -19,6 +20,21 @@ public class AffiliateApiImpl implements AffiliateApi {
         "/api/v2/affiliate/inviter/statistics",
         null,
         GetAccountResp.class,
-        false);
+        false,
+        "management",
+        30);
+  }
+
+  public CompletableFuture<GetAccountResp> getAccountAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v2/affiliate/inviter/statistics",
+        null,
+        GetAccountResp.class,
+        false,
+        "management",
+        30);
   }
 }
@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.broker.apibroker;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface APIBrokerApi {
   /**
    * Get Broker Rebate
@@ -21,4 +23,11 @@ public interface APIBrokerApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470280">docs</a>
    */
   GetRebaseResp getRebase(GetRebaseReq req);
+
+  /**
+   * Get Broker Rebate, without blocking the calling thread.
+   *
+   * @see #getRebase
+   */
+  CompletableFuture<GetRebaseResp> getRebaseAsync(GetRebaseReq req);
 }
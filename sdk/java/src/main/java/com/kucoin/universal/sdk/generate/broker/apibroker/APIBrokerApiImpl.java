@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.broker.apibroker;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class APIBrokerApiImpl implements APIBrokerApi {
   private final Transport transport;
@@ -13,6 +14,27 @@ public class APIBrokerApiImpl implements APIBrokerApi {
 
   public GetRebaseResp getRebase(GetRebaseReq req) {
     return this.transport.call(
-        "spot", true, "GET", "/api/v1/broker/api/rebase/download", req, GetRebaseResp.class, false);
+        "spot",
+        true,
+        "GET",
+        "/api/v1/broker/api/rebase/download",
+        req,
+        GetRebaseResp.class,
+        false,
+        "management",
+        3);
+  }
+
+  public CompletableFuture<GetRebaseResp> getRebaseAsync(GetRebaseReq req) {
+    return this.transport.callAsync(
+        "spot",
+        true,
+        "GET",
+        "/api/v1/broker/api/rebase/download",
+        req,
+        GetRebaseResp.class,
+        false,
+        "management",
+        3);
   }
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +31,14 @@ public class GetRebaseReq implements Request {
   @JsonProperty("tradeType")
   private TradeTypeEnum tradeType;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("begin", this.begin);
+    query.add("end", this.end);
+    query.add("tradeType", this.tradeType);
+    return true;
+  }
+
   public enum TradeTypeEnum {
     /** spot */
     _1("1"),
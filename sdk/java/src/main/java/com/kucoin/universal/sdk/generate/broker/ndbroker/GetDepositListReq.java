@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.broker.ndbroker;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,4 +41,15 @@ public class GetDepositListReq implements Request {
   @JsonProperty("limit")
   @Builder.Default
   private Integer limit = 1000;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("status", this.status);
+    query.add("hash", this.hash);
+    query.add("startTimestamp", this.startTimestamp);
+    query.add("endTimestamp", this.endTimestamp);
+    query.add("limit", this.limit);
+    return true;
+  }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.broker.ndbroker;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,4 +20,10 @@ public class GetKYCStatusReq implements Request {
   /** Client uid, Use commas to separate multiple UIDs */
   @JsonProperty("clientUids")
   private String clientUids;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("clientUids", this.clientUids);
+    return true;
+  }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.broker.ndbroker;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,4 +24,11 @@ public class GetSubAccountAPIReq implements Request {
   /** Sub-account apiKey */
   @JsonProperty("apiKey")
   private String apiKey;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("uid", this.uid);
+    query.add("apiKey", this.apiKey);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.broker.ndbroker;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface NDBrokerApi {
   /**
    * Submit KYC
@@ -22,6 +25,13 @@ public interface NDBrokerApi {
    */
   SubmitKYCResp submitKYC(SubmitKYCReq req);
 
+  /**
+   * Submit KYC, without blocking the calling thread.
+   *
+   * @see #submitKYC
+   */
+  CompletableFuture<SubmitKYCResp> submitKYCAsync(SubmitKYCReq req);
+
   /**
    * Get KYC Status
    *
@@ -41,6 +51,13 @@ public interface NDBrokerApi {
    */
   GetKYCStatusResp getKYCStatus(GetKYCStatusReq req);
 
+  /**
+   * Get KYC Status, without blocking the calling thread.
+   *
+   * @see #getKYCStatus
+   */
+  CompletableFuture<GetKYCStatusResp> getKYCStatusAsync(GetKYCStatusReq req);
+
   /**
    * Get KYC Status List
    *
@@ -60,6 +77,39 @@ public interface NDBrokerApi {
    */
   GetKYCStatusListResp getKYCStatusList(GetKYCStatusListReq req);
 
+  /**
+   * Get KYC Status List, without blocking the calling thread.
+   *
+   * @see #getKYCStatusList
+   */
+  CompletableFuture<GetKYCStatusListResp> getKYCStatusListAsync(GetKYCStatusListReq req);
+
+  /**
+   * Get KYC Status List, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getKYCStatusList
+   */
+  default Paged<GetKYCStatusListItems> getKYCStatusListPaged(
+      GetKYCStatusListReq req, int parallelism) {
+    return Paged.byPage(
+        req.getPageNumber() != null ? req.getPageNumber() : 1,
+        page -> getKYCStatusListAsync(req.toBuilder().pageNumber(page).build()),
+        GetKYCStatusListResp::getItems,
+        GetKYCStatusListResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get KYC Status List, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getKYCStatusList
+   */
+  default Paged<GetKYCStatusListItems> getKYCStatusListPaged(GetKYCStatusListReq req) {
+    return getKYCStatusListPaged(req, 1);
+  }
+
   /**
    * Get Broker Info
    *
@@ -79,6 +129,13 @@ public interface NDBrokerApi {
    */
   GetBrokerInfoResp getBrokerInfo(GetBrokerInfoReq req);
 
+  /**
+   * Get Broker Info, without blocking the calling thread.
+   *
+   * @see #getBrokerInfo
+   */
+  CompletableFuture<GetBrokerInfoResp> getBrokerInfoAsync(GetBrokerInfoReq req);
+
   /**
    * Add sub-account
    *
@@ -98,6 +155,13 @@ public interface NDBrokerApi {
    */
   AddSubAccountResp addSubAccount(AddSubAccountReq req);
 
+  /**
+   * Add sub-account, without blocking the calling thread.
+   *
+   * @see #addSubAccount
+   */
+  CompletableFuture<AddSubAccountResp> addSubAccountAsync(AddSubAccountReq req);
+
   /**
    * Get sub-account
    *
@@ -117,6 +181,38 @@ public interface NDBrokerApi {
    */
   GetSubAccountResp getSubAccount(GetSubAccountReq req);
 
+  /**
+   * Get sub-account, without blocking the calling thread.
+   *
+   * @see #getSubAccount
+   */
+  CompletableFuture<GetSubAccountResp> getSubAccountAsync(GetSubAccountReq req);
+
+  /**
+   * Get sub-account, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getSubAccount
+   */
+  default Paged<GetSubAccountItems> getSubAccountPaged(GetSubAccountReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getSubAccountAsync(req.toBuilder().currentPage(page).build()),
+        GetSubAccountResp::getItems,
+        GetSubAccountResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get sub-account, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getSubAccount
+   */
+  default Paged<GetSubAccountItems> getSubAccountPaged(GetSubAccountReq req) {
+    return getSubAccountPaged(req, 1);
+  }
+
   /**
    * Add sub-account API
    *
@@ -136,6 +232,13 @@ public interface NDBrokerApi {
    */
   AddSubAccountApiResp addSubAccountApi(AddSubAccountApiReq req);
 
+  /**
+   * Add sub-account API, without blocking the calling thread.
+   *
+   * @see #addSubAccountApi
+   */
+  CompletableFuture<AddSubAccountApiResp> addSubAccountApiAsync(AddSubAccountApiReq req);
+
   /**
    * Get sub-account API
    *
@@ -155,6 +258,13 @@ public interface NDBrokerApi {
    */
   GetSubAccountAPIResp getSubAccountAPI(GetSubAccountAPIReq req);
 
+  /**
+   * Get sub-account API, without blocking the calling thread.
+   *
+   * @see #getSubAccountAPI
+   */
+  CompletableFuture<GetSubAccountAPIResp> getSubAccountAPIAsync(GetSubAccountAPIReq req);
+
   /**
    * Modify sub-account API
    *
@@ -174,6 +284,13 @@ public interface NDBrokerApi {
    */
   ModifySubAccountApiResp modifySubAccountApi(ModifySubAccountApiReq req);
 
+  /**
+   * Modify sub-account API, without blocking the calling thread.
+   *
+   * @see #modifySubAccountApi
+   */
+  CompletableFuture<ModifySubAccountApiResp> modifySubAccountApiAsync(ModifySubAccountApiReq req);
+
   /**
    * Delete sub-account API
    *
@@ -193,6 +310,13 @@ public interface NDBrokerApi {
    */
   DeleteSubAccountAPIResp deleteSubAccountAPI(DeleteSubAccountAPIReq req);
 
+  /**
+   * Delete sub-account API, without blocking the calling thread.
+   *
+   * @see #deleteSubAccountAPI
+   */
+  CompletableFuture<DeleteSubAccountAPIResp> deleteSubAccountAPIAsync(DeleteSubAccountAPIReq req);
+
   /**
    * Transfer
    *
@@ -214,6 +338,13 @@ public interface NDBrokerApi {
    */
   TransferResp transfer(TransferReq req);
 
+  /**
+   * Transfer, without blocking the calling thread.
+   *
+   * @see #transfer
+   */
+  CompletableFuture<TransferResp> transferAsync(TransferReq req);
+
   /**
    * Get Transfer History
    *
@@ -234,6 +365,13 @@ public interface NDBrokerApi {
    */
   GetTransferHistoryResp getTransferHistory(GetTransferHistoryReq req);
 
+  /**
+   * Get Transfer History, without blocking the calling thread.
+   *
+   * @see #getTransferHistory
+   */
+  CompletableFuture<GetTransferHistoryResp> getTransferHistoryAsync(GetTransferHistoryReq req);
+
   /**
    * Get Deposit List
    *
@@ -254,6 +392,13 @@ public interface NDBrokerApi {
    */
   GetDepositListResp getDepositList(GetDepositListReq req);
 
+  /**
+   * Get Deposit List, without blocking the calling thread.
+   *
+   * @see #getDepositList
+   */
+  CompletableFuture<GetDepositListResp> getDepositListAsync(GetDepositListReq req);
+
   /**
    * Get Deposit Detail
    *
@@ -274,6 +419,13 @@ public interface NDBrokerApi {
    */
   GetDepositDetailResp getDepositDetail(GetDepositDetailReq req);
 
+  /**
+   * Get Deposit Detail, without blocking the calling thread.
+   *
+   * @see #getDepositDetail
+   */
+  CompletableFuture<GetDepositDetailResp> getDepositDetailAsync(GetDepositDetailReq req);
+
   /**
    * Get Withdraw Detail
    *
@@ -294,6 +446,13 @@ public interface NDBrokerApi {
    */
   GetWithdrawDetailResp getWithdrawDetail(GetWithdrawDetailReq req);
 
+  /**
+   * Get Withdraw Detail, without blocking the calling thread.
+   *
+   * @see #getWithdrawDetail
+   */
+  CompletableFuture<GetWithdrawDetailResp> getWithdrawDetailAsync(GetWithdrawDetailReq req);
+
   /**
    * Get Broker Rebate
    *
@@ -312,4 +471,11 @@ public interface NDBrokerApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470281">docs</a>
    */
   GetRebaseResp getRebase(GetRebaseReq req);
+
+  /**
+   * Get Broker Rebate, without blocking the calling thread.
+   *
+   * @see #getRebase
+   */
+  CompletableFuture<GetRebaseResp> getRebaseAsync(GetRebaseReq req);
 }
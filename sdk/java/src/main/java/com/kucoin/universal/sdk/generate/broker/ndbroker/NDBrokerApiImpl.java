@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.broker.ndbroker;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class NDBrokerApiImpl implements NDBrokerApi {
   private final Transport transport;
@@ -19,7 +20,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/kyc/ndBroker/proxyClient/submit",
         req,
         SubmitKYCResp.class,
-        false);
+        false,
+        "broker",
+        0);
+  }
+
+  public CompletableFuture<SubmitKYCResp> submitKYCAsync(SubmitKYCReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "POST",
+        "/api/kyc/ndBroker/proxyClient/submit",
+        req,
+        SubmitKYCResp.class,
+        false,
+        "broker",
+        0);
   }
 
   public GetKYCStatusResp getKYCStatus(GetKYCStatusReq req) {
@@ -30,7 +46,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/kyc/ndBroker/proxyClient/status/list",
         req,
         GetKYCStatusResp.class,
-        false);
+        false,
+        "broker",
+        0);
+  }
+
+  public CompletableFuture<GetKYCStatusResp> getKYCStatusAsync(GetKYCStatusReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/kyc/ndBroker/proxyClient/status/list",
+        req,
+        GetKYCStatusResp.class,
+        false,
+        "broker",
+        0);
   }
 
   public GetKYCStatusListResp getKYCStatusList(GetKYCStatusListReq req) {
@@ -41,22 +72,100 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/kyc/ndBroker/proxyClient/status/page",
         req,
         GetKYCStatusListResp.class,
-        false);
+        false,
+        "broker",
+        0);
+  }
+
+  public CompletableFuture<GetKYCStatusListResp> getKYCStatusListAsync(GetKYCStatusListReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/kyc/ndBroker/proxyClient/status/page",
+        req,
+        GetKYCStatusListResp.class,
+        false,
+        "broker",
+        0);
   }
 
   public GetBrokerInfoResp getBrokerInfo(GetBrokerInfoReq req) {
     return this.transport.call(
-        "broker", true, "GET", "/api/v1/broker/nd/info", req, GetBrokerInfoResp.class, false);
+        "broker",
+        true,
+        "GET",
+        "/api/v1/broker/nd/info",
+        req,
+        GetBrokerInfoResp.class,
+        false,
+        "broker",
+        2);
+  }
+
+  public CompletableFuture<GetBrokerInfoResp> getBrokerInfoAsync(GetBrokerInfoReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v1/broker/nd/info",
+        req,
+        GetBrokerInfoResp.class,
+        false,
+        "broker",
+        2);
   }
 
   public AddSubAccountResp addSubAccount(AddSubAccountReq req) {
     return this.transport.call(
-        "broker", true, "POST", "/api/v1/broker/nd/account", req, AddSubAccountResp.class, false);
+        "broker",
+        true,
+        "POST",
+        "/api/v1/broker/nd/account",
+        req,
+        AddSubAccountResp.class,
+        false,
+        "broker",
+        3);
+  }
+
+  public CompletableFuture<AddSubAccountResp> addSubAccountAsync(AddSubAccountReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "POST",
+        "/api/v1/broker/nd/account",
+        req,
+        AddSubAccountResp.class,
+        false,
+        "broker",
+        3);
   }
 
   public GetSubAccountResp getSubAccount(GetSubAccountReq req) {
     return this.transport.call(
-        "broker", true, "GET", "/api/v1/broker/nd/account", req, GetSubAccountResp.class, false);
+        "broker",
+        true,
+        "GET",
+        "/api/v1/broker/nd/account",
+        req,
+        GetSubAccountResp.class,
+        false,
+        "broker",
+        2);
+  }
+
+  public CompletableFuture<GetSubAccountResp> getSubAccountAsync(GetSubAccountReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v1/broker/nd/account",
+        req,
+        GetSubAccountResp.class,
+        false,
+        "broker",
+        2);
   }
 
   public AddSubAccountApiResp addSubAccountApi(AddSubAccountApiReq req) {
@@ -67,7 +176,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v1/broker/nd/account/apikey",
         req,
         AddSubAccountApiResp.class,
-        false);
+        false,
+        "broker",
+        3);
+  }
+
+  public CompletableFuture<AddSubAccountApiResp> addSubAccountApiAsync(AddSubAccountApiReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "POST",
+        "/api/v1/broker/nd/account/apikey",
+        req,
+        AddSubAccountApiResp.class,
+        false,
+        "broker",
+        3);
   }
 
   public GetSubAccountAPIResp getSubAccountAPI(GetSubAccountAPIReq req) {
@@ -78,7 +202,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v1/broker/nd/account/apikey",
         req,
         GetSubAccountAPIResp.class,
-        false);
+        false,
+        "broker",
+        2);
+  }
+
+  public CompletableFuture<GetSubAccountAPIResp> getSubAccountAPIAsync(GetSubAccountAPIReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v1/broker/nd/account/apikey",
+        req,
+        GetSubAccountAPIResp.class,
+        false,
+        "broker",
+        2);
   }
 
   public ModifySubAccountApiResp modifySubAccountApi(ModifySubAccountApiReq req) {
@@ -89,7 +228,23 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v1/broker/nd/account/update-apikey",
         req,
         ModifySubAccountApiResp.class,
-        false);
+        false,
+        "broker",
+        3);
+  }
+
+  public CompletableFuture<ModifySubAccountApiResp> modifySubAccountApiAsync(
+      ModifySubAccountApiReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "POST",
+        "/api/v1/broker/nd/account/update-apikey",
+        req,
+        ModifySubAccountApiResp.class,
+        false,
+        "broker",
+        3);
   }
 
   public DeleteSubAccountAPIResp deleteSubAccountAPI(DeleteSubAccountAPIReq req) {
@@ -100,12 +255,49 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v1/broker/nd/account/apikey",
         req,
         DeleteSubAccountAPIResp.class,
-        false);
+        false,
+        "broker",
+        3);
+  }
+
+  public CompletableFuture<DeleteSubAccountAPIResp> deleteSubAccountAPIAsync(
+      DeleteSubAccountAPIReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "DELETE",
+        "/api/v1/broker/nd/account/apikey",
+        req,
+        DeleteSubAccountAPIResp.class,
+        false,
+        "broker",
+        3);
   }
 
   public TransferResp transfer(TransferReq req) {
     return this.transport.call(
-        "broker", true, "POST", "/api/v1/broker/nd/transfer", req, TransferResp.class, false);
+        "broker",
+        true,
+        "POST",
+        "/api/v1/broker/nd/transfer",
+        req,
+        TransferResp.class,
+        false,
+        "broker",
+        1);
+  }
+
+  public CompletableFuture<TransferResp> transferAsync(TransferReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "POST",
+        "/api/v1/broker/nd/transfer",
+        req,
+        TransferResp.class,
+        false,
+        "broker",
+        1);
   }
 
   public GetTransferHistoryResp getTransferHistory(GetTransferHistoryReq req) {
@@ -116,7 +308,23 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v3/broker/nd/transfer/detail",
         req,
         GetTransferHistoryResp.class,
-        false);
+        false,
+        "broker",
+        1);
+  }
+
+  public CompletableFuture<GetTransferHistoryResp> getTransferHistoryAsync(
+      GetTransferHistoryReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v3/broker/nd/transfer/detail",
+        req,
+        GetTransferHistoryResp.class,
+        false,
+        "broker",
+        1);
   }
 
   public GetDepositListResp getDepositList(GetDepositListReq req) {
@@ -127,7 +335,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v1/asset/ndbroker/deposit/list",
         req,
         GetDepositListResp.class,
-        false);
+        false,
+        "broker",
+        10);
+  }
+
+  public CompletableFuture<GetDepositListResp> getDepositListAsync(GetDepositListReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v1/asset/ndbroker/deposit/list",
+        req,
+        GetDepositListResp.class,
+        false,
+        "broker",
+        10);
   }
 
   public GetDepositDetailResp getDepositDetail(GetDepositDetailReq req) {
@@ -138,7 +361,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v3/broker/nd/deposit/detail",
         req,
         GetDepositDetailResp.class,
-        false);
+        false,
+        "broker",
+        1);
+  }
+
+  public CompletableFuture<GetDepositDetailResp> getDepositDetailAsync(GetDepositDetailReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v3/broker/nd/deposit/detail",
+        req,
+        GetDepositDetailResp.class,
+        false,
+        "broker",
+        1);
   }
 
   public GetWithdrawDetailResp getWithdrawDetail(GetWithdrawDetailReq req) {
@@ -149,7 +387,22 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v3/broker/nd/withdraw/detail",
         req,
         GetWithdrawDetailResp.class,
-        false);
+        false,
+        "broker",
+        1);
+  }
+
+  public CompletableFuture<GetWithdrawDetailResp> getWithdrawDetailAsync(GetWithdrawDetailReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v3/broker/nd/withdraw/detail",
+        req,
+        GetWithdrawDetailResp.class,
+        false,
+        "broker",
+        1);
   }
 
   public GetRebaseResp getRebase(GetRebaseReq req) {
@@ -160,6 +413,21 @@ public class NDBrokerApiImpl implements NDBrokerApi {
         "/api/v1/broker/nd/rebase/download",
         req,
         GetRebaseResp.class,
-        false);
+        false,
+        "broker",
+        3);
+  }
+
+  public CompletableFuture<GetRebaseResp> getRebaseAsync(GetRebaseReq req) {
+    return this.transport.callAsync(
+        "broker",
+        true,
+        "GET",
+        "/api/v1/broker/nd/rebase/download",
+        req,
+        GetRebaseResp.class,
+        false,
+        "broker",
+        3);
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.copytrading.futures;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,4 +27,11 @@ public class CancelOrderByClientOidReq implements Request {
   /** The user self-defined order ID. */
   @JsonProperty("clientOid")
   private String clientOid;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("clientOid", this.clientOid);
+    return true;
+  }
 }
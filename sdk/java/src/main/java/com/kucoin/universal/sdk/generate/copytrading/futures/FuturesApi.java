@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.copytrading.futures;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface FuturesApi {
   /**
    * Add Order
@@ -25,6 +27,13 @@ public interface FuturesApi {
    */
   AddOrderResp addOrder(AddOrderReq req);
 
+  /**
+   * Add Order, without blocking the calling thread.
+   *
+   * @see #addOrder
+   */
+  CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req);
+
   /**
    * Add Order Test
    *
@@ -44,6 +53,13 @@ public interface FuturesApi {
    */
   AddOrderTestResp addOrderTest(AddOrderTestReq req);
 
+  /**
+   * Add Order Test, without blocking the calling thread.
+   *
+   * @see #addOrderTest
+   */
+  CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req);
+
   /**
    * Add Take Profit And Stop Loss Order
    *
@@ -64,6 +80,13 @@ public interface FuturesApi {
    */
   AddTPSLOrderResp addTPSLOrder(AddTPSLOrderReq req);
 
+  /**
+   * Add Take Profit And Stop Loss Order, without blocking the calling thread.
+   *
+   * @see #addTPSLOrder
+   */
+  CompletableFuture<AddTPSLOrderResp> addTPSLOrderAsync(AddTPSLOrderReq req);
+
   /**
    * Cancel Order By OrderId
    *
@@ -83,6 +106,13 @@ public interface FuturesApi {
    */
   CancelOrderByIdResp cancelOrderById(CancelOrderByIdReq req);
 
+  /**
+   * Cancel Order By OrderId, without blocking the calling thread.
+   *
+   * @see #cancelOrderById
+   */
+  CompletableFuture<CancelOrderByIdResp> cancelOrderByIdAsync(CancelOrderByIdReq req);
+
   /**
    * Cancel Order By ClientOid
    *
@@ -102,6 +132,14 @@ public interface FuturesApi {
    */
   CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req);
 
+  /**
+   * Cancel Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #cancelOrderByClientOid
+   */
+  CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req);
+
   /**
    * Get Max Open Size
    *
@@ -121,6 +159,13 @@ public interface FuturesApi {
    */
   GetMaxOpenSizeResp getMaxOpenSize(GetMaxOpenSizeReq req);
 
+  /**
+   * Get Max Open Size, without blocking the calling thread.
+   *
+   * @see #getMaxOpenSize
+   */
+  CompletableFuture<GetMaxOpenSizeResp> getMaxOpenSizeAsync(GetMaxOpenSizeReq req);
+
   /**
    * Get Max Withdraw Margin
    *
@@ -141,6 +186,14 @@ public interface FuturesApi {
    */
   GetMaxWithdrawMarginResp getMaxWithdrawMargin(GetMaxWithdrawMarginReq req);
 
+  /**
+   * Get Max Withdraw Margin, without blocking the calling thread.
+   *
+   * @see #getMaxWithdrawMargin
+   */
+  CompletableFuture<GetMaxWithdrawMarginResp> getMaxWithdrawMarginAsync(
+      GetMaxWithdrawMarginReq req);
+
   /**
    * Add Isolated Margin
    *
@@ -160,6 +213,13 @@ public interface FuturesApi {
    */
   AddIsolatedMarginResp addIsolatedMargin(AddIsolatedMarginReq req);
 
+  /**
+   * Add Isolated Margin, without blocking the calling thread.
+   *
+   * @see #addIsolatedMargin
+   */
+  CompletableFuture<AddIsolatedMarginResp> addIsolatedMarginAsync(AddIsolatedMarginReq req);
+
   /**
    * Remove Isolated Margin
    *
@@ -179,6 +239,14 @@ public interface FuturesApi {
    */
   RemoveIsolatedMarginResp removeIsolatedMargin(RemoveIsolatedMarginReq req);
 
+  /**
+   * Remove Isolated Margin, without blocking the calling thread.
+   *
+   * @see #removeIsolatedMargin
+   */
+  CompletableFuture<RemoveIsolatedMarginResp> removeIsolatedMarginAsync(
+      RemoveIsolatedMarginReq req);
+
   /**
    * Modify Isolated Margin Risk Limit
    *
@@ -200,6 +268,14 @@ public interface FuturesApi {
   ModifyIsolatedMarginRiskLimtResp modifyIsolatedMarginRiskLimt(
       ModifyIsolatedMarginRiskLimtReq req);
 
+  /**
+   * Modify Isolated Margin Risk Limit, without blocking the calling thread.
+   *
+   * @see #modifyIsolatedMarginRiskLimt
+   */
+  CompletableFuture<ModifyIsolatedMarginRiskLimtResp> modifyIsolatedMarginRiskLimtAsync(
+      ModifyIsolatedMarginRiskLimtReq req);
+
   /**
    * Modify Isolated Margin Auto-Deposit Status
    *
@@ -219,4 +295,12 @@ public interface FuturesApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470617">docs</a>
    */
   ModifyAutoDepositStatusResp modifyAutoDepositStatus(ModifyAutoDepositStatusReq req);
+
+  /**
+   * Modify Isolated Margin Auto-Deposit Status, without blocking the calling thread.
+   *
+   * @see #modifyAutoDepositStatus
+   */
+  CompletableFuture<ModifyAutoDepositStatusResp> modifyAutoDepositStatusAsync(
+      ModifyAutoDepositStatusReq req);
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.copytrading.futures;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class FuturesApiImpl implements FuturesApi {
   private final Transport transport;
@@ -19,7 +20,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/orders",
         req,
         AddOrderResp.class,
-        false);
+        false,
+        "copytrading",
+        2);
+  }
+
+  public CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/orders",
+        req,
+        AddOrderResp.class,
+        false,
+        "copytrading",
+        2);
   }
 
   public AddOrderTestResp addOrderTest(AddOrderTestReq req) {
@@ -30,7 +46,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/orders/test",
         req,
         AddOrderTestResp.class,
-        false);
+        false,
+        "copytrading",
+        2);
+  }
+
+  public CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/orders/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "copytrading",
+        2);
   }
 
   public AddTPSLOrderResp addTPSLOrder(AddTPSLOrderReq req) {
@@ -41,7 +72,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/st-orders",
         req,
         AddTPSLOrderResp.class,
-        false);
+        false,
+        "copytrading",
+        2);
+  }
+
+  public CompletableFuture<AddTPSLOrderResp> addTPSLOrderAsync(AddTPSLOrderReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/st-orders",
+        req,
+        AddTPSLOrderResp.class,
+        false,
+        "copytrading",
+        2);
   }
 
   public CancelOrderByIdResp cancelOrderById(CancelOrderByIdReq req) {
@@ -52,7 +98,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/orders",
         req,
         CancelOrderByIdResp.class,
-        false);
+        false,
+        "copytrading",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByIdResp> cancelOrderByIdAsync(CancelOrderByIdReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/copy-trade/futures/orders",
+        req,
+        CancelOrderByIdResp.class,
+        false,
+        "copytrading",
+        1);
   }
 
   public CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req) {
@@ -63,7 +124,23 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/orders/client-order",
         req,
         CancelOrderByClientOidResp.class,
-        false);
+        false,
+        "copytrading",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/copy-trade/futures/orders/client-order",
+        req,
+        CancelOrderByClientOidResp.class,
+        false,
+        "copytrading",
+        1);
   }
 
   public GetMaxOpenSizeResp getMaxOpenSize(GetMaxOpenSizeReq req) {
@@ -74,7 +151,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/get-max-open-size",
         req,
         GetMaxOpenSizeResp.class,
-        false);
+        false,
+        "copytrading",
+        4);
+  }
+
+  public CompletableFuture<GetMaxOpenSizeResp> getMaxOpenSizeAsync(GetMaxOpenSizeReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/copy-trade/futures/get-max-open-size",
+        req,
+        GetMaxOpenSizeResp.class,
+        false,
+        "copytrading",
+        4);
   }
 
   public GetMaxWithdrawMarginResp getMaxWithdrawMargin(GetMaxWithdrawMarginReq req) {
@@ -85,7 +177,23 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/position/margin/max-withdraw-margin",
         req,
         GetMaxWithdrawMarginResp.class,
-        false);
+        false,
+        "copytrading",
+        10);
+  }
+
+  public CompletableFuture<GetMaxWithdrawMarginResp> getMaxWithdrawMarginAsync(
+      GetMaxWithdrawMarginReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/copy-trade/futures/position/margin/max-withdraw-margin",
+        req,
+        GetMaxWithdrawMarginResp.class,
+        false,
+        "copytrading",
+        10);
   }
 
   public AddIsolatedMarginResp addIsolatedMargin(AddIsolatedMarginReq req) {
@@ -96,7 +204,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/position/margin/deposit-margin",
         req,
         AddIsolatedMarginResp.class,
-        false);
+        false,
+        "copytrading",
+        4);
+  }
+
+  public CompletableFuture<AddIsolatedMarginResp> addIsolatedMarginAsync(AddIsolatedMarginReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/position/margin/deposit-margin",
+        req,
+        AddIsolatedMarginResp.class,
+        false,
+        "copytrading",
+        4);
   }
 
   public RemoveIsolatedMarginResp removeIsolatedMargin(RemoveIsolatedMarginReq req) {
@@ -107,7 +230,23 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/position/margin/withdraw-margin",
         req,
         RemoveIsolatedMarginResp.class,
-        false);
+        false,
+        "copytrading",
+        10);
+  }
+
+  public CompletableFuture<RemoveIsolatedMarginResp> removeIsolatedMarginAsync(
+      RemoveIsolatedMarginReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/position/margin/withdraw-margin",
+        req,
+        RemoveIsolatedMarginResp.class,
+        false,
+        "copytrading",
+        10);
   }
 
   public ModifyIsolatedMarginRiskLimtResp modifyIsolatedMarginRiskLimt(
@@ -119,7 +258,23 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/position/risk-limit-level/change",
         req,
         ModifyIsolatedMarginRiskLimtResp.class,
-        false);
+        false,
+        "copytrading",
+        2);
+  }
+
+  public CompletableFuture<ModifyIsolatedMarginRiskLimtResp> modifyIsolatedMarginRiskLimtAsync(
+      ModifyIsolatedMarginRiskLimtReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/position/risk-limit-level/change",
+        req,
+        ModifyIsolatedMarginRiskLimtResp.class,
+        false,
+        "copytrading",
+        2);
   }
 
   public ModifyAutoDepositStatusResp modifyAutoDepositStatus(ModifyAutoDepositStatusReq req) {
@@ -130,6 +285,22 @@ public class FuturesApiImpl implements FuturesApi {
         "/api/v1/copy-trade/futures/position/margin/auto-deposit-status",
         req,
         ModifyAutoDepositStatusResp.class,
-        false);
+        false,
+        "copytrading",
+        4);
+  }
+
+  public CompletableFuture<ModifyAutoDepositStatusResp> modifyAutoDepositStatusAsync(
+      ModifyAutoDepositStatusReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/copy-trade/futures/position/margin/auto-deposit-status",
+        req,
+        ModifyAutoDepositStatusResp.class,
+        false,
+        "copytrading",
+        4);
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.copytrading.futures;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,4 +31,12 @@ public class GetMaxOpenSizeReq implements Request {
   /** Leverage */
   @JsonProperty("leverage")
   private Integer leverage;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("price", this.price);
+    query.add("leverage", this.leverage);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.earn.earn;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface EarnApi {
   /**
    * Purchase
@@ -22,6 +25,13 @@ public interface EarnApi {
    */
   PurchaseResp purchase(PurchaseReq req);
 
+  /**
+   * Purchase, without blocking the calling thread.
+   *
+   * @see #purchase
+   */
+  CompletableFuture<PurchaseResp> purchaseAsync(PurchaseReq req);
+
   /**
    * Get Redeem Preview
    *
@@ -41,6 +51,13 @@ public interface EarnApi {
    */
   GetRedeemPreviewResp getRedeemPreview(GetRedeemPreviewReq req);
 
+  /**
+   * Get Redeem Preview, without blocking the calling thread.
+   *
+   * @see #getRedeemPreview
+   */
+  CompletableFuture<GetRedeemPreviewResp> getRedeemPreviewAsync(GetRedeemPreviewReq req);
+
   /**
    * Redeem
    *
@@ -62,6 +79,13 @@ public interface EarnApi {
    */
   RedeemResp redeem(RedeemReq req);
 
+  /**
+   * Redeem, without blocking the calling thread.
+   *
+   * @see #redeem
+   */
+  CompletableFuture<RedeemResp> redeemAsync(RedeemReq req);
+
   /**
    * Get Savings Products
    *
@@ -82,6 +106,13 @@ public interface EarnApi {
    */
   GetSavingsProductsResp getSavingsProducts(GetSavingsProductsReq req);
 
+  /**
+   * Get Savings Products, without blocking the calling thread.
+   *
+   * @see #getSavingsProducts
+   */
+  CompletableFuture<GetSavingsProductsResp> getSavingsProductsAsync(GetSavingsProductsReq req);
+
   /**
    * Get Promotion Products
    *
@@ -102,6 +133,14 @@ public interface EarnApi {
    */
   GetPromotionProductsResp getPromotionProducts(GetPromotionProductsReq req);
 
+  /**
+   * Get Promotion Products, without blocking the calling thread.
+   *
+   * @see #getPromotionProducts
+   */
+  CompletableFuture<GetPromotionProductsResp> getPromotionProductsAsync(
+      GetPromotionProductsReq req);
+
   /**
    * Get Staking Products
    *
@@ -122,6 +161,13 @@ public interface EarnApi {
    */
   GetStakingProductsResp getStakingProducts(GetStakingProductsReq req);
 
+  /**
+   * Get Staking Products, without blocking the calling thread.
+   *
+   * @see #getStakingProducts
+   */
+  CompletableFuture<GetStakingProductsResp> getStakingProductsAsync(GetStakingProductsReq req);
+
   /**
    * Get KCS Staking Products
    *
@@ -142,6 +188,14 @@ public interface EarnApi {
    */
   GetKcsStakingProductsResp getKcsStakingProducts(GetKcsStakingProductsReq req);
 
+  /**
+   * Get KCS Staking Products, without blocking the calling thread.
+   *
+   * @see #getKcsStakingProducts
+   */
+  CompletableFuture<GetKcsStakingProductsResp> getKcsStakingProductsAsync(
+      GetKcsStakingProductsReq req);
+
   /**
    * Get ETH Staking Products
    *
@@ -162,6 +216,14 @@ public interface EarnApi {
    */
   GetETHStakingProductsResp getETHStakingProducts(GetETHStakingProductsReq req);
 
+  /**
+   * Get ETH Staking Products, without blocking the calling thread.
+   *
+   * @see #getETHStakingProducts
+   */
+  CompletableFuture<GetETHStakingProductsResp> getETHStakingProductsAsync(
+      GetETHStakingProductsReq req);
+
   /**
    * Get Account Holding
    *
@@ -181,4 +243,37 @@ public interface EarnApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470273">docs</a>
    */
   GetAccountHoldingResp getAccountHolding(GetAccountHoldingReq req);
+
+  /**
+   * Get Account Holding, without blocking the calling thread.
+   *
+   * @see #getAccountHolding
+   */
+  CompletableFuture<GetAccountHoldingResp> getAccountHoldingAsync(GetAccountHoldingReq req);
+
+  /**
+   * Get Account Holding, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getAccountHolding
+   */
+  default Paged<GetAccountHoldingItems> getAccountHoldingPaged(
+      GetAccountHoldingReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getAccountHoldingAsync(req.toBuilder().currentPage(page).build()),
+        GetAccountHoldingResp::getItems,
+        GetAccountHoldingResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Account Holding, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getAccountHolding
+   */
+  default Paged<GetAccountHoldingItems> getAccountHoldingPaged(GetAccountHoldingReq req) {
+    return getAccountHoldingPaged(req, 1);
+  }
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.earn.earn;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class EarnApiImpl implements EarnApi {
   private final Transport transport;
@@ -13,7 +14,12 @@ public class EarnApiImpl implements EarnApi {
 
   public PurchaseResp purchase(PurchaseReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/earn/orders", req, PurchaseResp.class, false);
+        "spot", false, "POST", "/api/v1/earn/orders", req, PurchaseResp.class, false, "earn", 5);
+  }
+
+  public CompletableFuture<PurchaseResp> purchaseAsync(PurchaseReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v1/earn/orders", req, PurchaseResp.class, false, "earn", 5);
   }
 
   public GetRedeemPreviewResp getRedeemPreview(GetRedeemPreviewReq req) {
@@ -24,12 +30,32 @@ public class EarnApiImpl implements EarnApi {
         "/api/v1/earn/redeem-preview",
         req,
         GetRedeemPreviewResp.class,
-        false);
+        false,
+        "earn",
+        5);
+  }
+
+  public CompletableFuture<GetRedeemPreviewResp> getRedeemPreviewAsync(GetRedeemPreviewReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/redeem-preview",
+        req,
+        GetRedeemPreviewResp.class,
+        false,
+        "earn",
+        5);
   }
 
   public RedeemResp redeem(RedeemReq req) {
     return this.transport.call(
-        "spot", false, "DELETE", "/api/v1/earn/orders", req, RedeemResp.class, false);
+        "spot", false, "DELETE", "/api/v1/earn/orders", req, RedeemResp.class, false, "earn", 5);
+  }
+
+  public CompletableFuture<RedeemResp> redeemAsync(RedeemReq req) {
+    return this.transport.callAsync(
+        "spot", false, "DELETE", "/api/v1/earn/orders", req, RedeemResp.class, false, "earn", 5);
   }
 
   public GetSavingsProductsResp getSavingsProducts(GetSavingsProductsReq req) {
@@ -40,7 +66,23 @@ public class EarnApiImpl implements EarnApi {
         "/api/v1/earn/saving/products",
         req,
         GetSavingsProductsResp.class,
-        false);
+        false,
+        "earn",
+        5);
+  }
+
+  public CompletableFuture<GetSavingsProductsResp> getSavingsProductsAsync(
+      GetSavingsProductsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/saving/products",
+        req,
+        GetSavingsProductsResp.class,
+        false,
+        "earn",
+        5);
   }
 
   public GetPromotionProductsResp getPromotionProducts(GetPromotionProductsReq req) {
@@ -51,7 +93,23 @@ public class EarnApiImpl implements EarnApi {
         "/api/v1/earn/promotion/products",
         req,
         GetPromotionProductsResp.class,
-        false);
+        false,
+        "earn",
+        0);
+  }
+
+  public CompletableFuture<GetPromotionProductsResp> getPromotionProductsAsync(
+      GetPromotionProductsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/promotion/products",
+        req,
+        GetPromotionProductsResp.class,
+        false,
+        "earn",
+        0);
   }
 
   public GetStakingProductsResp getStakingProducts(GetStakingProductsReq req) {
@@ -62,7 +120,23 @@ public class EarnApiImpl implements EarnApi {
         "/api/v1/earn/staking/products",
         req,
         GetStakingProductsResp.class,
-        false);
+        false,
+        "earn",
+        5);
+  }
+
+  public CompletableFuture<GetStakingProductsResp> getStakingProductsAsync(
+      GetStakingProductsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/staking/products",
+        req,
+        GetStakingProductsResp.class,
+        false,
+        "earn",
+        5);
   }
 
   public GetKcsStakingProductsResp getKcsStakingProducts(GetKcsStakingProductsReq req) {
@@ -73,7 +147,23 @@ public class EarnApiImpl implements EarnApi {
         "/api/v1/earn/kcs-staking/products",
         req,
         GetKcsStakingProductsResp.class,
-        false);
+        false,
+        "earn",
+        5);
+  }
+
+  public CompletableFuture<GetKcsStakingProductsResp> getKcsStakingProductsAsync(
+      GetKcsStakingProductsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/kcs-staking/products",
+        req,
+        GetKcsStakingProductsResp.class,
+        false,
+        "earn",
+        5);
   }
 
   public GetETHStakingProductsResp getETHStakingProducts(GetETHStakingProductsReq req) {
@@ -84,11 +174,48 @@ public class EarnApiImpl implements EarnApi {
         "/api/v1/earn/eth-staking/products",
         req,
         GetETHStakingProductsResp.class,
-        false);
+        false,
+        "earn",
+        5);
+  }
+
+  public CompletableFuture<GetETHStakingProductsResp> getETHStakingProductsAsync(
+      GetETHStakingProductsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/eth-staking/products",
+        req,
+        GetETHStakingProductsResp.class,
+        false,
+        "earn",
+        5);
   }
 
   public GetAccountHoldingResp getAccountHolding(GetAccountHoldingReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/earn/hold-assets", req, GetAccountHoldingResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/hold-assets",
+        req,
+        GetAccountHoldingResp.class,
+        false,
+        "earn",
+        5);
+  }
+
+  public CompletableFuture<GetAccountHoldingResp> getAccountHoldingAsync(GetAccountHoldingReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/earn/hold-assets",
+        req,
+        GetAccountHoldingResp.class,
+        false,
+        "earn",
+        5);
   }
 }
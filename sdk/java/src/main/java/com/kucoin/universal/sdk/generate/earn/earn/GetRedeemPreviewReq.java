@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,6 +30,13 @@ public class GetRedeemPreviewReq implements Request {
   @JsonProperty("fromAccountType")
   private FromAccountTypeEnum fromAccountType;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("orderId", this.orderId);
+    query.add("fromAccountType", this.fromAccountType);
+    return true;
+  }
+
   public enum FromAccountTypeEnum {
     /** */
     MAIN("MAIN"),
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,6 +41,15 @@ public class RedeemReq implements Request {
   @JsonProperty("confirmPunishRedeem")
   private String confirmPunishRedeem;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("orderId", this.orderId);
+    query.add("amount", this.amount);
+    query.add("fromAccountType", this.fromAccountType);
+    query.add("confirmPunishRedeem", this.confirmPunishRedeem);
+    return true;
+  }
+
   public enum FromAccountTypeEnum {
     /** */
     MAIN("MAIN"),
@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.futures.fundingfees;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface FundingFeesApi {
   /**
    * Get Current Funding Rate
@@ -22,6 +24,14 @@ public interface FundingFeesApi {
    */
   GetCurrentFundingRateResp getCurrentFundingRate(GetCurrentFundingRateReq req);
 
+  /**
+   * Get Current Funding Rate, without blocking the calling thread.
+   *
+   * @see #getCurrentFundingRate
+   */
+  CompletableFuture<GetCurrentFundingRateResp> getCurrentFundingRateAsync(
+      GetCurrentFundingRateReq req);
+
   /**
    * Get Public Funding History
    *
@@ -42,6 +52,14 @@ public interface FundingFeesApi {
    */
   GetPublicFundingHistoryResp getPublicFundingHistory(GetPublicFundingHistoryReq req);
 
+  /**
+   * Get Public Funding History, without blocking the calling thread.
+   *
+   * @see #getPublicFundingHistory
+   */
+  CompletableFuture<GetPublicFundingHistoryResp> getPublicFundingHistoryAsync(
+      GetPublicFundingHistoryReq req);
+
   /**
    * Get Private Funding History
    *
@@ -60,4 +78,12 @@ public interface FundingFeesApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470267">docs</a>
    */
   GetPrivateFundingHistoryResp getPrivateFundingHistory(GetPrivateFundingHistoryReq req);
+
+  /**
+   * Get Private Funding History, without blocking the calling thread.
+   *
+   * @see #getPrivateFundingHistory
+   */
+  CompletableFuture<GetPrivateFundingHistoryResp> getPrivateFundingHistoryAsync(
+      GetPrivateFundingHistoryReq req);
 }
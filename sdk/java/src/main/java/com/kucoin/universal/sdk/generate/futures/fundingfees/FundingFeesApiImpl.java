@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.futures.fundingfees;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class FundingFeesApiImpl implements FundingFeesApi {
   private final Transport transport;
@@ -19,7 +20,23 @@ public class FundingFeesApiImpl implements FundingFeesApi {
         "/api/v1/funding-rate/{symbol}/current",
         req,
         GetCurrentFundingRateResp.class,
-        false);
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetCurrentFundingRateResp> getCurrentFundingRateAsync(
+      GetCurrentFundingRateReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/funding-rate/{symbol}/current",
+        req,
+        GetCurrentFundingRateResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetPublicFundingHistoryResp getPublicFundingHistory(GetPublicFundingHistoryReq req) {
@@ -30,7 +47,23 @@ public class FundingFeesApiImpl implements FundingFeesApi {
         "/api/v1/contract/funding-rates",
         req,
         GetPublicFundingHistoryResp.class,
-        false);
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetPublicFundingHistoryResp> getPublicFundingHistoryAsync(
+      GetPublicFundingHistoryReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/contract/funding-rates",
+        req,
+        GetPublicFundingHistoryResp.class,
+        false,
+        "public",
+        5);
   }
 
   public GetPrivateFundingHistoryResp getPrivateFundingHistory(GetPrivateFundingHistoryReq req) {
@@ -41,6 +74,22 @@ public class FundingFeesApiImpl implements FundingFeesApi {
         "/api/v1/funding-history",
         req,
         GetPrivateFundingHistoryResp.class,
-        false);
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<GetPrivateFundingHistoryResp> getPrivateFundingHistoryAsync(
+      GetPrivateFundingHistoryReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/funding-history",
+        req,
+        GetPrivateFundingHistoryResp.class,
+        false,
+        "futures",
+        5);
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.futures.fundingfees;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,4 +31,12 @@ public class GetPublicFundingHistoryReq implements Request {
   /** End time (milliseconds) */
   @JsonProperty("to")
   private Long to;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("from", this.from);
+    query.add("to", this.to);
+    return true;
+  }
 }
@@ -7,18 +7,28 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class AllOrderEvent implements Response<AllOrderEvent, WsMessage> {
+public class AllOrderEvent implements Response<AllOrderEvent, WsMessage>, ReusableEvent {
   /**
    * Symbol of the contract. Please refer to [Get Symbol endpoint:
    * symbol](https://www.kucoin.com/docs-new/api-221752070)
@@ -117,11 +127,257 @@ public class AllOrderEvent implements Response<AllOrderEvent, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(6);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.orderType = null;
+    this.side = null;
+    this.canceledSize = null;
+    this.orderId = null;
+    this.marginMode = null;
+    this.type = null;
+    this.orderTime = null;
+    this.size = null;
+    this.filledSize = null;
+    this.price = null;
+    this.remainSize = null;
+    this.status = null;
+    this.ts = null;
+    this.liquidity = null;
+    this.feeType = null;
+    this.matchPrice = null;
+    this.matchSize = null;
+    this.tradeId = null;
+    this.oldSize = null;
+    this.clientOid = null;
+    this.tradeType = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "orderType":
+          this.orderType = OrderTypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "side":
+          this.side = SideEnum.fromValue(p.getValueAsString());
+          break;
+        case "canceledSize":
+          if (!numeric.readDouble(0, p)) {
+            this.canceledSize = p.getValueAsString();
+          }
+          break;
+        case "orderId":
+          if (!numeric.readLong(1, p)) {
+            this.orderId = p.getValueAsString();
+          }
+          break;
+        case "marginMode":
+          this.marginMode = MarginModeEnum.fromValue(p.getValueAsString());
+          break;
+        case "type":
+          this.type = TypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "orderTime":
+          this.orderTime = p.getValueAsLong();
+          break;
+        case "size":
+          if (!numeric.readDouble(2, p)) {
+            this.size = p.getValueAsString();
+          }
+          break;
+        case "filledSize":
+          if (!numeric.readDouble(3, p)) {
+            this.filledSize = p.getValueAsString();
+          }
+          break;
+        case "price":
+          if (!numeric.readDouble(4, p)) {
+            this.price = p.getValueAsString();
+          }
+          break;
+        case "remainSize":
+          if (!numeric.readDouble(5, p)) {
+            this.remainSize = p.getValueAsString();
+          }
+          break;
+        case "status":
+          this.status = StatusEnum.fromValue(p.getValueAsString());
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+        case "liquidity":
+          this.liquidity = LiquidityEnum.fromValue(p.getValueAsString());
+          break;
+        case "feeType":
+          this.feeType = FeeTypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "matchPrice":
+          this.matchPrice = p.getValueAsString();
+          break;
+        case "matchSize":
+          this.matchSize = p.getValueAsString();
+          break;
+        case "tradeId":
+          this.tradeId = p.getValueAsString();
+          break;
+        case "oldSize":
+          this.oldSize = p.getValueAsString();
+          break;
+        case "clientOid":
+          this.clientOid = p.getValueAsString();
+          break;
+        case "tradeType":
+          this.tradeType = TradeTypeEnum.fromValue(p.getValueAsString());
+          break;
+      }
+    }
+  }
+
+  public String getCanceledSize() {
+    if (numeric.pending(0)) {
+      this.canceledSize = numeric.text(0);
+    }
+    return canceledSize;
+  }
+
+  public void setCanceledSize(String canceledSize) {
+    numeric.reset(0);
+    this.canceledSize = canceledSize;
+  }
+
+  /** canceledSize as a double, NaN if absent */
+  public double canceledSizeAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(canceledSize);
+  }
+
+  public String getOrderId() {
+    if (numeric.pending(1)) {
+      this.orderId = numeric.text(1);
+    }
+    return orderId;
+  }
+
+  public void setOrderId(String orderId) {
+    numeric.reset(1);
+    this.orderId = orderId;
+  }
+
+  /** orderId as a long, 0 if absent */
+  public long orderIdAsLong() {
+    if (numeric.pending(1)) {
+      return numeric.longValue(1);
+    }
+    return orderId == null ? 0 : Long.parseLong(orderId);
+  }
+
+  public String getSize() {
+    if (numeric.pending(2)) {
+      this.size = numeric.text(2);
+    }
+    return size;
+  }
+
+  public void setSize(String size) {
+    numeric.reset(2);
+    this.size = size;
+  }
+
+  /** size as a double, NaN if absent */
+  public double sizeAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(size);
+  }
+
+  public String getFilledSize() {
+    if (numeric.pending(3)) {
+      this.filledSize = numeric.text(3);
+    }
+    return filledSize;
+  }
+
+  public void setFilledSize(String filledSize) {
+    numeric.reset(3);
+    this.filledSize = filledSize;
+  }
+
+  /** filledSize as a double, NaN if absent */
+  public double filledSizeAsDouble() {
+    if (numeric.pending(3)) {
+      return numeric.doubleValue(3);
+    }
+    return Numbers.parseDouble(filledSize);
+  }
+
+  public String getPrice() {
+    if (numeric.pending(4)) {
+      this.price = numeric.text(4);
+    }
+    return price;
+  }
+
+  public void setPrice(String price) {
+    numeric.reset(4);
+    this.price = price;
+  }
+
+  /** price as a double, NaN if absent */
+  public double priceAsDouble() {
+    if (numeric.pending(4)) {
+      return numeric.doubleValue(4);
+    }
+    return Numbers.parseDouble(price);
+  }
+
+  public String getRemainSize() {
+    if (numeric.pending(5)) {
+      this.remainSize = numeric.text(5);
+    }
+    return remainSize;
+  }
+
+  public void setRemainSize(String remainSize) {
+    numeric.reset(5);
+    this.remainSize = remainSize;
+  }
+
+  /** remainSize as a double, NaN if absent */
+  public double remainSizeAsDouble() {
+    if (numeric.pending(5)) {
+      return numeric.doubleValue(5);
+    }
+    return Numbers.parseDouble(remainSize);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, AllOrderEvent data);
@@ -129,11 +385,12 @@ public class AllOrderEvent implements Response<AllOrderEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        AllOrderEvent event = objectMapper.convertValue(msg.getData(), AllOrderEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          AllOrderEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 
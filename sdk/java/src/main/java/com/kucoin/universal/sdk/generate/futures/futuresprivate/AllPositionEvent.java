@@ -7,9 +7,13 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,7 +22,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class AllPositionEvent implements Response<AllPositionEvent, WsMessage> {
+public class AllPositionEvent implements Response<AllPositionEvent, WsMessage>, ReusableEvent {
   /**
    * Symbol of the contract. Please refer to [Get Symbol endpoint:
    * symbol](https://www.kucoin.com/docs-new/api-221752070)
@@ -229,6 +233,208 @@ public class AllPositionEvent implements Response<AllPositionEvent, WsMessage> {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.crossMode = null;
+    this.delevPercentage = null;
+    this.openingTimestamp = null;
+    this.currentTimestamp = null;
+    this.currentQty = null;
+    this.currentCost = null;
+    this.currentComm = null;
+    this.unrealisedCost = null;
+    this.realisedGrossCost = null;
+    this.realisedCost = null;
+    this.isOpen = null;
+    this.markPrice = null;
+    this.markValue = null;
+    this.posCost = null;
+    this.posInit = null;
+    this.posMargin = null;
+    this.realisedGrossPnl = null;
+    this.realisedPnl = null;
+    this.unrealisedPnl = null;
+    this.unrealisedPnlPcnt = null;
+    this.unrealisedRoePcnt = null;
+    this.avgEntryPrice = null;
+    this.liquidationPrice = null;
+    this.bankruptPrice = null;
+    this.settleCurrency = null;
+    this.marginMode = null;
+    this.positionSide = null;
+    this.leverage = null;
+    this.autoDeposit = null;
+    this.maintMarginReq = null;
+    this.riskLimit = null;
+    this.realLeverage = null;
+    this.posCross = null;
+    this.posComm = null;
+    this.posLoss = null;
+    this.posFunding = null;
+    this.posMaint = null;
+    this.maintMargin = null;
+    this.fundingTime = null;
+    this.qty = null;
+    this.fundingRate = null;
+    this.fundingFee = null;
+    this.ts = null;
+    this.success = null;
+    this.msg = null;
+    this.commonResponse = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "crossMode":
+          this.crossMode = p.getValueAsBoolean();
+          break;
+        case "delevPercentage":
+          this.delevPercentage = p.getValueAsDouble();
+          break;
+        case "openingTimestamp":
+          this.openingTimestamp = p.getValueAsLong();
+          break;
+        case "currentTimestamp":
+          this.currentTimestamp = p.getValueAsLong();
+          break;
+        case "currentQty":
+          this.currentQty = p.getValueAsInt();
+          break;
+        case "currentCost":
+          this.currentCost = p.getValueAsDouble();
+          break;
+        case "currentComm":
+          this.currentComm = p.getValueAsDouble();
+          break;
+        case "unrealisedCost":
+          this.unrealisedCost = p.getValueAsDouble();
+          break;
+        case "realisedGrossCost":
+          this.realisedGrossCost = p.getValueAsDouble();
+          break;
+        case "realisedCost":
+          this.realisedCost = p.getValueAsDouble();
+          break;
+        case "isOpen":
+          this.isOpen = p.getValueAsBoolean();
+          break;
+        case "markPrice":
+          this.markPrice = p.getValueAsDouble();
+          break;
+        case "markValue":
+          this.markValue = p.getValueAsDouble();
+          break;
+        case "posCost":
+          this.posCost = p.getValueAsDouble();
+          break;
+        case "posInit":
+          this.posInit = p.getValueAsDouble();
+          break;
+        case "posMargin":
+          this.posMargin = p.getValueAsDouble();
+          break;
+        case "realisedGrossPnl":
+          this.realisedGrossPnl = p.getValueAsDouble();
+          break;
+        case "realisedPnl":
+          this.realisedPnl = p.getValueAsDouble();
+          break;
+        case "unrealisedPnl":
+          this.unrealisedPnl = p.getValueAsDouble();
+          break;
+        case "unrealisedPnlPcnt":
+          this.unrealisedPnlPcnt = p.getValueAsDouble();
+          break;
+        case "unrealisedRoePcnt":
+          this.unrealisedRoePcnt = p.getValueAsDouble();
+          break;
+        case "avgEntryPrice":
+          this.avgEntryPrice = p.getValueAsDouble();
+          break;
+        case "liquidationPrice":
+          this.liquidationPrice = p.getValueAsDouble();
+          break;
+        case "bankruptPrice":
+          this.bankruptPrice = p.getValueAsDouble();
+          break;
+        case "settleCurrency":
+          this.settleCurrency = p.getValueAsString();
+          break;
+        case "marginMode":
+          this.marginMode = MarginModeEnum.fromValue(p.getValueAsString());
+          break;
+        case "positionSide":
+          this.positionSide = PositionSideEnum.fromValue(p.getValueAsString());
+          break;
+        case "leverage":
+          this.leverage = p.getValueAsDouble();
+          break;
+        case "autoDeposit":
+          this.autoDeposit = p.getValueAsBoolean();
+          break;
+        case "maintMarginReq":
+          this.maintMarginReq = p.getValueAsDouble();
+          break;
+        case "riskLimit":
+          this.riskLimit = p.getValueAsInt();
+          break;
+        case "realLeverage":
+          this.realLeverage = p.getValueAsDouble();
+          break;
+        case "posCross":
+          this.posCross = p.getValueAsDouble();
+          break;
+        case "posComm":
+          this.posComm = p.getValueAsDouble();
+          break;
+        case "posLoss":
+          this.posLoss = p.getValueAsDouble();
+          break;
+        case "posFunding":
+          this.posFunding = p.getValueAsDouble();
+          break;
+        case "posMaint":
+          this.posMaint = p.getValueAsDouble();
+          break;
+        case "maintMargin":
+          this.maintMargin = p.getValueAsDouble();
+          break;
+        case "fundingTime":
+          this.fundingTime = p.getValueAsLong();
+          break;
+        case "qty":
+          this.qty = p.getValueAsInt();
+          break;
+        case "fundingRate":
+          this.fundingRate = p.getValueAsDouble();
+          break;
+        case "fundingFee":
+          this.fundingFee = p.getValueAsDouble();
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+        case "success":
+          this.success = p.getValueAsBoolean();
+          break;
+        case "msg":
+          this.msg = p.getValueAsString();
+          break;
+      }
+    }
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, AllPositionEvent data);
@@ -236,11 +442,12 @@ public class AllPositionEvent implements Response<AllPositionEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        AllPositionEvent event = objectMapper.convertValue(msg.getData(), AllPositionEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          AllPositionEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 
@@ -5,18 +5,28 @@ package com.kucoin.universal.sdk.generate.futures.futuresprivate;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class BalanceEvent implements Response<BalanceEvent, WsMessage> {
+public class BalanceEvent implements Response<BalanceEvent, WsMessage>, ReusableEvent {
   /** Margin of the cross margin position */
   @JsonProperty("crossPosMargin")
   private String crossPosMargin;
@@ -84,11 +94,405 @@ public class BalanceEvent implements Response<BalanceEvent, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(14);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.crossPosMargin = null;
+    this.isolatedOrderMargin = null;
+    this.holdBalance = null;
+    this.equity = null;
+    this.version = null;
+    this.availableBalance = null;
+    this.isolatedPosMargin = null;
+    this.walletBalance = null;
+    this.isolatedFundingFeeMargin = null;
+    this.crossUnPnl = null;
+    this.totalCrossMargin = null;
+    this.currency = null;
+    this.isolatedUnPnl = null;
+    this.crossOrderMargin = null;
+    this.timestamp = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "crossPosMargin":
+          if (!numeric.readDouble(0, p)) {
+            this.crossPosMargin = p.getValueAsString();
+          }
+          break;
+        case "isolatedOrderMargin":
+          if (!numeric.readDouble(1, p)) {
+            this.isolatedOrderMargin = p.getValueAsString();
+          }
+          break;
+        case "holdBalance":
+          if (!numeric.readDouble(2, p)) {
+            this.holdBalance = p.getValueAsString();
+          }
+          break;
+        case "equity":
+          if (!numeric.readDouble(3, p)) {
+            this.equity = p.getValueAsString();
+          }
+          break;
+        case "version":
+          if (!numeric.readLong(4, p)) {
+            this.version = p.getValueAsString();
+          }
+          break;
+        case "availableBalance":
+          if (!numeric.readDouble(5, p)) {
+            this.availableBalance = p.getValueAsString();
+          }
+          break;
+        case "isolatedPosMargin":
+          if (!numeric.readDouble(6, p)) {
+            this.isolatedPosMargin = p.getValueAsString();
+          }
+          break;
+        case "walletBalance":
+          if (!numeric.readDouble(7, p)) {
+            this.walletBalance = p.getValueAsString();
+          }
+          break;
+        case "isolatedFundingFeeMargin":
+          if (!numeric.readDouble(8, p)) {
+            this.isolatedFundingFeeMargin = p.getValueAsString();
+          }
+          break;
+        case "crossUnPnl":
+          if (!numeric.readDouble(9, p)) {
+            this.crossUnPnl = p.getValueAsString();
+          }
+          break;
+        case "totalCrossMargin":
+          if (!numeric.readDouble(10, p)) {
+            this.totalCrossMargin = p.getValueAsString();
+          }
+          break;
+        case "currency":
+          this.currency = p.getValueAsString();
+          break;
+        case "isolatedUnPnl":
+          if (!numeric.readDouble(11, p)) {
+            this.isolatedUnPnl = p.getValueAsString();
+          }
+          break;
+        case "crossOrderMargin":
+          if (!numeric.readDouble(12, p)) {
+            this.crossOrderMargin = p.getValueAsString();
+          }
+          break;
+        case "timestamp":
+          if (!numeric.readLong(13, p)) {
+            this.timestamp = p.getValueAsString();
+          }
+          break;
+      }
+    }
+  }
+
+  public String getCrossPosMargin() {
+    if (numeric.pending(0)) {
+      this.crossPosMargin = numeric.text(0);
+    }
+    return crossPosMargin;
+  }
+
+  public void setCrossPosMargin(String crossPosMargin) {
+    numeric.reset(0);
+    this.crossPosMargin = crossPosMargin;
+  }
+
+  /** crossPosMargin as a double, NaN if absent */
+  public double crossPosMarginAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(crossPosMargin);
+  }
+
+  public String getIsolatedOrderMargin() {
+    if (numeric.pending(1)) {
+      this.isolatedOrderMargin = numeric.text(1);
+    }
+    return isolatedOrderMargin;
+  }
+
+  public void setIsolatedOrderMargin(String isolatedOrderMargin) {
+    numeric.reset(1);
+    this.isolatedOrderMargin = isolatedOrderMargin;
+  }
+
+  /** isolatedOrderMargin as a double, NaN if absent */
+  public double isolatedOrderMarginAsDouble() {
+    if (numeric.pending(1)) {
+      return numeric.doubleValue(1);
+    }
+    return Numbers.parseDouble(isolatedOrderMargin);
+  }
+
+  public String getHoldBalance() {
+    if (numeric.pending(2)) {
+      this.holdBalance = numeric.text(2);
+    }
+    return holdBalance;
+  }
+
+  public void setHoldBalance(String holdBalance) {
+    numeric.reset(2);
+    this.holdBalance = holdBalance;
+  }
+
+  /** holdBalance as a double, NaN if absent */
+  public double holdBalanceAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(holdBalance);
+  }
+
+  public String getEquity() {
+    if (numeric.pending(3)) {
+      this.equity = numeric.text(3);
+    }
+    return equity;
+  }
+
+  public void setEquity(String equity) {
+    numeric.reset(3);
+    this.equity = equity;
+  }
+
+  /** equity as a double, NaN if absent */
+  public double equityAsDouble() {
+    if (numeric.pending(3)) {
+      return numeric.doubleValue(3);
+    }
+    return Numbers.parseDouble(equity);
+  }
+
+  public String getVersion() {
+    if (numeric.pending(4)) {
+      this.version = numeric.text(4);
+    }
+    return version;
+  }
+
+  public void setVersion(String version) {
+    numeric.reset(4);
+    this.version = version;
+  }
+
+  /** version as a long, 0 if absent */
+  public long versionAsLong() {
+    if (numeric.pending(4)) {
+      return numeric.longValue(4);
+    }
+    return version == null ? 0 : Long.parseLong(version);
+  }
+
+  public String getAvailableBalance() {
+    if (numeric.pending(5)) {
+      this.availableBalance = numeric.text(5);
+    }
+    return availableBalance;
+  }
+
+  public void setAvailableBalance(String availableBalance) {
+    numeric.reset(5);
+    this.availableBalance = availableBalance;
+  }
+
+  /** availableBalance as a double, NaN if absent */
+  public double availableBalanceAsDouble() {
+    if (numeric.pending(5)) {
+      return numeric.doubleValue(5);
+    }
+    return Numbers.parseDouble(availableBalance);
+  }
+
+  public String getIsolatedPosMargin() {
+    if (numeric.pending(6)) {
+      this.isolatedPosMargin = numeric.text(6);
+    }
+    return isolatedPosMargin;
+  }
+
+  public void setIsolatedPosMargin(String isolatedPosMargin) {
+    numeric.reset(6);
+    this.isolatedPosMargin = isolatedPosMargin;
+  }
+
+  /** isolatedPosMargin as a double, NaN if absent */
+  public double isolatedPosMarginAsDouble() {
+    if (numeric.pending(6)) {
+      return numeric.doubleValue(6);
+    }
+    return Numbers.parseDouble(isolatedPosMargin);
+  }
+
+  public String getWalletBalance() {
+    if (numeric.pending(7)) {
+      this.walletBalance = numeric.text(7);
+    }
+    return walletBalance;
+  }
+
+  public void setWalletBalance(String walletBalance) {
+    numeric.reset(7);
+    this.walletBalance = walletBalance;
+  }
+
+  /** walletBalance as a double, NaN if absent */
+  public double walletBalanceAsDouble() {
+    if (numeric.pending(7)) {
+      return numeric.doubleValue(7);
+    }
+    return Numbers.parseDouble(walletBalance);
+  }
+
+  public String getIsolatedFundingFeeMargin() {
+    if (numeric.pending(8)) {
+      this.isolatedFundingFeeMargin = numeric.text(8);
+    }
+    return isolatedFundingFeeMargin;
+  }
+
+  public void setIsolatedFundingFeeMargin(String isolatedFundingFeeMargin) {
+    numeric.reset(8);
+    this.isolatedFundingFeeMargin = isolatedFundingFeeMargin;
+  }
+
+  /** isolatedFundingFeeMargin as a double, NaN if absent */
+  public double isolatedFundingFeeMarginAsDouble() {
+    if (numeric.pending(8)) {
+      return numeric.doubleValue(8);
+    }
+    return Numbers.parseDouble(isolatedFundingFeeMargin);
+  }
+
+  public String getCrossUnPnl() {
+    if (numeric.pending(9)) {
+      this.crossUnPnl = numeric.text(9);
+    }
+    return crossUnPnl;
+  }
+
+  public void setCrossUnPnl(String crossUnPnl) {
+    numeric.reset(9);
+    this.crossUnPnl = crossUnPnl;
+  }
+
+  /** crossUnPnl as a double, NaN if absent */
+  public double crossUnPnlAsDouble() {
+    if (numeric.pending(9)) {
+      return numeric.doubleValue(9);
+    }
+    return Numbers.parseDouble(crossUnPnl);
+  }
+
+  public String getTotalCrossMargin() {
+    if (numeric.pending(10)) {
+      this.totalCrossMargin = numeric.text(10);
+    }
+    return totalCrossMargin;
+  }
+
+  public void setTotalCrossMargin(String totalCrossMargin) {
+    numeric.reset(10);
+    this.totalCrossMargin = totalCrossMargin;
+  }
+
+  /** totalCrossMargin as a double, NaN if absent */
+  public double totalCrossMarginAsDouble() {
+    if (numeric.pending(10)) {
+      return numeric.doubleValue(10);
+    }
+    return Numbers.parseDouble(totalCrossMargin);
+  }
+
+  public String getIsolatedUnPnl() {
+    if (numeric.pending(11)) {
+      this.isolatedUnPnl = numeric.text(11);
+    }
+    return isolatedUnPnl;
+  }
+
+  public void setIsolatedUnPnl(String isolatedUnPnl) {
+    numeric.reset(11);
+    this.isolatedUnPnl = isolatedUnPnl;
+  }
+
+  /** isolatedUnPnl as a double, NaN if absent */
+  public double isolatedUnPnlAsDouble() {
+    if (numeric.pending(11)) {
+      return numeric.doubleValue(11);
+    }
+    return Numbers.parseDouble(isolatedUnPnl);
+  }
+
+  public String getCrossOrderMargin() {
+    if (numeric.pending(12)) {
+      this.crossOrderMargin = numeric.text(12);
+    }
+    return crossOrderMargin;
+  }
+
+  public void setCrossOrderMargin(String crossOrderMargin) {
+    numeric.reset(12);
+    this.crossOrderMargin = crossOrderMargin;
+  }
+
+  /** crossOrderMargin as a double, NaN if absent */
+  public double crossOrderMarginAsDouble() {
+    if (numeric.pending(12)) {
+      return numeric.doubleValue(12);
+    }
+    return Numbers.parseDouble(crossOrderMargin);
+  }
+
+  public String getTimestamp() {
+    if (numeric.pending(13)) {
+      this.timestamp = numeric.text(13);
+    }
+    return timestamp;
+  }
+
+  public void setTimestamp(String timestamp) {
+    numeric.reset(13);
+    this.timestamp = timestamp;
+  }
+
+  /** timestamp as a long, 0 if absent */
+  public long timestampAsLong() {
+    if (numeric.pending(13)) {
+      return numeric.longValue(13);
+    }
+    return timestamp == null ? 0 : Long.parseLong(timestamp);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, BalanceEvent data);
@@ -96,11 +500,12 @@ public class BalanceEvent implements Response<BalanceEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        BalanceEvent event = objectMapper.convertValue(msg.getData(), BalanceEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          BalanceEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class CrossLeverageDataValue {
+public class CrossLeverageDataValue {
   /** */
   @JsonProperty("leverage")
   private String leverage;
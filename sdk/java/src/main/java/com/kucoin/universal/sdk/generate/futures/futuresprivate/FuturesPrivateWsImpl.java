@@ -17,7 +17,8 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(topicPrefix, args, AllOrderEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, AllOrderEvent.CallbackAdapters.of(callback));
   }
 
   public String allPosition(AllPositionEvent.Callback callback) {
@@ -25,7 +26,7 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, AllPositionEvent.CallbackAdapters.of(callback));
   }
 
@@ -34,7 +35,8 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(topicPrefix, args, BalanceEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, BalanceEvent.CallbackAdapters.of(callback));
   }
 
   public String crossLeverage(CrossLeverageEvent.Callback callback) {
@@ -42,7 +44,7 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, CrossLeverageEvent.CallbackAdapters.of(callback));
   }
 
@@ -51,7 +53,7 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, MarginModeEvent.CallbackAdapters.of(callback));
   }
 
@@ -60,7 +62,8 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(topicPrefix, args, OrderEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, OrderEvent.CallbackAdapters.of(callback));
   }
 
   public String position(String symbol, PositionEvent.Callback callback) {
@@ -68,7 +71,8 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(topicPrefix, args, PositionEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, PositionEvent.CallbackAdapters.of(callback));
   }
 
   public String stopOrders(StopOrdersEvent.Callback callback) {
@@ -76,12 +80,12 @@ public class FuturesPrivateWsImpl implements FuturesPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, StopOrdersEvent.CallbackAdapters.of(callback));
   }
 
   public void unSubscribe(String id) {
-    this.wsService.unsubscribe(id);
+    this.wsService.unsubscribeChunked(id);
   }
 
   public void start() {
@@ -7,18 +7,28 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class StopOrdersEvent implements Response<StopOrdersEvent, WsMessage> {
+public class StopOrdersEvent implements Response<StopOrdersEvent, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("createdAt")
   private Long createdAt;
@@ -77,11 +87,155 @@ public class StopOrdersEvent implements Response<StopOrdersEvent, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(3);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.createdAt = null;
+    this.marginMode = null;
+    this.orderId = null;
+    this.orderPrice = null;
+    this.orderType = null;
+    this.side = null;
+    this.size = null;
+    this.stop = null;
+    this.stopPrice = null;
+    this.stopPriceType = null;
+    this.symbol = null;
+    this.ts = null;
+    this.type = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "createdAt":
+          this.createdAt = p.getValueAsLong();
+          break;
+        case "marginMode":
+          this.marginMode = MarginModeEnum.fromValue(p.getValueAsString());
+          break;
+        case "orderId":
+          if (!numeric.readLong(0, p)) {
+            this.orderId = p.getValueAsString();
+          }
+          break;
+        case "orderPrice":
+          if (!numeric.readDouble(1, p)) {
+            this.orderPrice = p.getValueAsString();
+          }
+          break;
+        case "orderType":
+          this.orderType = OrderTypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "side":
+          this.side = SideEnum.fromValue(p.getValueAsString());
+          break;
+        case "size":
+          this.size = p.getValueAsInt();
+          break;
+        case "stop":
+          this.stop = StopEnum.fromValue(p.getValueAsString());
+          break;
+        case "stopPrice":
+          if (!numeric.readDouble(2, p)) {
+            this.stopPrice = p.getValueAsString();
+          }
+          break;
+        case "stopPriceType":
+          this.stopPriceType = p.getValueAsString();
+          break;
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+        case "type":
+          this.type = TypeEnum.fromValue(p.getValueAsString());
+          break;
+      }
+    }
+  }
+
+  public String getOrderId() {
+    if (numeric.pending(0)) {
+      this.orderId = numeric.text(0);
+    }
+    return orderId;
+  }
+
+  public void setOrderId(String orderId) {
+    numeric.reset(0);
+    this.orderId = orderId;
+  }
+
+  /** orderId as a long, 0 if absent */
+  public long orderIdAsLong() {
+    if (numeric.pending(0)) {
+      return numeric.longValue(0);
+    }
+    return orderId == null ? 0 : Long.parseLong(orderId);
+  }
+
+  public String getOrderPrice() {
+    if (numeric.pending(1)) {
+      this.orderPrice = numeric.text(1);
+    }
+    return orderPrice;
+  }
+
+  public void setOrderPrice(String orderPrice) {
+    numeric.reset(1);
+    this.orderPrice = orderPrice;
+  }
+
+  /** orderPrice as a double, NaN if absent */
+  public double orderPriceAsDouble() {
+    if (numeric.pending(1)) {
+      return numeric.doubleValue(1);
+    }
+    return Numbers.parseDouble(orderPrice);
+  }
+
+  public String getStopPrice() {
+    if (numeric.pending(2)) {
+      this.stopPrice = numeric.text(2);
+    }
+    return stopPrice;
+  }
+
+  public void setStopPrice(String stopPrice) {
+    numeric.reset(2);
+    this.stopPrice = stopPrice;
+  }
+
+  /** stopPrice as a double, NaN if absent */
+  public double stopPriceAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(stopPrice);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, StopOrdersEvent data);
@@ -89,11 +243,12 @@ public class StopOrdersEvent implements Response<StopOrdersEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        StopOrdersEvent event = objectMapper.convertValue(msg.getData(), StopOrdersEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          StopOrdersEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 
@@ -5,9 +5,13 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,7 +20,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class AnnouncementEvent implements Response<AnnouncementEvent, WsMessage> {
+public class AnnouncementEvent implements Response<AnnouncementEvent, WsMessage>, ReusableEvent {
   /** Symbol */
   @JsonProperty("symbol")
   private String symbol;
@@ -41,6 +45,40 @@ public class AnnouncementEvent implements Response<AnnouncementEvent, WsMessage>
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.fundingTime = null;
+    this.fundingRate = null;
+    this.timestamp = null;
+    this.commonResponse = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "fundingTime":
+          this.fundingTime = p.getValueAsLong();
+          break;
+        case "fundingRate":
+          this.fundingRate = p.getValueAsDouble();
+          break;
+        case "timestamp":
+          this.timestamp = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, AnnouncementEvent data);
@@ -48,11 +86,12 @@ public class AnnouncementEvent implements Response<AnnouncementEvent, WsMessage>
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        AnnouncementEvent event = objectMapper.convertValue(msg.getData(), AnnouncementEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          AnnouncementEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -5,18 +5,28 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class ExecutionEvent implements Response<ExecutionEvent, WsMessage> {
+public class ExecutionEvent implements Response<ExecutionEvent, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("symbol")
   private String symbol;
@@ -56,11 +66,161 @@ public class ExecutionEvent implements Response<ExecutionEvent, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(4);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.sequence = null;
+    this.side = null;
+    this.size = null;
+    this.price = null;
+    this.takerOrderId = null;
+    this.makerOrderId = null;
+    this.tradeId = null;
+    this.ts = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "sequence":
+          this.sequence = p.getValueAsLong();
+          break;
+        case "side":
+          this.side = p.getValueAsString();
+          break;
+        case "size":
+          this.size = p.getValueAsInt();
+          break;
+        case "price":
+          if (!numeric.readDouble(0, p)) {
+            this.price = p.getValueAsString();
+          }
+          break;
+        case "takerOrderId":
+          if (!numeric.readLong(1, p)) {
+            this.takerOrderId = p.getValueAsString();
+          }
+          break;
+        case "makerOrderId":
+          if (!numeric.readLong(2, p)) {
+            this.makerOrderId = p.getValueAsString();
+          }
+          break;
+        case "tradeId":
+          if (!numeric.readLong(3, p)) {
+            this.tradeId = p.getValueAsString();
+          }
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
+  public String getPrice() {
+    if (numeric.pending(0)) {
+      this.price = numeric.text(0);
+    }
+    return price;
+  }
+
+  public void setPrice(String price) {
+    numeric.reset(0);
+    this.price = price;
+  }
+
+  /** price as a double, NaN if absent */
+  public double priceAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(price);
+  }
+
+  public String getTakerOrderId() {
+    if (numeric.pending(1)) {
+      this.takerOrderId = numeric.text(1);
+    }
+    return takerOrderId;
+  }
+
+  public void setTakerOrderId(String takerOrderId) {
+    numeric.reset(1);
+    this.takerOrderId = takerOrderId;
+  }
+
+  /** takerOrderId as a long, 0 if absent */
+  public long takerOrderIdAsLong() {
+    if (numeric.pending(1)) {
+      return numeric.longValue(1);
+    }
+    return takerOrderId == null ? 0 : Long.parseLong(takerOrderId);
+  }
+
+  public String getMakerOrderId() {
+    if (numeric.pending(2)) {
+      this.makerOrderId = numeric.text(2);
+    }
+    return makerOrderId;
+  }
+
+  public void setMakerOrderId(String makerOrderId) {
+    numeric.reset(2);
+    this.makerOrderId = makerOrderId;
+  }
+
+  /** makerOrderId as a long, 0 if absent */
+  public long makerOrderIdAsLong() {
+    if (numeric.pending(2)) {
+      return numeric.longValue(2);
+    }
+    return makerOrderId == null ? 0 : Long.parseLong(makerOrderId);
+  }
+
+  public String getTradeId() {
+    if (numeric.pending(3)) {
+      this.tradeId = numeric.text(3);
+    }
+    return tradeId;
+  }
+
+  public void setTradeId(String tradeId) {
+    numeric.reset(3);
+    this.tradeId = tradeId;
+  }
+
+  /** tradeId as a long, 0 if absent */
+  public long tradeIdAsLong() {
+    if (numeric.pending(3)) {
+      return numeric.longValue(3);
+    }
+    return tradeId == null ? 0 : Long.parseLong(tradeId);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, ExecutionEvent data);
@@ -68,11 +228,12 @@ public class ExecutionEvent implements Response<ExecutionEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        ExecutionEvent event = objectMapper.convertValue(msg.getData(), ExecutionEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          ExecutionEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -17,7 +17,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, AnnouncementEvent.CallbackAdapters.of(callback));
   }
 
@@ -26,7 +26,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, ExecutionEvent.CallbackAdapters.of(callback));
   }
 
@@ -35,7 +35,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, InstrumentEvent.CallbackAdapters.of(callback));
   }
 
@@ -44,7 +44,8 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {String.join("_", symbol, type)};
 
-    return this.wsService.subscribe(topicPrefix, args, KlinesEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, KlinesEvent.CallbackAdapters.of(callback));
   }
 
   public String orderbookIncrement(String symbol, OrderbookIncrementEvent.Callback callback) {
@@ -52,7 +53,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookIncrementEvent.CallbackAdapters.of(callback));
   }
 
@@ -61,7 +62,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookLevel50Event.CallbackAdapters.of(callback));
   }
 
@@ -70,7 +71,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookLevel5Event.CallbackAdapters.of(callback));
   }
 
@@ -79,7 +80,7 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, SymbolSnapshotEvent.CallbackAdapters.of(callback));
   }
 
@@ -88,7 +89,8 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(topicPrefix, args, TickerV1Event.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, TickerV1Event.CallbackAdapters.of(callback));
   }
 
   public String tickerV2(String symbol, TickerV2Event.Callback callback) {
@@ -96,11 +98,12 @@ public class FuturesPublicWsImpl implements FuturesPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(topicPrefix, args, TickerV2Event.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, TickerV2Event.CallbackAdapters.of(callback));
   }
 
   public void unSubscribe(String id) {
-    this.wsService.unsubscribe(id);
+    this.wsService.unsubscribeChunked(id);
   }
 
   public void start() {
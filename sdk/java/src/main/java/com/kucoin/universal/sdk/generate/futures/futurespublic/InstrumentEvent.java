@@ -5,9 +5,13 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,7 +20,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class InstrumentEvent implements Response<InstrumentEvent, WsMessage> {
+public class InstrumentEvent implements Response<InstrumentEvent, WsMessage>, ReusableEvent {
   /**
    * Granularity (predicted funding rate: 1-min granularity: 60000; Funding rate: 8-hours
    * granularity: 28800000.)
@@ -48,6 +52,44 @@ public class InstrumentEvent implements Response<InstrumentEvent, WsMessage> {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.granularity = null;
+    this.fundingRate = null;
+    this.timestamp = null;
+    this.markPrice = null;
+    this.indexPrice = null;
+    this.commonResponse = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "granularity":
+          this.granularity = p.getValueAsInt();
+          break;
+        case "fundingRate":
+          this.fundingRate = p.getValueAsDouble();
+          break;
+        case "timestamp":
+          this.timestamp = p.getValueAsLong();
+          break;
+        case "markPrice":
+          this.markPrice = p.getValueAsDouble();
+          break;
+        case "indexPrice":
+          this.indexPrice = p.getValueAsDouble();
+          break;
+      }
+    }
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, InstrumentEvent data);
@@ -55,11 +97,12 @@ public class InstrumentEvent implements Response<InstrumentEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        InstrumentEvent event = objectMapper.convertValue(msg.getData(), InstrumentEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          InstrumentEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -5,9 +5,13 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,7 +20,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class OrderbookIncrementEvent implements Response<OrderbookIncrementEvent, WsMessage> {
+public class OrderbookIncrementEvent
+    implements Response<OrderbookIncrementEvent, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("sequence")
   private Long sequence;
@@ -37,6 +42,36 @@ public class OrderbookIncrementEvent implements Response<OrderbookIncrementEvent
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.sequence = null;
+    this.change = null;
+    this.timestamp = null;
+    this.commonResponse = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "sequence":
+          this.sequence = p.getValueAsLong();
+          break;
+        case "change":
+          this.change = p.getValueAsString();
+          break;
+        case "timestamp":
+          this.timestamp = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, OrderbookIncrementEvent data);
@@ -44,12 +79,12 @@ public class OrderbookIncrementEvent implements Response<OrderbookIncrementEvent
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        OrderbookIncrementEvent event =
-            objectMapper.convertValue(msg.getData(), OrderbookIncrementEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          OrderbookIncrementEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -54,12 +54,12 @@ public class OrderbookLevel50Event implements Response<OrderbookLevel50Event, Ws
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        OrderbookLevel50Event event =
-            objectMapper.convertValue(msg.getData(), OrderbookLevel50Event.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          OrderbookLevel50Event.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
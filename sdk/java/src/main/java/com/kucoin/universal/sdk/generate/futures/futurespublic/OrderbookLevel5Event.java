@@ -54,12 +54,12 @@ public class OrderbookLevel5Event implements Response<OrderbookLevel5Event, WsMe
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        OrderbookLevel5Event event =
-            objectMapper.convertValue(msg.getData(), OrderbookLevel5Event.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          OrderbookLevel5Event.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
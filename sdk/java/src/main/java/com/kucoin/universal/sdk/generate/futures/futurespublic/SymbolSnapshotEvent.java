@@ -5,9 +5,13 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,7 +20,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class SymbolSnapshotEvent implements Response<SymbolSnapshotEvent, WsMessage> {
+public class SymbolSnapshotEvent
+    implements Response<SymbolSnapshotEvent, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("highPrice")
   private Double highPrice;
@@ -65,6 +70,64 @@ public class SymbolSnapshotEvent implements Response<SymbolSnapshotEvent, WsMess
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.highPrice = null;
+    this.lastPrice = null;
+    this.lowPrice = null;
+    this.price24HoursBefore = null;
+    this.priceChg = null;
+    this.priceChgPct = null;
+    this.symbol = null;
+    this.ts = null;
+    this.turnover = null;
+    this.volume = null;
+    this.commonResponse = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "highPrice":
+          this.highPrice = p.getValueAsDouble();
+          break;
+        case "lastPrice":
+          this.lastPrice = p.getValueAsDouble();
+          break;
+        case "lowPrice":
+          this.lowPrice = p.getValueAsDouble();
+          break;
+        case "price24HoursBefore":
+          this.price24HoursBefore = p.getValueAsDouble();
+          break;
+        case "priceChg":
+          this.priceChg = p.getValueAsDouble();
+          break;
+        case "priceChgPct":
+          this.priceChgPct = p.getValueAsDouble();
+          break;
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+        case "turnover":
+          this.turnover = p.getValueAsDouble();
+          break;
+        case "volume":
+          this.volume = p.getValueAsDouble();
+          break;
+      }
+    }
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, SymbolSnapshotEvent data);
@@ -72,12 +135,12 @@ public class SymbolSnapshotEvent implements Response<SymbolSnapshotEvent, WsMess
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        SymbolSnapshotEvent event =
-            objectMapper.convertValue(msg.getData(), SymbolSnapshotEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          SymbolSnapshotEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
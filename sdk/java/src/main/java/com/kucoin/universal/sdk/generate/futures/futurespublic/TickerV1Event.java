@@ -5,18 +5,28 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class TickerV1Event implements Response<TickerV1Event, WsMessage> {
+public class TickerV1Event implements Response<TickerV1Event, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("symbol")
   private String symbol;
@@ -64,11 +74,169 @@ public class TickerV1Event implements Response<TickerV1Event, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(4);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.sequence = null;
+    this.side = null;
+    this.size = null;
+    this.price = null;
+    this.bestBidSize = null;
+    this.bestBidPrice = null;
+    this.bestAskPrice = null;
+    this.tradeId = null;
+    this.bestAskSize = null;
+    this.ts = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "sequence":
+          this.sequence = p.getValueAsLong();
+          break;
+        case "side":
+          this.side = p.getValueAsString();
+          break;
+        case "size":
+          this.size = p.getValueAsInt();
+          break;
+        case "price":
+          if (!numeric.readDouble(0, p)) {
+            this.price = p.getValueAsString();
+          }
+          break;
+        case "bestBidSize":
+          this.bestBidSize = p.getValueAsInt();
+          break;
+        case "bestBidPrice":
+          if (!numeric.readDouble(1, p)) {
+            this.bestBidPrice = p.getValueAsString();
+          }
+          break;
+        case "bestAskPrice":
+          if (!numeric.readDouble(2, p)) {
+            this.bestAskPrice = p.getValueAsString();
+          }
+          break;
+        case "tradeId":
+          if (!numeric.readLong(3, p)) {
+            this.tradeId = p.getValueAsString();
+          }
+          break;
+        case "bestAskSize":
+          this.bestAskSize = p.getValueAsInt();
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
+  public String getPrice() {
+    if (numeric.pending(0)) {
+      this.price = numeric.text(0);
+    }
+    return price;
+  }
+
+  public void setPrice(String price) {
+    numeric.reset(0);
+    this.price = price;
+  }
+
+  /** price as a double, NaN if absent */
+  public double priceAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(price);
+  }
+
+  public String getBestBidPrice() {
+    if (numeric.pending(1)) {
+      this.bestBidPrice = numeric.text(1);
+    }
+    return bestBidPrice;
+  }
+
+  public void setBestBidPrice(String bestBidPrice) {
+    numeric.reset(1);
+    this.bestBidPrice = bestBidPrice;
+  }
+
+  /** bestBidPrice as a double, NaN if absent */
+  public double bestBidPriceAsDouble() {
+    if (numeric.pending(1)) {
+      return numeric.doubleValue(1);
+    }
+    return Numbers.parseDouble(bestBidPrice);
+  }
+
+  public String getBestAskPrice() {
+    if (numeric.pending(2)) {
+      this.bestAskPrice = numeric.text(2);
+    }
+    return bestAskPrice;
+  }
+
+  public void setBestAskPrice(String bestAskPrice) {
+    numeric.reset(2);
+    this.bestAskPrice = bestAskPrice;
+  }
+
+  /** bestAskPrice as a double, NaN if absent */
+  public double bestAskPriceAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(bestAskPrice);
+  }
+
+  public String getTradeId() {
+    if (numeric.pending(3)) {
+      this.tradeId = numeric.text(3);
+    }
+    return tradeId;
+  }
+
+  public void setTradeId(String tradeId) {
+    numeric.reset(3);
+    this.tradeId = tradeId;
+  }
+
+  /** tradeId as a long, 0 if absent */
+  public long tradeIdAsLong() {
+    if (numeric.pending(3)) {
+      return numeric.longValue(3);
+    }
+    return tradeId == null ? 0 : Long.parseLong(tradeId);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, TickerV1Event data);
@@ -76,11 +244,12 @@ public class TickerV1Event implements Response<TickerV1Event, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        TickerV1Event event = objectMapper.convertValue(msg.getData(), TickerV1Event.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          TickerV1Event.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
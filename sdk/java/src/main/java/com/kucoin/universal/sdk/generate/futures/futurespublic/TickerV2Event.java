@@ -5,18 +5,28 @@ package com.kucoin.universal.sdk.generate.futures.futurespublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class TickerV2Event implements Response<TickerV2Event, WsMessage> {
+public class TickerV2Event implements Response<TickerV2Event, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("symbol")
   private String symbol;
@@ -48,11 +58,109 @@ public class TickerV2Event implements Response<TickerV2Event, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(2);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.sequence = null;
+    this.bestBidSize = null;
+    this.bestBidPrice = null;
+    this.bestAskPrice = null;
+    this.bestAskSize = null;
+    this.ts = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "sequence":
+          this.sequence = p.getValueAsLong();
+          break;
+        case "bestBidSize":
+          this.bestBidSize = p.getValueAsInt();
+          break;
+        case "bestBidPrice":
+          if (!numeric.readDouble(0, p)) {
+            this.bestBidPrice = p.getValueAsString();
+          }
+          break;
+        case "bestAskPrice":
+          if (!numeric.readDouble(1, p)) {
+            this.bestAskPrice = p.getValueAsString();
+          }
+          break;
+        case "bestAskSize":
+          this.bestAskSize = p.getValueAsInt();
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
+  public String getBestBidPrice() {
+    if (numeric.pending(0)) {
+      this.bestBidPrice = numeric.text(0);
+    }
+    return bestBidPrice;
+  }
+
+  public void setBestBidPrice(String bestBidPrice) {
+    numeric.reset(0);
+    this.bestBidPrice = bestBidPrice;
+  }
+
+  /** bestBidPrice as a double, NaN if absent */
+  public double bestBidPriceAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(bestBidPrice);
+  }
+
+  public String getBestAskPrice() {
+    if (numeric.pending(1)) {
+      this.bestAskPrice = numeric.text(1);
+    }
+    return bestAskPrice;
+  }
+
+  public void setBestAskPrice(String bestAskPrice) {
+    numeric.reset(1);
+    this.bestAskPrice = bestAskPrice;
+  }
+
+  /** bestAskPrice as a double, NaN if absent */
+  public double bestAskPriceAsDouble() {
+    if (numeric.pending(1)) {
+      return numeric.doubleValue(1);
+    }
+    return Numbers.parseDouble(bestAskPrice);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, TickerV2Event data);
@@ -60,11 +168,12 @@ public class TickerV2Event implements Response<TickerV2Event, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        TickerV2Event event = objectMapper.convertValue(msg.getData(), TickerV2Event.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          TickerV2Event.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.futures.market;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -59,4 +60,16 @@ public class GetInterestRateIndexReq implements Request {
   @JsonProperty("maxCount")
   @Builder.Default
   private Long maxCount = 10l;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("startAt", this.startAt);
+    query.add("endAt", this.endAt);
+    query.add("reverse", this.reverse);
+    query.add("offset", this.offset);
+    query.add("forward", this.forward);
+    query.add("maxCount", this.maxCount);
+    return true;
+  }
 }
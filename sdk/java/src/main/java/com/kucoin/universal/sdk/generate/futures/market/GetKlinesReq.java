@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,6 +38,15 @@ public class GetKlinesReq implements Request {
   @JsonProperty("to")
   private Long to;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("granularity", this.granularity);
+    query.add("from", this.from);
+    query.add("to", this.to);
+    return true;
+  }
+
   public enum GranularityEnum {
     /** 1min */
     _1(1),
@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.futures.market;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface MarketApi {
   /**
    * Get Symbol
@@ -24,6 +26,13 @@ public interface MarketApi {
    */
   GetSymbolResp getSymbol(GetSymbolReq req);
 
+  /**
+   * Get Symbol, without blocking the calling thread.
+   *
+   * @see #getSymbol
+   */
+  CompletableFuture<GetSymbolResp> getSymbolAsync(GetSymbolReq req);
+
   /**
    * Get All Symbols
    *
@@ -45,6 +54,13 @@ public interface MarketApi {
    */
   GetAllSymbolsResp getAllSymbols();
 
+  /**
+   * Get All Symbols, without blocking the calling thread.
+   *
+   * @see #getAllSymbols
+   */
+  CompletableFuture<GetAllSymbolsResp> getAllSymbolsAsync();
+
   /**
    * Get Ticker
    *
@@ -66,6 +82,13 @@ public interface MarketApi {
    */
   GetTickerResp getTicker(GetTickerReq req);
 
+  /**
+   * Get Ticker, without blocking the calling thread.
+   *
+   * @see #getTicker
+   */
+  CompletableFuture<GetTickerResp> getTickerAsync(GetTickerReq req);
+
   /**
    * Get All Tickers
    *
@@ -87,6 +110,13 @@ public interface MarketApi {
    */
   GetAllTickersResp getAllTickers();
 
+  /**
+   * Get All Tickers, without blocking the calling thread.
+   *
+   * @see #getAllTickers
+   */
+  CompletableFuture<GetAllTickersResp> getAllTickersAsync();
+
   /**
    * Get Full OrderBook
    *
@@ -109,6 +139,13 @@ public interface MarketApi {
    */
   GetFullOrderBookResp getFullOrderBook(GetFullOrderBookReq req);
 
+  /**
+   * Get Full OrderBook, without blocking the calling thread.
+   *
+   * @see #getFullOrderBook
+   */
+  CompletableFuture<GetFullOrderBookResp> getFullOrderBookAsync(GetFullOrderBookReq req);
+
   /**
    * Get Part OrderBook
    *
@@ -129,6 +166,13 @@ public interface MarketApi {
    */
   GetPartOrderBookResp getPartOrderBook(GetPartOrderBookReq req);
 
+  /**
+   * Get Part OrderBook, without blocking the calling thread.
+   *
+   * @see #getPartOrderBook
+   */
+  CompletableFuture<GetPartOrderBookResp> getPartOrderBookAsync(GetPartOrderBookReq req);
+
   /**
    * Get Trade History
    *
@@ -149,6 +193,13 @@ public interface MarketApi {
    */
   GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req);
 
+  /**
+   * Get Trade History, without blocking the calling thread.
+   *
+   * @see #getTradeHistory
+   */
+  CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req);
+
   /**
    * Get Klines
    *
@@ -170,6 +221,13 @@ public interface MarketApi {
    */
   GetKlinesResp getKlines(GetKlinesReq req);
 
+  /**
+   * Get Klines, without blocking the calling thread.
+   *
+   * @see #getKlines
+   */
+  CompletableFuture<GetKlinesResp> getKlinesAsync(GetKlinesReq req);
+
   /**
    * Get Mark Price
    *
@@ -189,6 +247,13 @@ public interface MarketApi {
    */
   GetMarkPriceResp getMarkPrice(GetMarkPriceReq req);
 
+  /**
+   * Get Mark Price, without blocking the calling thread.
+   *
+   * @see #getMarkPrice
+   */
+  CompletableFuture<GetMarkPriceResp> getMarkPriceAsync(GetMarkPriceReq req);
+
   /**
    * Get Spot Index Price
    *
@@ -209,6 +274,13 @@ public interface MarketApi {
    */
   GetSpotIndexPriceResp getSpotIndexPrice(GetSpotIndexPriceReq req);
 
+  /**
+   * Get Spot Index Price, without blocking the calling thread.
+   *
+   * @see #getSpotIndexPrice
+   */
+  CompletableFuture<GetSpotIndexPriceResp> getSpotIndexPriceAsync(GetSpotIndexPriceReq req);
+
   /**
    * Get Interest Rate Index
    *
@@ -228,6 +300,14 @@ public interface MarketApi {
    */
   GetInterestRateIndexResp getInterestRateIndex(GetInterestRateIndexReq req);
 
+  /**
+   * Get Interest Rate Index, without blocking the calling thread.
+   *
+   * @see #getInterestRateIndex
+   */
+  CompletableFuture<GetInterestRateIndexResp> getInterestRateIndexAsync(
+      GetInterestRateIndexReq req);
+
   /**
    * Get Premium Index
    *
@@ -247,6 +327,13 @@ public interface MarketApi {
    */
   GetPremiumIndexResp getPremiumIndex(GetPremiumIndexReq req);
 
+  /**
+   * Get Premium Index, without blocking the calling thread.
+   *
+   * @see #getPremiumIndex
+   */
+  CompletableFuture<GetPremiumIndexResp> getPremiumIndexAsync(GetPremiumIndexReq req);
+
   /**
    * Get 24hr stats
    *
@@ -266,6 +353,13 @@ public interface MarketApi {
    */
   Get24hrStatsResp get24hrStats();
 
+  /**
+   * Get 24hr stats, without blocking the calling thread.
+   *
+   * @see #get24hrStats
+   */
+  CompletableFuture<Get24hrStatsResp> get24hrStatsAsync();
+
   /**
    * Get Server Time
    *
@@ -285,6 +379,13 @@ public interface MarketApi {
    */
   GetServerTimeResp getServerTime();
 
+  /**
+   * Get Server Time, without blocking the calling thread.
+   *
+   * @see #getServerTime
+   */
+  CompletableFuture<GetServerTimeResp> getServerTimeAsync();
+
   /**
    * Get Service Status
    *
@@ -304,6 +405,13 @@ public interface MarketApi {
    */
   GetServiceStatusResp getServiceStatus();
 
+  /**
+   * Get Service Status, without blocking the calling thread.
+   *
+   * @see #getServiceStatus
+   */
+  CompletableFuture<GetServiceStatusResp> getServiceStatusAsync();
+
   /**
    * Get Public Token - Futures
    *
@@ -325,6 +433,13 @@ public interface MarketApi {
    */
   GetPublicTokenResp getPublicToken();
 
+  /**
+   * Get Public Token - Futures, without blocking the calling thread.
+   *
+   * @see #getPublicToken
+   */
+  CompletableFuture<GetPublicTokenResp> getPublicTokenAsync();
+
   /**
    * Get Private Token - Futures
    *
@@ -345,4 +460,11 @@ public interface MarketApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470296">docs</a>
    */
   GetPrivateTokenResp getPrivateToken();
+
+  /**
+   * Get Private Token - Futures, without blocking the calling thread.
+   *
+   * @see #getPrivateToken
+   */
+  CompletableFuture<GetPrivateTokenResp> getPrivateTokenAsync();
 }
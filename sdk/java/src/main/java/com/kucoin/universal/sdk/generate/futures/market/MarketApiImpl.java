@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.futures.market;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class MarketApiImpl implements MarketApi {
   private final Transport transport;
@@ -13,27 +14,116 @@ public class MarketApiImpl implements MarketApi {
 
   public GetSymbolResp getSymbol(GetSymbolReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/contracts/{symbol}", req, GetSymbolResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/contracts/{symbol}",
+        req,
+        GetSymbolResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetSymbolResp> getSymbolAsync(GetSymbolReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/contracts/{symbol}",
+        req,
+        GetSymbolResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetAllSymbolsResp getAllSymbols() {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/contracts/active", null, GetAllSymbolsResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/contracts/active",
+        null,
+        GetAllSymbolsResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetAllSymbolsResp> getAllSymbolsAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/contracts/active",
+        null,
+        GetAllSymbolsResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetTickerResp getTicker(GetTickerReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/ticker", req, GetTickerResp.class, false);
+        "futures", false, "GET", "/api/v1/ticker", req, GetTickerResp.class, false, "public", 2);
+  }
+
+  public CompletableFuture<GetTickerResp> getTickerAsync(GetTickerReq req) {
+    return this.transport.callAsync(
+        "futures", false, "GET", "/api/v1/ticker", req, GetTickerResp.class, false, "public", 2);
   }
 
   public GetAllTickersResp getAllTickers() {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/allTickers", null, GetAllTickersResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/allTickers",
+        null,
+        GetAllTickersResp.class,
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetAllTickersResp> getAllTickersAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/allTickers",
+        null,
+        GetAllTickersResp.class,
+        false,
+        "public",
+        5);
   }
 
   public GetFullOrderBookResp getFullOrderBook(GetFullOrderBookReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/level2/snapshot", req, GetFullOrderBookResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/level2/snapshot",
+        req,
+        GetFullOrderBookResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetFullOrderBookResp> getFullOrderBookAsync(GetFullOrderBookReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/level2/snapshot",
+        req,
+        GetFullOrderBookResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetPartOrderBookResp getPartOrderBook(GetPartOrderBookReq req) {
@@ -44,17 +134,74 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/level2/depth{size}",
         req,
         GetPartOrderBookResp.class,
-        false);
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetPartOrderBookResp> getPartOrderBookAsync(GetPartOrderBookReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/level2/depth{size}",
+        req,
+        GetPartOrderBookResp.class,
+        false,
+        "public",
+        5);
   }
 
   public GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/trade/history", req, GetTradeHistoryResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/trade/history",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/trade/history",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "public",
+        5);
   }
 
   public GetKlinesResp getKlines(GetKlinesReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/kline/query", req, GetKlinesResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/kline/query",
+        req,
+        GetKlinesResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetKlinesResp> getKlinesAsync(GetKlinesReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/kline/query",
+        req,
+        GetKlinesResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetMarkPriceResp getMarkPrice(GetMarkPriceReq req) {
@@ -65,12 +212,48 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/mark-price/{symbol}/current",
         req,
         GetMarkPriceResp.class,
-        false);
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetMarkPriceResp> getMarkPriceAsync(GetMarkPriceReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/mark-price/{symbol}/current",
+        req,
+        GetMarkPriceResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetSpotIndexPriceResp getSpotIndexPrice(GetSpotIndexPriceReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/index/query", req, GetSpotIndexPriceResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/index/query",
+        req,
+        GetSpotIndexPriceResp.class,
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetSpotIndexPriceResp> getSpotIndexPriceAsync(GetSpotIndexPriceReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/index/query",
+        req,
+        GetSpotIndexPriceResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetInterestRateIndexResp getInterestRateIndex(GetInterestRateIndexReq req) {
@@ -81,36 +264,178 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/interest/query",
         req,
         GetInterestRateIndexResp.class,
-        false);
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetInterestRateIndexResp> getInterestRateIndexAsync(
+      GetInterestRateIndexReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/interest/query",
+        req,
+        GetInterestRateIndexResp.class,
+        false,
+        "public",
+        5);
   }
 
   public GetPremiumIndexResp getPremiumIndex(GetPremiumIndexReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/premium/query", req, GetPremiumIndexResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/premium/query",
+        req,
+        GetPremiumIndexResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetPremiumIndexResp> getPremiumIndexAsync(GetPremiumIndexReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/premium/query",
+        req,
+        GetPremiumIndexResp.class,
+        false,
+        "public",
+        3);
   }
 
   public Get24hrStatsResp get24hrStats() {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/trade-statistics", null, Get24hrStatsResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/trade-statistics",
+        null,
+        Get24hrStatsResp.class,
+        false,
+        "futures",
+        3);
+  }
+
+  public CompletableFuture<Get24hrStatsResp> get24hrStatsAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/trade-statistics",
+        null,
+        Get24hrStatsResp.class,
+        false,
+        "futures",
+        3);
   }
 
   public GetServerTimeResp getServerTime() {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/timestamp", null, GetServerTimeResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/timestamp",
+        null,
+        GetServerTimeResp.class,
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetServerTimeResp> getServerTimeAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/timestamp",
+        null,
+        GetServerTimeResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetServiceStatusResp getServiceStatus() {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/status", null, GetServiceStatusResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/status",
+        null,
+        GetServiceStatusResp.class,
+        false,
+        "public",
+        4);
+  }
+
+  public CompletableFuture<GetServiceStatusResp> getServiceStatusAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/status",
+        null,
+        GetServiceStatusResp.class,
+        false,
+        "public",
+        4);
   }
 
   public GetPublicTokenResp getPublicToken() {
     return this.transport.call(
-        "futures", false, "POST", "/api/v1/bullet-public", null, GetPublicTokenResp.class, false);
+        "futures",
+        false,
+        "POST",
+        "/api/v1/bullet-public",
+        null,
+        GetPublicTokenResp.class,
+        false,
+        "public",
+        10);
+  }
+
+  public CompletableFuture<GetPublicTokenResp> getPublicTokenAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/bullet-public",
+        null,
+        GetPublicTokenResp.class,
+        false,
+        "public",
+        10);
   }
 
   public GetPrivateTokenResp getPrivateToken() {
     return this.transport.call(
-        "futures", false, "POST", "/api/v1/bullet-private", null, GetPrivateTokenResp.class, false);
+        "futures",
+        false,
+        "POST",
+        "/api/v1/bullet-private",
+        null,
+        GetPrivateTokenResp.class,
+        false,
+        "futures",
+        10);
+  }
+
+  public CompletableFuture<GetPrivateTokenResp> getPrivateTokenAsync() {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/bullet-private",
+        null,
+        GetPrivateTokenResp.class,
+        false,
+        "futures",
+        10);
   }
 }
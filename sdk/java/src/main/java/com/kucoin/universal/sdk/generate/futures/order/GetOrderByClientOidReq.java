@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.futures.order;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,4 +20,10 @@ public class GetOrderByClientOidReq implements Request {
   /** The user self-defined order ID. */
   @JsonProperty("clientOid")
   private String clientOid;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("clientOid", this.clientOid);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.futures.order;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderApi {
   /**
    * Add Order
@@ -25,6 +28,13 @@ public interface OrderApi {
    */
   AddOrderResp addOrder(AddOrderReq req);
 
+  /**
+   * Add Order, without blocking the calling thread.
+   *
+   * @see #addOrder
+   */
+  CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req);
+
   /**
    * Add Order Test
    *
@@ -44,6 +54,13 @@ public interface OrderApi {
    */
   AddOrderTestResp addOrderTest(AddOrderTestReq req);
 
+  /**
+   * Add Order Test, without blocking the calling thread.
+   *
+   * @see #addOrderTest
+   */
+  CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req);
+
   /**
    * Batch Add Orders
    *
@@ -68,6 +85,13 @@ public interface OrderApi {
    */
   BatchAddOrdersResp batchAddOrders(BatchAddOrdersReq req);
 
+  /**
+   * Batch Add Orders, without blocking the calling thread.
+   *
+   * @see #batchAddOrders
+   */
+  CompletableFuture<BatchAddOrdersResp> batchAddOrdersAsync(BatchAddOrdersReq req);
+
   /**
    * Add Take Profit And Stop Loss Order
    *
@@ -88,6 +112,13 @@ public interface OrderApi {
    */
   AddTPSLOrderResp addTPSLOrder(AddTPSLOrderReq req);
 
+  /**
+   * Add Take Profit And Stop Loss Order, without blocking the calling thread.
+   *
+   * @see #addTPSLOrder
+   */
+  CompletableFuture<AddTPSLOrderResp> addTPSLOrderAsync(AddTPSLOrderReq req);
+
   /**
    * Cancel Order By OrderId
    *
@@ -107,6 +138,13 @@ public interface OrderApi {
    */
   CancelOrderByIdResp cancelOrderById(CancelOrderByIdReq req);
 
+  /**
+   * Cancel Order By OrderId, without blocking the calling thread.
+   *
+   * @see #cancelOrderById
+   */
+  CompletableFuture<CancelOrderByIdResp> cancelOrderByIdAsync(CancelOrderByIdReq req);
+
   /**
    * Cancel Order By ClientOid
    *
@@ -126,6 +164,14 @@ public interface OrderApi {
    */
   CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req);
 
+  /**
+   * Cancel Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #cancelOrderByClientOid
+   */
+  CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req);
+
   /**
    * Batch Cancel Orders
    *
@@ -145,6 +191,13 @@ public interface OrderApi {
    */
   BatchCancelOrdersResp batchCancelOrders(BatchCancelOrdersReq req);
 
+  /**
+   * Batch Cancel Orders, without blocking the calling thread.
+   *
+   * @see #batchCancelOrders
+   */
+  CompletableFuture<BatchCancelOrdersResp> batchCancelOrdersAsync(BatchCancelOrdersReq req);
+
   /**
    * Cancel All Orders
    *
@@ -165,6 +218,13 @@ public interface OrderApi {
    */
   CancelAllOrdersV3Resp cancelAllOrdersV3(CancelAllOrdersV3Req req);
 
+  /**
+   * Cancel All Orders, without blocking the calling thread.
+   *
+   * @see #cancelAllOrdersV3
+   */
+  CompletableFuture<CancelAllOrdersV3Resp> cancelAllOrdersV3Async(CancelAllOrdersV3Req req);
+
   /**
    * Cancel All Stop orders
    *
@@ -186,6 +246,13 @@ public interface OrderApi {
    */
   CancelAllStopOrdersResp cancelAllStopOrders(CancelAllStopOrdersReq req);
 
+  /**
+   * Cancel All Stop orders, without blocking the calling thread.
+   *
+   * @see #cancelAllStopOrders
+   */
+  CompletableFuture<CancelAllStopOrdersResp> cancelAllStopOrdersAsync(CancelAllStopOrdersReq req);
+
   /**
    * Get Order By OrderId
    *
@@ -205,6 +272,13 @@ public interface OrderApi {
    */
   GetOrderByOrderIdResp getOrderByOrderId(GetOrderByOrderIdReq req);
 
+  /**
+   * Get Order By OrderId, without blocking the calling thread.
+   *
+   * @see #getOrderByOrderId
+   */
+  CompletableFuture<GetOrderByOrderIdResp> getOrderByOrderIdAsync(GetOrderByOrderIdReq req);
+
   /**
    * Get Order By ClientOid
    *
@@ -224,6 +298,13 @@ public interface OrderApi {
    */
   GetOrderByClientOidResp getOrderByClientOid(GetOrderByClientOidReq req);
 
+  /**
+   * Get Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #getOrderByClientOid
+   */
+  CompletableFuture<GetOrderByClientOidResp> getOrderByClientOidAsync(GetOrderByClientOidReq req);
+
   /**
    * Get Order List
    *
@@ -243,6 +324,38 @@ public interface OrderApi {
    */
   GetOrderListResp getOrderList(GetOrderListReq req);
 
+  /**
+   * Get Order List, without blocking the calling thread.
+   *
+   * @see #getOrderList
+   */
+  CompletableFuture<GetOrderListResp> getOrderListAsync(GetOrderListReq req);
+
+  /**
+   * Get Order List, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getOrderList
+   */
+  default Paged<GetOrderListItems> getOrderListPaged(GetOrderListReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getOrderListAsync(req.toBuilder().currentPage(page).build()),
+        GetOrderListResp::getItems,
+        GetOrderListResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Order List, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getOrderList
+   */
+  default Paged<GetOrderListItems> getOrderListPaged(GetOrderListReq req) {
+    return getOrderListPaged(req, 1);
+  }
+
   /**
    * Get Recent Closed Orders
    *
@@ -263,6 +376,14 @@ public interface OrderApi {
    */
   GetRecentClosedOrdersResp getRecentClosedOrders(GetRecentClosedOrdersReq req);
 
+  /**
+   * Get Recent Closed Orders, without blocking the calling thread.
+   *
+   * @see #getRecentClosedOrders
+   */
+  CompletableFuture<GetRecentClosedOrdersResp> getRecentClosedOrdersAsync(
+      GetRecentClosedOrdersReq req);
+
   /**
    * Get Stop Order List
    *
@@ -283,6 +404,39 @@ public interface OrderApi {
    */
   GetStopOrderListResp getStopOrderList(GetStopOrderListReq req);
 
+  /**
+   * Get Stop Order List, without blocking the calling thread.
+   *
+   * @see #getStopOrderList
+   */
+  CompletableFuture<GetStopOrderListResp> getStopOrderListAsync(GetStopOrderListReq req);
+
+  /**
+   * Get Stop Order List, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getStopOrderList
+   */
+  default Paged<GetStopOrderListItems> getStopOrderListPaged(
+      GetStopOrderListReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getStopOrderListAsync(req.toBuilder().currentPage(page).build()),
+        GetStopOrderListResp::getItems,
+        GetStopOrderListResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Stop Order List, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getStopOrderList
+   */
+  default Paged<GetStopOrderListItems> getStopOrderListPaged(GetStopOrderListReq req) {
+    return getStopOrderListPaged(req, 1);
+  }
+
   /**
    * Get Open Order Value
    *
@@ -302,6 +456,13 @@ public interface OrderApi {
    */
   GetOpenOrderValueResp getOpenOrderValue(GetOpenOrderValueReq req);
 
+  /**
+   * Get Open Order Value, without blocking the calling thread.
+   *
+   * @see #getOpenOrderValue
+   */
+  CompletableFuture<GetOpenOrderValueResp> getOpenOrderValueAsync(GetOpenOrderValueReq req);
+
   /**
    * Get Recent Trade History
    *
@@ -322,6 +483,14 @@ public interface OrderApi {
    */
   GetRecentTradeHistoryResp getRecentTradeHistory(GetRecentTradeHistoryReq req);
 
+  /**
+   * Get Recent Trade History, without blocking the calling thread.
+   *
+   * @see #getRecentTradeHistory
+   */
+  CompletableFuture<GetRecentTradeHistoryResp> getRecentTradeHistoryAsync(
+      GetRecentTradeHistoryReq req);
+
   /**
    * Get Trade History
    *
@@ -342,6 +511,39 @@ public interface OrderApi {
    */
   GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req);
 
+  /**
+   * Get Trade History, without blocking the calling thread.
+   *
+   * @see #getTradeHistory
+   */
+  CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req);
+
+  /**
+   * Get Trade History, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getTradeHistory
+   */
+  default Paged<GetTradeHistoryItems> getTradeHistoryPaged(
+      GetTradeHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getTradeHistoryAsync(req.toBuilder().currentPage(page).build()),
+        GetTradeHistoryResp::getItems,
+        GetTradeHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Trade History, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getTradeHistory
+   */
+  default Paged<GetTradeHistoryItems> getTradeHistoryPaged(GetTradeHistoryReq req) {
+    return getTradeHistoryPaged(req, 1);
+  }
+
   /**
    * Cancel All Orders - V1
    *
@@ -362,4 +564,12 @@ public interface OrderApi {
    */
   @Deprecated
   CancelAllOrdersV1Resp cancelAllOrdersV1(CancelAllOrdersV1Req req);
+
+  /**
+   * Cancel All Orders - V1, without blocking the calling thread.
+   *
+   * @see #cancelAllOrdersV1
+   */
+  @Deprecated
+  CompletableFuture<CancelAllOrdersV1Resp> cancelAllOrdersV1Async(CancelAllOrdersV1Req req);
 }
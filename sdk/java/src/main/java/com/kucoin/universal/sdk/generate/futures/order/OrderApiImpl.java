@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.futures.order;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class OrderApiImpl implements OrderApi {
   private final Transport transport;
@@ -13,22 +14,90 @@ public class OrderApiImpl implements OrderApi {
 
   public AddOrderResp addOrder(AddOrderReq req) {
     return this.transport.call(
-        "futures", false, "POST", "/api/v1/orders", req, AddOrderResp.class, false);
+        "futures", false, "POST", "/api/v1/orders", req, AddOrderResp.class, false, "futures", 2);
+  }
+
+  public CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req) {
+    return this.transport.callAsync(
+        "futures", false, "POST", "/api/v1/orders", req, AddOrderResp.class, false, "futures", 2);
   }
 
   public AddOrderTestResp addOrderTest(AddOrderTestReq req) {
     return this.transport.call(
-        "futures", false, "POST", "/api/v1/orders/test", req, AddOrderTestResp.class, false);
+        "futures",
+        false,
+        "POST",
+        "/api/v1/orders/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/orders/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public BatchAddOrdersResp batchAddOrders(BatchAddOrdersReq req) {
     return this.transport.call(
-        "futures", false, "POST", "/api/v1/orders/multi", req, BatchAddOrdersResp.class, false);
+        "futures",
+        false,
+        "POST",
+        "/api/v1/orders/multi",
+        req,
+        BatchAddOrdersResp.class,
+        false,
+        "futures",
+        20);
+  }
+
+  public CompletableFuture<BatchAddOrdersResp> batchAddOrdersAsync(BatchAddOrdersReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/orders/multi",
+        req,
+        BatchAddOrdersResp.class,
+        false,
+        "futures",
+        20);
   }
 
   public AddTPSLOrderResp addTPSLOrder(AddTPSLOrderReq req) {
     return this.transport.call(
-        "futures", false, "POST", "/api/v1/st-orders", req, AddTPSLOrderResp.class, false);
+        "futures",
+        false,
+        "POST",
+        "/api/v1/st-orders",
+        req,
+        AddTPSLOrderResp.class,
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<AddTPSLOrderResp> addTPSLOrderAsync(AddTPSLOrderReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/st-orders",
+        req,
+        AddTPSLOrderResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public CancelOrderByIdResp cancelOrderById(CancelOrderByIdReq req) {
@@ -39,7 +108,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/{orderId}",
         req,
         CancelOrderByIdResp.class,
-        false);
+        false,
+        "futures",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByIdResp> cancelOrderByIdAsync(CancelOrderByIdReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/orders/{orderId}",
+        req,
+        CancelOrderByIdResp.class,
+        false,
+        "futures",
+        1);
   }
 
   public CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req) {
@@ -50,7 +134,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/client-order/{clientOid}",
         req,
         CancelOrderByClientOidResp.class,
-        false);
+        false,
+        "futures",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/orders/client-order/{clientOid}",
+        req,
+        CancelOrderByClientOidResp.class,
+        false,
+        "futures",
+        1);
   }
 
   public BatchCancelOrdersResp batchCancelOrders(BatchCancelOrdersReq req) {
@@ -61,12 +161,48 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/multi-cancel",
         req,
         BatchCancelOrdersResp.class,
-        true);
+        true,
+        "futures",
+        20);
+  }
+
+  public CompletableFuture<BatchCancelOrdersResp> batchCancelOrdersAsync(BatchCancelOrdersReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/orders/multi-cancel",
+        req,
+        BatchCancelOrdersResp.class,
+        true,
+        "futures",
+        20);
   }
 
   public CancelAllOrdersV3Resp cancelAllOrdersV3(CancelAllOrdersV3Req req) {
     return this.transport.call(
-        "futures", false, "DELETE", "/api/v3/orders", req, CancelAllOrdersV3Resp.class, false);
+        "futures",
+        false,
+        "DELETE",
+        "/api/v3/orders",
+        req,
+        CancelAllOrdersV3Resp.class,
+        false,
+        "futures",
+        10);
+  }
+
+  public CompletableFuture<CancelAllOrdersV3Resp> cancelAllOrdersV3Async(CancelAllOrdersV3Req req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v3/orders",
+        req,
+        CancelAllOrdersV3Resp.class,
+        false,
+        "futures",
+        10);
   }
 
   public CancelAllStopOrdersResp cancelAllStopOrders(CancelAllStopOrdersReq req) {
@@ -77,7 +213,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/stopOrders",
         req,
         CancelAllStopOrdersResp.class,
-        false);
+        false,
+        "futures",
+        15);
+  }
+
+  public CompletableFuture<CancelAllStopOrdersResp> cancelAllStopOrdersAsync(
+      CancelAllStopOrdersReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/stopOrders",
+        req,
+        CancelAllStopOrdersResp.class,
+        false,
+        "futures",
+        15);
   }
 
   public GetOrderByOrderIdResp getOrderByOrderId(GetOrderByOrderIdReq req) {
@@ -88,7 +240,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/{order-id}",
         req,
         GetOrderByOrderIdResp.class,
-        false);
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<GetOrderByOrderIdResp> getOrderByOrderIdAsync(GetOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/orders/{order-id}",
+        req,
+        GetOrderByOrderIdResp.class,
+        false,
+        "futures",
+        5);
   }
 
   public GetOrderByClientOidResp getOrderByClientOid(GetOrderByClientOidReq req) {
@@ -99,12 +266,49 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/byClientOid",
         req,
         GetOrderByClientOidResp.class,
-        false);
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<GetOrderByClientOidResp> getOrderByClientOidAsync(
+      GetOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/orders/byClientOid",
+        req,
+        GetOrderByClientOidResp.class,
+        false,
+        "futures",
+        5);
   }
 
   public GetOrderListResp getOrderList(GetOrderListReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/orders", req, GetOrderListResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/orders",
+        req,
+        GetOrderListResp.class,
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetOrderListResp> getOrderListAsync(GetOrderListReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/orders",
+        req,
+        GetOrderListResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetRecentClosedOrdersResp getRecentClosedOrders(GetRecentClosedOrdersReq req) {
@@ -115,12 +319,49 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/recentDoneOrders",
         req,
         GetRecentClosedOrdersResp.class,
-        false);
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<GetRecentClosedOrdersResp> getRecentClosedOrdersAsync(
+      GetRecentClosedOrdersReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/recentDoneOrders",
+        req,
+        GetRecentClosedOrdersResp.class,
+        false,
+        "futures",
+        5);
   }
 
   public GetStopOrderListResp getStopOrderList(GetStopOrderListReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/stopOrders", req, GetStopOrderListResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/stopOrders",
+        req,
+        GetStopOrderListResp.class,
+        false,
+        "futures",
+        6);
+  }
+
+  public CompletableFuture<GetStopOrderListResp> getStopOrderListAsync(GetStopOrderListReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/stopOrders",
+        req,
+        GetStopOrderListResp.class,
+        false,
+        "futures",
+        6);
   }
 
   public GetOpenOrderValueResp getOpenOrderValue(GetOpenOrderValueReq req) {
@@ -131,7 +372,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/openOrderStatistics",
         req,
         GetOpenOrderValueResp.class,
-        false);
+        false,
+        "futures",
+        10);
+  }
+
+  public CompletableFuture<GetOpenOrderValueResp> getOpenOrderValueAsync(GetOpenOrderValueReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/openOrderStatistics",
+        req,
+        GetOpenOrderValueResp.class,
+        false,
+        "futures",
+        10);
   }
 
   public GetRecentTradeHistoryResp getRecentTradeHistory(GetRecentTradeHistoryReq req) {
@@ -142,16 +398,74 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/recentFills",
         req,
         GetRecentTradeHistoryResp.class,
-        false);
+        false,
+        "futures",
+        0);
+  }
+
+  public CompletableFuture<GetRecentTradeHistoryResp> getRecentTradeHistoryAsync(
+      GetRecentTradeHistoryReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/recentFills",
+        req,
+        GetRecentTradeHistoryResp.class,
+        false,
+        "futures",
+        0);
   }
 
   public GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/fills", req, GetTradeHistoryResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/fills",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/fills",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "futures",
+        5);
   }
 
   public CancelAllOrdersV1Resp cancelAllOrdersV1(CancelAllOrdersV1Req req) {
     return this.transport.call(
-        "futures", false, "DELETE", "/api/v1/orders", req, CancelAllOrdersV1Resp.class, false);
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/orders",
+        req,
+        CancelAllOrdersV1Resp.class,
+        false,
+        "futures",
+        800);
+  }
+
+  public CompletableFuture<CancelAllOrdersV1Resp> cancelAllOrdersV1Async(CancelAllOrdersV1Req req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "DELETE",
+        "/api/v1/orders",
+        req,
+        CancelAllOrdersV1Resp.class,
+        false,
+        "futures",
+        800);
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.futures.positions;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,4 +39,12 @@ public class GetCrossMarginRiskLimitReq implements Request {
    */
   @JsonProperty("leverage")
   private Integer leverage;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("totalMargin", this.totalMargin);
+    query.add("leverage", this.leverage);
+    return true;
+  }
 }
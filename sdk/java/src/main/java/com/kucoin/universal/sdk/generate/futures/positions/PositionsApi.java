@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.futures.positions;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface PositionsApi {
   /**
    * Get Margin Mode
@@ -22,6 +25,13 @@ public interface PositionsApi {
    */
   GetMarginModeResp getMarginMode(GetMarginModeReq req);
 
+  /**
+   * Get Margin Mode, without blocking the calling thread.
+   *
+   * @see #getMarginMode
+   */
+  CompletableFuture<GetMarginModeResp> getMarginModeAsync(GetMarginModeReq req);
+
   /**
    * Switch Margin Mode
    *
@@ -41,6 +51,13 @@ public interface PositionsApi {
    */
   SwitchMarginModeResp switchMarginMode(SwitchMarginModeReq req);
 
+  /**
+   * Switch Margin Mode, without blocking the calling thread.
+   *
+   * @see #switchMarginMode
+   */
+  CompletableFuture<SwitchMarginModeResp> switchMarginModeAsync(SwitchMarginModeReq req);
+
   /**
    * Batch Switch Margin Mode
    *
@@ -60,6 +77,14 @@ public interface PositionsApi {
    */
   BatchSwitchMarginModeResp batchSwitchMarginMode(BatchSwitchMarginModeReq req);
 
+  /**
+   * Batch Switch Margin Mode, without blocking the calling thread.
+   *
+   * @see #batchSwitchMarginMode
+   */
+  CompletableFuture<BatchSwitchMarginModeResp> batchSwitchMarginModeAsync(
+      BatchSwitchMarginModeReq req);
+
   /**
    * Get Max Open Size
    *
@@ -79,6 +104,13 @@ public interface PositionsApi {
    */
   GetMaxOpenSizeResp getMaxOpenSize(GetMaxOpenSizeReq req);
 
+  /**
+   * Get Max Open Size, without blocking the calling thread.
+   *
+   * @see #getMaxOpenSize
+   */
+  CompletableFuture<GetMaxOpenSizeResp> getMaxOpenSizeAsync(GetMaxOpenSizeReq req);
+
   /**
    * Get Position Details
    *
@@ -98,6 +130,13 @@ public interface PositionsApi {
    */
   GetPositionDetailsResp getPositionDetails(GetPositionDetailsReq req);
 
+  /**
+   * Get Position Details, without blocking the calling thread.
+   *
+   * @see #getPositionDetails
+   */
+  CompletableFuture<GetPositionDetailsResp> getPositionDetailsAsync(GetPositionDetailsReq req);
+
   /**
    * Get Position List
    *
@@ -117,6 +156,13 @@ public interface PositionsApi {
    */
   GetPositionListResp getPositionList(GetPositionListReq req);
 
+  /**
+   * Get Position List, without blocking the calling thread.
+   *
+   * @see #getPositionList
+   */
+  CompletableFuture<GetPositionListResp> getPositionListAsync(GetPositionListReq req);
+
   /**
    * Get Positions History
    *
@@ -136,6 +182,39 @@ public interface PositionsApi {
    */
   GetPositionsHistoryResp getPositionsHistory(GetPositionsHistoryReq req);
 
+  /**
+   * Get Positions History, without blocking the calling thread.
+   *
+   * @see #getPositionsHistory
+   */
+  CompletableFuture<GetPositionsHistoryResp> getPositionsHistoryAsync(GetPositionsHistoryReq req);
+
+  /**
+   * Get Positions History, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getPositionsHistory
+   */
+  default Paged<GetPositionsHistoryItems> getPositionsHistoryPaged(
+      GetPositionsHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getPageId() != null ? req.getPageId() : 1,
+        page -> getPositionsHistoryAsync(req.toBuilder().pageId(page).build()),
+        GetPositionsHistoryResp::getItems,
+        GetPositionsHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Positions History, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getPositionsHistory
+   */
+  default Paged<GetPositionsHistoryItems> getPositionsHistoryPaged(GetPositionsHistoryReq req) {
+    return getPositionsHistoryPaged(req, 1);
+  }
+
   /**
    * Get Max Withdraw Margin
    *
@@ -156,6 +235,14 @@ public interface PositionsApi {
    */
   GetMaxWithdrawMarginResp getMaxWithdrawMargin(GetMaxWithdrawMarginReq req);
 
+  /**
+   * Get Max Withdraw Margin, without blocking the calling thread.
+   *
+   * @see #getMaxWithdrawMargin
+   */
+  CompletableFuture<GetMaxWithdrawMarginResp> getMaxWithdrawMarginAsync(
+      GetMaxWithdrawMarginReq req);
+
   /**
    * Get Cross Margin Leverage
    *
@@ -175,6 +262,14 @@ public interface PositionsApi {
    */
   GetCrossMarginLeverageResp getCrossMarginLeverage(GetCrossMarginLeverageReq req);
 
+  /**
+   * Get Cross Margin Leverage, without blocking the calling thread.
+   *
+   * @see #getCrossMarginLeverage
+   */
+  CompletableFuture<GetCrossMarginLeverageResp> getCrossMarginLeverageAsync(
+      GetCrossMarginLeverageReq req);
+
   /**
    * Modify Cross Margin Leverage
    *
@@ -194,6 +289,14 @@ public interface PositionsApi {
    */
   ModifyMarginLeverageResp modifyMarginLeverage(ModifyMarginLeverageReq req);
 
+  /**
+   * Modify Cross Margin Leverage, without blocking the calling thread.
+   *
+   * @see #modifyMarginLeverage
+   */
+  CompletableFuture<ModifyMarginLeverageResp> modifyMarginLeverageAsync(
+      ModifyMarginLeverageReq req);
+
   /**
    * Add Isolated Margin
    *
@@ -213,6 +316,13 @@ public interface PositionsApi {
    */
   AddIsolatedMarginResp addIsolatedMargin(AddIsolatedMarginReq req);
 
+  /**
+   * Add Isolated Margin, without blocking the calling thread.
+   *
+   * @see #addIsolatedMargin
+   */
+  CompletableFuture<AddIsolatedMarginResp> addIsolatedMarginAsync(AddIsolatedMarginReq req);
+
   /**
    * Remove Isolated Margin
    *
@@ -232,6 +342,14 @@ public interface PositionsApi {
    */
   RemoveIsolatedMarginResp removeIsolatedMargin(RemoveIsolatedMarginReq req);
 
+  /**
+   * Remove Isolated Margin, without blocking the calling thread.
+   *
+   * @see #removeIsolatedMargin
+   */
+  CompletableFuture<RemoveIsolatedMarginResp> removeIsolatedMarginAsync(
+      RemoveIsolatedMarginReq req);
+
   /**
    * Get Cross Margin Risk Limit
    *
@@ -251,6 +369,14 @@ public interface PositionsApi {
    */
   GetCrossMarginRiskLimitResp getCrossMarginRiskLimit(GetCrossMarginRiskLimitReq req);
 
+  /**
+   * Get Cross Margin Risk Limit, without blocking the calling thread.
+   *
+   * @see #getCrossMarginRiskLimit
+   */
+  CompletableFuture<GetCrossMarginRiskLimitResp> getCrossMarginRiskLimitAsync(
+      GetCrossMarginRiskLimitReq req);
+
   /**
    * Get Isolated Margin Risk Limit
    *
@@ -271,6 +397,14 @@ public interface PositionsApi {
    */
   GetIsolatedMarginRiskLimitResp getIsolatedMarginRiskLimit(GetIsolatedMarginRiskLimitReq req);
 
+  /**
+   * Get Isolated Margin Risk Limit, without blocking the calling thread.
+   *
+   * @see #getIsolatedMarginRiskLimit
+   */
+  CompletableFuture<GetIsolatedMarginRiskLimitResp> getIsolatedMarginRiskLimitAsync(
+      GetIsolatedMarginRiskLimitReq req);
+
   /**
    * Modify Isolated Margin Risk Limit
    *
@@ -292,6 +426,14 @@ public interface PositionsApi {
   ModifyIsolatedMarginRiskLimtResp modifyIsolatedMarginRiskLimt(
       ModifyIsolatedMarginRiskLimtReq req);
 
+  /**
+   * Modify Isolated Margin Risk Limit, without blocking the calling thread.
+   *
+   * @see #modifyIsolatedMarginRiskLimt
+   */
+  CompletableFuture<ModifyIsolatedMarginRiskLimtResp> modifyIsolatedMarginRiskLimtAsync(
+      ModifyIsolatedMarginRiskLimtReq req);
+
   /**
    * Modify Isolated Margin Auto-Deposit Status
    *
@@ -312,4 +454,13 @@ public interface PositionsApi {
    */
   @Deprecated
   ModifyAutoDepositStatusResp modifyAutoDepositStatus(ModifyAutoDepositStatusReq req);
+
+  /**
+   * Modify Isolated Margin Auto-Deposit Status, without blocking the calling thread.
+   *
+   * @see #modifyAutoDepositStatus
+   */
+  @Deprecated
+  CompletableFuture<ModifyAutoDepositStatusResp> modifyAutoDepositStatusAsync(
+      ModifyAutoDepositStatusReq req);
 }
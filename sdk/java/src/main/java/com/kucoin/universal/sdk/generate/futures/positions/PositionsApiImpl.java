@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.futures.positions;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class PositionsApiImpl implements PositionsApi {
   private final Transport transport;
@@ -19,7 +20,22 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v2/position/getMarginMode",
         req,
         GetMarginModeResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetMarginModeResp> getMarginModeAsync(GetMarginModeReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v2/position/getMarginMode",
+        req,
+        GetMarginModeResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public SwitchMarginModeResp switchMarginMode(SwitchMarginModeReq req) {
@@ -30,7 +46,22 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v2/position/changeMarginMode",
         req,
         SwitchMarginModeResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<SwitchMarginModeResp> switchMarginModeAsync(SwitchMarginModeReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v2/position/changeMarginMode",
+        req,
+        SwitchMarginModeResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public BatchSwitchMarginModeResp batchSwitchMarginMode(BatchSwitchMarginModeReq req) {
@@ -41,22 +72,102 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v2/position/batchChangeMarginMode",
         req,
         BatchSwitchMarginModeResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<BatchSwitchMarginModeResp> batchSwitchMarginModeAsync(
+      BatchSwitchMarginModeReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v2/position/batchChangeMarginMode",
+        req,
+        BatchSwitchMarginModeResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetMaxOpenSizeResp getMaxOpenSize(GetMaxOpenSizeReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v2/getMaxOpenSize", req, GetMaxOpenSizeResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v2/getMaxOpenSize",
+        req,
+        GetMaxOpenSizeResp.class,
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetMaxOpenSizeResp> getMaxOpenSizeAsync(GetMaxOpenSizeReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v2/getMaxOpenSize",
+        req,
+        GetMaxOpenSizeResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetPositionDetailsResp getPositionDetails(GetPositionDetailsReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/position", req, GetPositionDetailsResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/position",
+        req,
+        GetPositionDetailsResp.class,
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetPositionDetailsResp> getPositionDetailsAsync(
+      GetPositionDetailsReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/position",
+        req,
+        GetPositionDetailsResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetPositionListResp getPositionList(GetPositionListReq req) {
     return this.transport.call(
-        "futures", false, "GET", "/api/v1/positions", req, GetPositionListResp.class, false);
+        "futures",
+        false,
+        "GET",
+        "/api/v1/positions",
+        req,
+        GetPositionListResp.class,
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetPositionListResp> getPositionListAsync(GetPositionListReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/positions",
+        req,
+        GetPositionListResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetPositionsHistoryResp getPositionsHistory(GetPositionsHistoryReq req) {
@@ -67,7 +178,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/history-positions",
         req,
         GetPositionsHistoryResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetPositionsHistoryResp> getPositionsHistoryAsync(
+      GetPositionsHistoryReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/history-positions",
+        req,
+        GetPositionsHistoryResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetMaxWithdrawMarginResp getMaxWithdrawMargin(GetMaxWithdrawMarginReq req) {
@@ -78,7 +205,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/margin/maxWithdrawMargin",
         req,
         GetMaxWithdrawMarginResp.class,
-        false);
+        false,
+        "futures",
+        10);
+  }
+
+  public CompletableFuture<GetMaxWithdrawMarginResp> getMaxWithdrawMarginAsync(
+      GetMaxWithdrawMarginReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/margin/maxWithdrawMargin",
+        req,
+        GetMaxWithdrawMarginResp.class,
+        false,
+        "futures",
+        10);
   }
 
   public GetCrossMarginLeverageResp getCrossMarginLeverage(GetCrossMarginLeverageReq req) {
@@ -89,7 +232,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v2/getCrossUserLeverage",
         req,
         GetCrossMarginLeverageResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetCrossMarginLeverageResp> getCrossMarginLeverageAsync(
+      GetCrossMarginLeverageReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v2/getCrossUserLeverage",
+        req,
+        GetCrossMarginLeverageResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public ModifyMarginLeverageResp modifyMarginLeverage(ModifyMarginLeverageReq req) {
@@ -100,7 +259,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v2/changeCrossUserLeverage",
         req,
         ModifyMarginLeverageResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<ModifyMarginLeverageResp> modifyMarginLeverageAsync(
+      ModifyMarginLeverageReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v2/changeCrossUserLeverage",
+        req,
+        ModifyMarginLeverageResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public AddIsolatedMarginResp addIsolatedMargin(AddIsolatedMarginReq req) {
@@ -111,7 +286,22 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/position/margin/deposit-margin",
         req,
         AddIsolatedMarginResp.class,
-        false);
+        false,
+        "futures",
+        4);
+  }
+
+  public CompletableFuture<AddIsolatedMarginResp> addIsolatedMarginAsync(AddIsolatedMarginReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/position/margin/deposit-margin",
+        req,
+        AddIsolatedMarginResp.class,
+        false,
+        "futures",
+        4);
   }
 
   public RemoveIsolatedMarginResp removeIsolatedMargin(RemoveIsolatedMarginReq req) {
@@ -122,7 +312,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/margin/withdrawMargin",
         req,
         RemoveIsolatedMarginResp.class,
-        false);
+        false,
+        "futures",
+        10);
+  }
+
+  public CompletableFuture<RemoveIsolatedMarginResp> removeIsolatedMarginAsync(
+      RemoveIsolatedMarginReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/margin/withdrawMargin",
+        req,
+        RemoveIsolatedMarginResp.class,
+        false,
+        "futures",
+        10);
   }
 
   public GetCrossMarginRiskLimitResp getCrossMarginRiskLimit(GetCrossMarginRiskLimitReq req) {
@@ -133,7 +339,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v2/batchGetCrossOrderLimit",
         req,
         GetCrossMarginRiskLimitResp.class,
-        false);
+        false,
+        "futures",
+        2);
+  }
+
+  public CompletableFuture<GetCrossMarginRiskLimitResp> getCrossMarginRiskLimitAsync(
+      GetCrossMarginRiskLimitReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v2/batchGetCrossOrderLimit",
+        req,
+        GetCrossMarginRiskLimitResp.class,
+        false,
+        "futures",
+        2);
   }
 
   public GetIsolatedMarginRiskLimitResp getIsolatedMarginRiskLimit(
@@ -145,7 +367,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/contracts/risk-limit/{symbol}",
         req,
         GetIsolatedMarginRiskLimitResp.class,
-        false);
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetIsolatedMarginRiskLimitResp> getIsolatedMarginRiskLimitAsync(
+      GetIsolatedMarginRiskLimitReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "GET",
+        "/api/v1/contracts/risk-limit/{symbol}",
+        req,
+        GetIsolatedMarginRiskLimitResp.class,
+        false,
+        "public",
+        5);
   }
 
   public ModifyIsolatedMarginRiskLimtResp modifyIsolatedMarginRiskLimt(
@@ -157,7 +395,23 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/position/risk-limit-level/change",
         req,
         ModifyIsolatedMarginRiskLimtResp.class,
-        false);
+        false,
+        "futures",
+        5);
+  }
+
+  public CompletableFuture<ModifyIsolatedMarginRiskLimtResp> modifyIsolatedMarginRiskLimtAsync(
+      ModifyIsolatedMarginRiskLimtReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/position/risk-limit-level/change",
+        req,
+        ModifyIsolatedMarginRiskLimtResp.class,
+        false,
+        "futures",
+        5);
   }
 
   public ModifyAutoDepositStatusResp modifyAutoDepositStatus(ModifyAutoDepositStatusReq req) {
@@ -168,6 +422,22 @@ public class PositionsApiImpl implements PositionsApi {
         "/api/v1/position/margin/auto-deposit-status",
         req,
         ModifyAutoDepositStatusResp.class,
-        false);
+        false,
+        "futures",
+        4);
+  }
+
+  public CompletableFuture<ModifyAutoDepositStatusResp> modifyAutoDepositStatusAsync(
+      ModifyAutoDepositStatusReq req) {
+    return this.transport.callAsync(
+        "futures",
+        false,
+        "POST",
+        "/api/v1/position/margin/auto-deposit-status",
+        req,
+        ModifyAutoDepositStatusResp.class,
+        false,
+        "futures",
+        4);
   }
 }
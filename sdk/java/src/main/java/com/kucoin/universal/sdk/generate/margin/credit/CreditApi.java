@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.margin.credit;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface CreditApi {
   /**
    * Get Loan Market
@@ -22,6 +25,13 @@ public interface CreditApi {
    */
   GetLoanMarketResp getLoanMarket(GetLoanMarketReq req);
 
+  /**
+   * Get Loan Market, without blocking the calling thread.
+   *
+   * @see #getLoanMarket
+   */
+  CompletableFuture<GetLoanMarketResp> getLoanMarketAsync(GetLoanMarketReq req);
+
   /**
    * Get Loan Market Interest Rate
    *
@@ -42,6 +52,14 @@ public interface CreditApi {
    */
   GetLoanMarketInterestRateResp getLoanMarketInterestRate(GetLoanMarketInterestRateReq req);
 
+  /**
+   * Get Loan Market Interest Rate, without blocking the calling thread.
+   *
+   * @see #getLoanMarketInterestRate
+   */
+  CompletableFuture<GetLoanMarketInterestRateResp> getLoanMarketInterestRateAsync(
+      GetLoanMarketInterestRateReq req);
+
   /**
    * Purchase
    *
@@ -61,6 +79,13 @@ public interface CreditApi {
    */
   PurchaseResp purchase(PurchaseReq req);
 
+  /**
+   * Purchase, without blocking the calling thread.
+   *
+   * @see #purchase
+   */
+  CompletableFuture<PurchaseResp> purchaseAsync(PurchaseReq req);
+
   /**
    * Modify Purchase
    *
@@ -82,6 +107,13 @@ public interface CreditApi {
    */
   ModifyPurchaseResp modifyPurchase(ModifyPurchaseReq req);
 
+  /**
+   * Modify Purchase, without blocking the calling thread.
+   *
+   * @see #modifyPurchase
+   */
+  CompletableFuture<ModifyPurchaseResp> modifyPurchaseAsync(ModifyPurchaseReq req);
+
   /**
    * Get Purchase Orders
    *
@@ -101,6 +133,39 @@ public interface CreditApi {
    */
   GetPurchaseOrdersResp getPurchaseOrders(GetPurchaseOrdersReq req);
 
+  /**
+   * Get Purchase Orders, without blocking the calling thread.
+   *
+   * @see #getPurchaseOrders
+   */
+  CompletableFuture<GetPurchaseOrdersResp> getPurchaseOrdersAsync(GetPurchaseOrdersReq req);
+
+  /**
+   * Get Purchase Orders, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getPurchaseOrders
+   */
+  default Paged<GetPurchaseOrdersItems> getPurchaseOrdersPaged(
+      GetPurchaseOrdersReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getPurchaseOrdersAsync(req.toBuilder().currentPage(page).build()),
+        GetPurchaseOrdersResp::getItems,
+        GetPurchaseOrdersResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Purchase Orders, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getPurchaseOrders
+   */
+  default Paged<GetPurchaseOrdersItems> getPurchaseOrdersPaged(GetPurchaseOrdersReq req) {
+    return getPurchaseOrdersPaged(req, 1);
+  }
+
   /**
    * Redeem
    *
@@ -120,6 +185,13 @@ public interface CreditApi {
    */
   RedeemResp redeem(RedeemReq req);
 
+  /**
+   * Redeem, without blocking the calling thread.
+   *
+   * @see #redeem
+   */
+  CompletableFuture<RedeemResp> redeemAsync(RedeemReq req);
+
   /**
    * Get Redeem Orders
    *
@@ -138,4 +210,37 @@ public interface CreditApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470214">docs</a>
    */
   GetRedeemOrdersResp getRedeemOrders(GetRedeemOrdersReq req);
+
+  /**
+   * Get Redeem Orders, without blocking the calling thread.
+   *
+   * @see #getRedeemOrders
+   */
+  CompletableFuture<GetRedeemOrdersResp> getRedeemOrdersAsync(GetRedeemOrdersReq req);
+
+  /**
+   * Get Redeem Orders, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getRedeemOrders
+   */
+  default Paged<GetRedeemOrdersItems> getRedeemOrdersPaged(
+      GetRedeemOrdersReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getRedeemOrdersAsync(req.toBuilder().currentPage(page).build()),
+        GetRedeemOrdersResp::getItems,
+        GetRedeemOrdersResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Redeem Orders, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getRedeemOrders
+   */
+  default Paged<GetRedeemOrdersItems> getRedeemOrdersPaged(GetRedeemOrdersReq req) {
+    return getRedeemOrdersPaged(req, 1);
+  }
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.margin.credit;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class CreditApiImpl implements CreditApi {
   private final Transport transport;
@@ -13,7 +14,28 @@ public class CreditApiImpl implements CreditApi {
 
   public GetLoanMarketResp getLoanMarket(GetLoanMarketReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/project/list", req, GetLoanMarketResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/project/list",
+        req,
+        GetLoanMarketResp.class,
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<GetLoanMarketResp> getLoanMarketAsync(GetLoanMarketReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/project/list",
+        req,
+        GetLoanMarketResp.class,
+        false,
+        "spot",
+        10);
   }
 
   public GetLoanMarketInterestRateResp getLoanMarketInterestRate(GetLoanMarketInterestRateReq req) {
@@ -24,12 +46,33 @@ public class CreditApiImpl implements CreditApi {
         "/api/v3/project/marketInterestRate",
         req,
         GetLoanMarketInterestRateResp.class,
-        false);
+        false,
+        "public",
+        5);
+  }
+
+  public CompletableFuture<GetLoanMarketInterestRateResp> getLoanMarketInterestRateAsync(
+      GetLoanMarketInterestRateReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/project/marketInterestRate",
+        req,
+        GetLoanMarketInterestRateResp.class,
+        false,
+        "public",
+        5);
   }
 
   public PurchaseResp purchase(PurchaseReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/purchase", req, PurchaseResp.class, false);
+        "spot", false, "POST", "/api/v3/purchase", req, PurchaseResp.class, false, "spot", 15);
+  }
+
+  public CompletableFuture<PurchaseResp> purchaseAsync(PurchaseReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v3/purchase", req, PurchaseResp.class, false, "spot", 15);
   }
 
   public ModifyPurchaseResp modifyPurchase(ModifyPurchaseReq req) {
@@ -40,21 +83,83 @@ public class CreditApiImpl implements CreditApi {
         "/api/v3/lend/purchase/update",
         req,
         ModifyPurchaseResp.class,
-        false);
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<ModifyPurchaseResp> modifyPurchaseAsync(ModifyPurchaseReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/lend/purchase/update",
+        req,
+        ModifyPurchaseResp.class,
+        false,
+        "spot",
+        10);
   }
 
   public GetPurchaseOrdersResp getPurchaseOrders(GetPurchaseOrdersReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/purchase/orders", req, GetPurchaseOrdersResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/purchase/orders",
+        req,
+        GetPurchaseOrdersResp.class,
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<GetPurchaseOrdersResp> getPurchaseOrdersAsync(GetPurchaseOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/purchase/orders",
+        req,
+        GetPurchaseOrdersResp.class,
+        false,
+        "spot",
+        10);
   }
 
   public RedeemResp redeem(RedeemReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/redeem", req, RedeemResp.class, false);
+        "spot", false, "POST", "/api/v3/redeem", req, RedeemResp.class, false, "spot", 15);
+  }
+
+  public CompletableFuture<RedeemResp> redeemAsync(RedeemReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v3/redeem", req, RedeemResp.class, false, "spot", 15);
   }
 
   public GetRedeemOrdersResp getRedeemOrders(GetRedeemOrdersReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/redeem/orders", req, GetRedeemOrdersResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/redeem/orders",
+        req,
+        GetRedeemOrdersResp.class,
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<GetRedeemOrdersResp> getRedeemOrdersAsync(GetRedeemOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/redeem/orders",
+        req,
+        GetRedeemOrdersResp.class,
+        false,
+        "spot",
+        10);
   }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.margin.debit;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface DebitApi {
   /**
    * Borrow
@@ -22,6 +25,13 @@ public interface DebitApi {
    */
   BorrowResp borrow(BorrowReq req);
 
+  /**
+   * Borrow, without blocking the calling thread.
+   *
+   * @see #borrow
+   */
+  CompletableFuture<BorrowResp> borrowAsync(BorrowReq req);
+
   /**
    * Get Borrow History
    *
@@ -42,6 +52,39 @@ public interface DebitApi {
    */
   GetBorrowHistoryResp getBorrowHistory(GetBorrowHistoryReq req);
 
+  /**
+   * Get Borrow History, without blocking the calling thread.
+   *
+   * @see #getBorrowHistory
+   */
+  CompletableFuture<GetBorrowHistoryResp> getBorrowHistoryAsync(GetBorrowHistoryReq req);
+
+  /**
+   * Get Borrow History, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getBorrowHistory
+   */
+  default Paged<GetBorrowHistoryItems> getBorrowHistoryPaged(
+      GetBorrowHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getBorrowHistoryAsync(req.toBuilder().currentPage(page).build()),
+        GetBorrowHistoryResp::getItems,
+        GetBorrowHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Borrow History, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getBorrowHistory
+   */
+  default Paged<GetBorrowHistoryItems> getBorrowHistoryPaged(GetBorrowHistoryReq req) {
+    return getBorrowHistoryPaged(req, 1);
+  }
+
   /**
    * Repay
    *
@@ -61,6 +104,13 @@ public interface DebitApi {
    */
   RepayResp repay(RepayReq req);
 
+  /**
+   * Repay, without blocking the calling thread.
+   *
+   * @see #repay
+   */
+  CompletableFuture<RepayResp> repayAsync(RepayReq req);
+
   /**
    * Get Repay History
    *
@@ -81,6 +131,39 @@ public interface DebitApi {
    */
   GetRepayHistoryResp getRepayHistory(GetRepayHistoryReq req);
 
+  /**
+   * Get Repay History, without blocking the calling thread.
+   *
+   * @see #getRepayHistory
+   */
+  CompletableFuture<GetRepayHistoryResp> getRepayHistoryAsync(GetRepayHistoryReq req);
+
+  /**
+   * Get Repay History, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getRepayHistory
+   */
+  default Paged<GetRepayHistoryItems> getRepayHistoryPaged(
+      GetRepayHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getRepayHistoryAsync(req.toBuilder().currentPage(page).build()),
+        GetRepayHistoryResp::getItems,
+        GetRepayHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Repay History, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getRepayHistory
+   */
+  default Paged<GetRepayHistoryItems> getRepayHistoryPaged(GetRepayHistoryReq req) {
+    return getRepayHistoryPaged(req, 1);
+  }
+
   /**
    * Get Interest History.
    *
@@ -100,6 +183,39 @@ public interface DebitApi {
    */
   GetInterestHistoryResp getInterestHistory(GetInterestHistoryReq req);
 
+  /**
+   * Get Interest History., without blocking the calling thread.
+   *
+   * @see #getInterestHistory
+   */
+  CompletableFuture<GetInterestHistoryResp> getInterestHistoryAsync(GetInterestHistoryReq req);
+
+  /**
+   * Get Interest History., every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getInterestHistory
+   */
+  default Paged<GetInterestHistoryItems> getInterestHistoryPaged(
+      GetInterestHistoryReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getInterestHistoryAsync(req.toBuilder().currentPage(page).build()),
+        GetInterestHistoryResp::getItems,
+        GetInterestHistoryResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Interest History., every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getInterestHistory
+   */
+  default Paged<GetInterestHistoryItems> getInterestHistoryPaged(GetInterestHistoryReq req) {
+    return getInterestHistoryPaged(req, 1);
+  }
+
   /**
    * Modify Leverage
    *
@@ -118,4 +234,11 @@ public interface DebitApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470211">docs</a>
    */
   ModifyLeverageResp modifyLeverage(ModifyLeverageReq req);
+
+  /**
+   * Modify Leverage, without blocking the calling thread.
+   *
+   * @see #modifyLeverage
+   */
+  CompletableFuture<ModifyLeverageResp> modifyLeverageAsync(ModifyLeverageReq req);
 }
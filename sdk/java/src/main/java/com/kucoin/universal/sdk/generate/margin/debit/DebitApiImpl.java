@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.margin.debit;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class DebitApiImpl implements DebitApi {
   private final Transport transport;
@@ -13,27 +14,101 @@ public class DebitApiImpl implements DebitApi {
 
   public BorrowResp borrow(BorrowReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/margin/borrow", req, BorrowResp.class, false);
+        "spot", false, "POST", "/api/v3/margin/borrow", req, BorrowResp.class, false, "spot", 15);
+  }
+
+  public CompletableFuture<BorrowResp> borrowAsync(BorrowReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v3/margin/borrow", req, BorrowResp.class, false, "spot", 15);
   }
 
   public GetBorrowHistoryResp getBorrowHistory(GetBorrowHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/margin/borrow", req, GetBorrowHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/borrow",
+        req,
+        GetBorrowHistoryResp.class,
+        false,
+        "spot",
+        15);
+  }
+
+  public CompletableFuture<GetBorrowHistoryResp> getBorrowHistoryAsync(GetBorrowHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/borrow",
+        req,
+        GetBorrowHistoryResp.class,
+        false,
+        "spot",
+        15);
   }
 
   public RepayResp repay(RepayReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/margin/repay", req, RepayResp.class, false);
+        "spot", false, "POST", "/api/v3/margin/repay", req, RepayResp.class, false, "spot", 10);
+  }
+
+  public CompletableFuture<RepayResp> repayAsync(RepayReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v3/margin/repay", req, RepayResp.class, false, "spot", 10);
   }
 
   public GetRepayHistoryResp getRepayHistory(GetRepayHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/margin/repay", req, GetRepayHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/repay",
+        req,
+        GetRepayHistoryResp.class,
+        false,
+        "spot",
+        15);
+  }
+
+  public CompletableFuture<GetRepayHistoryResp> getRepayHistoryAsync(GetRepayHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/repay",
+        req,
+        GetRepayHistoryResp.class,
+        false,
+        "spot",
+        15);
   }
 
   public GetInterestHistoryResp getInterestHistory(GetInterestHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/margin/interest", req, GetInterestHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/interest",
+        req,
+        GetInterestHistoryResp.class,
+        false,
+        "spot",
+        20);
+  }
+
+  public CompletableFuture<GetInterestHistoryResp> getInterestHistoryAsync(
+      GetInterestHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/interest",
+        req,
+        GetInterestHistoryResp.class,
+        false,
+        "spot",
+        20);
   }
 
   public ModifyLeverageResp modifyLeverage(ModifyLeverageReq req) {
@@ -44,6 +119,21 @@ public class DebitApiImpl implements DebitApi {
         "/api/v3/position/update-user-leverage",
         req,
         ModifyLeverageResp.class,
-        false);
+        false,
+        "spot",
+        8);
+  }
+
+  public CompletableFuture<ModifyLeverageResp> modifyLeverageAsync(ModifyLeverageReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/position/update-user-leverage",
+        req,
+        ModifyLeverageResp.class,
+        false,
+        "spot",
+        8);
   }
 }
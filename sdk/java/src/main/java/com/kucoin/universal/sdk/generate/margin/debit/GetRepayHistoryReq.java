@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.margin.debit;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -53,4 +54,17 @@ public class GetRepayHistoryReq implements Request {
   @JsonProperty("pageSize")
   @Builder.Default
   private Integer pageSize = 50;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currency", this.currency);
+    query.add("isIsolated", this.isIsolated);
+    query.add("symbol", this.symbol);
+    query.add("orderNo", this.orderNo);
+    query.add("startTime", this.startTime);
+    query.add("endTime", this.endTime);
+    query.add("currentPage", this.currentPage);
+    query.add("pageSize", this.pageSize);
+    return true;
+  }
 }
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class CrossMarginPositionAssetListValue {
+public class CrossMarginPositionAssetListValue {
   /** */
   @JsonProperty("total")
   private String total;
@@ -68,12 +68,12 @@ public class CrossMarginPositionEvent implements Response<CrossMarginPositionEve
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        CrossMarginPositionEvent event =
-            objectMapper.convertValue(msg.getData(), CrossMarginPositionEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          CrossMarginPositionEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 
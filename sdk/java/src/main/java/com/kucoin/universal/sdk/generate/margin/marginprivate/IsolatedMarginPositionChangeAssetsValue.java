@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class IsolatedMarginPositionChangeAssetsValue {
+public class IsolatedMarginPositionChangeAssetsValue {
   /** */
   @JsonProperty("total")
   private String total;
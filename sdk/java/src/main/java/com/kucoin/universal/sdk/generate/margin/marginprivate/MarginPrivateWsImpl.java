@@ -17,7 +17,7 @@ public class MarginPrivateWsImpl implements MarginPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, CrossMarginPositionEvent.CallbackAdapters.of(callback));
   }
 
@@ -27,12 +27,12 @@ public class MarginPrivateWsImpl implements MarginPrivateWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, IsolatedMarginPositionEvent.CallbackAdapters.of(callback));
   }
 
   public void unSubscribe(String id) {
-    this.wsService.unsubscribe(id);
+    this.wsService.unsubscribeChunked(id);
   }
 
   public void start() {
@@ -17,7 +17,7 @@ public class MarginPublicWsImpl implements MarginPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, IndexPriceEvent.CallbackAdapters.of(callback));
   }
 
@@ -26,12 +26,12 @@ public class MarginPublicWsImpl implements MarginPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, MarkPriceEvent.CallbackAdapters.of(callback));
   }
 
   public void unSubscribe(String id) {
-    this.wsService.unsubscribe(id);
+    this.wsService.unsubscribeChunked(id);
   }
 
   public void start() {
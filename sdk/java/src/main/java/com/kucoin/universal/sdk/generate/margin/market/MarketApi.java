@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.margin.market;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface MarketApi {
   /**
    * Get Symbols - Cross Margin
@@ -22,6 +24,14 @@ public interface MarketApi {
    */
   GetCrossMarginSymbolsResp getCrossMarginSymbols(GetCrossMarginSymbolsReq req);
 
+  /**
+   * Get Symbols - Cross Margin, without blocking the calling thread.
+   *
+   * @see #getCrossMarginSymbols
+   */
+  CompletableFuture<GetCrossMarginSymbolsResp> getCrossMarginSymbolsAsync(
+      GetCrossMarginSymbolsReq req);
+
   /**
    * Get ETF Info
    *
@@ -41,6 +51,13 @@ public interface MarketApi {
    */
   GetETFInfoResp getETFInfo(GetETFInfoReq req);
 
+  /**
+   * Get ETF Info, without blocking the calling thread.
+   *
+   * @see #getETFInfo
+   */
+  CompletableFuture<GetETFInfoResp> getETFInfoAsync(GetETFInfoReq req);
+
   /**
    * Get Mark Price Detail
    *
@@ -60,6 +77,13 @@ public interface MarketApi {
    */
   GetMarkPriceDetailResp getMarkPriceDetail(GetMarkPriceDetailReq req);
 
+  /**
+   * Get Mark Price Detail, without blocking the calling thread.
+   *
+   * @see #getMarkPriceDetail
+   */
+  CompletableFuture<GetMarkPriceDetailResp> getMarkPriceDetailAsync(GetMarkPriceDetailReq req);
+
   /**
    * Get Margin Config
    *
@@ -79,6 +103,13 @@ public interface MarketApi {
    */
   GetMarginConfigResp getMarginConfig();
 
+  /**
+   * Get Margin Config, without blocking the calling thread.
+   *
+   * @see #getMarginConfig
+   */
+  CompletableFuture<GetMarginConfigResp> getMarginConfigAsync();
+
   /**
    * Get Mark Price List
    *
@@ -98,6 +129,13 @@ public interface MarketApi {
    */
   GetMarkPriceListResp getMarkPriceList();
 
+  /**
+   * Get Mark Price List, without blocking the calling thread.
+   *
+   * @see #getMarkPriceList
+   */
+  CompletableFuture<GetMarkPriceListResp> getMarkPriceListAsync();
+
   /**
    * Get Symbols - Isolated Margin
    *
@@ -116,4 +154,11 @@ public interface MarketApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470194">docs</a>
    */
   GetIsolatedMarginSymbolsResp getIsolatedMarginSymbols();
+
+  /**
+   * Get Symbols - Isolated Margin, without blocking the calling thread.
+   *
+   * @see #getIsolatedMarginSymbols
+   */
+  CompletableFuture<GetIsolatedMarginSymbolsResp> getIsolatedMarginSymbolsAsync();
 }
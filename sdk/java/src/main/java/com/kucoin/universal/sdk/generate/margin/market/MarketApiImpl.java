@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.margin.market;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class MarketApiImpl implements MarketApi {
   private final Transport transport;
@@ -19,12 +20,33 @@ public class MarketApiImpl implements MarketApi {
         "/api/v3/margin/symbols",
         req,
         GetCrossMarginSymbolsResp.class,
-        false);
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetCrossMarginSymbolsResp> getCrossMarginSymbolsAsync(
+      GetCrossMarginSymbolsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/symbols",
+        req,
+        GetCrossMarginSymbolsResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetETFInfoResp getETFInfo(GetETFInfoReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/etf/info", req, GetETFInfoResp.class, false);
+        "spot", false, "GET", "/api/v3/etf/info", req, GetETFInfoResp.class, false, "public", 3);
+  }
+
+  public CompletableFuture<GetETFInfoResp> getETFInfoAsync(GetETFInfoReq req) {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v3/etf/info", req, GetETFInfoResp.class, false, "public", 3);
   }
 
   public GetMarkPriceDetailResp getMarkPriceDetail(GetMarkPriceDetailReq req) {
@@ -35,12 +57,49 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/mark-price/{symbol}/current",
         req,
         GetMarkPriceDetailResp.class,
-        false);
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetMarkPriceDetailResp> getMarkPriceDetailAsync(
+      GetMarkPriceDetailReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/mark-price/{symbol}/current",
+        req,
+        GetMarkPriceDetailResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetMarginConfigResp getMarginConfig() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/margin/config", null, GetMarginConfigResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/margin/config",
+        null,
+        GetMarginConfigResp.class,
+        false,
+        "spot",
+        25);
+  }
+
+  public CompletableFuture<GetMarginConfigResp> getMarginConfigAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/margin/config",
+        null,
+        GetMarginConfigResp.class,
+        false,
+        "spot",
+        25);
   }
 
   public GetMarkPriceListResp getMarkPriceList() {
@@ -51,7 +110,22 @@ public class MarketApiImpl implements MarketApi {
         "/api/v3/mark-price/all-symbols",
         null,
         GetMarkPriceListResp.class,
-        false);
+        false,
+        "public",
+        10);
+  }
+
+  public CompletableFuture<GetMarkPriceListResp> getMarkPriceListAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/mark-price/all-symbols",
+        null,
+        GetMarkPriceListResp.class,
+        false,
+        "public",
+        10);
   }
 
   public GetIsolatedMarginSymbolsResp getIsolatedMarginSymbols() {
@@ -62,6 +136,21 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/isolated/symbols",
         null,
         GetIsolatedMarginSymbolsResp.class,
-        false);
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetIsolatedMarginSymbolsResp> getIsolatedMarginSymbolsAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/isolated/symbols",
+        null,
+        GetIsolatedMarginSymbolsResp.class,
+        false,
+        "public",
+        3);
   }
 }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,6 +30,13 @@ public class CancelAllOrdersBySymbolReq implements Request {
   @JsonProperty("tradeType")
   private TradeTypeEnum tradeType;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("tradeType", this.tradeType);
+    return true;
+  }
+
   public enum TradeTypeEnum {
     /** */
     MARGIN_TRADE("MARGIN_TRADE"),
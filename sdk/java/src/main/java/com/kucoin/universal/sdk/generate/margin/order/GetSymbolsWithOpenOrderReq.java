@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +23,12 @@ public class GetSymbolsWithOpenOrderReq implements Request {
   @JsonProperty("tradeType")
   private TradeTypeEnum tradeType;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("tradeType", this.tradeType);
+    return true;
+  }
+
   public enum TradeTypeEnum {
     /** */
     MARGIN_TRADE("MARGIN_TRADE"),
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.margin.order;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderApi {
   /**
    * Add Order
@@ -25,6 +28,13 @@ public interface OrderApi {
    */
   AddOrderResp addOrder(AddOrderReq req);
 
+  /**
+   * Add Order, without blocking the calling thread.
+   *
+   * @see #addOrder
+   */
+  CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req);
+
   /**
    * Add Order Test
    *
@@ -47,6 +57,13 @@ public interface OrderApi {
    */
   AddOrderTestResp addOrderTest(AddOrderTestReq req);
 
+  /**
+   * Add Order Test, without blocking the calling thread.
+   *
+   * @see #addOrderTest
+   */
+  CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req);
+
   /**
    * Cancel Order By OrderId
    *
@@ -68,6 +85,14 @@ public interface OrderApi {
    */
   CancelOrderByOrderIdResp cancelOrderByOrderId(CancelOrderByOrderIdReq req);
 
+  /**
+   * Cancel Order By OrderId, without blocking the calling thread.
+   *
+   * @see #cancelOrderByOrderId
+   */
+  CompletableFuture<CancelOrderByOrderIdResp> cancelOrderByOrderIdAsync(
+      CancelOrderByOrderIdReq req);
+
   /**
    * Cancel Order By ClientOid
    *
@@ -89,6 +114,14 @@ public interface OrderApi {
    */
   CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req);
 
+  /**
+   * Cancel Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #cancelOrderByClientOid
+   */
+  CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req);
+
   /**
    * Cancel All Orders By Symbol
    *
@@ -110,6 +143,14 @@ public interface OrderApi {
    */
   CancelAllOrdersBySymbolResp cancelAllOrdersBySymbol(CancelAllOrdersBySymbolReq req);
 
+  /**
+   * Cancel All Orders By Symbol, without blocking the calling thread.
+   *
+   * @see #cancelAllOrdersBySymbol
+   */
+  CompletableFuture<CancelAllOrdersBySymbolResp> cancelAllOrdersBySymbolAsync(
+      CancelAllOrdersBySymbolReq req);
+
   /**
    * Get Symbols With Open Order
    *
@@ -129,6 +170,14 @@ public interface OrderApi {
    */
   GetSymbolsWithOpenOrderResp getSymbolsWithOpenOrder(GetSymbolsWithOpenOrderReq req);
 
+  /**
+   * Get Symbols With Open Order, without blocking the calling thread.
+   *
+   * @see #getSymbolsWithOpenOrder
+   */
+  CompletableFuture<GetSymbolsWithOpenOrderResp> getSymbolsWithOpenOrderAsync(
+      GetSymbolsWithOpenOrderReq req);
+
   /**
    * Get Open Orders
    *
@@ -153,6 +202,13 @@ public interface OrderApi {
    */
   GetOpenOrdersResp getOpenOrders(GetOpenOrdersReq req);
 
+  /**
+   * Get Open Orders, without blocking the calling thread.
+   *
+   * @see #getOpenOrders
+   */
+  CompletableFuture<GetOpenOrdersResp> getOpenOrdersAsync(GetOpenOrdersReq req);
+
   /**
    * Get Closed Orders
    *
@@ -177,6 +233,28 @@ public interface OrderApi {
    */
   GetClosedOrdersResp getClosedOrders(GetClosedOrdersReq req);
 
+  /**
+   * Get Closed Orders, without blocking the calling thread.
+   *
+   * @see #getClosedOrders
+   */
+  CompletableFuture<GetClosedOrdersResp> getClosedOrdersAsync(GetClosedOrdersReq req);
+
+  /**
+   * Get Closed Orders, every page after {@code req}'s lastId, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getClosedOrders
+   */
+  default Paged<GetClosedOrdersItems> getClosedOrdersPaged(GetClosedOrdersReq req) {
+    return Paged.byLastId(
+        req.getLastId(),
+        lastId -> getClosedOrdersAsync(req.toBuilder().lastId(lastId).build()),
+        GetClosedOrdersResp::getItems,
+        GetClosedOrdersResp::getLastId,
+        req.getLimit() != null ? req.getLimit() : 0);
+  }
+
   /**
    * Get Trade History
    *
@@ -197,6 +275,28 @@ public interface OrderApi {
    */
   GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req);
 
+  /**
+   * Get Trade History, without blocking the calling thread.
+   *
+   * @see #getTradeHistory
+   */
+  CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req);
+
+  /**
+   * Get Trade History, every page after {@code req}'s lastId, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getTradeHistory
+   */
+  default Paged<GetTradeHistoryItems> getTradeHistoryPaged(GetTradeHistoryReq req) {
+    return Paged.byLastId(
+        req.getLastId(),
+        lastId -> getTradeHistoryAsync(req.toBuilder().lastId(lastId).build()),
+        GetTradeHistoryResp::getItems,
+        GetTradeHistoryResp::getLastId,
+        req.getLimit() != null ? req.getLimit() : 0);
+  }
+
   /**
    * Get Order By OrderId
    *
@@ -219,6 +319,13 @@ public interface OrderApi {
    */
   GetOrderByOrderIdResp getOrderByOrderId(GetOrderByOrderIdReq req);
 
+  /**
+   * Get Order By OrderId, without blocking the calling thread.
+   *
+   * @see #getOrderByOrderId
+   */
+  CompletableFuture<GetOrderByOrderIdResp> getOrderByOrderIdAsync(GetOrderByOrderIdReq req);
+
   /**
    * Get Order By ClientOid
    *
@@ -241,6 +348,13 @@ public interface OrderApi {
    */
   GetOrderByClientOidResp getOrderByClientOid(GetOrderByClientOidReq req);
 
+  /**
+   * Get Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #getOrderByClientOid
+   */
+  CompletableFuture<GetOrderByClientOidResp> getOrderByClientOidAsync(GetOrderByClientOidReq req);
+
   /**
    * Add Order - V1
    *
@@ -264,6 +378,14 @@ public interface OrderApi {
   @Deprecated
   AddOrderV1Resp addOrderV1(AddOrderV1Req req);
 
+  /**
+   * Add Order - V1, without blocking the calling thread.
+   *
+   * @see #addOrderV1
+   */
+  @Deprecated
+  CompletableFuture<AddOrderV1Resp> addOrderV1Async(AddOrderV1Req req);
+
   /**
    * Add Order Test - V1
    *
@@ -286,4 +408,12 @@ public interface OrderApi {
    */
   @Deprecated
   AddOrderTestV1Resp addOrderTestV1(AddOrderTestV1Req req);
+
+  /**
+   * Add Order Test - V1, without blocking the calling thread.
+   *
+   * @see #addOrderTestV1
+   */
+  @Deprecated
+  CompletableFuture<AddOrderTestV1Resp> addOrderTestV1Async(AddOrderTestV1Req req);
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.margin.order;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class OrderApiImpl implements OrderApi {
   private final Transport transport;
@@ -13,12 +14,54 @@ public class OrderApiImpl implements OrderApi {
 
   public AddOrderResp addOrder(AddOrderReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/hf/margin/order", req, AddOrderResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v3/hf/margin/order",
+        req,
+        AddOrderResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/hf/margin/order",
+        req,
+        AddOrderResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public AddOrderTestResp addOrderTest(AddOrderTestReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/hf/margin/order/test", req, AddOrderTestResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v3/hf/margin/order/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v3/hf/margin/order/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public CancelOrderByOrderIdResp cancelOrderByOrderId(CancelOrderByOrderIdReq req) {
@@ -29,7 +72,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders/{orderId}",
         req,
         CancelOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<CancelOrderByOrderIdResp> cancelOrderByOrderIdAsync(
+      CancelOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/hf/margin/orders/{orderId}",
+        req,
+        CancelOrderByOrderIdResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req) {
@@ -40,7 +99,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders/client-order/{clientOid}",
         req,
         CancelOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/hf/margin/orders/client-order/{clientOid}",
+        req,
+        CancelOrderByClientOidResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public CancelAllOrdersBySymbolResp cancelAllOrdersBySymbol(CancelAllOrdersBySymbolReq req) {
@@ -51,7 +126,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders",
         req,
         CancelAllOrdersBySymbolResp.class,
-        false);
+        false,
+        "spot",
+        5);
+  }
+
+  public CompletableFuture<CancelAllOrdersBySymbolResp> cancelAllOrdersBySymbolAsync(
+      CancelAllOrdersBySymbolReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/hf/margin/orders",
+        req,
+        CancelAllOrdersBySymbolResp.class,
+        false,
+        "spot",
+        5);
   }
 
   public GetSymbolsWithOpenOrderResp getSymbolsWithOpenOrder(GetSymbolsWithOpenOrderReq req) {
@@ -62,7 +153,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/order/active/symbols",
         req,
         GetSymbolsWithOpenOrderResp.class,
-        false);
+        false,
+        "spot",
+        4);
+  }
+
+  public CompletableFuture<GetSymbolsWithOpenOrderResp> getSymbolsWithOpenOrderAsync(
+      GetSymbolsWithOpenOrderReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/order/active/symbols",
+        req,
+        GetSymbolsWithOpenOrderResp.class,
+        false,
+        "spot",
+        4);
   }
 
   public GetOpenOrdersResp getOpenOrders(GetOpenOrdersReq req) {
@@ -73,7 +180,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders/active",
         req,
         GetOpenOrdersResp.class,
-        false);
+        false,
+        "spot",
+        4);
+  }
+
+  public CompletableFuture<GetOpenOrdersResp> getOpenOrdersAsync(GetOpenOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/orders/active",
+        req,
+        GetOpenOrdersResp.class,
+        false,
+        "spot",
+        4);
   }
 
   public GetClosedOrdersResp getClosedOrders(GetClosedOrdersReq req) {
@@ -84,12 +206,48 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders/done",
         req,
         GetClosedOrdersResp.class,
-        false);
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<GetClosedOrdersResp> getClosedOrdersAsync(GetClosedOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/orders/done",
+        req,
+        GetClosedOrdersResp.class,
+        false,
+        "spot",
+        10);
   }
 
   public GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/hf/margin/fills", req, GetTradeHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/fills",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "spot",
+        5);
+  }
+
+  public CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/fills",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "spot",
+        5);
   }
 
   public GetOrderByOrderIdResp getOrderByOrderId(GetOrderByOrderIdReq req) {
@@ -100,7 +258,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders/{orderId}",
         req,
         GetOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        5);
+  }
+
+  public CompletableFuture<GetOrderByOrderIdResp> getOrderByOrderIdAsync(GetOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/orders/{orderId}",
+        req,
+        GetOrderByOrderIdResp.class,
+        false,
+        "spot",
+        5);
   }
 
   public GetOrderByClientOidResp getOrderByClientOid(GetOrderByClientOidReq req) {
@@ -111,16 +284,58 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/hf/margin/orders/client-order/{clientOid}",
         req,
         GetOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        5);
+  }
+
+  public CompletableFuture<GetOrderByClientOidResp> getOrderByClientOidAsync(
+      GetOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/hf/margin/orders/client-order/{clientOid}",
+        req,
+        GetOrderByClientOidResp.class,
+        false,
+        "spot",
+        5);
   }
 
   public AddOrderV1Resp addOrderV1(AddOrderV1Req req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/margin/order", req, AddOrderV1Resp.class, false);
+        "spot", false, "POST", "/api/v1/margin/order", req, AddOrderV1Resp.class, false, "spot", 5);
+  }
+
+  public CompletableFuture<AddOrderV1Resp> addOrderV1Async(AddOrderV1Req req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v1/margin/order", req, AddOrderV1Resp.class, false, "spot", 5);
   }
 
   public AddOrderTestV1Resp addOrderTestV1(AddOrderTestV1Req req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/margin/order/test", req, AddOrderTestV1Resp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/margin/order/test",
+        req,
+        AddOrderTestV1Resp.class,
+        false,
+        "spot",
+        5);
+  }
+
+  public CompletableFuture<AddOrderTestV1Resp> addOrderTestV1Async(AddOrderTestV1Req req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/margin/order/test",
+        req,
+        AddOrderTestV1Resp.class,
+        false,
+        "spot",
+        5);
   }
 }
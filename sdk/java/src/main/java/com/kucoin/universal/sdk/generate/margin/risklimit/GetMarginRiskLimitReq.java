@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.margin.risklimit;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,4 +28,12 @@ public class GetMarginRiskLimitReq implements Request {
   /** Symbol: This field is only required for isolated margin */
   @JsonProperty("symbol")
   private String symbol;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("isIsolated", this.isIsolated);
+    query.add("currency", this.currency);
+    query.add("symbol", this.symbol);
+    return true;
+  }
 }
@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.margin.risklimit;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface RiskLimitApi {
   /**
    * Get Margin Risk Limit
@@ -21,4 +23,11 @@ public interface RiskLimitApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470219">docs</a>
    */
   GetMarginRiskLimitResp getMarginRiskLimit(GetMarginRiskLimitReq req);
+
+  /**
+   * Get Margin Risk Limit, without blocking the calling thread.
+   *
+   * @see #getMarginRiskLimit
+   */
+  CompletableFuture<GetMarginRiskLimitResp> getMarginRiskLimitAsync(GetMarginRiskLimitReq req);
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.margin.risklimit;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class RiskLimitApiImpl implements RiskLimitApi {
   private final Transport transport;
@@ -19,6 +20,22 @@ public class RiskLimitApiImpl implements RiskLimitApi {
         "/api/v3/margin/currencies",
         req,
         GetMarginRiskLimitResp.class,
-        false);
+        false,
+        "spot",
+        20);
+  }
+
+  public CompletableFuture<GetMarginRiskLimitResp> getMarginRiskLimitAsync(
+      GetMarginRiskLimitReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/margin/currencies",
+        req,
+        GetMarginRiskLimitResp.class,
+        false,
+        "spot",
+        20);
   }
 }
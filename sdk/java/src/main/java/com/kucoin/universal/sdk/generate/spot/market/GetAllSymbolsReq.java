@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.spot.market;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,4 +20,10 @@ public class GetAllSymbolsReq implements Request {
   /** [The trading market](https://www.kucoin.com/docs-new/api-222921786) */
   @JsonProperty("market")
   private String market;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("market", this.market);
+    return true;
+  }
 }
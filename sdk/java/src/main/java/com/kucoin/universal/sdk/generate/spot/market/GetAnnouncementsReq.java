@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -49,6 +50,17 @@ public class GetAnnouncementsReq implements Request {
   @JsonProperty("endTime")
   private Long endTime;
 
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("currentPage", this.currentPage);
+    query.add("pageSize", this.pageSize);
+    query.add("annType", this.annType);
+    query.add("lang", this.lang);
+    query.add("startTime", this.startTime);
+    query.add("endTime", this.endTime);
+    return true;
+  }
+
   public enum AnnTypeEnum {
     /** latest-announcements */
     LATEST_ANNOUNCEMENTS("latest-announcements"),
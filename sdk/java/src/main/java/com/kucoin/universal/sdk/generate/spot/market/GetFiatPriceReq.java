@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.spot.market;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,4 +28,11 @@ public class GetFiatPriceReq implements Request {
    */
   @JsonProperty("currencies")
   private String currencies;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("base", this.base);
+    query.add("currencies", this.currencies);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.spot.market;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface MarketApi {
   /**
    * Get Announcements
@@ -23,6 +26,39 @@ public interface MarketApi {
    */
   GetAnnouncementsResp getAnnouncements(GetAnnouncementsReq req);
 
+  /**
+   * Get Announcements, without blocking the calling thread.
+   *
+   * @see #getAnnouncements
+   */
+  CompletableFuture<GetAnnouncementsResp> getAnnouncementsAsync(GetAnnouncementsReq req);
+
+  /**
+   * Get Announcements, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getAnnouncements
+   */
+  default Paged<GetAnnouncementsItems> getAnnouncementsPaged(
+      GetAnnouncementsReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage().intValue() : 1,
+        page -> getAnnouncementsAsync(req.toBuilder().currentPage((long) page).build()),
+        GetAnnouncementsResp::getItems,
+        GetAnnouncementsResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Announcements, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getAnnouncements
+   */
+  default Paged<GetAnnouncementsItems> getAnnouncementsPaged(GetAnnouncementsReq req) {
+    return getAnnouncementsPaged(req, 1);
+  }
+
   /**
    * Get Currency
    *
@@ -42,6 +78,13 @@ public interface MarketApi {
    */
   GetCurrencyResp getCurrency(GetCurrencyReq req);
 
+  /**
+   * Get Currency, without blocking the calling thread.
+   *
+   * @see #getCurrency
+   */
+  CompletableFuture<GetCurrencyResp> getCurrencyAsync(GetCurrencyReq req);
+
   /**
    * Get All Currencies
    *
@@ -62,6 +105,13 @@ public interface MarketApi {
    */
   GetAllCurrenciesResp getAllCurrencies();
 
+  /**
+   * Get All Currencies, without blocking the calling thread.
+   *
+   * @see #getAllCurrencies
+   */
+  CompletableFuture<GetAllCurrenciesResp> getAllCurrenciesAsync();
+
   /**
    * Get Symbol
    *
@@ -82,6 +132,13 @@ public interface MarketApi {
    */
   GetSymbolResp getSymbol(GetSymbolReq req);
 
+  /**
+   * Get Symbol , without blocking the calling thread.
+   *
+   * @see #getSymbol
+   */
+  CompletableFuture<GetSymbolResp> getSymbolAsync(GetSymbolReq req);
+
   /**
    * Get All Symbols
    *
@@ -102,6 +159,13 @@ public interface MarketApi {
    */
   GetAllSymbolsResp getAllSymbols(GetAllSymbolsReq req);
 
+  /**
+   * Get All Symbols, without blocking the calling thread.
+   *
+   * @see #getAllSymbols
+   */
+  CompletableFuture<GetAllSymbolsResp> getAllSymbolsAsync(GetAllSymbolsReq req);
+
   /**
    * Get Ticker
    *
@@ -123,6 +187,13 @@ public interface MarketApi {
    */
   GetTickerResp getTicker(GetTickerReq req);
 
+  /**
+   * Get Ticker, without blocking the calling thread.
+   *
+   * @see #getTicker
+   */
+  CompletableFuture<GetTickerResp> getTickerAsync(GetTickerReq req);
+
   /**
    * Get All Tickers
    *
@@ -145,6 +216,13 @@ public interface MarketApi {
    */
   GetAllTickersResp getAllTickers();
 
+  /**
+   * Get All Tickers, without blocking the calling thread.
+   *
+   * @see #getAllTickers
+   */
+  CompletableFuture<GetAllTickersResp> getAllTickersAsync();
+
   /**
    * Get Trade History
    *
@@ -165,6 +243,13 @@ public interface MarketApi {
    */
   GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req);
 
+  /**
+   * Get Trade History, without blocking the calling thread.
+   *
+   * @see #getTradeHistory
+   */
+  CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req);
+
   /**
    * Get Klines
    *
@@ -186,6 +271,13 @@ public interface MarketApi {
    */
   GetKlinesResp getKlines(GetKlinesReq req);
 
+  /**
+   * Get Klines, without blocking the calling thread.
+   *
+   * @see #getKlines
+   */
+  CompletableFuture<GetKlinesResp> getKlinesAsync(GetKlinesReq req);
+
   /**
    * Get Part OrderBook
    *
@@ -206,6 +298,13 @@ public interface MarketApi {
    */
   GetPartOrderBookResp getPartOrderBook(GetPartOrderBookReq req);
 
+  /**
+   * Get Part OrderBook, without blocking the calling thread.
+   *
+   * @see #getPartOrderBook
+   */
+  CompletableFuture<GetPartOrderBookResp> getPartOrderBookAsync(GetPartOrderBookReq req);
+
   /**
    * Get Full OrderBook
    *
@@ -228,6 +327,13 @@ public interface MarketApi {
    */
   GetFullOrderBookResp getFullOrderBook(GetFullOrderBookReq req);
 
+  /**
+   * Get Full OrderBook, without blocking the calling thread.
+   *
+   * @see #getFullOrderBook
+   */
+  CompletableFuture<GetFullOrderBookResp> getFullOrderBookAsync(GetFullOrderBookReq req);
+
   /**
    * Get Call Auction Part OrderBook
    *
@@ -249,6 +355,14 @@ public interface MarketApi {
    */
   GetCallAuctionPartOrderBookResp getCallAuctionPartOrderBook(GetCallAuctionPartOrderBookReq req);
 
+  /**
+   * Get Call Auction Part OrderBook, without blocking the calling thread.
+   *
+   * @see #getCallAuctionPartOrderBook
+   */
+  CompletableFuture<GetCallAuctionPartOrderBookResp> getCallAuctionPartOrderBookAsync(
+      GetCallAuctionPartOrderBookReq req);
+
   /**
    * Get Call Auction Info
    *
@@ -270,6 +384,13 @@ public interface MarketApi {
    */
   GetCallAuctionInfoResp getCallAuctionInfo(GetCallAuctionInfoReq req);
 
+  /**
+   * Get Call Auction Info, without blocking the calling thread.
+   *
+   * @see #getCallAuctionInfo
+   */
+  CompletableFuture<GetCallAuctionInfoResp> getCallAuctionInfoAsync(GetCallAuctionInfoReq req);
+
   /**
    * Get Fiat Price
    *
@@ -289,6 +410,13 @@ public interface MarketApi {
    */
   GetFiatPriceResp getFiatPrice(GetFiatPriceReq req);
 
+  /**
+   * Get Fiat Price, without blocking the calling thread.
+   *
+   * @see #getFiatPrice
+   */
+  CompletableFuture<GetFiatPriceResp> getFiatPriceAsync(GetFiatPriceReq req);
+
   /**
    * Get 24hr Stats
    *
@@ -309,6 +437,13 @@ public interface MarketApi {
    */
   Get24hrStatsResp get24hrStats(Get24hrStatsReq req);
 
+  /**
+   * Get 24hr Stats, without blocking the calling thread.
+   *
+   * @see #get24hrStats
+   */
+  CompletableFuture<Get24hrStatsResp> get24hrStatsAsync(Get24hrStatsReq req);
+
   /**
    * Get Market List
    *
@@ -328,6 +463,13 @@ public interface MarketApi {
    */
   GetMarketListResp getMarketList();
 
+  /**
+   * Get Market List, without blocking the calling thread.
+   *
+   * @see #getMarketList
+   */
+  CompletableFuture<GetMarketListResp> getMarketListAsync();
+
   /**
    * Get Client IP Address
    *
@@ -347,6 +489,13 @@ public interface MarketApi {
    */
   GetClientIPAddressResp getClientIPAddress();
 
+  /**
+   * Get Client IP Address, without blocking the calling thread.
+   *
+   * @see #getClientIPAddress
+   */
+  CompletableFuture<GetClientIPAddressResp> getClientIPAddressAsync();
+
   /**
    * Get Server Time
    *
@@ -366,6 +515,13 @@ public interface MarketApi {
    */
   GetServerTimeResp getServerTime();
 
+  /**
+   * Get Server Time, without blocking the calling thread.
+   *
+   * @see #getServerTime
+   */
+  CompletableFuture<GetServerTimeResp> getServerTimeAsync();
+
   /**
    * Get Service Status
    *
@@ -385,6 +541,13 @@ public interface MarketApi {
    */
   GetServiceStatusResp getServiceStatus();
 
+  /**
+   * Get Service Status, without blocking the calling thread.
+   *
+   * @see #getServiceStatus
+   */
+  CompletableFuture<GetServiceStatusResp> getServiceStatusAsync();
+
   /**
    * Get Public Token - Spot/Margin
    *
@@ -406,6 +569,13 @@ public interface MarketApi {
    */
   GetPublicTokenResp getPublicToken();
 
+  /**
+   * Get Public Token - Spot/Margin, without blocking the calling thread.
+   *
+   * @see #getPublicToken
+   */
+  CompletableFuture<GetPublicTokenResp> getPublicTokenAsync();
+
   /**
    * Get Private Token - Spot/Margin
    *
@@ -426,4 +596,11 @@ public interface MarketApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470295">docs</a>
    */
   GetPrivateTokenResp getPrivateToken();
+
+  /**
+   * Get Private Token - Spot/Margin, without blocking the calling thread.
+   *
+   * @see #getPrivateToken
+   */
+  CompletableFuture<GetPrivateTokenResp> getPrivateTokenAsync();
 }
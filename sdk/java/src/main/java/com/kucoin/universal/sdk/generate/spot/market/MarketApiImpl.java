@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.spot.market;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class MarketApiImpl implements MarketApi {
   private final Transport transport;
@@ -13,47 +14,220 @@ public class MarketApiImpl implements MarketApi {
 
   public GetAnnouncementsResp getAnnouncements(GetAnnouncementsReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/announcements", req, GetAnnouncementsResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/announcements",
+        req,
+        GetAnnouncementsResp.class,
+        false,
+        "public",
+        20);
+  }
+
+  public CompletableFuture<GetAnnouncementsResp> getAnnouncementsAsync(GetAnnouncementsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/announcements",
+        req,
+        GetAnnouncementsResp.class,
+        false,
+        "public",
+        20);
   }
 
   public GetCurrencyResp getCurrency(GetCurrencyReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/currencies/{currency}", req, GetCurrencyResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/currencies/{currency}",
+        req,
+        GetCurrencyResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetCurrencyResp> getCurrencyAsync(GetCurrencyReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/currencies/{currency}",
+        req,
+        GetCurrencyResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetAllCurrenciesResp getAllCurrencies() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/currencies", null, GetAllCurrenciesResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/currencies",
+        null,
+        GetAllCurrenciesResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetAllCurrenciesResp> getAllCurrenciesAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/currencies",
+        null,
+        GetAllCurrenciesResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetSymbolResp getSymbol(GetSymbolReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v2/symbols/{symbol}", req, GetSymbolResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v2/symbols/{symbol}",
+        req,
+        GetSymbolResp.class,
+        false,
+        "public",
+        4);
+  }
+
+  public CompletableFuture<GetSymbolResp> getSymbolAsync(GetSymbolReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v2/symbols/{symbol}",
+        req,
+        GetSymbolResp.class,
+        false,
+        "public",
+        4);
   }
 
   public GetAllSymbolsResp getAllSymbols(GetAllSymbolsReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v2/symbols", req, GetAllSymbolsResp.class, false);
+        "spot", false, "GET", "/api/v2/symbols", req, GetAllSymbolsResp.class, false, "public", 4);
+  }
+
+  public CompletableFuture<GetAllSymbolsResp> getAllSymbolsAsync(GetAllSymbolsReq req) {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v2/symbols", req, GetAllSymbolsResp.class, false, "public", 4);
   }
 
   public GetTickerResp getTicker(GetTickerReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/market/orderbook/level1", req, GetTickerResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/orderbook/level1",
+        req,
+        GetTickerResp.class,
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetTickerResp> getTickerAsync(GetTickerReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/orderbook/level1",
+        req,
+        GetTickerResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetAllTickersResp getAllTickers() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/market/allTickers", null, GetAllTickersResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/allTickers",
+        null,
+        GetAllTickersResp.class,
+        false,
+        "public",
+        15);
+  }
+
+  public CompletableFuture<GetAllTickersResp> getAllTickersAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/allTickers",
+        null,
+        GetAllTickersResp.class,
+        false,
+        "public",
+        15);
   }
 
   public GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/market/histories", req, GetTradeHistoryResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/histories",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/histories",
+        req,
+        GetTradeHistoryResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetKlinesResp getKlines(GetKlinesReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/market/candles", req, GetKlinesResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/candles",
+        req,
+        GetKlinesResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetKlinesResp> getKlinesAsync(GetKlinesReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/candles",
+        req,
+        GetKlinesResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetPartOrderBookResp getPartOrderBook(GetPartOrderBookReq req) {
@@ -64,7 +238,22 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/market/orderbook/level2_{size}",
         req,
         GetPartOrderBookResp.class,
-        false);
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetPartOrderBookResp> getPartOrderBookAsync(GetPartOrderBookReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/orderbook/level2_{size}",
+        req,
+        GetPartOrderBookResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetFullOrderBookResp getFullOrderBook(GetFullOrderBookReq req) {
@@ -75,7 +264,22 @@ public class MarketApiImpl implements MarketApi {
         "/api/v3/market/orderbook/level2",
         req,
         GetFullOrderBookResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<GetFullOrderBookResp> getFullOrderBookAsync(GetFullOrderBookReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/market/orderbook/level2",
+        req,
+        GetFullOrderBookResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public GetCallAuctionPartOrderBookResp getCallAuctionPartOrderBook(
@@ -87,7 +291,23 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/market/orderbook/callauction/level2_{size}",
         req,
         GetCallAuctionPartOrderBookResp.class,
-        false);
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetCallAuctionPartOrderBookResp> getCallAuctionPartOrderBookAsync(
+      GetCallAuctionPartOrderBookReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/orderbook/callauction/level2_{size}",
+        req,
+        GetCallAuctionPartOrderBookResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetCallAuctionInfoResp getCallAuctionInfo(GetCallAuctionInfoReq req) {
@@ -98,46 +318,198 @@ public class MarketApiImpl implements MarketApi {
         "/api/v1/market/callauctionData",
         req,
         GetCallAuctionInfoResp.class,
-        false);
+        false,
+        "public",
+        2);
+  }
+
+  public CompletableFuture<GetCallAuctionInfoResp> getCallAuctionInfoAsync(
+      GetCallAuctionInfoReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/callauctionData",
+        req,
+        GetCallAuctionInfoResp.class,
+        false,
+        "public",
+        2);
   }
 
   public GetFiatPriceResp getFiatPrice(GetFiatPriceReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/prices", req, GetFiatPriceResp.class, false);
+        "spot", false, "GET", "/api/v1/prices", req, GetFiatPriceResp.class, false, "public", 3);
+  }
+
+  public CompletableFuture<GetFiatPriceResp> getFiatPriceAsync(GetFiatPriceReq req) {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v1/prices", req, GetFiatPriceResp.class, false, "public", 3);
   }
 
   public Get24hrStatsResp get24hrStats(Get24hrStatsReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/market/stats", req, Get24hrStatsResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/stats",
+        req,
+        Get24hrStatsResp.class,
+        false,
+        "public",
+        15);
+  }
+
+  public CompletableFuture<Get24hrStatsResp> get24hrStatsAsync(Get24hrStatsReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/market/stats",
+        req,
+        Get24hrStatsResp.class,
+        false,
+        "public",
+        15);
   }
 
   public GetMarketListResp getMarketList() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/markets", null, GetMarketListResp.class, false);
+        "spot", false, "GET", "/api/v1/markets", null, GetMarketListResp.class, false, "public", 3);
+  }
+
+  public CompletableFuture<GetMarketListResp> getMarketListAsync() {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v1/markets", null, GetMarketListResp.class, false, "public", 3);
   }
 
   public GetClientIPAddressResp getClientIPAddress() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/my-ip", null, GetClientIPAddressResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/my-ip",
+        null,
+        GetClientIPAddressResp.class,
+        false,
+        "public",
+        0);
+  }
+
+  public CompletableFuture<GetClientIPAddressResp> getClientIPAddressAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/my-ip",
+        null,
+        GetClientIPAddressResp.class,
+        false,
+        "public",
+        0);
   }
 
   public GetServerTimeResp getServerTime() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/timestamp", null, GetServerTimeResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/timestamp",
+        null,
+        GetServerTimeResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetServerTimeResp> getServerTimeAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/timestamp",
+        null,
+        GetServerTimeResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetServiceStatusResp getServiceStatus() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/status", null, GetServiceStatusResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/status",
+        null,
+        GetServiceStatusResp.class,
+        false,
+        "public",
+        3);
+  }
+
+  public CompletableFuture<GetServiceStatusResp> getServiceStatusAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/status",
+        null,
+        GetServiceStatusResp.class,
+        false,
+        "public",
+        3);
   }
 
   public GetPublicTokenResp getPublicToken() {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/bullet-public", null, GetPublicTokenResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/bullet-public",
+        null,
+        GetPublicTokenResp.class,
+        false,
+        "public",
+        10);
+  }
+
+  public CompletableFuture<GetPublicTokenResp> getPublicTokenAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/bullet-public",
+        null,
+        GetPublicTokenResp.class,
+        false,
+        "public",
+        10);
   }
 
   public GetPrivateTokenResp getPrivateToken() {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/bullet-private", null, GetPrivateTokenResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/bullet-private",
+        null,
+        GetPrivateTokenResp.class,
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<GetPrivateTokenResp> getPrivateTokenAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/bullet-private",
+        null,
+        GetPrivateTokenResp.class,
+        false,
+        "spot",
+        10);
   }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.spot.order;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,4 +27,11 @@ public class BatchCancelOcoOrdersReq implements Request {
   /** Trading pair. If not passed, the OCO orders of all symbols will be canceled by default. */
   @JsonProperty("symbol")
   private String symbol;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("orderIds", this.orderIds);
+    query.add("symbol", this.symbol);
+    return true;
+  }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.spot.order;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,4 +31,12 @@ public class BatchCancelStopOrderReq implements Request {
   /** Comma seperated order IDs. */
   @JsonProperty("orderIds")
   private String orderIds;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("tradeType", this.tradeType);
+    query.add("orderIds", this.orderIds);
+    return true;
+  }
 }
@@ -4,6 +4,7 @@ package com.kucoin.universal.sdk.generate.spot.order;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -41,4 +42,15 @@ public class GetOcoOrderListReq implements Request {
   @JsonProperty("currentPage")
   @Builder.Default
   private Integer currentPage = 1;
+
+  @Override
+  public boolean encodeQuery(QueryWriter query) {
+    query.add("symbol", this.symbol);
+    query.add("startAt", this.startAt);
+    query.add("endAt", this.endAt);
+    query.add("orderIds", this.orderIds);
+    query.add("pageSize", this.pageSize);
+    query.add("currentPage", this.currentPage);
+    return true;
+  }
 }
@@ -2,6 +2,9 @@
 
 package com.kucoin.universal.sdk.generate.spot.order;
 
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderApi {
   /**
    * Add Order
@@ -25,6 +28,13 @@ public interface OrderApi {
    */
   AddOrderResp addOrder(AddOrderReq req);
 
+  /**
+   * Add Order, without blocking the calling thread.
+   *
+   * @see #addOrder
+   */
+  CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req);
+
   /**
    * Add Order Sync
    *
@@ -48,6 +58,13 @@ public interface OrderApi {
    */
   AddOrderSyncResp addOrderSync(AddOrderSyncReq req);
 
+  /**
+   * Add Order Sync, without blocking the calling thread.
+   *
+   * @see #addOrderSync
+   */
+  CompletableFuture<AddOrderSyncResp> addOrderSyncAsync(AddOrderSyncReq req);
+
   /**
    * Add Order Test
    *
@@ -70,6 +87,13 @@ public interface OrderApi {
    */
   AddOrderTestResp addOrderTest(AddOrderTestReq req);
 
+  /**
+   * Add Order Test, without blocking the calling thread.
+   *
+   * @see #addOrderTest
+   */
+  CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req);
+
   /**
    * Batch Add Orders
    *
@@ -91,6 +115,13 @@ public interface OrderApi {
    */
   BatchAddOrdersResp batchAddOrders(BatchAddOrdersReq req);
 
+  /**
+   * Batch Add Orders, without blocking the calling thread.
+   *
+   * @see #batchAddOrders
+   */
+  CompletableFuture<BatchAddOrdersResp> batchAddOrdersAsync(BatchAddOrdersReq req);
+
   /**
    * Batch Add Orders Sync
    *
@@ -112,6 +143,13 @@ public interface OrderApi {
    */
   BatchAddOrdersSyncResp batchAddOrdersSync(BatchAddOrdersSyncReq req);
 
+  /**
+   * Batch Add Orders Sync, without blocking the calling thread.
+   *
+   * @see #batchAddOrdersSync
+   */
+  CompletableFuture<BatchAddOrdersSyncResp> batchAddOrdersSyncAsync(BatchAddOrdersSyncReq req);
+
   /**
    * Cancel Order By OrderId
    *
@@ -133,6 +171,14 @@ public interface OrderApi {
    */
   CancelOrderByOrderIdResp cancelOrderByOrderId(CancelOrderByOrderIdReq req);
 
+  /**
+   * Cancel Order By OrderId, without blocking the calling thread.
+   *
+   * @see #cancelOrderByOrderId
+   */
+  CompletableFuture<CancelOrderByOrderIdResp> cancelOrderByOrderIdAsync(
+      CancelOrderByOrderIdReq req);
+
   /**
    * Cancel Order By OrderId Sync
    *
@@ -152,6 +198,14 @@ public interface OrderApi {
    */
   CancelOrderByOrderIdSyncResp cancelOrderByOrderIdSync(CancelOrderByOrderIdSyncReq req);
 
+  /**
+   * Cancel Order By OrderId Sync, without blocking the calling thread.
+   *
+   * @see #cancelOrderByOrderIdSync
+   */
+  CompletableFuture<CancelOrderByOrderIdSyncResp> cancelOrderByOrderIdSyncAsync(
+      CancelOrderByOrderIdSyncReq req);
+
   /**
    * Cancel Order By ClientOid
    *
@@ -173,6 +227,14 @@ public interface OrderApi {
    */
   CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req);
 
+  /**
+   * Cancel Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #cancelOrderByClientOid
+   */
+  CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req);
+
   /**
    * Cancel Order By ClientOid Sync
    *
@@ -192,6 +254,14 @@ public interface OrderApi {
    */
   CancelOrderByClientOidSyncResp cancelOrderByClientOidSync(CancelOrderByClientOidSyncReq req);
 
+  /**
+   * Cancel Order By ClientOid Sync, without blocking the calling thread.
+   *
+   * @see #cancelOrderByClientOidSync
+   */
+  CompletableFuture<CancelOrderByClientOidSyncResp> cancelOrderByClientOidSyncAsync(
+      CancelOrderByClientOidSyncReq req);
+
   /**
    * Cancel Partial Order
    *
@@ -213,6 +283,13 @@ public interface OrderApi {
    */
   CancelPartialOrderResp cancelPartialOrder(CancelPartialOrderReq req);
 
+  /**
+   * Cancel Partial Order, without blocking the calling thread.
+   *
+   * @see #cancelPartialOrder
+   */
+  CompletableFuture<CancelPartialOrderResp> cancelPartialOrderAsync(CancelPartialOrderReq req);
+
   /**
    * Cancel All Orders By Symbol
    *
@@ -234,6 +311,14 @@ public interface OrderApi {
    */
   CancelAllOrdersBySymbolResp cancelAllOrdersBySymbol(CancelAllOrdersBySymbolReq req);
 
+  /**
+   * Cancel All Orders By Symbol, without blocking the calling thread.
+   *
+   * @see #cancelAllOrdersBySymbol
+   */
+  CompletableFuture<CancelAllOrdersBySymbolResp> cancelAllOrdersBySymbolAsync(
+      CancelAllOrdersBySymbolReq req);
+
   /**
    * Cancel All Orders
    *
@@ -255,6 +340,13 @@ public interface OrderApi {
    */
   CancelAllOrdersResp cancelAllOrders();
 
+  /**
+   * Cancel All Orders, without blocking the calling thread.
+   *
+   * @see #cancelAllOrders
+   */
+  CompletableFuture<CancelAllOrdersResp> cancelAllOrdersAsync();
+
   /**
    * Modify Order
    *
@@ -279,6 +371,13 @@ public interface OrderApi {
    */
   ModifyOrderResp modifyOrder(ModifyOrderReq req);
 
+  /**
+   * Modify Order, without blocking the calling thread.
+   *
+   * @see #modifyOrder
+   */
+  CompletableFuture<ModifyOrderResp> modifyOrderAsync(ModifyOrderReq req);
+
   /**
    * Get Order By OrderId
    *
@@ -301,6 +400,13 @@ public interface OrderApi {
    */
   GetOrderByOrderIdResp getOrderByOrderId(GetOrderByOrderIdReq req);
 
+  /**
+   * Get Order By OrderId, without blocking the calling thread.
+   *
+   * @see #getOrderByOrderId
+   */
+  CompletableFuture<GetOrderByOrderIdResp> getOrderByOrderIdAsync(GetOrderByOrderIdReq req);
+
   /**
    * Get Order By ClientOid
    *
@@ -323,6 +429,13 @@ public interface OrderApi {
    */
   GetOrderByClientOidResp getOrderByClientOid(GetOrderByClientOidReq req);
 
+  /**
+   * Get Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #getOrderByClientOid
+   */
+  CompletableFuture<GetOrderByClientOidResp> getOrderByClientOidAsync(GetOrderByClientOidReq req);
+
   /**
    * Get Symbols With Open Order
    *
@@ -342,6 +455,13 @@ public interface OrderApi {
    */
   GetSymbolsWithOpenOrderResp getSymbolsWithOpenOrder();
 
+  /**
+   * Get Symbols With Open Order, without blocking the calling thread.
+   *
+   * @see #getSymbolsWithOpenOrder
+   */
+  CompletableFuture<GetSymbolsWithOpenOrderResp> getSymbolsWithOpenOrderAsync();
+
   /**
    * Get Open Orders
    *
@@ -366,6 +486,13 @@ public interface OrderApi {
    */
   GetOpenOrdersResp getOpenOrders(GetOpenOrdersReq req);
 
+  /**
+   * Get Open Orders, without blocking the calling thread.
+   *
+   * @see #getOpenOrders
+   */
+  CompletableFuture<GetOpenOrdersResp> getOpenOrdersAsync(GetOpenOrdersReq req);
+
   /**
    * Get Open Orders By Page
    *
@@ -389,6 +516,39 @@ public interface OrderApi {
    */
   GetOpenOrdersByPageResp getOpenOrdersByPage(GetOpenOrdersByPageReq req);
 
+  /**
+   * Get Open Orders By Page, without blocking the calling thread.
+   *
+   * @see #getOpenOrdersByPage
+   */
+  CompletableFuture<GetOpenOrdersByPageResp> getOpenOrdersByPageAsync(GetOpenOrdersByPageReq req);
+
+  /**
+   * Get Open Orders By Page, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getOpenOrdersByPage
+   */
+  default Paged<GetOpenOrdersByPageItems> getOpenOrdersByPagePaged(
+      GetOpenOrdersByPageReq req, int parallelism) {
+    return Paged.byPage(
+        req.getPageNum() != null ? req.getPageNum() : 1,
+        page -> getOpenOrdersByPageAsync(req.toBuilder().pageNum(page).build()),
+        GetOpenOrdersByPageResp::getItems,
+        GetOpenOrdersByPageResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Open Orders By Page, every page from {@code req}'s page on, with the next page fetched
+   * while the current one is consumed.
+   *
+   * @see #getOpenOrdersByPage
+   */
+  default Paged<GetOpenOrdersByPageItems> getOpenOrdersByPagePaged(GetOpenOrdersByPageReq req) {
+    return getOpenOrdersByPagePaged(req, 1);
+  }
+
   /**
    * Get Closed Orders
    *
@@ -413,6 +573,28 @@ public interface OrderApi {
    */
   GetClosedOrdersResp getClosedOrders(GetClosedOrdersReq req);
 
+  /**
+   * Get Closed Orders, without blocking the calling thread.
+   *
+   * @see #getClosedOrders
+   */
+  CompletableFuture<GetClosedOrdersResp> getClosedOrdersAsync(GetClosedOrdersReq req);
+
+  /**
+   * Get Closed Orders, every page after {@code req}'s lastId, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getClosedOrders
+   */
+  default Paged<GetClosedOrdersItems> getClosedOrdersPaged(GetClosedOrdersReq req) {
+    return Paged.byLastId(
+        req.getLastId(),
+        lastId -> getClosedOrdersAsync(req.toBuilder().lastId(lastId).build()),
+        GetClosedOrdersResp::getItems,
+        GetClosedOrdersResp::getLastId,
+        req.getLimit() != null ? req.getLimit() : 0);
+  }
+
   /**
    * Get Trade History
    *
@@ -433,6 +615,28 @@ public interface OrderApi {
    */
   GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req);
 
+  /**
+   * Get Trade History, without blocking the calling thread.
+   *
+   * @see #getTradeHistory
+   */
+  CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req);
+
+  /**
+   * Get Trade History, every page after {@code req}'s lastId, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getTradeHistory
+   */
+  default Paged<GetTradeHistoryItems> getTradeHistoryPaged(GetTradeHistoryReq req) {
+    return Paged.byLastId(
+        req.getLastId(),
+        lastId -> getTradeHistoryAsync(req.toBuilder().lastId(lastId).build()),
+        GetTradeHistoryResp::getItems,
+        GetTradeHistoryResp::getLastId,
+        req.getLimit() != null ? req.getLimit() : 0);
+  }
+
   /**
    * Get DCP
    *
@@ -453,6 +657,13 @@ public interface OrderApi {
    */
   GetDCPResp getDCP();
 
+  /**
+   * Get DCP, without blocking the calling thread.
+   *
+   * @see #getDCP
+   */
+  CompletableFuture<GetDCPResp> getDCPAsync();
+
   /**
    * Set DCP
    *
@@ -475,6 +686,13 @@ public interface OrderApi {
    */
   SetDCPResp setDCP(SetDCPReq req);
 
+  /**
+   * Set DCP, without blocking the calling thread.
+   *
+   * @see #setDCP
+   */
+  CompletableFuture<SetDCPResp> setDCPAsync(SetDCPReq req);
+
   /**
    * Add Stop Order
    *
@@ -498,6 +716,14 @@ public interface OrderApi {
   @Deprecated
   AddStopOrderResp addStopOrder(AddStopOrderReq req);
 
+  /**
+   * Add Stop Order, without blocking the calling thread.
+   *
+   * @see #addStopOrder
+   */
+  @Deprecated
+  CompletableFuture<AddStopOrderResp> addStopOrderAsync(AddStopOrderReq req);
+
   /**
    * Cancel Stop Order By ClientOid
    *
@@ -518,6 +744,15 @@ public interface OrderApi {
   @Deprecated
   CancelStopOrderByClientOidResp cancelStopOrderByClientOid(CancelStopOrderByClientOidReq req);
 
+  /**
+   * Cancel Stop Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #cancelStopOrderByClientOid
+   */
+  @Deprecated
+  CompletableFuture<CancelStopOrderByClientOidResp> cancelStopOrderByClientOidAsync(
+      CancelStopOrderByClientOidReq req);
+
   /**
    * Cancel Stop Order By OrderId
    *
@@ -538,6 +773,15 @@ public interface OrderApi {
   @Deprecated
   CancelStopOrderByOrderIdResp cancelStopOrderByOrderId(CancelStopOrderByOrderIdReq req);
 
+  /**
+   * Cancel Stop Order By OrderId, without blocking the calling thread.
+   *
+   * @see #cancelStopOrderByOrderId
+   */
+  @Deprecated
+  CompletableFuture<CancelStopOrderByOrderIdResp> cancelStopOrderByOrderIdAsync(
+      CancelStopOrderByOrderIdReq req);
+
   /**
    * Batch Cancel Stop Orders
    *
@@ -557,6 +801,14 @@ public interface OrderApi {
    */
   BatchCancelStopOrderResp batchCancelStopOrder(BatchCancelStopOrderReq req);
 
+  /**
+   * Batch Cancel Stop Orders, without blocking the calling thread.
+   *
+   * @see #batchCancelStopOrder
+   */
+  CompletableFuture<BatchCancelStopOrderResp> batchCancelStopOrderAsync(
+      BatchCancelStopOrderReq req);
+
   /**
    * Get Stop Orders List
    *
@@ -576,6 +828,39 @@ public interface OrderApi {
    */
   GetStopOrdersListResp getStopOrdersList(GetStopOrdersListReq req);
 
+  /**
+   * Get Stop Orders List, without blocking the calling thread.
+   *
+   * @see #getStopOrdersList
+   */
+  CompletableFuture<GetStopOrdersListResp> getStopOrdersListAsync(GetStopOrdersListReq req);
+
+  /**
+   * Get Stop Orders List, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getStopOrdersList
+   */
+  default Paged<GetStopOrdersListItems> getStopOrdersListPaged(
+      GetStopOrdersListReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getStopOrdersListAsync(req.toBuilder().currentPage(page).build()),
+        GetStopOrdersListResp::getItems,
+        GetStopOrdersListResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Stop Orders List, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getStopOrdersList
+   */
+  default Paged<GetStopOrdersListItems> getStopOrdersListPaged(GetStopOrdersListReq req) {
+    return getStopOrdersListPaged(req, 1);
+  }
+
   /**
    * Get Stop Order By OrderId
    *
@@ -595,6 +880,14 @@ public interface OrderApi {
    */
   GetStopOrderByOrderIdResp getStopOrderByOrderId(GetStopOrderByOrderIdReq req);
 
+  /**
+   * Get Stop Order By OrderId, without blocking the calling thread.
+   *
+   * @see #getStopOrderByOrderId
+   */
+  CompletableFuture<GetStopOrderByOrderIdResp> getStopOrderByOrderIdAsync(
+      GetStopOrderByOrderIdReq req);
+
   /**
    * Get Stop Order By ClientOid
    *
@@ -614,6 +907,14 @@ public interface OrderApi {
    */
   GetStopOrderByClientOidResp getStopOrderByClientOid(GetStopOrderByClientOidReq req);
 
+  /**
+   * Get Stop Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #getStopOrderByClientOid
+   */
+  CompletableFuture<GetStopOrderByClientOidResp> getStopOrderByClientOidAsync(
+      GetStopOrderByClientOidReq req);
+
   /**
    * Add OCO Order
    *
@@ -634,6 +935,14 @@ public interface OrderApi {
   @Deprecated
   AddOcoOrderResp addOcoOrder(AddOcoOrderReq req);
 
+  /**
+   * Add OCO Order, without blocking the calling thread.
+   *
+   * @see #addOcoOrder
+   */
+  @Deprecated
+  CompletableFuture<AddOcoOrderResp> addOcoOrderAsync(AddOcoOrderReq req);
+
   /**
    * Cancel OCO Order By OrderId
    *
@@ -656,6 +965,15 @@ public interface OrderApi {
   @Deprecated
   CancelOcoOrderByOrderIdResp cancelOcoOrderByOrderId(CancelOcoOrderByOrderIdReq req);
 
+  /**
+   * Cancel OCO Order By OrderId, without blocking the calling thread.
+   *
+   * @see #cancelOcoOrderByOrderId
+   */
+  @Deprecated
+  CompletableFuture<CancelOcoOrderByOrderIdResp> cancelOcoOrderByOrderIdAsync(
+      CancelOcoOrderByOrderIdReq req);
+
   /**
    * Cancel OCO Order By ClientOid
    *
@@ -680,6 +998,15 @@ public interface OrderApi {
   @Deprecated
   CancelOcoOrderByClientOidResp cancelOcoOrderByClientOid(CancelOcoOrderByClientOidReq req);
 
+  /**
+   * Cancel OCO Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #cancelOcoOrderByClientOid
+   */
+  @Deprecated
+  CompletableFuture<CancelOcoOrderByClientOidResp> cancelOcoOrderByClientOidAsync(
+      CancelOcoOrderByClientOidReq req);
+
   /**
    * Batch Cancel OCO Order
    *
@@ -704,6 +1031,15 @@ public interface OrderApi {
   @Deprecated
   BatchCancelOcoOrdersResp batchCancelOcoOrders(BatchCancelOcoOrdersReq req);
 
+  /**
+   * Batch Cancel OCO Order, without blocking the calling thread.
+   *
+   * @see #batchCancelOcoOrders
+   */
+  @Deprecated
+  CompletableFuture<BatchCancelOcoOrdersResp> batchCancelOcoOrdersAsync(
+      BatchCancelOcoOrdersReq req);
+
   /**
    * Get OCO Order By OrderId
    *
@@ -724,6 +1060,15 @@ public interface OrderApi {
   @Deprecated
   GetOcoOrderByOrderIdResp getOcoOrderByOrderId(GetOcoOrderByOrderIdReq req);
 
+  /**
+   * Get OCO Order By OrderId, without blocking the calling thread.
+   *
+   * @see #getOcoOrderByOrderId
+   */
+  @Deprecated
+  CompletableFuture<GetOcoOrderByOrderIdResp> getOcoOrderByOrderIdAsync(
+      GetOcoOrderByOrderIdReq req);
+
   /**
    * Get OCO Order By ClientOid
    *
@@ -744,6 +1089,15 @@ public interface OrderApi {
   @Deprecated
   GetOcoOrderByClientOidResp getOcoOrderByClientOid(GetOcoOrderByClientOidReq req);
 
+  /**
+   * Get OCO Order By ClientOid, without blocking the calling thread.
+   *
+   * @see #getOcoOrderByClientOid
+   */
+  @Deprecated
+  CompletableFuture<GetOcoOrderByClientOidResp> getOcoOrderByClientOidAsync(
+      GetOcoOrderByClientOidReq req);
+
   /**
    * Get OCO Order Detail By OrderId
    *
@@ -764,6 +1118,15 @@ public interface OrderApi {
   @Deprecated
   GetOcoOrderDetailByOrderIdResp getOcoOrderDetailByOrderId(GetOcoOrderDetailByOrderIdReq req);
 
+  /**
+   * Get OCO Order Detail By OrderId, without blocking the calling thread.
+   *
+   * @see #getOcoOrderDetailByOrderId
+   */
+  @Deprecated
+  CompletableFuture<GetOcoOrderDetailByOrderIdResp> getOcoOrderDetailByOrderIdAsync(
+      GetOcoOrderDetailByOrderIdReq req);
+
   /**
    * Get OCO Order List
    *
@@ -786,6 +1149,42 @@ public interface OrderApi {
   @Deprecated
   GetOcoOrderListResp getOcoOrderList(GetOcoOrderListReq req);
 
+  /**
+   * Get OCO Order List, without blocking the calling thread.
+   *
+   * @see #getOcoOrderList
+   */
+  @Deprecated
+  CompletableFuture<GetOcoOrderListResp> getOcoOrderListAsync(GetOcoOrderListReq req);
+
+  /**
+   * Get OCO Order List, every page from {@code req}'s page on, with up to {@code parallelism} pages
+   * fetched ahead of the consumer.
+   *
+   * @see #getOcoOrderList
+   */
+  @Deprecated
+  default Paged<GetOcoOrderListItems> getOcoOrderListPaged(
+      GetOcoOrderListReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getOcoOrderListAsync(req.toBuilder().currentPage(page).build()),
+        GetOcoOrderListResp::getItems,
+        GetOcoOrderListResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get OCO Order List, every page from {@code req}'s page on, with the next page fetched while the
+   * current one is consumed.
+   *
+   * @see #getOcoOrderList
+   */
+  @Deprecated
+  default Paged<GetOcoOrderListItems> getOcoOrderListPaged(GetOcoOrderListReq req) {
+    return getOcoOrderListPaged(req, 1);
+  }
+
   /**
    * Add Order - Old
    *
@@ -809,6 +1208,14 @@ public interface OrderApi {
   @Deprecated
   AddOrderOldResp addOrderOld(AddOrderOldReq req);
 
+  /**
+   * Add Order - Old, without blocking the calling thread.
+   *
+   * @see #addOrderOld
+   */
+  @Deprecated
+  CompletableFuture<AddOrderOldResp> addOrderOldAsync(AddOrderOldReq req);
+
   /**
    * Add Order Test - Old
    *
@@ -832,6 +1239,14 @@ public interface OrderApi {
   @Deprecated
   AddOrderTestOldResp addOrderTestOld(AddOrderTestOldReq req);
 
+  /**
+   * Add Order Test - Old, without blocking the calling thread.
+   *
+   * @see #addOrderTestOld
+   */
+  @Deprecated
+  CompletableFuture<AddOrderTestOldResp> addOrderTestOldAsync(AddOrderTestOldReq req);
+
   /**
    * Batch Add Orders - Old
    *
@@ -853,6 +1268,14 @@ public interface OrderApi {
   @Deprecated
   BatchAddOrdersOldResp batchAddOrdersOld(BatchAddOrdersOldReq req);
 
+  /**
+   * Batch Add Orders - Old, without blocking the calling thread.
+   *
+   * @see #batchAddOrdersOld
+   */
+  @Deprecated
+  CompletableFuture<BatchAddOrdersOldResp> batchAddOrdersOldAsync(BatchAddOrdersOldReq req);
+
   /**
    * Cancel Order By OrderId - Old
    *
@@ -875,6 +1298,15 @@ public interface OrderApi {
   @Deprecated
   CancelOrderByOrderIdOldResp cancelOrderByOrderIdOld(CancelOrderByOrderIdOldReq req);
 
+  /**
+   * Cancel Order By OrderId - Old, without blocking the calling thread.
+   *
+   * @see #cancelOrderByOrderIdOld
+   */
+  @Deprecated
+  CompletableFuture<CancelOrderByOrderIdOldResp> cancelOrderByOrderIdOldAsync(
+      CancelOrderByOrderIdOldReq req);
+
   /**
    * Cancel Order By ClientOid - Old
    *
@@ -896,6 +1328,14 @@ public interface OrderApi {
    */
   CancelOrderByClientOidOldResp cancelOrderByClientOidOld(CancelOrderByClientOidOldReq req);
 
+  /**
+   * Cancel Order By ClientOid - Old, without blocking the calling thread.
+   *
+   * @see #cancelOrderByClientOidOld
+   */
+  CompletableFuture<CancelOrderByClientOidOldResp> cancelOrderByClientOidOldAsync(
+      CancelOrderByClientOidOldReq req);
+
   /**
    * Batch Cancel Order - Old
    *
@@ -917,6 +1357,14 @@ public interface OrderApi {
   @Deprecated
   BatchCancelOrderOldResp batchCancelOrderOld(BatchCancelOrderOldReq req);
 
+  /**
+   * Batch Cancel Order - Old, without blocking the calling thread.
+   *
+   * @see #batchCancelOrderOld
+   */
+  @Deprecated
+  CompletableFuture<BatchCancelOrderOldResp> batchCancelOrderOldAsync(BatchCancelOrderOldReq req);
+
   /**
    * Get Orders List - Old
    *
@@ -938,6 +1386,42 @@ public interface OrderApi {
   @Deprecated
   GetOrdersListOldResp getOrdersListOld(GetOrdersListOldReq req);
 
+  /**
+   * Get Orders List - Old, without blocking the calling thread.
+   *
+   * @see #getOrdersListOld
+   */
+  @Deprecated
+  CompletableFuture<GetOrdersListOldResp> getOrdersListOldAsync(GetOrdersListOldReq req);
+
+  /**
+   * Get Orders List - Old, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getOrdersListOld
+   */
+  @Deprecated
+  default Paged<GetOrdersListOldItems> getOrdersListOldPaged(
+      GetOrdersListOldReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getOrdersListOldAsync(req.toBuilder().currentPage(page).build()),
+        GetOrdersListOldResp::getItems,
+        GetOrdersListOldResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Orders List - Old, every page from {@code req}'s page on, with the next page fetched while
+   * the current one is consumed.
+   *
+   * @see #getOrdersListOld
+   */
+  @Deprecated
+  default Paged<GetOrdersListOldItems> getOrdersListOldPaged(GetOrdersListOldReq req) {
+    return getOrdersListOldPaged(req, 1);
+  }
+
   /**
    * Get Recent Orders List - Old
    *
@@ -959,6 +1443,14 @@ public interface OrderApi {
   @Deprecated
   GetRecentOrdersListOldResp getRecentOrdersListOld();
 
+  /**
+   * Get Recent Orders List - Old, without blocking the calling thread.
+   *
+   * @see #getRecentOrdersListOld
+   */
+  @Deprecated
+  CompletableFuture<GetRecentOrdersListOldResp> getRecentOrdersListOldAsync();
+
   /**
    * Get Order By OrderId - Old
    *
@@ -979,6 +1471,15 @@ public interface OrderApi {
   @Deprecated
   GetOrderByOrderIdOldResp getOrderByOrderIdOld(GetOrderByOrderIdOldReq req);
 
+  /**
+   * Get Order By OrderId - Old, without blocking the calling thread.
+   *
+   * @see #getOrderByOrderIdOld
+   */
+  @Deprecated
+  CompletableFuture<GetOrderByOrderIdOldResp> getOrderByOrderIdOldAsync(
+      GetOrderByOrderIdOldReq req);
+
   /**
    * Get Order By ClientOid - Old
    *
@@ -1001,6 +1502,15 @@ public interface OrderApi {
   @Deprecated
   GetOrderByClientOidOldResp getOrderByClientOidOld(GetOrderByClientOidOldReq req);
 
+  /**
+   * Get Order By ClientOid - Old, without blocking the calling thread.
+   *
+   * @see #getOrderByClientOidOld
+   */
+  @Deprecated
+  CompletableFuture<GetOrderByClientOidOldResp> getOrderByClientOidOldAsync(
+      GetOrderByClientOidOldReq req);
+
   /**
    * Get Trade History - Old
    *
@@ -1022,6 +1532,42 @@ public interface OrderApi {
   @Deprecated
   GetTradeHistoryOldResp getTradeHistoryOld(GetTradeHistoryOldReq req);
 
+  /**
+   * Get Trade History - Old, without blocking the calling thread.
+   *
+   * @see #getTradeHistoryOld
+   */
+  @Deprecated
+  CompletableFuture<GetTradeHistoryOldResp> getTradeHistoryOldAsync(GetTradeHistoryOldReq req);
+
+  /**
+   * Get Trade History - Old, every page from {@code req}'s page on, with up to {@code parallelism}
+   * pages fetched ahead of the consumer.
+   *
+   * @see #getTradeHistoryOld
+   */
+  @Deprecated
+  default Paged<GetTradeHistoryOldItems> getTradeHistoryOldPaged(
+      GetTradeHistoryOldReq req, int parallelism) {
+    return Paged.byPage(
+        req.getCurrentPage() != null ? req.getCurrentPage() : 1,
+        page -> getTradeHistoryOldAsync(req.toBuilder().currentPage(page).build()),
+        GetTradeHistoryOldResp::getItems,
+        GetTradeHistoryOldResp::getTotalPage,
+        parallelism);
+  }
+
+  /**
+   * Get Trade History - Old, every page from {@code req}'s page on, with the next page fetched
+   * while the current one is consumed.
+   *
+   * @see #getTradeHistoryOld
+   */
+  @Deprecated
+  default Paged<GetTradeHistoryOldItems> getTradeHistoryOldPaged(GetTradeHistoryOldReq req) {
+    return getTradeHistoryOldPaged(req, 1);
+  }
+
   /**
    * Get Recent Trade History - Old
    *
@@ -1042,4 +1588,12 @@ public interface OrderApi {
    */
   @Deprecated
   GetRecentTradeHistoryOldResp getRecentTradeHistoryOld();
+
+  /**
+   * Get Recent Trade History - Old, without blocking the calling thread.
+   *
+   * @see #getRecentTradeHistoryOld
+   */
+  @Deprecated
+  CompletableFuture<GetRecentTradeHistoryOldResp> getRecentTradeHistoryOldAsync();
 }
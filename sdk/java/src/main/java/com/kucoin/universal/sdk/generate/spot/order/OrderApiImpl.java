@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.spot.order;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class OrderApiImpl implements OrderApi {
   private final Transport transport;
@@ -13,22 +14,90 @@ public class OrderApiImpl implements OrderApi {
 
   public AddOrderResp addOrder(AddOrderReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/hf/orders", req, AddOrderResp.class, false);
+        "spot", false, "POST", "/api/v1/hf/orders", req, AddOrderResp.class, false, "spot", 1);
+  }
+
+  public CompletableFuture<AddOrderResp> addOrderAsync(AddOrderReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v1/hf/orders", req, AddOrderResp.class, false, "spot", 1);
   }
 
   public AddOrderSyncResp addOrderSync(AddOrderSyncReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/hf/orders/sync", req, AddOrderSyncResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/sync",
+        req,
+        AddOrderSyncResp.class,
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<AddOrderSyncResp> addOrderSyncAsync(AddOrderSyncReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/sync",
+        req,
+        AddOrderSyncResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public AddOrderTestResp addOrderTest(AddOrderTestReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/hf/orders/test", req, AddOrderTestResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<AddOrderTestResp> addOrderTestAsync(AddOrderTestReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/test",
+        req,
+        AddOrderTestResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public BatchAddOrdersResp batchAddOrders(BatchAddOrdersReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/hf/orders/multi", req, BatchAddOrdersResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/multi",
+        req,
+        BatchAddOrdersResp.class,
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<BatchAddOrdersResp> batchAddOrdersAsync(BatchAddOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/multi",
+        req,
+        BatchAddOrdersResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public BatchAddOrdersSyncResp batchAddOrdersSync(BatchAddOrdersSyncReq req) {
@@ -39,7 +108,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/multi/sync",
         req,
         BatchAddOrdersSyncResp.class,
-        false);
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<BatchAddOrdersSyncResp> batchAddOrdersSyncAsync(
+      BatchAddOrdersSyncReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/multi/sync",
+        req,
+        BatchAddOrdersSyncResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public CancelOrderByOrderIdResp cancelOrderByOrderId(CancelOrderByOrderIdReq req) {
@@ -50,7 +135,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/{orderId}",
         req,
         CancelOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByOrderIdResp> cancelOrderByOrderIdAsync(
+      CancelOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders/{orderId}",
+        req,
+        CancelOrderByOrderIdResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public CancelOrderByOrderIdSyncResp cancelOrderByOrderIdSync(CancelOrderByOrderIdSyncReq req) {
@@ -61,7 +162,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/sync/{orderId}",
         req,
         CancelOrderByOrderIdSyncResp.class,
-        false);
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByOrderIdSyncResp> cancelOrderByOrderIdSyncAsync(
+      CancelOrderByOrderIdSyncReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders/sync/{orderId}",
+        req,
+        CancelOrderByOrderIdSyncResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public CancelOrderByClientOidResp cancelOrderByClientOid(CancelOrderByClientOidReq req) {
@@ -72,7 +189,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/client-order/{clientOid}",
         req,
         CancelOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByClientOidResp> cancelOrderByClientOidAsync(
+      CancelOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders/client-order/{clientOid}",
+        req,
+        CancelOrderByClientOidResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public CancelOrderByClientOidSyncResp cancelOrderByClientOidSync(
@@ -84,7 +217,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/sync/client-order/{clientOid}",
         req,
         CancelOrderByClientOidSyncResp.class,
-        false);
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<CancelOrderByClientOidSyncResp> cancelOrderByClientOidSyncAsync(
+      CancelOrderByClientOidSyncReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders/sync/client-order/{clientOid}",
+        req,
+        CancelOrderByClientOidSyncResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public CancelPartialOrderResp cancelPartialOrder(CancelPartialOrderReq req) {
@@ -95,7 +244,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/cancel/{orderId}",
         req,
         CancelPartialOrderResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<CancelPartialOrderResp> cancelPartialOrderAsync(
+      CancelPartialOrderReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders/cancel/{orderId}",
+        req,
+        CancelPartialOrderResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public CancelAllOrdersBySymbolResp cancelAllOrdersBySymbol(CancelAllOrdersBySymbolReq req) {
@@ -106,7 +271,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders",
         req,
         CancelAllOrdersBySymbolResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<CancelAllOrdersBySymbolResp> cancelAllOrdersBySymbolAsync(
+      CancelAllOrdersBySymbolReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders",
+        req,
+        CancelAllOrdersBySymbolResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public CancelAllOrdersResp cancelAllOrders() {
@@ -117,12 +298,48 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/cancelAll",
         null,
         CancelAllOrdersResp.class,
-        false);
+        false,
+        "spot",
+        30);
+  }
+
+  public CompletableFuture<CancelAllOrdersResp> cancelAllOrdersAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/hf/orders/cancelAll",
+        null,
+        CancelAllOrdersResp.class,
+        false,
+        "spot",
+        30);
   }
 
   public ModifyOrderResp modifyOrder(ModifyOrderReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/hf/orders/alter", req, ModifyOrderResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/alter",
+        req,
+        ModifyOrderResp.class,
+        false,
+        "spot",
+        1);
+  }
+
+  public CompletableFuture<ModifyOrderResp> modifyOrderAsync(ModifyOrderReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/alter",
+        req,
+        ModifyOrderResp.class,
+        false,
+        "spot",
+        1);
   }
 
   public GetOrderByOrderIdResp getOrderByOrderId(GetOrderByOrderIdReq req) {
@@ -133,7 +350,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/{orderId}",
         req,
         GetOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOrderByOrderIdResp> getOrderByOrderIdAsync(GetOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/{orderId}",
+        req,
+        GetOrderByOrderIdResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOrderByClientOidResp getOrderByClientOid(GetOrderByClientOidReq req) {
@@ -144,7 +376,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/client-order/{clientOid}",
         req,
         GetOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOrderByClientOidResp> getOrderByClientOidAsync(
+      GetOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/client-order/{clientOid}",
+        req,
+        GetOrderByClientOidResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetSymbolsWithOpenOrderResp getSymbolsWithOpenOrder() {
@@ -155,12 +403,48 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/active/symbols",
         null,
         GetSymbolsWithOpenOrderResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetSymbolsWithOpenOrderResp> getSymbolsWithOpenOrderAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/active/symbols",
+        null,
+        GetSymbolsWithOpenOrderResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOpenOrdersResp getOpenOrders(GetOpenOrdersReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/hf/orders/active", req, GetOpenOrdersResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/active",
+        req,
+        GetOpenOrdersResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOpenOrdersResp> getOpenOrdersAsync(GetOpenOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/active",
+        req,
+        GetOpenOrdersResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOpenOrdersByPageResp getOpenOrdersByPage(GetOpenOrdersByPageReq req) {
@@ -171,17 +455,59 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/active/page",
         req,
         GetOpenOrdersByPageResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOpenOrdersByPageResp> getOpenOrdersByPageAsync(
+      GetOpenOrdersByPageReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/active/page",
+        req,
+        GetOpenOrdersByPageResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetClosedOrdersResp getClosedOrders(GetClosedOrdersReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/hf/orders/done", req, GetClosedOrdersResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/done",
+        req,
+        GetClosedOrdersResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetClosedOrdersResp> getClosedOrdersAsync(GetClosedOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/done",
+        req,
+        GetClosedOrdersResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetTradeHistoryResp getTradeHistory(GetTradeHistoryReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/hf/fills", req, GetTradeHistoryResp.class, false);
+        "spot", false, "GET", "/api/v1/hf/fills", req, GetTradeHistoryResp.class, false, "spot", 2);
+  }
+
+  public CompletableFuture<GetTradeHistoryResp> getTradeHistoryAsync(GetTradeHistoryReq req) {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v1/hf/fills", req, GetTradeHistoryResp.class, false, "spot", 2);
   }
 
   public GetDCPResp getDCP() {
@@ -192,17 +518,58 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/hf/orders/dead-cancel-all/query",
         null,
         GetDCPResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetDCPResp> getDCPAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/hf/orders/dead-cancel-all/query",
+        null,
+        GetDCPResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public SetDCPResp setDCP(SetDCPReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/hf/orders/dead-cancel-all", req, SetDCPResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/dead-cancel-all",
+        req,
+        SetDCPResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<SetDCPResp> setDCPAsync(SetDCPReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/hf/orders/dead-cancel-all",
+        req,
+        SetDCPResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public AddStopOrderResp addStopOrder(AddStopOrderReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/stop-order", req, AddStopOrderResp.class, false);
+        "spot", false, "POST", "/api/v1/stop-order", req, AddStopOrderResp.class, false, "spot", 1);
+  }
+
+  public CompletableFuture<AddStopOrderResp> addStopOrderAsync(AddStopOrderReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v1/stop-order", req, AddStopOrderResp.class, false, "spot", 1);
   }
 
   public CancelStopOrderByClientOidResp cancelStopOrderByClientOid(
@@ -214,7 +581,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/stop-order/cancelOrderByClientOid",
         req,
         CancelStopOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        5);
+  }
+
+  public CompletableFuture<CancelStopOrderByClientOidResp> cancelStopOrderByClientOidAsync(
+      CancelStopOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/stop-order/cancelOrderByClientOid",
+        req,
+        CancelStopOrderByClientOidResp.class,
+        false,
+        "spot",
+        5);
   }
 
   public CancelStopOrderByOrderIdResp cancelStopOrderByOrderId(CancelStopOrderByOrderIdReq req) {
@@ -224,35 +607,104 @@ public class OrderApiImpl implements OrderApi {
         "DELETE",
         "/api/v1/stop-order/{orderId}",
         req,
-        CancelStopOrderByOrderIdResp.class,
-        false);
+        CancelStopOrderByOrderIdResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<CancelStopOrderByOrderIdResp> cancelStopOrderByOrderIdAsync(
+      CancelStopOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/stop-order/{orderId}",
+        req,
+        CancelStopOrderByOrderIdResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public BatchCancelStopOrderResp batchCancelStopOrder(BatchCancelStopOrderReq req) {
+    return this.transport.call(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/stop-order/cancel",
+        req,
+        BatchCancelStopOrderResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<BatchCancelStopOrderResp> batchCancelStopOrderAsync(
+      BatchCancelStopOrderReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/stop-order/cancel",
+        req,
+        BatchCancelStopOrderResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public GetStopOrdersListResp getStopOrdersList(GetStopOrdersListReq req) {
+    return this.transport.call(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/stop-order",
+        req,
+        GetStopOrdersListResp.class,
+        false,
+        "spot",
+        8);
+  }
+
+  public CompletableFuture<GetStopOrdersListResp> getStopOrdersListAsync(GetStopOrdersListReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/stop-order",
+        req,
+        GetStopOrdersListResp.class,
+        false,
+        "spot",
+        8);
   }
 
-  public BatchCancelStopOrderResp batchCancelStopOrder(BatchCancelStopOrderReq req) {
+  public GetStopOrderByOrderIdResp getStopOrderByOrderId(GetStopOrderByOrderIdReq req) {
     return this.transport.call(
         "spot",
         false,
-        "DELETE",
-        "/api/v1/stop-order/cancel",
+        "GET",
+        "/api/v1/stop-order/{orderId}",
         req,
-        BatchCancelStopOrderResp.class,
-        false);
-  }
-
-  public GetStopOrdersListResp getStopOrdersList(GetStopOrdersListReq req) {
-    return this.transport.call(
-        "spot", false, "GET", "/api/v1/stop-order", req, GetStopOrdersListResp.class, false);
+        GetStopOrderByOrderIdResp.class,
+        false,
+        "spot",
+        3);
   }
 
-  public GetStopOrderByOrderIdResp getStopOrderByOrderId(GetStopOrderByOrderIdReq req) {
-    return this.transport.call(
+  public CompletableFuture<GetStopOrderByOrderIdResp> getStopOrderByOrderIdAsync(
+      GetStopOrderByOrderIdReq req) {
+    return this.transport.callAsync(
         "spot",
         false,
         "GET",
         "/api/v1/stop-order/{orderId}",
         req,
         GetStopOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        3);
   }
 
   public GetStopOrderByClientOidResp getStopOrderByClientOid(GetStopOrderByClientOidReq req) {
@@ -263,12 +715,33 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/stop-order/queryOrderByClientOid",
         req,
         GetStopOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<GetStopOrderByClientOidResp> getStopOrderByClientOidAsync(
+      GetStopOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/stop-order/queryOrderByClientOid",
+        req,
+        GetStopOrderByClientOidResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public AddOcoOrderResp addOcoOrder(AddOcoOrderReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v3/oco/order", req, AddOcoOrderResp.class, false);
+        "spot", false, "POST", "/api/v3/oco/order", req, AddOcoOrderResp.class, false, "spot", 2);
+  }
+
+  public CompletableFuture<AddOcoOrderResp> addOcoOrderAsync(AddOcoOrderReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v3/oco/order", req, AddOcoOrderResp.class, false, "spot", 2);
   }
 
   public CancelOcoOrderByOrderIdResp cancelOcoOrderByOrderId(CancelOcoOrderByOrderIdReq req) {
@@ -279,7 +752,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/oco/order/{orderId}",
         req,
         CancelOcoOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<CancelOcoOrderByOrderIdResp> cancelOcoOrderByOrderIdAsync(
+      CancelOcoOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/oco/order/{orderId}",
+        req,
+        CancelOcoOrderByOrderIdResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public CancelOcoOrderByClientOidResp cancelOcoOrderByClientOid(CancelOcoOrderByClientOidReq req) {
@@ -290,12 +779,50 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/oco/client-order/{clientOid}",
         req,
         CancelOcoOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<CancelOcoOrderByClientOidResp> cancelOcoOrderByClientOidAsync(
+      CancelOcoOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/oco/client-order/{clientOid}",
+        req,
+        CancelOcoOrderByClientOidResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public BatchCancelOcoOrdersResp batchCancelOcoOrders(BatchCancelOcoOrdersReq req) {
     return this.transport.call(
-        "spot", false, "DELETE", "/api/v3/oco/orders", req, BatchCancelOcoOrdersResp.class, false);
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/oco/orders",
+        req,
+        BatchCancelOcoOrdersResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<BatchCancelOcoOrdersResp> batchCancelOcoOrdersAsync(
+      BatchCancelOcoOrdersReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v3/oco/orders",
+        req,
+        BatchCancelOcoOrdersResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public GetOcoOrderByOrderIdResp getOcoOrderByOrderId(GetOcoOrderByOrderIdReq req) {
@@ -306,7 +833,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/oco/order/{orderId}",
         req,
         GetOcoOrderByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOcoOrderByOrderIdResp> getOcoOrderByOrderIdAsync(
+      GetOcoOrderByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/oco/order/{orderId}",
+        req,
+        GetOcoOrderByOrderIdResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOcoOrderByClientOidResp getOcoOrderByClientOid(GetOcoOrderByClientOidReq req) {
@@ -317,7 +860,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/oco/client-order/{clientOid}",
         req,
         GetOcoOrderByClientOidResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOcoOrderByClientOidResp> getOcoOrderByClientOidAsync(
+      GetOcoOrderByClientOidReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/oco/client-order/{clientOid}",
+        req,
+        GetOcoOrderByClientOidResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOcoOrderDetailByOrderIdResp getOcoOrderDetailByOrderId(
@@ -329,27 +888,111 @@ public class OrderApiImpl implements OrderApi {
         "/api/v3/oco/order/details/{orderId}",
         req,
         GetOcoOrderDetailByOrderIdResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOcoOrderDetailByOrderIdResp> getOcoOrderDetailByOrderIdAsync(
+      GetOcoOrderDetailByOrderIdReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/oco/order/details/{orderId}",
+        req,
+        GetOcoOrderDetailByOrderIdResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOcoOrderListResp getOcoOrderList(GetOcoOrderListReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v3/oco/orders", req, GetOcoOrderListResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v3/oco/orders",
+        req,
+        GetOcoOrderListResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOcoOrderListResp> getOcoOrderListAsync(GetOcoOrderListReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v3/oco/orders",
+        req,
+        GetOcoOrderListResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public AddOrderOldResp addOrderOld(AddOrderOldReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/orders", req, AddOrderOldResp.class, false);
+        "spot", false, "POST", "/api/v1/orders", req, AddOrderOldResp.class, false, "spot", 2);
+  }
+
+  public CompletableFuture<AddOrderOldResp> addOrderOldAsync(AddOrderOldReq req) {
+    return this.transport.callAsync(
+        "spot", false, "POST", "/api/v1/orders", req, AddOrderOldResp.class, false, "spot", 2);
   }
 
   public AddOrderTestOldResp addOrderTestOld(AddOrderTestOldReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/orders/test", req, AddOrderTestOldResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/orders/test",
+        req,
+        AddOrderTestOldResp.class,
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<AddOrderTestOldResp> addOrderTestOldAsync(AddOrderTestOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/orders/test",
+        req,
+        AddOrderTestOldResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public BatchAddOrdersOldResp batchAddOrdersOld(BatchAddOrdersOldReq req) {
     return this.transport.call(
-        "spot", false, "POST", "/api/v1/orders/multi", req, BatchAddOrdersOldResp.class, false);
+        "spot",
+        false,
+        "POST",
+        "/api/v1/orders/multi",
+        req,
+        BatchAddOrdersOldResp.class,
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<BatchAddOrdersOldResp> batchAddOrdersOldAsync(BatchAddOrdersOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "POST",
+        "/api/v1/orders/multi",
+        req,
+        BatchAddOrdersOldResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public CancelOrderByOrderIdOldResp cancelOrderByOrderIdOld(CancelOrderByOrderIdOldReq req) {
@@ -360,7 +1003,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/{orderId}",
         req,
         CancelOrderByOrderIdOldResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<CancelOrderByOrderIdOldResp> cancelOrderByOrderIdOldAsync(
+      CancelOrderByOrderIdOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/orders/{orderId}",
+        req,
+        CancelOrderByOrderIdOldResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public CancelOrderByClientOidOldResp cancelOrderByClientOidOld(CancelOrderByClientOidOldReq req) {
@@ -371,17 +1030,60 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/order/client-order/{clientOid}",
         req,
         CancelOrderByClientOidOldResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<CancelOrderByClientOidOldResp> cancelOrderByClientOidOldAsync(
+      CancelOrderByClientOidOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/order/client-order/{clientOid}",
+        req,
+        CancelOrderByClientOidOldResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public BatchCancelOrderOldResp batchCancelOrderOld(BatchCancelOrderOldReq req) {
     return this.transport.call(
-        "spot", false, "DELETE", "/api/v1/orders", req, BatchCancelOrderOldResp.class, false);
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/orders",
+        req,
+        BatchCancelOrderOldResp.class,
+        false,
+        "spot",
+        20);
+  }
+
+  public CompletableFuture<BatchCancelOrderOldResp> batchCancelOrderOldAsync(
+      BatchCancelOrderOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "DELETE",
+        "/api/v1/orders",
+        req,
+        BatchCancelOrderOldResp.class,
+        false,
+        "spot",
+        20);
   }
 
   public GetOrdersListOldResp getOrdersListOld(GetOrdersListOldReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/orders", req, GetOrdersListOldResp.class, false);
+        "spot", false, "GET", "/api/v1/orders", req, GetOrdersListOldResp.class, false, "spot", 2);
+  }
+
+  public CompletableFuture<GetOrdersListOldResp> getOrdersListOldAsync(GetOrdersListOldReq req) {
+    return this.transport.callAsync(
+        "spot", false, "GET", "/api/v1/orders", req, GetOrdersListOldResp.class, false, "spot", 2);
   }
 
   public GetRecentOrdersListOldResp getRecentOrdersListOld() {
@@ -392,7 +1094,22 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/limit/orders",
         null,
         GetRecentOrdersListOldResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<GetRecentOrdersListOldResp> getRecentOrdersListOldAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/limit/orders",
+        null,
+        GetRecentOrdersListOldResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public GetOrderByOrderIdOldResp getOrderByOrderIdOld(GetOrderByOrderIdOldReq req) {
@@ -403,7 +1120,23 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/orders/{orderId}",
         req,
         GetOrderByOrderIdOldResp.class,
-        false);
+        false,
+        "spot",
+        2);
+  }
+
+  public CompletableFuture<GetOrderByOrderIdOldResp> getOrderByOrderIdOldAsync(
+      GetOrderByOrderIdOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/orders/{orderId}",
+        req,
+        GetOrderByOrderIdOldResp.class,
+        false,
+        "spot",
+        2);
   }
 
   public GetOrderByClientOidOldResp getOrderByClientOidOld(GetOrderByClientOidOldReq req) {
@@ -414,12 +1147,50 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/order/client-order/{clientOid}",
         req,
         GetOrderByClientOidOldResp.class,
-        false);
+        false,
+        "spot",
+        3);
+  }
+
+  public CompletableFuture<GetOrderByClientOidOldResp> getOrderByClientOidOldAsync(
+      GetOrderByClientOidOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/order/client-order/{clientOid}",
+        req,
+        GetOrderByClientOidOldResp.class,
+        false,
+        "spot",
+        3);
   }
 
   public GetTradeHistoryOldResp getTradeHistoryOld(GetTradeHistoryOldReq req) {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/fills", req, GetTradeHistoryOldResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/fills",
+        req,
+        GetTradeHistoryOldResp.class,
+        false,
+        "spot",
+        10);
+  }
+
+  public CompletableFuture<GetTradeHistoryOldResp> getTradeHistoryOldAsync(
+      GetTradeHistoryOldReq req) {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/fills",
+        req,
+        GetTradeHistoryOldResp.class,
+        false,
+        "spot",
+        10);
   }
 
   public GetRecentTradeHistoryOldResp getRecentTradeHistoryOld() {
@@ -430,6 +1201,21 @@ public class OrderApiImpl implements OrderApi {
         "/api/v1/limit/fills",
         null,
         GetRecentTradeHistoryOldResp.class,
-        false);
+        false,
+        "spot",
+        20);
+  }
+
+  public CompletableFuture<GetRecentTradeHistoryOldResp> getRecentTradeHistoryOldAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/limit/fills",
+        null,
+        GetRecentTradeHistoryOldResp.class,
+        false,
+        "spot",
+        20);
   }
 }
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class AccountRelationContext {
+public class AccountRelationContext {
   /** */
   @JsonProperty("symbol")
   private String symbol;
@@ -7,18 +7,28 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class OrderV2Event implements Response<OrderV2Event, WsMessage> {
+public class OrderV2Event implements Response<OrderV2Event, WsMessage>, ReusableEvent {
   /** Cumulative number of cancellations */
   @JsonProperty("canceledSize")
   private String canceledSize;
@@ -114,11 +124,147 @@ public class OrderV2Event implements Response<OrderV2Event, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(1);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.canceledSize = null;
+    this.clientOid = null;
+    this.filledSize = null;
+    this.orderId = null;
+    this.orderTime = null;
+    this.orderType = null;
+    this.originSize = null;
+    this.price = null;
+    this.remainFunds = null;
+    this.remainSize = null;
+    this.side = null;
+    this.size = null;
+    this.status = null;
+    this.symbol = null;
+    this.ts = null;
+    this.type = null;
+    this.oldSize = null;
+    this.feeType = null;
+    this.liquidity = null;
+    this.matchPrice = null;
+    this.matchSize = null;
+    this.tradeId = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "canceledSize":
+          this.canceledSize = p.getValueAsString();
+          break;
+        case "clientOid":
+          this.clientOid = p.getValueAsString();
+          break;
+        case "filledSize":
+          this.filledSize = p.getValueAsString();
+          break;
+        case "orderId":
+          this.orderId = p.getValueAsString();
+          break;
+        case "orderTime":
+          this.orderTime = p.getValueAsLong();
+          break;
+        case "orderType":
+          this.orderType = OrderTypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "originSize":
+          if (!numeric.readDouble(0, p)) {
+            this.originSize = p.getValueAsString();
+          }
+          break;
+        case "price":
+          this.price = p.getValueAsString();
+          break;
+        case "remainFunds":
+          this.remainFunds = p.getValueAsString();
+          break;
+        case "remainSize":
+          this.remainSize = p.getValueAsString();
+          break;
+        case "side":
+          this.side = SideEnum.fromValue(p.getValueAsString());
+          break;
+        case "size":
+          this.size = p.getValueAsString();
+          break;
+        case "status":
+          this.status = StatusEnum.fromValue(p.getValueAsString());
+          break;
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "ts":
+          this.ts = p.getValueAsLong();
+          break;
+        case "type":
+          this.type = TypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "oldSize":
+          this.oldSize = p.getValueAsString();
+          break;
+        case "feeType":
+          this.feeType = FeeTypeEnum.fromValue(p.getValueAsString());
+          break;
+        case "liquidity":
+          this.liquidity = LiquidityEnum.fromValue(p.getValueAsString());
+          break;
+        case "matchPrice":
+          this.matchPrice = p.getValueAsString();
+          break;
+        case "matchSize":
+          this.matchSize = p.getValueAsString();
+          break;
+        case "tradeId":
+          this.tradeId = p.getValueAsString();
+          break;
+      }
+    }
+  }
+
+  public String getOriginSize() {
+    if (numeric.pending(0)) {
+      this.originSize = numeric.text(0);
+    }
+    return originSize;
+  }
+
+  public void setOriginSize(String originSize) {
+    numeric.reset(0);
+    this.originSize = originSize;
+  }
+
+  /** originSize as a double, NaN if absent */
+  public double originSizeAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(originSize);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, OrderV2Event data);
@@ -126,11 +272,12 @@ public class OrderV2Event implements Response<OrderV2Event, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        OrderV2Event event = objectMapper.convertValue(msg.getData(), OrderV2Event.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          OrderV2Event.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 
@@ -17,7 +17,8 @@ public class SpotPrivateWsImpl implements SpotPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(topicPrefix, args, AccountEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, AccountEvent.CallbackAdapters.of(callback));
   }
 
   public String orderV1(OrderV1Event.Callback callback) {
@@ -25,7 +26,8 @@ public class SpotPrivateWsImpl implements SpotPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(topicPrefix, args, OrderV1Event.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, OrderV1Event.CallbackAdapters.of(callback));
   }
 
   public String orderV2(OrderV2Event.Callback callback) {
@@ -33,7 +35,8 @@ public class SpotPrivateWsImpl implements SpotPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(topicPrefix, args, OrderV2Event.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, OrderV2Event.CallbackAdapters.of(callback));
   }
 
   public String stopOrder(StopOrderEvent.Callback callback) {
@@ -41,12 +44,12 @@ public class SpotPrivateWsImpl implements SpotPrivateWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, StopOrderEvent.CallbackAdapters.of(callback));
   }
 
   public void unSubscribe(String id) {
-    this.wsService.unsubscribe(id);
+    this.wsService.unsubscribeChunked(id);
   }
 
   public void start() {
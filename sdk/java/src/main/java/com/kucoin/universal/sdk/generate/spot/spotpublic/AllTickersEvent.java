@@ -5,18 +5,28 @@ package com.kucoin.universal.sdk.generate.spot.spotpublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class AllTickersEvent implements Response<AllTickersEvent, WsMessage> {
+public class AllTickersEvent implements Response<AllTickersEvent, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("bestAsk")
   private String bestAsk;
@@ -52,11 +62,223 @@ public class AllTickersEvent implements Response<AllTickersEvent, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(7);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.bestAsk = null;
+    this.bestAskSize = null;
+    this.bestBid = null;
+    this.bestBidSize = null;
+    this.price = null;
+    this.sequence = null;
+    this.size = null;
+    this.time = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "bestAsk":
+          if (!numeric.readDouble(0, p)) {
+            this.bestAsk = p.getValueAsString();
+          }
+          break;
+        case "bestAskSize":
+          if (!numeric.readDouble(1, p)) {
+            this.bestAskSize = p.getValueAsString();
+          }
+          break;
+        case "bestBid":
+          if (!numeric.readDouble(2, p)) {
+            this.bestBid = p.getValueAsString();
+          }
+          break;
+        case "bestBidSize":
+          if (!numeric.readDouble(3, p)) {
+            this.bestBidSize = p.getValueAsString();
+          }
+          break;
+        case "price":
+          if (!numeric.readDouble(4, p)) {
+            this.price = p.getValueAsString();
+          }
+          break;
+        case "sequence":
+          if (!numeric.readLong(5, p)) {
+            this.sequence = p.getValueAsString();
+          }
+          break;
+        case "size":
+          if (!numeric.readDouble(6, p)) {
+            this.size = p.getValueAsString();
+          }
+          break;
+        case "time":
+          this.time = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
+  public String getBestAsk() {
+    if (numeric.pending(0)) {
+      this.bestAsk = numeric.text(0);
+    }
+    return bestAsk;
+  }
+
+  public void setBestAsk(String bestAsk) {
+    numeric.reset(0);
+    this.bestAsk = bestAsk;
+  }
+
+  /** bestAsk as a double, NaN if absent */
+  public double bestAskAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(bestAsk);
+  }
+
+  public String getBestAskSize() {
+    if (numeric.pending(1)) {
+      this.bestAskSize = numeric.text(1);
+    }
+    return bestAskSize;
+  }
+
+  public void setBestAskSize(String bestAskSize) {
+    numeric.reset(1);
+    this.bestAskSize = bestAskSize;
+  }
+
+  /** bestAskSize as a double, NaN if absent */
+  public double bestAskSizeAsDouble() {
+    if (numeric.pending(1)) {
+      return numeric.doubleValue(1);
+    }
+    return Numbers.parseDouble(bestAskSize);
+  }
+
+  public String getBestBid() {
+    if (numeric.pending(2)) {
+      this.bestBid = numeric.text(2);
+    }
+    return bestBid;
+  }
+
+  public void setBestBid(String bestBid) {
+    numeric.reset(2);
+    this.bestBid = bestBid;
+  }
+
+  /** bestBid as a double, NaN if absent */
+  public double bestBidAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(bestBid);
+  }
+
+  public String getBestBidSize() {
+    if (numeric.pending(3)) {
+      this.bestBidSize = numeric.text(3);
+    }
+    return bestBidSize;
+  }
+
+  public void setBestBidSize(String bestBidSize) {
+    numeric.reset(3);
+    this.bestBidSize = bestBidSize;
+  }
+
+  /** bestBidSize as a double, NaN if absent */
+  public double bestBidSizeAsDouble() {
+    if (numeric.pending(3)) {
+      return numeric.doubleValue(3);
+    }
+    return Numbers.parseDouble(bestBidSize);
+  }
+
+  public String getPrice() {
+    if (numeric.pending(4)) {
+      this.price = numeric.text(4);
+    }
+    return price;
+  }
+
+  public void setPrice(String price) {
+    numeric.reset(4);
+    this.price = price;
+  }
+
+  /** price as a double, NaN if absent */
+  public double priceAsDouble() {
+    if (numeric.pending(4)) {
+      return numeric.doubleValue(4);
+    }
+    return Numbers.parseDouble(price);
+  }
+
+  public String getSequence() {
+    if (numeric.pending(5)) {
+      this.sequence = numeric.text(5);
+    }
+    return sequence;
+  }
+
+  public void setSequence(String sequence) {
+    numeric.reset(5);
+    this.sequence = sequence;
+  }
+
+  /** sequence as a long, 0 if absent */
+  public long sequenceAsLong() {
+    if (numeric.pending(5)) {
+      return numeric.longValue(5);
+    }
+    return sequence == null ? 0 : Long.parseLong(sequence);
+  }
+
+  public String getSize() {
+    if (numeric.pending(6)) {
+      this.size = numeric.text(6);
+    }
+    return size;
+  }
+
+  public void setSize(String size) {
+    numeric.reset(6);
+    this.size = size;
+  }
+
+  /** size as a double, NaN if absent */
+  public double sizeAsDouble() {
+    if (numeric.pending(6)) {
+      return numeric.doubleValue(6);
+    }
+    return Numbers.parseDouble(size);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, AllTickersEvent data);
@@ -64,11 +286,12 @@ public class AllTickersEvent implements Response<AllTickersEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        AllTickersEvent event = objectMapper.convertValue(msg.getData(), AllTickersEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          AllTickersEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -5,18 +5,29 @@ package com.kucoin.universal.sdk.generate.spot.spotpublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class CallAuctionInfoEvent implements Response<CallAuctionInfoEvent, WsMessage> {
+public class CallAuctionInfoEvent
+    implements Response<CallAuctionInfoEvent, WsMessage>, ReusableEvent {
   /** Symbol */
   @JsonProperty("symbol")
   private String symbol;
@@ -52,11 +63,201 @@ public class CallAuctionInfoEvent implements Response<CallAuctionInfoEvent, WsMe
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(6);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.symbol = null;
+    this.estimatedPrice = null;
+    this.estimatedSize = null;
+    this.sellOrderRangeLowPrice = null;
+    this.sellOrderRangeHighPrice = null;
+    this.buyOrderRangeLowPrice = null;
+    this.buyOrderRangeHighPrice = null;
+    this.time = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "estimatedPrice":
+          if (!numeric.readDouble(0, p)) {
+            this.estimatedPrice = p.getValueAsString();
+          }
+          break;
+        case "estimatedSize":
+          if (!numeric.readDouble(1, p)) {
+            this.estimatedSize = p.getValueAsString();
+          }
+          break;
+        case "sellOrderRangeLowPrice":
+          if (!numeric.readDouble(2, p)) {
+            this.sellOrderRangeLowPrice = p.getValueAsString();
+          }
+          break;
+        case "sellOrderRangeHighPrice":
+          if (!numeric.readDouble(3, p)) {
+            this.sellOrderRangeHighPrice = p.getValueAsString();
+          }
+          break;
+        case "buyOrderRangeLowPrice":
+          if (!numeric.readDouble(4, p)) {
+            this.buyOrderRangeLowPrice = p.getValueAsString();
+          }
+          break;
+        case "buyOrderRangeHighPrice":
+          if (!numeric.readDouble(5, p)) {
+            this.buyOrderRangeHighPrice = p.getValueAsString();
+          }
+          break;
+        case "time":
+          this.time = p.getValueAsLong();
+          break;
+      }
+    }
+  }
+
+  public String getEstimatedPrice() {
+    if (numeric.pending(0)) {
+      this.estimatedPrice = numeric.text(0);
+    }
+    return estimatedPrice;
+  }
+
+  public void setEstimatedPrice(String estimatedPrice) {
+    numeric.reset(0);
+    this.estimatedPrice = estimatedPrice;
+  }
+
+  /** estimatedPrice as a double, NaN if absent */
+  public double estimatedPriceAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(estimatedPrice);
+  }
+
+  public String getEstimatedSize() {
+    if (numeric.pending(1)) {
+      this.estimatedSize = numeric.text(1);
+    }
+    return estimatedSize;
+  }
+
+  public void setEstimatedSize(String estimatedSize) {
+    numeric.reset(1);
+    this.estimatedSize = estimatedSize;
+  }
+
+  /** estimatedSize as a double, NaN if absent */
+  public double estimatedSizeAsDouble() {
+    if (numeric.pending(1)) {
+      return numeric.doubleValue(1);
+    }
+    return Numbers.parseDouble(estimatedSize);
+  }
+
+  public String getSellOrderRangeLowPrice() {
+    if (numeric.pending(2)) {
+      this.sellOrderRangeLowPrice = numeric.text(2);
+    }
+    return sellOrderRangeLowPrice;
+  }
+
+  public void setSellOrderRangeLowPrice(String sellOrderRangeLowPrice) {
+    numeric.reset(2);
+    this.sellOrderRangeLowPrice = sellOrderRangeLowPrice;
+  }
+
+  /** sellOrderRangeLowPrice as a double, NaN if absent */
+  public double sellOrderRangeLowPriceAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(sellOrderRangeLowPrice);
+  }
+
+  public String getSellOrderRangeHighPrice() {
+    if (numeric.pending(3)) {
+      this.sellOrderRangeHighPrice = numeric.text(3);
+    }
+    return sellOrderRangeHighPrice;
+  }
+
+  public void setSellOrderRangeHighPrice(String sellOrderRangeHighPrice) {
+    numeric.reset(3);
+    this.sellOrderRangeHighPrice = sellOrderRangeHighPrice;
+  }
+
+  /** sellOrderRangeHighPrice as a double, NaN if absent */
+  public double sellOrderRangeHighPriceAsDouble() {
+    if (numeric.pending(3)) {
+      return numeric.doubleValue(3);
+    }
+    return Numbers.parseDouble(sellOrderRangeHighPrice);
+  }
+
+  public String getBuyOrderRangeLowPrice() {
+    if (numeric.pending(4)) {
+      this.buyOrderRangeLowPrice = numeric.text(4);
+    }
+    return buyOrderRangeLowPrice;
+  }
+
+  public void setBuyOrderRangeLowPrice(String buyOrderRangeLowPrice) {
+    numeric.reset(4);
+    this.buyOrderRangeLowPrice = buyOrderRangeLowPrice;
+  }
+
+  /** buyOrderRangeLowPrice as a double, NaN if absent */
+  public double buyOrderRangeLowPriceAsDouble() {
+    if (numeric.pending(4)) {
+      return numeric.doubleValue(4);
+    }
+    return Numbers.parseDouble(buyOrderRangeLowPrice);
+  }
+
+  public String getBuyOrderRangeHighPrice() {
+    if (numeric.pending(5)) {
+      this.buyOrderRangeHighPrice = numeric.text(5);
+    }
+    return buyOrderRangeHighPrice;
+  }
+
+  public void setBuyOrderRangeHighPrice(String buyOrderRangeHighPrice) {
+    numeric.reset(5);
+    this.buyOrderRangeHighPrice = buyOrderRangeHighPrice;
+  }
+
+  /** buyOrderRangeHighPrice as a double, NaN if absent */
+  public double buyOrderRangeHighPriceAsDouble() {
+    if (numeric.pending(5)) {
+      return numeric.doubleValue(5);
+    }
+    return Numbers.parseDouble(buyOrderRangeHighPrice);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, CallAuctionInfoEvent data);
@@ -64,12 +265,12 @@ public class CallAuctionInfoEvent implements Response<CallAuctionInfoEvent, WsMe
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        CallAuctionInfoEvent event =
-            objectMapper.convertValue(msg.getData(), CallAuctionInfoEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          CallAuctionInfoEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -47,12 +47,12 @@ public class CallAuctionOrderbookLevel50Event
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        CallAuctionOrderbookLevel50Event event =
-            objectMapper.convertValue(msg.getData(), CallAuctionOrderbookLevel50Event.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          CallAuctionOrderbookLevel50Event.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class MarketSnapshotData {
+public class MarketSnapshotData {
   /** */
   @JsonProperty("askSize")
   private Double askSize;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class MarketSnapshotDataMarketChange1h {
+public class MarketSnapshotDataMarketChange1h {
   /** */
   @JsonProperty("changePrice")
   private Double changePrice;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class MarketSnapshotDataMarketChange24h {
+public class MarketSnapshotDataMarketChange24h {
   /** */
   @JsonProperty("changePrice")
   private Double changePrice;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class MarketSnapshotDataMarketChange4h {
+public class MarketSnapshotDataMarketChange4h {
   /** */
   @JsonProperty("changePrice")
   private Double changePrice;
@@ -40,12 +40,12 @@ public class MarketSnapshotEvent implements Response<MarketSnapshotEvent, WsMess
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        MarketSnapshotEvent event =
-            objectMapper.convertValue(msg.getData(), MarketSnapshotEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          MarketSnapshotEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
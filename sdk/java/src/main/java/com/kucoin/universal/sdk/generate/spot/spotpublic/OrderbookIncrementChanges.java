@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class OrderbookIncrementChanges {
+public class OrderbookIncrementChanges {
   /** price,size,sequence */
   @JsonProperty("asks")
   private List<List<String>> asks = new ArrayList<>();
@@ -17,7 +17,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = {};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, AllTickersEvent.CallbackAdapters.of(callback));
   }
 
@@ -26,7 +26,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, CallAuctionInfoEvent.CallbackAdapters.of(callback));
   }
 
@@ -36,7 +36,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, CallAuctionOrderbookLevel50Event.CallbackAdapters.of(callback));
   }
 
@@ -45,7 +45,8 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = {String.join("_", symbol, type)};
 
-    return this.wsService.subscribe(topicPrefix, args, KlinesEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, KlinesEvent.CallbackAdapters.of(callback));
   }
 
   public String marketSnapshot(String market, MarketSnapshotEvent.Callback callback) {
@@ -53,7 +54,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = {market};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, MarketSnapshotEvent.CallbackAdapters.of(callback));
   }
 
@@ -62,7 +63,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookIncrementEvent.CallbackAdapters.of(callback));
   }
 
@@ -71,7 +72,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookLevel1Event.CallbackAdapters.of(callback));
   }
 
@@ -80,7 +81,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookLevel50Event.CallbackAdapters.of(callback));
   }
 
@@ -89,7 +90,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, OrderbookLevel5Event.CallbackAdapters.of(callback));
   }
 
@@ -98,7 +99,7 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = {symbol};
 
-    return this.wsService.subscribe(
+    return this.wsService.subscribeChunked(
         topicPrefix, args, SymbolSnapshotEvent.CallbackAdapters.of(callback));
   }
 
@@ -107,7 +108,8 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(topicPrefix, args, TickerEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, TickerEvent.CallbackAdapters.of(callback));
   }
 
   public String trade(String[] symbol, TradeEvent.Callback callback) {
@@ -115,11 +117,12 @@ public class SpotPublicWsImpl implements SpotPublicWs {
 
     String[] args = symbol;
 
-    return this.wsService.subscribe(topicPrefix, args, TradeEvent.CallbackAdapters.of(callback));
+    return this.wsService.subscribeChunked(
+        topicPrefix, args, TradeEvent.CallbackAdapters.of(callback));
   }
 
   public void unSubscribe(String id) {
-    this.wsService.unsubscribe(id);
+    this.wsService.unsubscribeChunked(id);
   }
 
   public void start() {
@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class SymbolSnapshotData {
+public class SymbolSnapshotData {
   /** */
   @JsonProperty("askSize")
   private Double askSize;
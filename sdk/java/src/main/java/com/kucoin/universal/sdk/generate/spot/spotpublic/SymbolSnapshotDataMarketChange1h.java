@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class SymbolSnapshotDataMarketChange1h {
+public class SymbolSnapshotDataMarketChange1h {
   /** */
   @JsonProperty("changePrice")
   private Double changePrice;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class SymbolSnapshotDataMarketChange24h {
+public class SymbolSnapshotDataMarketChange24h {
   /** */
   @JsonProperty("changePrice")
   private Double changePrice;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-class SymbolSnapshotDataMarketChange4h {
+public class SymbolSnapshotDataMarketChange4h {
   /** */
   @JsonProperty("changePrice")
   private Double changePrice;
@@ -5,18 +5,28 @@ package com.kucoin.universal.sdk.generate.spot.spotpublic;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.infra.NumericText;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
 import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
 import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class TradeEvent implements Response<TradeEvent, WsMessage> {
+public class TradeEvent implements Response<TradeEvent, WsMessage>, ReusableEvent {
   /** */
   @JsonProperty("makerOrderId")
   private String makerOrderId;
@@ -60,11 +70,187 @@ public class TradeEvent implements Response<TradeEvent, WsMessage> {
   /** common response */
   @JsonIgnore private WsMessage commonResponse;
 
+  /** numeric text read by readFrom, whose Strings are created on demand */
+  @JsonIgnore
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final transient NumericText numeric = new NumericText(5);
+
   @Override
   public void setCommonResponse(WsMessage response) {
     this.commonResponse = response;
   }
 
+  @Override
+  public void readFrom(JsonParser p) throws IOException {
+    this.makerOrderId = null;
+    this.price = null;
+    this.sequence = null;
+    this.side = null;
+    this.size = null;
+    this.symbol = null;
+    this.takerOrderId = null;
+    this.time = null;
+    this.tradeId = null;
+    this.type = null;
+    this.commonResponse = null;
+    this.numeric.clear();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      if (t.isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      if (t == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "makerOrderId":
+          this.makerOrderId = p.getValueAsString();
+          break;
+        case "price":
+          if (!numeric.readDouble(0, p)) {
+            this.price = p.getValueAsString();
+          }
+          break;
+        case "sequence":
+          if (!numeric.readLong(1, p)) {
+            this.sequence = p.getValueAsString();
+          }
+          break;
+        case "side":
+          this.side = p.getValueAsString();
+          break;
+        case "size":
+          if (!numeric.readDouble(2, p)) {
+            this.size = p.getValueAsString();
+          }
+          break;
+        case "symbol":
+          this.symbol = p.getValueAsString();
+          break;
+        case "takerOrderId":
+          this.takerOrderId = p.getValueAsString();
+          break;
+        case "time":
+          if (!numeric.readLong(3, p)) {
+            this.time = p.getValueAsString();
+          }
+          break;
+        case "tradeId":
+          if (!numeric.readLong(4, p)) {
+            this.tradeId = p.getValueAsString();
+          }
+          break;
+        case "type":
+          this.type = p.getValueAsString();
+          break;
+      }
+    }
+  }
+
+  public String getPrice() {
+    if (numeric.pending(0)) {
+      this.price = numeric.text(0);
+    }
+    return price;
+  }
+
+  public void setPrice(String price) {
+    numeric.reset(0);
+    this.price = price;
+  }
+
+  /** price as a double, NaN if absent */
+  public double priceAsDouble() {
+    if (numeric.pending(0)) {
+      return numeric.doubleValue(0);
+    }
+    return Numbers.parseDouble(price);
+  }
+
+  public String getSequence() {
+    if (numeric.pending(1)) {
+      this.sequence = numeric.text(1);
+    }
+    return sequence;
+  }
+
+  public void setSequence(String sequence) {
+    numeric.reset(1);
+    this.sequence = sequence;
+  }
+
+  /** sequence as a long, 0 if absent */
+  public long sequenceAsLong() {
+    if (numeric.pending(1)) {
+      return numeric.longValue(1);
+    }
+    return sequence == null ? 0 : Long.parseLong(sequence);
+  }
+
+  public String getSize() {
+    if (numeric.pending(2)) {
+      this.size = numeric.text(2);
+    }
+    return size;
+  }
+
+  public void setSize(String size) {
+    numeric.reset(2);
+    this.size = size;
+  }
+
+  /** size as a double, NaN if absent */
+  public double sizeAsDouble() {
+    if (numeric.pending(2)) {
+      return numeric.doubleValue(2);
+    }
+    return Numbers.parseDouble(size);
+  }
+
+  public String getTime() {
+    if (numeric.pending(3)) {
+      this.time = numeric.text(3);
+    }
+    return time;
+  }
+
+  public void setTime(String time) {
+    numeric.reset(3);
+    this.time = time;
+  }
+
+  /** time as a long, 0 if absent */
+  public long timeAsLong() {
+    if (numeric.pending(3)) {
+      return numeric.longValue(3);
+    }
+    return time == null ? 0 : Long.parseLong(time);
+  }
+
+  public String getTradeId() {
+    if (numeric.pending(4)) {
+      this.tradeId = numeric.text(4);
+    }
+    return tradeId;
+  }
+
+  public void setTradeId(String tradeId) {
+    numeric.reset(4);
+    this.tradeId = tradeId;
+  }
+
+  /** tradeId as a long, 0 if absent */
+  public long tradeIdAsLong() {
+    if (numeric.pending(4)) {
+      return numeric.longValue(4);
+    }
+    return tradeId == null ? 0 : Long.parseLong(tradeId);
+  }
+
   @FunctionalInterface
   public interface Callback {
     void onEvent(String topic, String subject, TradeEvent data);
@@ -72,11 +258,12 @@ public class TradeEvent implements Response<TradeEvent, WsMessage> {
 
   public static class CallbackAdapters {
     public static WebSocketMessageCallback of(Callback callback) {
-      return (msg, objectMapper) -> {
-        TradeEvent event = objectMapper.convertValue(msg.getData(), TradeEvent.class);
-        event.setCommonResponse(msg);
-        callback.onEvent(msg.getTopic(), msg.getSubject(), event);
-      };
+      return WebSocketMessageCallback.typed(
+          TradeEvent.class,
+          (msg, event) -> {
+            event.setCommonResponse(msg);
+            callback.onEvent(msg.getTopic(), msg.getSubject(), event);
+          });
     }
   }
 }
@@ -2,6 +2,8 @@
 
 package com.kucoin.universal.sdk.generate.viplending.viplending;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface VIPLendingApi {
   /**
    * Get Discount Rate Configs
@@ -22,6 +24,13 @@ public interface VIPLendingApi {
    */
   GetDiscountRateConfigsResp getDiscountRateConfigs();
 
+  /**
+   * Get Discount Rate Configs, without blocking the calling thread.
+   *
+   * @see #getDiscountRateConfigs
+   */
+  CompletableFuture<GetDiscountRateConfigsResp> getDiscountRateConfigsAsync();
+
   /**
    * Get Loan Info
    *
@@ -43,6 +52,13 @@ public interface VIPLendingApi {
    */
   GetLoanInfoResp getLoanInfo();
 
+  /**
+   * Get Loan Info, without blocking the calling thread.
+   *
+   * @see #getLoanInfo
+   */
+  CompletableFuture<GetLoanInfoResp> getLoanInfoAsync();
+
   /**
    * Get Accounts
    *
@@ -62,4 +78,11 @@ public interface VIPLendingApi {
    * @see <a href="https://www.kucoin.com/docs-new/api-3470278">docs</a>
    */
   GetAccountsResp getAccounts();
+
+  /**
+   * Get Accounts, without blocking the calling thread.
+   *
+   * @see #getAccounts
+   */
+  CompletableFuture<GetAccountsResp> getAccountsAsync();
 }
@@ -3,6 +3,7 @@
 package com.kucoin.universal.sdk.generate.viplending.viplending;
 
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import java.util.concurrent.CompletableFuture;
 
 public class VIPLendingApiImpl implements VIPLendingApi {
   private final Transport transport;
@@ -19,16 +20,73 @@ public class VIPLendingApiImpl implements VIPLendingApi {
         "/api/v1/otc-loan/discount-rate-configs",
         null,
         GetDiscountRateConfigsResp.class,
-        false);
+        false,
+        "public",
+        10);
+  }
+
+  public CompletableFuture<GetDiscountRateConfigsResp> getDiscountRateConfigsAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/otc-loan/discount-rate-configs",
+        null,
+        GetDiscountRateConfigsResp.class,
+        false,
+        "public",
+        10);
   }
 
   public GetLoanInfoResp getLoanInfo() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/otc-loan/loan", null, GetLoanInfoResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/otc-loan/loan",
+        null,
+        GetLoanInfoResp.class,
+        false,
+        "management",
+        5);
+  }
+
+  public CompletableFuture<GetLoanInfoResp> getLoanInfoAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/otc-loan/loan",
+        null,
+        GetLoanInfoResp.class,
+        false,
+        "management",
+        5);
   }
 
   public GetAccountsResp getAccounts() {
     return this.transport.call(
-        "spot", false, "GET", "/api/v1/otc-loan/accounts", null, GetAccountsResp.class, false);
+        "spot",
+        false,
+        "GET",
+        "/api/v1/otc-loan/accounts",
+        null,
+        GetAccountsResp.class,
+        false,
+        "management",
+        20);
+  }
+
+  public CompletableFuture<GetAccountsResp> getAccountsAsync() {
+    return this.transport.callAsync(
+        "spot",
+        false,
+        "GET",
+        "/api/v1/otc-loan/accounts",
+        null,
+        GetAccountsResp.class,
+        false,
+        "management",
+        20);
   }
 }
@@ -0,0 +1,95 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.api.KucoinRestService;
+import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.RestResponse;
+import com.kucoin.universal.sdk.model.WarmUpOption;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pays the one-time costs of the first request up front: DNS, TCP and TLS handshakes of pooled
+ * connections, the signer's {@code Mac} setup, and the class loading, (de)serializer construction
+ * and JIT compilation of the selected models. Server time calls are issued first and the models are
+ * exercised while they are in flight.
+ */
+@Slf4j
+public final class ClientWarmUp {
+
+  private ClientWarmUp() {}
+
+  public static void run(ClientOption clientOption, KucoinRestService rest, WarmUpOption option) {
+    long start = System.nanoTime();
+
+    // concurrent calls so that each needs a connection of its own
+    List<CompletableFuture<?>> calls = new ArrayList<>();
+    for (int i = 0; i < option.getConnections(); i++) {
+      if (option.isSpot()) {
+        calls.add(rest.getSpotService().getMarketApi().getServerTimeAsync());
+      }
+      if (option.isFutures()) {
+        calls.add(rest.getFuturesService().getMarketApi().getServerTimeAsync());
+      }
+    }
+
+    if (option.isAllModels()) {
+      JsonMappers.preWarm(clientOption);
+    }
+    ObjectMapper mapper = JsonMappers.get(clientOption);
+    int models = 0;
+    for (Class<?> type : option.getModels()) {
+      try {
+        roundTrip(mapper, type, option.getIterations());
+        models++;
+      } catch (Exception e) {
+        log.warn("warm-up of {} failed", type.getName(), e);
+      }
+    }
+
+    int failed = 0;
+    long deadline = System.nanoTime() + option.getTimeout().toNanos();
+    for (CompletableFuture<?> call : calls) {
+      try {
+        call.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        failed++;
+        log.warn("warm-up call failed", e);
+      }
+    }
+    log.info(
+        "warm-up done, calls:{}, failed:{}, models:{}, took:{}ms",
+        calls.size(),
+        failed,
+        models,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /** Serializes a default instance of {@code type} and parses it back as the transport would. */
+  private static void roundTrip(ObjectMapper mapper, Class<?> type, int iterations)
+      throws Exception {
+    Object value = type.getDeclaredConstructor().newInstance();
+    JavaType target =
+        Response.class.isAssignableFrom(type)
+            ? mapper.getTypeFactory().constructParametricType(RestResponse.class, type)
+            : mapper.constructType(type);
+    for (int i = 0; i < iterations; i++) {
+      byte[] json = mapper.writeValueAsBytes(value);
+      if (Response.class.isAssignableFrom(type)) {
+        json =
+            ("{\"code\":\"200000\",\"data\":" + new String(json, StandardCharsets.UTF_8) + "}")
+                .getBytes(StandardCharsets.UTF_8);
+      }
+      mapper.readValue(json, target);
+    }
+  }
+}
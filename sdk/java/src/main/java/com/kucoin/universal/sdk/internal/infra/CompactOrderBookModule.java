@@ -0,0 +1,180 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kucoin.universal.sdk.model.OrderBookLevels;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Jackson module that decodes the {@code bids} / {@code asks} properties of the generated models
+ * into {@link OrderBookLevels} instead of nested lists. Only properties declared as {@code
+ * List<List<String>>} or {@code List<List<Double>>} are affected.
+ */
+public final class CompactOrderBookModule extends SimpleModule {
+
+  private static final long serialVersionUID = 1L;
+
+  public CompactOrderBookModule() {
+    super("CompactOrderBookModule");
+    setDeserializerModifier(new LevelsModifier());
+  }
+
+  private static final class LevelsModifier extends BeanDeserializerModifier {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public BeanDeserializerBuilder updateBuilder(
+        DeserializationConfig config, BeanDescription beanDesc, BeanDeserializerBuilder builder) {
+      List<SettableBeanProperty> replaced = new ArrayList<>();
+      Iterator<SettableBeanProperty> it = builder.getProperties();
+      while (it.hasNext()) {
+        SettableBeanProperty prop = it.next();
+        String name = prop.getName();
+        if (!"bids".equals(name) && !"asks".equals(name)) {
+          continue;
+        }
+        Class<?> elementType = levelElementType(prop.getType());
+        if (elementType != null) {
+          replaced.add(prop.withValueDeserializer(new LevelsDeserializer(elementType)));
+        }
+      }
+      replaced.forEach(p -> builder.addOrReplaceProperty(p, true));
+      return builder;
+    }
+
+    private static Class<?> levelElementType(JavaType type) {
+      if (!type.isCollectionLikeType() || !type.getRawClass().isAssignableFrom(List.class)) {
+        return null;
+      }
+      JavaType row = type.getContentType();
+      if (!row.isCollectionLikeType() || !row.getRawClass().isAssignableFrom(List.class)) {
+        return null;
+      }
+      Class<?> cell = row.getContentType().getRawClass();
+      return cell == String.class || cell == Double.class ? cell : null;
+    }
+  }
+
+  /** Streams [[price, size, ...], ...] straight into primitive columns. */
+  private static final class LevelsDeserializer extends StdDeserializer<OrderBookLevels<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Class<?> elementType;
+
+    LevelsDeserializer(Class<?> elementType) {
+      super(OrderBookLevels.class);
+      this.elementType = elementType;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public OrderBookLevels<?> deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+      if (p.currentToken() != JsonToken.START_ARRAY) {
+        return (OrderBookLevels<?>) ctxt.handleUnexpectedToken(OrderBookLevels.class, p);
+      }
+
+      long[] unscaled = new long[64];
+      byte[] scales = new byte[64];
+      int width = -1;
+      int rows = 0;
+      int n = 0;
+
+      while (p.nextToken() == JsonToken.START_ARRAY) {
+        int cols = 0;
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+          if (t != JsonToken.VALUE_STRING
+              && t != JsonToken.VALUE_NUMBER_INT
+              && t != JsonToken.VALUE_NUMBER_FLOAT) {
+            return (OrderBookLevels<?>) ctxt.handleUnexpectedToken(OrderBookLevels.class, p);
+          }
+          if (n == unscaled.length) {
+            unscaled = Arrays.copyOf(unscaled, n << 1);
+            scales = Arrays.copyOf(scales, n << 1);
+          }
+          parseDecimal(p, unscaled, scales, n);
+          n++;
+          cols++;
+        }
+        if (width == -1) {
+          width = cols;
+        } else if (width != cols) {
+          throw JsonMappingException.from(p, "ragged order book row at level " + rows);
+        }
+        rows++;
+      }
+      if (p.currentToken() != JsonToken.END_ARRAY) {
+        return (OrderBookLevels<?>) ctxt.handleUnexpectedToken(OrderBookLevels.class, p);
+      }
+
+      return new OrderBookLevels(elementType, rows, Math.max(width, 0), unscaled, scales);
+    }
+
+    /** Parses the current token text as a plain decimal without creating a String. */
+    private static void parseDecimal(JsonParser p, long[] unscaled, byte[] scales, int idx)
+        throws IOException {
+      char[] buf = p.getTextCharacters();
+      int off = p.getTextOffset();
+      int end = off + p.getTextLength();
+
+      int i = off;
+      boolean neg = false;
+      if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+        neg = buf[i] == '-';
+        i++;
+      }
+
+      long v = 0;
+      int scale = 0;
+      int digits = 0;
+      boolean dot = false;
+      for (; i < end; i++) {
+        char c = buf[i];
+        if (c == '.' && !dot) {
+          dot = true;
+          continue;
+        }
+        if (c < '0' || c > '9' || digits >= 18) {
+          // exponent, overflow or garbage: take the slow path
+          slowParse(p, new String(buf, off, end - off), unscaled, scales, idx);
+          return;
+        }
+        v = v * 10 + (c - '0');
+        digits++;
+        if (dot) {
+          scale++;
+        }
+      }
+      if (digits == 0) {
+        throw JsonMappingException.from(p, "invalid decimal: " + new String(buf, off, end - off));
+      }
+      unscaled[idx] = neg ? -v : v;
+      scales[idx] = (byte) scale;
+    }
+
+    private static void slowParse(
+        JsonParser p, String text, long[] unscaled, byte[] scales, int idx) throws IOException {
+      try {
+        BigDecimal d = OrderBookLevels.compact(new BigDecimal(text));
+        unscaled[idx] = d.unscaledValue().longValue();
+        scales[idx] = (byte) d.scale();
+      } catch (IllegalArgumentException e) {
+        throw JsonMappingException.from(p, "unsupported decimal: " + text, e);
+      }
+    }
+  }
+}
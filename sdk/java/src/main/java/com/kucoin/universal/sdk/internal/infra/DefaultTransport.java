@@ -1,20 +1,20 @@
 package com.kucoin.universal.sdk.internal.infra;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kucoin.universal.sdk.internal.interfaces.PathVar;
+import com.kucoin.universal.sdk.internal.interfaces.RateLimiter;
 import com.kucoin.universal.sdk.internal.interfaces.Request;
 import com.kucoin.universal.sdk.internal.interfaces.Response;
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
 import com.kucoin.universal.sdk.model.*;
-import java.lang.reflect.Field;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import kotlin.Pair;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.NonNull;
 import okhttp3.*;
 
@@ -26,17 +26,29 @@ public final class DefaultTransport implements Transport {
   private final ClientOption clientOpt;
   private final TransportOption opt;
   private final String version;
+  private final HttpRuntime runtime;
   private final OkHttpClient http;
+  private final AtomicBoolean closed = new AtomicBoolean();
   private final KcSigner signer;
-  private final ObjectMapper mapper = new ObjectMapper();
+  private final RateLimiter rateLimiter;
+  private final ObjectMapper mapper;
 
   public DefaultTransport(@NonNull ClientOption clientOpt, String version) {
+    this(clientOpt, version, new HttpRuntime(clientOpt.getTransportOption()));
+  }
+
+  /**
+   * @param runtime HTTP resources shared with other transports; held until {@link #close()}
+   */
+  public DefaultTransport(@NonNull ClientOption clientOpt, String version, HttpRuntime runtime) {
     this.clientOpt = clientOpt;
     this.opt =
         Optional.ofNullable(clientOpt.getTransportOption())
             .orElseGet(() -> TransportOption.builder().build());
     this.version = version;
-    this.http = buildOkHttp(opt);
+    this.runtime = runtime;
+    this.http = runtime.acquire();
+    this.rateLimiter = opt.rateLimiter().orElse(null);
     this.signer =
         new KcSigner(
             clientOpt.getKey(),
@@ -45,52 +57,23 @@ public final class DefaultTransport implements Transport {
             clientOpt.getBrokerName(),
             clientOpt.getBrokerPartner(),
             clientOpt.getBrokerKey());
-    mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    this.mapper = JsonMappers.get(clientOpt);
   }
 
-  private OkHttpClient buildOkHttp(TransportOption o) {
-
-    // connection pool
-    ConnectionPool pool =
-        o.isKeepAlive()
-            ? new ConnectionPool(
-                o.getMaxIdleConnections(),
-                o.getKeepAliveDuration().toMillis(),
-                TimeUnit.MILLISECONDS)
-            : new ConnectionPool(0, 1, TimeUnit.SECONDS); // disable keep-alive
-
-    OkHttpClient.Builder b =
-        new OkHttpClient.Builder()
-            .connectionPool(pool)
-            .connectTimeout(o.getConnectTimeout())
-            .readTimeout(o.getReadTimeout())
-            .writeTimeout(o.getWriteTimeout())
-            .callTimeout(o.getCallTimeout())
-            .pingInterval(o.getPingInterval())
-            .retryOnConnectionFailure(o.isRetryOnConnectionFailure());
-
-    // proxy
-    o.proxy().ifPresent(b::proxy);
-
-    // dispatcher limits
-    Dispatcher d =
-        o.dispatcherExecutor().isPresent()
-            ? new Dispatcher(o.dispatcherExecutor().get())
-            : new Dispatcher();
-    d.setMaxRequests(o.getMaxRequests());
-    d.setMaxRequestsPerHost(o.getMaxRequestsPerHost());
-    b.dispatcher(d);
-
-    // interceptors
-    o.interceptors().forEach(b::addInterceptor);
-    o.eventListener().ifPresent(b::eventListener);
-
-    return b.build();
+  /** Daemon scheduler for async requests delayed by the rate limiter, created on first use. */
+  private static final class DelayedCalls {
+    static final ScheduledExecutorService SCHEDULER =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread t = new Thread(r, "kucoin-rate-limit");
+              t.setDaemon(true);
+              return t;
+            });
   }
 
   private static class PathRes {
     String path;
-    Set<String> used = new HashSet<>();
+    Set<String> used = Collections.emptySet();
   }
 
   /** Replace {var} placeholders with field values annotated by {@link PathVar}. */
@@ -101,42 +84,9 @@ public final class DefaultTransport implements Transport {
       return pr;
     }
 
-    Pattern p = Pattern.compile("\\{(.*?)}");
-    Matcher m = p.matcher(path);
-    StringBuffer sb = new StringBuffer();
-
-    while (m.find()) {
-      String token = m.group(1);
-      String replacement = null;
-
-      // find matching field annotated with @PathVar("token")
-      for (Field f : req.getClass().getDeclaredFields()) {
-        PathVar pv = f.getAnnotation(PathVar.class);
-        if (pv == null || !pv.value().equals(token)) continue;
-
-        f.setAccessible(true);
-        Object v;
-        try {
-          v = f.get(req);
-        } catch (IllegalAccessException e) {
-          throw new RuntimeException(e);
-        }
-
-        if (v == null) throw new IllegalStateException("path var '" + token + "' is null");
-
-        pr.used.add(f.getName());
-        replacement = String.valueOf(v);
-        break;
-      }
-
-      if (replacement == null)
-        throw new IllegalArgumentException("no field bound for {" + token + '}');
-
-      m.appendReplacement(sb, Matcher.quoteReplacement(replacement));
-    }
-    m.appendTail(sb);
-
-    pr.path = sb.toString();
+    PathTemplate template = PathTemplate.of(path, req.getClass());
+    pr.path = template.expand(req);
+    pr.used = template.usedFields();
     return pr;
   }
 
@@ -158,46 +108,46 @@ public final class DefaultTransport implements Transport {
     return v != null ? Integer.parseInt(v) : -1;
   }
 
-  private okhttp3.Request processRequest(
+  /**
+   * Builds the signed HTTP request of a call, serializing a JSON body into {@code body}, which must
+   * outlive the request. Package-private for the transport benchmarks.
+   */
+  okhttp3.Request processRequest(
       Request reqObj,
       String path,
       Set<String> excludeField,
       String endpoint,
       String method,
       boolean broker,
-      boolean requestAsJson)
+      boolean requestAsJson,
+      JsonBody body)
       throws Exception {
 
     String rawUrl = path;
-    List<Pair<String, String>> queryParam = new LinkedList<>();
-    String body = "";
+    QueryString query = new QueryString();
 
     HttpUrl.Builder urlBuilder =
         Objects.requireNonNull(HttpUrl.parse(endpoint + path)).newBuilder();
 
     // build body
     if (requestAsJson) {
-      if (reqObj != null) body = mapper.writeValueAsString(reqObj);
+      if (reqObj != null) mapper.writeValue(body, reqObj);
     } else {
       switch (method) {
         case "GET":
         case "DELETE":
-          if (reqObj != null) {
+          if (reqObj != null && !reqObj.encodeQuery(query)) {
             Map<String, Object> map = mapper.convertValue(reqObj, Map.class);
             for (Map.Entry<String, Object> e : map.entrySet()) {
-              if (excludeField.contains(e.getKey()) || e.getValue() == null) continue;
-              String key = e.getKey();
+              if (excludeField.contains(e.getKey())) continue;
               Object valObj = e.getValue();
-              String val =
-                  valObj instanceof Enum<?> ? ((Enum<?>) valObj).name() : String.valueOf(valObj);
-              urlBuilder.addQueryParameter(key, val);
-              queryParam.add(new Pair<>(key, val));
+              query.add(e.getKey(), valObj instanceof Enum<?> ? ((Enum<?>) valObj).name() : valObj);
             }
           }
           break;
 
         case "POST":
-          if (reqObj != null) body = mapper.writeValueAsString(reqObj);
+          if (reqObj != null) mapper.writeValue(body, reqObj);
           break;
 
         default:
@@ -205,17 +155,13 @@ public final class DefaultTransport implements Transport {
       }
     }
 
-    if (!queryParam.isEmpty()) {
-      rawUrl =
-          rawUrl
-              + "?"
-              + queryParam.stream()
-                  .map(p -> p.getFirst() + "=" + p.getSecond())
-                  .collect(Collectors.joining("&"));
+    if (!query.isEmpty()) {
+      rawUrl = rawUrl + "?" + query.raw();
+      urlBuilder.encodedQuery(query.encoded());
     }
     RequestBody rb = null;
-    if (!body.isEmpty() || method.equalsIgnoreCase("POST")) {
-      rb = RequestBody.create(body, JSON);
+    if (body.size() > 0 || method.equalsIgnoreCase("POST")) {
+      rb = body.toRequestBody(JSON);
     }
 
     okhttp3.Request.Builder qb =
@@ -223,17 +169,43 @@ public final class DefaultTransport implements Transport {
     qb.header("Content-Type", "application/json");
     qb.header("User-Agent", "Kucoin-Universal-Java-SDK/" + version);
 
-    // sign
-    String payload = method + rawUrl + body;
-    Map<String, String> sig = broker ? signer.brokerHeaders(payload) : signer.headers(payload);
-    sig.forEach(qb::header);
+    // sign the bytes that are sent
+    if (broker) {
+      signer.brokerHeaders(method, rawUrl, body.array(), body.size(), qb::header);
+    } else {
+      signer.headers(method, rawUrl, body.array(), body.size(), qb::header);
+    }
 
     return qb.build();
   }
 
+  /** Nanoseconds to wait before sending; throws when the limiter rejects the request. */
+  private long reserve(String pool, int weight) {
+    if (rateLimiter == null || pool == null || pool.isEmpty()) {
+      return 0;
+    }
+    return rateLimiter.reserve(pool, weight);
+  }
+
   private <T extends Response<T, RestResponse<T>>> T doRequest(
-      okhttp3.Request request, Class<T> respClazz) throws Exception {
-    okhttp3.Response resp = http.newCall(request).execute();
+      okhttp3.Request request, Class<T> respClazz, String pool) throws Exception {
+    try (okhttp3.Response resp = http.newCall(request).execute()) {
+      return parseResponse(resp, respClazz, pool);
+    }
+  }
+
+  private <T extends Response<T, RestResponse<T>>> T parseResponse(
+      okhttp3.Response resp, Class<T> respClazz, String pool) throws Exception {
+
+    RestRateLimit rateLimit =
+        new RestRateLimit(
+            headerInt(resp, "gw-ratelimit-limit"),
+            headerInt(resp, "gw-ratelimit-remaining"),
+            headerInt(resp, "gw-ratelimit-reset"));
+    // rejected requests carry the headers too
+    if (rateLimiter != null && pool != null && !pool.isEmpty()) {
+      rateLimiter.update(pool, rateLimit);
+    }
 
     if (!resp.isSuccessful()) {
       String msg = resp.body() != null ? resp.body().string() : "";
@@ -245,11 +217,7 @@ public final class DefaultTransport implements Transport {
     JavaType type = mapper.getTypeFactory().constructParametricType(RestResponse.class, respClazz);
 
     RestResponse<T> common = mapper.readValue(json, type);
-    common.setRateLimit(
-        new RestRateLimit(
-            headerInt(resp, "gw-ratelimit-limit"),
-            headerInt(resp, "gw-ratelimit-remaining"),
-            headerInt(resp, "gw-ratelimit-reset")));
+    common.setRateLimit(rateLimit);
     common.checkError();
     T response = common.getData();
     if (response == null) {
@@ -260,6 +228,13 @@ public final class DefaultTransport implements Transport {
     return response;
   }
 
+  private static RestError toRestError(Exception e) {
+    if (e instanceof RestError) {
+      return (RestError) e;
+    }
+    return new RestError(null, e);
+  }
+
   @Override
   public <T extends Response<T, RestResponse<T>>> T call(
       String domain,
@@ -268,34 +243,146 @@ public final class DefaultTransport implements Transport {
       String path,
       Request reqObj,
       Class<T> respClazz,
-      boolean requestAsJson) {
+      boolean requestAsJson,
+      String rateLimitPool,
+      int rateLimitWeight) {
 
     method = method.toUpperCase();
     domain = domain.toLowerCase();
 
+    // the body is written before execute returns, so the thread's buffer can be reused
+    JsonBody body = JsonBody.pooled();
     try {
 
+      long wait = reserve(rateLimitPool, rateLimitWeight);
+      if (wait > 0) {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      }
+
       String endpoint = endpoint(domain);
       PathRes pr = processPathVar(path, reqObj);
 
       okhttp3.Request request =
-          processRequest(reqObj, pr.path, pr.used, endpoint, method, broker, requestAsJson);
+          processRequest(reqObj, pr.path, pr.used, endpoint, method, broker, requestAsJson, body);
 
-      return doRequest(request, respClazz);
+      return doRequest(request, respClazz, rateLimitPool);
+    } catch (InterruptedException e) {
+      // interrupted while waiting for the rate limiter; nothing was sent
+      Thread.currentThread().interrupt();
+      throw new RestError(null, e);
     } catch (Exception e) {
-      RestError restError = null;
-      if (e instanceof RestError) {
-        restError = (RestError) e;
-      } else {
-        restError = new RestError(null, e);
-      }
-      throw restError;
+      throw toRestError(e);
+    } finally {
+      body.release();
+    }
+  }
+
+  @Override
+  public <T extends Response<T, RestResponse<T>>> CompletableFuture<T> callAsync(
+      String domain,
+      boolean broker,
+      String method,
+      String path,
+      Request reqObj,
+      Class<T> respClazz,
+      boolean requestAsJson,
+      String rateLimitPool,
+      int rateLimitWeight) {
+
+    String m = method.toUpperCase();
+    String d = domain.toLowerCase();
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+    long wait;
+    try {
+      wait = reserve(rateLimitPool, rateLimitWeight);
+    } catch (Exception e) {
+      future.completeExceptionally(toRestError(e));
+      return future;
+    }
+
+    if (wait > 0) {
+      // sign when actually sent, the timestamp must stay close to the server clock
+      DelayedCalls.SCHEDULER.schedule(
+          () ->
+              enqueue(future, d, broker, m, path, reqObj, respClazz, requestAsJson, rateLimitPool),
+          wait,
+          TimeUnit.NANOSECONDS);
+    } else {
+      enqueue(future, d, broker, m, path, reqObj, respClazz, requestAsJson, rateLimitPool);
     }
+    return future;
+  }
+
+  private <T extends Response<T, RestResponse<T>>> void enqueue(
+      CompletableFuture<T> future,
+      String domain,
+      boolean broker,
+      String method,
+      String path,
+      Request reqObj,
+      Class<T> respClazz,
+      boolean requestAsJson,
+      String rateLimitPool) {
+
+    if (future.isDone()) {
+      return;
+    }
+
+    Call httpCall;
+    try {
+
+      String endpoint = endpoint(domain);
+      PathRes pr = processPathVar(path, reqObj);
+
+      // written later on a dispatcher thread, so the request owns its buffer
+      okhttp3.Request request =
+          processRequest(
+              reqObj,
+              pr.path,
+              pr.used,
+              endpoint,
+              method,
+              broker,
+              requestAsJson,
+              JsonBody.unpooled());
+
+      httpCall = http.newCall(request);
+    } catch (Exception e) {
+      future.completeExceptionally(toRestError(e));
+      return;
+    }
+
+    httpCall.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            future.completeExceptionally(toRestError(e));
+          }
+
+          @Override
+          public void onResponse(Call call, okhttp3.Response resp) {
+            try (okhttp3.Response r = resp) {
+              future.complete(parseResponse(r, respClazz, rateLimitPool));
+            } catch (Exception e) {
+              future.completeExceptionally(toRestError(e));
+            }
+          }
+        });
+
+    // cancelling the future aborts the in-flight request
+    future.whenComplete(
+        (r, e) -> {
+          if (future.isCancelled()) {
+            httpCall.cancel();
+          }
+        });
   }
 
   @Override
   public void close() {
-    http.connectionPool().evictAll();
-    http.dispatcher().executorService().shutdown();
+    if (closed.compareAndSet(false, true)) {
+      runtime.release();
+    }
   }
 }
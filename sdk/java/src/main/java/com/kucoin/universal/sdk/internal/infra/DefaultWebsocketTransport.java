@@ -3,6 +3,7 @@ package com.kucoin.universal.sdk.internal.infra;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransport;
 import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransportListener;
+import com.kucoin.universal.sdk.internal.interfaces.WsRecorder;
 import com.kucoin.universal.sdk.internal.interfaces.WsToken;
 import com.kucoin.universal.sdk.internal.interfaces.WsTokenProvider;
 import com.kucoin.universal.sdk.model.Constants;
@@ -26,44 +27,80 @@ public final class DefaultWebsocketTransport implements WebsocketTransport {
   private final WsTokenProvider tokenProvider;
   private final WebSocketClientOption opt;
   private final WebsocketTransportListener listener;
+  private final int endpointIndex;
 
   private final OkHttpClient http;
-  private final ObjectMapper mapper = new ObjectMapper();
+  private final ObjectMapper mapper;
+  private final WsFrameDecoder decoder;
+  private final WsRecorder recorder;
   private final AtomicBoolean connected = new AtomicBoolean(false);
   private final AtomicBoolean shutting = new AtomicBoolean(false);
   private final AtomicBoolean reconnecting = new AtomicBoolean(false);
   private final Map<String, CompletableFuture<Void>> ackMap = new ConcurrentHashMap<>();
-  private final ScheduledExecutorService scheduler =
-      Executors.newSingleThreadScheduledExecutor(
-          r -> {
-            Thread t = new Thread(r);
-            t.setName("ws-scheduler-single-pool");
-            t.setDaemon(true);
-            return t;
-          });
+  private final HttpRuntime runtime;
+  private final ScheduledExecutorService scheduler;
+  private volatile ScheduledFuture<?> ping;
   private volatile WebSocket socket;
   private volatile WsToken token;
 
   public DefaultWebsocketTransport(
       WsTokenProvider tokenProvider,
       WebSocketClientOption option,
-      WebsocketTransportListener listener) {
+      WebsocketTransportListener listener,
+      ObjectMapper mapper) {
+    this(tokenProvider, option, listener, mapper, -1);
+  }
+
+  /**
+   * @param endpointIndex instance server to dial, modulo the number of servers returned with the
+   *     token; -1 = a random one
+   */
+  public DefaultWebsocketTransport(
+      WsTokenProvider tokenProvider,
+      WebSocketClientOption option,
+      WebsocketTransportListener listener,
+      ObjectMapper mapper,
+      int endpointIndex) {
+    this(tokenProvider, option, listener, mapper, endpointIndex, null);
+  }
+
+  /**
+   * @param runtime HTTP resources shared with other transports, held until {@link #stop()}; {@code
+   *     null} = resources of this transport only
+   */
+  public DefaultWebsocketTransport(
+      WsTokenProvider tokenProvider,
+      WebSocketClientOption option,
+      WebsocketTransportListener listener,
+      ObjectMapper mapper,
+      int endpointIndex,
+      HttpRuntime runtime) {
 
     this.tokenProvider = tokenProvider;
+    this.endpointIndex = endpointIndex;
     this.opt = option;
     this.listener = listener;
+    this.mapper = mapper;
+    this.decoder = new WsFrameDecoder(mapper, listener);
+    this.recorder = option.getRecorder();
+    this.runtime = runtime != null ? runtime : new HttpRuntime(null);
     this.http =
-        new OkHttpClient()
+        this.runtime
+            .acquireWebSocket()
             .newBuilder()
             .connectTimeout(option.getDialTimeout())
             .writeTimeout(option.getWriteTimeout())
             .build();
+    this.scheduler = this.runtime.scheduler();
   }
 
-  private static WsToken pick(List<WsToken> list) {
+  private WsToken pick(List<WsToken> list) {
     if (list == null || list.isEmpty()) {
       throw new IllegalArgumentException("empty token list");
     }
+    if (endpointIndex >= 0) {
+      return list.get(endpointIndex % list.size());
+    }
     return list.get(ThreadLocalRandom.current().nextInt(list.size()));
   }
 
@@ -81,12 +118,15 @@ public final class DefaultWebsocketTransport implements WebsocketTransport {
 
   @Override
   public void stop() {
-    shutting.set(true);
+    boolean first = !shutting.getAndSet(true);
     safeClose("shutdown");
-    http.connectionPool().evictAll();
-    http.dispatcher().executorService().shutdown();
-    scheduler.shutdownNow();
-    tokenProvider.close();
+    if (ping != null) {
+      ping.cancel(false);
+    }
+    if (first) {
+      runtime.release();
+      tokenProvider.close();
+    }
     log.info("websocket closed");
     listener.onEvent(WebSocketEvent.CLIENT_SHUTDOWN, "");
   }
@@ -112,7 +152,8 @@ public final class DefaultWebsocketTransport implements WebsocketTransport {
 
     scheduler.schedule(
         () -> {
-          if (ackMap.remove(m.getId()) != null) {
+          // ids repeat across resubscriptions; only expire this write's own entry
+          if (ackMap.remove(m.getId(), fut)) {
             fut.completeExceptionally(new TimeoutException("ack timeout"));
           }
         },
@@ -166,13 +207,14 @@ public final class DefaultWebsocketTransport implements WebsocketTransport {
       log.info("Websocket connected");
     } catch (Exception e) {
       safeClose("dial-error");
+      tokenProvider.invalidate();
       throw new RuntimeException(e);
     }
   }
 
   private void handle(String json, CountDownLatch welcome) {
     try {
-      WsMessage m = mapper.readValue(json, WsMessage.class);
+      WsMessage m = decoder.decode(json);
       switch (m.getType()) {
         case Constants.WS_MESSAGE_TYPE_WELCOME:
           {
@@ -181,6 +223,9 @@ public final class DefaultWebsocketTransport implements WebsocketTransport {
           }
         case Constants.WS_MESSAGE_TYPE_MESSAGE:
           {
+            if (recorder != null) {
+              record(m.getTopic(), json);
+            }
             listener.onMessage(m);
             break;
           }
@@ -210,28 +255,37 @@ public final class DefaultWebsocketTransport implements WebsocketTransport {
     }
   }
 
+  private void record(String topic, String json) {
+    try {
+      recorder.record(topic, json);
+    } catch (Exception e) {
+      log.error("record ws frame failed, topic:{}", topic, e);
+    }
+  }
+
   private void schedulePing() {
     long interval = token.getPingInterval();
     long timeout = token.getPingTimeout();
-    scheduler.scheduleAtFixedRate(
-        () -> {
-          if (!connected.get()) {
-            return;
-          }
-          WsMessage ping = new WsMessage();
-          ping.setId(String.valueOf(System.nanoTime()));
-          ping.setType(Constants.WS_MESSAGE_TYPE_PING);
-          write(ping, Duration.ofMillis(timeout))
-              .exceptionally(
-                  ex -> {
-                    log.error("Schedule ping error", ex);
-                    listener.onEvent(WebSocketEvent.ERROR_RECEIVED, ex.getMessage());
-                    return null;
-                  });
-        },
-        interval,
-        interval,
-        TimeUnit.MILLISECONDS);
+    ping =
+        scheduler.scheduleAtFixedRate(
+            () -> {
+              if (!connected.get()) {
+                return;
+              }
+              WsMessage ping = new WsMessage();
+              ping.setId(String.valueOf(System.nanoTime()));
+              ping.setType(Constants.WS_MESSAGE_TYPE_PING);
+              write(ping, Duration.ofMillis(timeout))
+                  .exceptionally(
+                      ex -> {
+                        log.error("Schedule ping error", ex);
+                        listener.onEvent(WebSocketEvent.ERROR_RECEIVED, ex.getMessage());
+                        return null;
+                      });
+            },
+            interval,
+            interval,
+            TimeUnit.MILLISECONDS);
   }
 
   private void tryReconnect(String reason) {
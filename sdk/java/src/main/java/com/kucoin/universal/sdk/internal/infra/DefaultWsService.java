@@ -3,117 +3,417 @@ package com.kucoin.universal.sdk.internal.infra;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kucoin.universal.sdk.internal.interfaces.*;
 import com.kucoin.universal.sdk.model.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public final class DefaultWsService implements WebSocketService, WebsocketTransportListener {
-  private final ObjectMapper mapper = new ObjectMapper();
+  private static final int DEDUP_CAPACITY = 8192;
+
+  private final ObjectMapper mapper;
   private final WebsocketTransport client;
+  private final WebsocketTransport standby;
+  private final WsDeduplicator dedup;
+  private volatile boolean standbyActive;
+  private volatile boolean standbyDegraded;
   private final WebSocketClientOption option;
   private final boolean privateChannel;
+  private final WsDispatcher dispatcher;
+  private final String dispatchName;
+  private volatile WsDispatcher conflater;
+  private volatile Consumer<List<SubInfo>> resubscriber;
   private TopicManager topicManager = new TopicManager();
 
+  /** per topic, the last callback that lent an event to decode into */
+  private final Map<String, WebSocketMessageCallback> lenders = new ConcurrentHashMap<>();
+
   public DefaultWsService(
       ClientOption opt, String domain, boolean privateChannel, String sdkVersion) {
+    this(opt, domain, privateChannel, sdkVersion, null, null);
+  }
+
+  /**
+   * @param tokens bullet tokens shared with other services; {@code null} = fetch a token on every
+   *     dial over a transport of this service
+   * @param runtime HTTP resources shared with other services, held until {@link #stop()}; {@code
+   *     null} = resources of this service only
+   */
+  public DefaultWsService(
+      ClientOption opt,
+      String domain,
+      boolean privateChannel,
+      String sdkVersion,
+      WsTokenCache tokens,
+      HttpRuntime runtime) {
+
+    this.privateChannel = privateChannel;
+    this.option = opt.getWebsocketClientOption();
+    this.mapper = JsonMappers.get(opt);
+
+    WsTokenProvider tokenProvider = tokenProvider(opt, domain, sdkVersion, tokens, runtime);
 
+    if (option.isStandby()) {
+      // dial different instance servers when the token lists more than one
+      this.client = new DefaultWebsocketTransport(tokenProvider, option, this, mapper, 0, runtime);
+      WsTokenProvider standbyTokenProvider =
+          tokenProvider(opt, domain, sdkVersion, tokens, runtime);
+      this.standby =
+          new DefaultWebsocketTransport(
+              standbyTokenProvider, option, new StandbyListener(), mapper, 1, runtime);
+      this.dedup = new WsDeduplicator(DEDUP_CAPACITY);
+    } else {
+      this.client = new DefaultWebsocketTransport(tokenProvider, option, this, mapper, -1, runtime);
+      this.standby = null;
+      this.dedup = null;
+    }
+
+    this.dispatchName = "ws-dispatch-" + domain + (privateChannel ? "-private" : "-public");
+    this.dispatcher =
+        option.getDispatchThreads() > 0
+            ? newDispatcher(option.getDispatchThreads(), option.getDispatchOverflowPolicy())
+            : null;
+  }
+
+  /**
+   * Service over the transport {@code transport} builds with this service as its listener, e.g. a
+   * journal replay; never with a standby connection.
+   */
+  public DefaultWsService(
+      ClientOption opt,
+      String domain,
+      boolean privateChannel,
+      Function<WebsocketTransportListener, WebsocketTransport> transport) {
+    this(opt, domain, privateChannel, transport, null);
+  }
+
+  /**
+   * Service over the transports {@code transport} and {@code standby} build with this service as
+   * their listener; {@code standby} may be {@code null}.
+   */
+  public DefaultWsService(
+      ClientOption opt,
+      String domain,
+      boolean privateChannel,
+      Function<WebsocketTransportListener, WebsocketTransport> transport,
+      Function<WebsocketTransportListener, WebsocketTransport> standby) {
     this.privateChannel = privateChannel;
     this.option = opt.getWebsocketClientOption();
+    this.mapper = JsonMappers.get(opt);
+    this.client = transport.apply(this);
+    this.standby = standby == null ? null : standby.apply(new StandbyListener());
+    this.dedup = standby == null ? null : new WsDeduplicator(DEDUP_CAPACITY);
+    this.dispatchName = "ws-dispatch-" + domain + (privateChannel ? "-private" : "-public");
+    this.dispatcher =
+        option.getDispatchThreads() > 0
+            ? newDispatcher(option.getDispatchThreads(), option.getDispatchOverflowPolicy())
+            : null;
+  }
 
-    Transport tokenTransport = new DefaultTransport(opt, sdkVersion);
+  private WsTokenProvider tokenProvider(
+      ClientOption opt,
+      String domain,
+      String sdkVersion,
+      WsTokenCache tokens,
+      HttpRuntime runtime) {
+    if (tokens != null) {
+      return tokens.provider(domain, privateChannel);
+    }
+    DefaultTransport transport =
+        runtime != null
+            ? new DefaultTransport(opt, sdkVersion, runtime)
+            : new DefaultTransport(opt, sdkVersion);
+    return new DefaultWsTokenProvider(transport, domain, privateChannel);
+  }
 
-    WsTokenProvider tokenProvider =
-        new DefaultWsTokenProvider(tokenTransport, domain, privateChannel);
+  private WsDispatcher newDispatcher(int threads, WebSocketClientOption.OverflowPolicy policy) {
+    return new WsDispatcher(
+        threads,
+        option.getDispatchQueueCapacity(),
+        policy,
+        dispatchName,
+        (topic, dropped) ->
+            notifyEvent(WebSocketEvent.MESSAGE_DROPPED, "topic:" + topic + ", dropped:" + dropped));
+  }
 
-    this.client = new DefaultWebsocketTransport(tokenProvider, option, this);
+  /** Dispatcher for conflating callbacks; a single conflating thread when dispatch is inline. */
+  private WsDispatcher conflater() {
+    if (dispatcher != null) {
+      return dispatcher;
+    }
+    WsDispatcher d = conflater;
+    if (d == null) {
+      synchronized (this) {
+        d = conflater;
+        if (d == null) {
+          d = newDispatcher(1, WebSocketClientOption.OverflowPolicy.CONFLATE);
+          conflater = d;
+        }
+      }
+    }
+    return d;
   }
 
   @Override
   public void start() {
     client.start();
+    if (standby != null) {
+      standby.start();
+    }
   }
 
   @Override
   public void stop() {
     client.stop();
+    if (standby != null) {
+      standby.stop();
+    }
+    if (dispatcher != null) {
+      dispatcher.shutdown();
+    }
+    if (conflater != null) {
+      conflater.shutdown();
+    }
   }
 
   @Override
   public String subscribe(String prefix, String[] args, WebSocketMessageCallback callback) {
+    try {
+      return subscribeAsync(prefix, args, callback).join();
+    } catch (CompletionException e) {
+      throw new RuntimeException("subscribe failed", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<String> subscribeAsync(
+      String prefix, String[] args, WebSocketMessageCallback callback) {
+
+    if (option.getFlyweightTopics().contains(prefix)) {
+      callback = ReusingCallback.wrap(callback);
+    }
+    if (option.getConflateTopics().contains(prefix)) {
+      callback = WebSocketMessageCallback.conflating(callback);
+    }
 
     SubInfo sub = new SubInfo(prefix, Arrays.asList(args), callback);
     CallbackManager cm = topicManager.getCallbackManager(prefix);
     String id = sub.toId();
-    Exception exception = null;
 
     if (!cm.add(sub)) {
       throw new IllegalStateException("already subscribed");
     }
 
-    try {
-      WsMessage msg = new WsMessage();
-      msg.setId(id);
-      msg.setType(Constants.WS_MESSAGE_TYPE_SUBSCRIBE);
-      msg.setTopic(sub.subTopic());
-      msg.setPrivateChannel(privateChannel);
-      msg.setResponse(true);
+    WsMessage msg = new WsMessage();
+    msg.setId(id);
+    msg.setType(Constants.WS_MESSAGE_TYPE_SUBSCRIBE);
+    msg.setTopic(sub.subTopic());
+    msg.setPrivateChannel(privateChannel);
+    msg.setResponse(true);
 
-      client.write(msg, option.getWriteTimeout()).join();
-      return id;
-    } catch (Exception e) {
-      cm.remove(id);
-      exception = e;
-      throw new RuntimeException("subscribe failed", e);
-    } finally {
-      log.info(
-          "subscribe prefix:{}, args:{}, private:{}, id:{}",
-          prefix,
-          args,
-          privateChannel,
-          id,
-          exception);
-    }
+    return write(msg)
+        .handle(
+            (v, e) -> {
+              log.info(
+                  "subscribe prefix:{}, args:{}, private:{}, id:{}",
+                  prefix,
+                  args,
+                  privateChannel,
+                  id,
+                  e);
+              if (e != null) {
+                cm.remove(id);
+                throw new CompletionException(e);
+              }
+              return id;
+            });
   }
 
   @Override
   public void unsubscribe(String id) {
+    try {
+      unsubscribeAsync(id).join();
+    } catch (CompletionException e) {
+      throw new RuntimeException("unsubscribe failed", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> unsubscribeAsync(String id) {
     SubInfo sub = SubInfo.fromId(id);
     CallbackManager cm = topicManager.getCallbackManager(sub.subTopic());
-    Exception exception = null;
 
-    try {
-      WsMessage msg = new WsMessage();
-      msg.setId(UUID.randomUUID().toString());
-      msg.setType(Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE);
-      msg.setTopic(sub.subTopic());
-      msg.setPrivateChannel(privateChannel);
-      msg.setResponse(true);
+    WsMessage msg = new WsMessage();
+    msg.setId(UUID.randomUUID().toString());
+    msg.setType(Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE);
+    msg.setTopic(sub.subTopic());
+    msg.setPrivateChannel(privateChannel);
+    msg.setResponse(true);
 
-      client.write(msg, option.getWriteTimeout()).join();
-      cm.remove(id);
-    } catch (Exception e) {
-      exception = e;
-      throw new RuntimeException("unsubscribe failed", e);
-    } finally {
-      log.info("unsubscribe private:{}, id:{}", privateChannel, id, exception);
+    return write(msg)
+        .handle(
+            (v, e) -> {
+              log.info("unsubscribe private:{}, id:{}", privateChannel, id, e);
+              if (e != null) {
+                throw new CompletionException(e);
+              }
+              cm.remove(id);
+              return null;
+            });
+  }
+
+  /**
+   * Sends {@code msg} on every connection; succeeds once any of them acknowledged it. A standby
+   * write that fails is retried once; if that fails too the standby is marked degraded until its
+   * next resubscribe.
+   */
+  private CompletableFuture<Void> write(WsMessage msg) {
+    CompletableFuture<Void> primary = client.write(msg, option.getWriteTimeout());
+    if (standby == null) {
+      return primary;
     }
+    CompletableFuture<Void> secondary = writeStandby(msg, true);
+    CompletableFuture<Void> any = new CompletableFuture<>();
+    AtomicInteger failures = new AtomicInteger();
+    BiConsumer<Void, Throwable> ack =
+        (v, e) -> {
+          if (e == null) {
+            any.complete(null);
+          } else if (failures.incrementAndGet() == 2) {
+            any.completeExceptionally(e);
+          }
+        };
+    primary.whenComplete(ack);
+    secondary.whenComplete(ack);
+    return any;
+  }
+
+  private CompletableFuture<Void> writeStandby(WsMessage msg, boolean retry) {
+    CompletableFuture<Void> f = new CompletableFuture<>();
+    standby
+        .write(msg, option.getWriteTimeout())
+        .whenComplete(
+            (v, e) -> {
+              if (e == null) {
+                f.complete(null);
+                return;
+              }
+              if (retry) {
+                log.warn(
+                    "standby write failed, retrying, type:{}, topic:{}",
+                    msg.getType(),
+                    msg.getTopic(),
+                    e);
+                writeStandby(msg, false)
+                    .whenComplete(
+                        (v2, e2) -> {
+                          if (e2 == null) {
+                            f.complete(null);
+                          } else {
+                            f.completeExceptionally(e2);
+                          }
+                        });
+                return;
+              }
+              standbyDegraded = true;
+              log.error(
+                  "standby write failed, standby degraded, type:{}, topic:{}",
+                  msg.getType(),
+                  msg.getTopic(),
+                  e);
+              notifyEvent(
+                  WebSocketEvent.ERROR_RECEIVED,
+                  "standby degraded, " + msg.getType() + " failed, topic:" + msg.getTopic());
+              f.completeExceptionally(e);
+            });
+    return f;
+  }
+
+  /**
+   * Whether a write on the standby connection failed since its last resubscribe, so it may miss
+   * topics the primary carries.
+   */
+  public boolean isStandbyDegraded() {
+    return standbyDegraded;
   }
 
   @Override
   public void onEvent(WebSocketEvent event, String message) {
+    if (event == WebSocketEvent.DISCONNECTED && standby != null) {
+      standbyActive = true;
+    }
     notifyEvent(event, message);
   }
 
   @Override
   public void onMessage(WsMessage wsMessage) {
+    deliver(wsMessage, false);
+  }
+
+  private void deliver(WsMessage wsMessage, boolean fromStandby) {
+    if (dedup != null) {
+      long key = WsDeduplicator.key(wsMessage);
+      if (key == WsDeduplicator.NO_KEY ? fromStandby != standbyActive : !dedup.firstSeen(key)) {
+        recycle(wsMessage);
+        return;
+      }
+    }
+
     CallbackManager cm = topicManager.getCallbackManager(wsMessage.getTopic());
     WebSocketMessageCallback cb = cm.get(wsMessage.getTopic());
     if (cb == null) {
       log.warn("can not find callback manager, topic:{}", wsMessage.getTopic());
+      recycle(wsMessage);
       return;
     }
 
+    if (cb.conflate()) {
+      // topics such as /market/ticker:all carry one symbol per subject
+      String subject = wsMessage.getSubject();
+      String key = subject == null ? wsMessage.getTopic() : wsMessage.getTopic() + "#" + subject;
+      conflater().dispatch(key, new Delivery(cb, wsMessage), true);
+    } else if (dispatcher == null) {
+      invoke(cb, wsMessage);
+    } else {
+      dispatcher.dispatch(wsMessage.getTopic(), new Delivery(cb, wsMessage), false);
+    }
+  }
+
+  /** Queued callback invocation; its event goes back to the callback if it is never run. */
+  private final class Delivery implements WsDispatcher.Task {
+    private final WebSocketMessageCallback cb;
+    private final WsMessage wsMessage;
+
+    Delivery(WebSocketMessageCallback cb, WsMessage wsMessage) {
+      this.cb = cb;
+      this.wsMessage = wsMessage;
+    }
+
+    @Override
+    public void run() {
+      invoke(cb, wsMessage);
+    }
+
+    @Override
+    public void discard() {
+      if (wsMessage.getPayload() != null) {
+        cb.releaseData(wsMessage.getPayload());
+      }
+    }
+  }
+
+  private void invoke(WebSocketMessageCallback cb, WsMessage wsMessage) {
     try {
       cb.onMessage(wsMessage, mapper);
     } catch (Throwable t) {
@@ -122,30 +422,188 @@ public final class DefaultWsService implements WebSocketService, WebsocketTransp
     }
   }
 
+  @Override
+  public Class<?> dataType(String topic) {
+    WebSocketMessageCallback cb = topicManager.getCallbackManager(topic).get(topic);
+    return cb == null ? null : cb.dataType();
+  }
+
+  @Override
+  public Object acquireData(String topic) {
+    WebSocketMessageCallback cb = topicManager.getCallbackManager(topic).get(topic);
+    if (cb == null) {
+      return null;
+    }
+    Object data = cb.acquireData();
+    if (data != null && lenders.get(topic) != cb) {
+      lenders.put(topic, cb);
+    }
+    return data;
+  }
+
+  /**
+   * Hands the event of a message that is not delivered back to the callback it was acquired from,
+   * which may already be unsubscribed or not yet resubscribed.
+   */
+  private void recycle(WsMessage wsMessage) {
+    if (wsMessage.getPayload() == null) {
+      return;
+    }
+    WebSocketMessageCallback cb = lenders.get(wsMessage.getTopic());
+    if (cb != null) {
+      cb.releaseData(wsMessage.getPayload());
+    }
+  }
+
+  /**
+   * Hands the subscriptions lost on a reconnect to {@code handler} instead of resubscribing them on
+   * this connection.
+   */
+  void onResubscribe(Consumer<List<SubInfo>> handler) {
+    this.resubscriber = handler;
+  }
+
   @Override
   public void onReconnected() {
+    Consumer<List<SubInfo>> handler = resubscriber;
+    if (standby != null && handler == null) {
+      resubscribe(client);
+      return;
+    }
+
     TopicManager oldTopicManager = topicManager;
     this.topicManager = new TopicManager();
 
+    if (handler != null) {
+      List<SubInfo> subs = new ArrayList<>();
+      oldTopicManager.forEach((key, value) -> subs.addAll(value.getSubInfo()));
+      if (standby != null) {
+        // the standby still carries them; the handler places them again from scratch
+        unsubscribeStandby(subs);
+      }
+      handler.accept(subs);
+      return;
+    }
+
+    // send every frame first, then collect the acks
+    Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
     oldTopicManager.forEach(
-        (key, value) -> {
-          value
-              .getSubInfo()
-              .forEach(
-                  sub -> {
-                    try {
-                      subscribe(
-                          sub.getPrefix(),
-                          sub.getArgs().toArray(new String[] {}),
-                          sub.getCallback());
-                      notifyEvent(WebSocketEvent.RE_SUBSCRIBE_OK, sub.toId());
-                    } catch (Exception e) {
-                      notifyEvent(WebSocketEvent.RE_SUBSCRIBE_ERROR, sub.toId());
-                    }
-                  });
+        (key, value) ->
+            value
+                .getSubInfo()
+                .forEach(
+                    sub -> {
+                      CompletableFuture<String> f;
+                      try {
+                        f =
+                            subscribeAsync(
+                                sub.getPrefix(),
+                                sub.getArgs().toArray(new String[] {}),
+                                sub.getCallback());
+                      } catch (Exception e) {
+                        f = new CompletableFuture<>();
+                        f.completeExceptionally(e);
+                      }
+                      pending.put(sub.toId(), f);
+                    }));
+
+    pending.forEach(
+        (id, f) -> {
+          try {
+            f.join();
+            notifyEvent(WebSocketEvent.RE_SUBSCRIBE_OK, id);
+          } catch (Exception e) {
+            notifyEvent(WebSocketEvent.RE_SUBSCRIBE_ERROR, id);
+          }
         });
   }
 
+  /** Drops {@code subs} from the standby connection without waiting for the acks. */
+  private void unsubscribeStandby(List<SubInfo> subs) {
+    for (SubInfo sub : subs) {
+      WsMessage msg = new WsMessage();
+      msg.setId(UUID.randomUUID().toString());
+      msg.setType(Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE);
+      msg.setTopic(sub.subTopic());
+      msg.setPrivateChannel(privateChannel);
+      msg.setResponse(true);
+      standby
+          .write(msg, option.getWriteTimeout())
+          .whenComplete(
+              (v, e) -> {
+                if (e != null) {
+                  log.warn("standby unsubscribe failed, id:{}", sub.toId(), e);
+                }
+              });
+    }
+  }
+
+  /**
+   * Sends the current subscriptions on {@code transport}, which reconnected on its own; returns
+   * whether every one was acknowledged.
+   */
+  private boolean resubscribe(WebsocketTransport transport) {
+    Map<String, CompletableFuture<Void>> pending = new LinkedHashMap<>();
+    topicManager.forEach(
+        (key, value) ->
+            value
+                .getSubInfo()
+                .forEach(
+                    sub -> {
+                      WsMessage msg = new WsMessage();
+                      msg.setId(sub.toId());
+                      msg.setType(Constants.WS_MESSAGE_TYPE_SUBSCRIBE);
+                      msg.setTopic(sub.subTopic());
+                      msg.setPrivateChannel(privateChannel);
+                      msg.setResponse(true);
+                      pending.put(sub.toId(), transport.write(msg, option.getWriteTimeout()));
+                    }));
+
+    boolean ok = true;
+    for (Map.Entry<String, CompletableFuture<Void>> e : pending.entrySet()) {
+      try {
+        e.getValue().join();
+        notifyEvent(WebSocketEvent.RE_SUBSCRIBE_OK, e.getKey());
+      } catch (Exception ex) {
+        ok = false;
+        notifyEvent(WebSocketEvent.RE_SUBSCRIBE_ERROR, e.getKey());
+      }
+    }
+    return ok;
+  }
+
+  /** Listener of the standby connection; its events are reported with a {@code standby} tag. */
+  private final class StandbyListener implements WebsocketTransportListener {
+
+    @Override
+    public void onEvent(WebSocketEvent event, String message) {
+      if (event == WebSocketEvent.DISCONNECTED) {
+        standbyActive = false;
+      }
+      notifyEvent(event, message == null || message.isEmpty() ? "standby" : "standby " + message);
+    }
+
+    @Override
+    public void onMessage(WsMessage wsMessage) {
+      deliver(wsMessage, true);
+    }
+
+    @Override
+    public void onReconnected() {
+      standbyDegraded = !resubscribe(standby);
+    }
+
+    @Override
+    public Class<?> dataType(String topic) {
+      return DefaultWsService.this.dataType(topic);
+    }
+
+    @Override
+    public Object acquireData(String topic) {
+      return DefaultWsService.this.acquireData(topic);
+    }
+  }
+
   private void notifyEvent(WebSocketEvent ev, String msg) {
     if (option.getEventCallback() != null) {
       try {
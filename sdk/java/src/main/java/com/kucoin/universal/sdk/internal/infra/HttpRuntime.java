@@ -0,0 +1,168 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.model.TransportOption;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+
+/**
+ * HTTP resources shared by the REST transport and the WebSocket connections of one client: an
+ * {@link OkHttpClient} whose connection pool and dispatcher the REST users derive from, a client
+ * for WebSocket connections over the same pool, and a scheduler for WebSocket pings and ack
+ * timeouts. Users acquire the runtime when they are created and release it when closed; the last
+ * release frees the pool, the dispatcher threads and the scheduler. Acquiring a released runtime
+ * builds the resources again.
+ */
+@Slf4j
+public final class HttpRuntime {
+
+  private final TransportOption option;
+  private OkHttpClient client;
+  private OkHttpClient webSocketClient;
+  private ScheduledExecutorService scheduler;
+  private int refs;
+
+  public HttpRuntime(TransportOption option) {
+    this.option = Optional.ofNullable(option).orElseGet(() -> TransportOption.builder().build());
+  }
+
+  /** Takes a reference and returns the shared client; derive from it with {@code newBuilder()}. */
+  public synchronized OkHttpClient acquire() {
+    if (client == null) {
+      client = build(option);
+    }
+    refs++;
+    return client;
+  }
+
+  /**
+   * Takes a reference and returns the client for WebSocket connections. It shares the connection
+   * pool of {@link #acquire()} but has a dispatcher of its own without request limits, since every
+   * open connection would hold a slot, and none of the REST interceptors or event listener.
+   */
+  public synchronized OkHttpClient acquireWebSocket() {
+    OkHttpClient rest = acquire();
+    if (webSocketClient == null) {
+      Dispatcher d = new Dispatcher();
+      d.setMaxRequests(Integer.MAX_VALUE);
+      d.setMaxRequestsPerHost(Integer.MAX_VALUE);
+      OkHttpClient.Builder b = rest.newBuilder().dispatcher(d).eventListener(EventListener.NONE);
+      b.interceptors().clear();
+      b.networkInterceptors().clear();
+      webSocketClient = b.build();
+    }
+    return webSocketClient;
+  }
+
+  /** Shared scheduler; only valid while holding a reference. */
+  public synchronized ScheduledExecutorService scheduler() {
+    if (refs == 0) {
+      throw new IllegalStateException("http runtime released");
+    }
+    if (scheduler == null) {
+      scheduler =
+          Executors.newSingleThreadScheduledExecutor(
+              r -> {
+                Thread t = new Thread(r, "ws-scheduler-shared");
+                t.setDaemon(true);
+                return t;
+              });
+    }
+    return scheduler;
+  }
+
+  /**
+   * Runs {@code task} on the dispatcher threads after {@code delay}, keeping blocking work off the
+   * scheduler; returns {@code null} without scheduling anything once the runtime is released. The
+   * task is dropped if the runtime is released before it runs.
+   */
+  public synchronized ScheduledFuture<?> scheduleBlocking(
+      Runnable task, long delay, TimeUnit unit) {
+    if (refs == 0) {
+      return null;
+    }
+    ExecutorService workers = client.dispatcher().executorService();
+    return scheduler()
+        .schedule(
+            () -> {
+              try {
+                workers.execute(task);
+              } catch (RejectedExecutionException e) {
+                // released meanwhile
+              }
+            },
+            delay,
+            unit);
+  }
+
+  /** Drops a reference taken by {@link #acquire()} or {@link #acquireWebSocket()}. */
+  public synchronized void release() {
+    if (refs == 0) {
+      log.warn("http runtime released more often than acquired");
+      return;
+    }
+    if (--refs > 0) {
+      return;
+    }
+    client.connectionPool().evictAll();
+    client.dispatcher().executorService().shutdown();
+    client = null;
+    if (webSocketClient != null) {
+      webSocketClient.dispatcher().executorService().shutdown();
+      webSocketClient = null;
+    }
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private static OkHttpClient build(TransportOption o) {
+
+    // connection pool
+    ConnectionPool pool =
+        o.isKeepAlive()
+            ? new ConnectionPool(
+                o.getMaxIdleConnections(),
+                o.getKeepAliveDuration().toMillis(),
+                TimeUnit.MILLISECONDS)
+            : new ConnectionPool(0, 1, TimeUnit.SECONDS); // disable keep-alive
+
+    OkHttpClient.Builder b =
+        new OkHttpClient.Builder()
+            .connectionPool(pool)
+            .connectTimeout(o.getConnectTimeout())
+            .readTimeout(o.getReadTimeout())
+            .writeTimeout(o.getWriteTimeout())
+            .callTimeout(o.getCallTimeout())
+            .pingInterval(o.getPingInterval())
+            .retryOnConnectionFailure(o.isRetryOnConnectionFailure());
+
+    // proxy
+    o.proxy().ifPresent(b::proxy);
+
+    // dispatcher limits
+    Dispatcher d =
+        o.dispatcherExecutor().isPresent()
+            ? new Dispatcher(o.dispatcherExecutor().get())
+            : new Dispatcher();
+    d.setMaxRequests(o.getMaxRequests());
+    d.setMaxRequestsPerHost(o.getMaxRequestsPerHost());
+    b.dispatcher(d);
+
+    // interceptors
+    o.interceptors().forEach(b::addInterceptor);
+    o.eventListener().ifPresent(b::eventListener);
+
+    return b.build();
+  }
+}
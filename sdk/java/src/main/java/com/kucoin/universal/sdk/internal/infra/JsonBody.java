@@ -0,0 +1,96 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+
+/**
+ * Request body serialized once into a byte buffer that is both signed and sent, so a JSON body
+ * never exists as a {@code String}. A {@link #pooled()} buffer belongs to the calling thread and is
+ * reused by its next request once {@link #release()}d, which is only safe after the request has
+ * been written, i.e. after a synchronous call returns.
+ */
+final class JsonBody extends OutputStream {
+
+  private static final int INITIAL_SIZE = 512;
+
+  /** larger buffers are dropped on release instead of being kept by the thread */
+  private static final int MAX_POOLED_SIZE = 64 * 1024;
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private static final ThreadLocal<JsonBody> POOL =
+      ThreadLocal.withInitial(() -> new JsonBody(true));
+
+  private final boolean pooled;
+  private byte[] buf;
+  private int size;
+  private boolean inUse;
+
+  private JsonBody(boolean pooled) {
+    this.pooled = pooled;
+    this.buf = pooled ? new byte[INITIAL_SIZE] : EMPTY;
+  }
+
+  /** The calling thread's buffer, or a fresh one if the thread's buffer is still in use. */
+  static JsonBody pooled() {
+    JsonBody b = POOL.get();
+    if (b.inUse) {
+      return new JsonBody(false);
+    }
+    b.inUse = true;
+    b.size = 0;
+    return b;
+  }
+
+  /** A buffer owned by the request it is sent with, for requests written on another thread. */
+  static JsonBody unpooled() {
+    return new JsonBody(false);
+  }
+
+  byte[] array() {
+    return buf;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Body backed by this buffer without copying it. */
+  RequestBody toRequestBody(MediaType type) {
+    return RequestBody.create(buf, type, 0, size);
+  }
+
+  /** Returns a pooled buffer to its thread; no-op for unpooled ones. */
+  void release() {
+    if (!pooled) {
+      return;
+    }
+    if (buf.length > MAX_POOLED_SIZE) {
+      buf = new byte[INITIAL_SIZE];
+    }
+    size = 0;
+    inUse = false;
+  }
+
+  @Override
+  public void write(int b) {
+    ensure(1);
+    buf[size++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    ensure(len);
+    System.arraycopy(b, off, buf, size, len);
+    size += len;
+  }
+
+  private void ensure(int more) {
+    int need = size + more;
+    if (need > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(need, Math.max(INITIAL_SIZE, buf.length << 1)));
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.api.KucoinRestService;
+import com.kucoin.universal.sdk.api.KucoinWSService;
+import com.kucoin.universal.sdk.internal.interfaces.Request;
+import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.RestResponse;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Object mappers shared by every REST transport and WebSocket service in the process, one per
+ * decoding configuration, so the (de)serializers Jackson builds for the generated models are built
+ * once. Buffers are recycled through a shared pool rather than per thread, as OkHttp dispatcher and
+ * WebSocket reader threads come and go. If Jackson's Blackbird (Java 11+) or Afterburner module is
+ * on the classpath, it is registered so properties are accessed through generated code instead of
+ * reflection.
+ */
+@Slf4j
+public final class JsonMappers {
+
+  private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+  private static final String AFTERBURNER =
+      "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+  private JsonMappers() {}
+
+  /** Mapper for the decoding options of {@code option}. */
+  public static ObjectMapper get(ClientOption option) {
+    return shared(option).mapper;
+  }
+
+  /**
+   * Builds the (de)serializers of every request, response and WebSocket event reachable from the
+   * service interfaces, so the first real call does not pay for it. Runs once per mapper.
+   */
+  public static void preWarm(ClientOption option) {
+    Shared s = shared(option);
+    if (!s.warm.compareAndSet(false, true)) {
+      return;
+    }
+    long start = System.nanoTime();
+    int n = warm(s.mapper, KucoinRestService.class, new HashSet<>());
+    n += warm(s.mapper, KucoinWSService.class, new HashSet<>());
+    n += warm(() -> s.mapper.readValue("{}", WsMessage.class), WsMessage.class);
+    n += warm(() -> s.mapper.writeValueAsBytes(new WsMessage()), WsMessage.class);
+    log.info(
+        "json mapper pre-warmed, types:{}, took:{}ms", n, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private static Shared shared(ClientOption option) {
+    return option.isCompactOrderBook() ? Compact.SHARED : Default.SHARED;
+  }
+
+  /** Walks the service interfaces below {@code type}, returns the number of models warmed. */
+  private static int warm(ObjectMapper mapper, Class<?> type, Set<Class<?>> seen) {
+    if (!seen.add(type)) {
+      return 0;
+    }
+    int n = 0;
+    for (Method m : type.getMethods()) {
+      Class<?> ret = m.getReturnType();
+      if (ret.isInterface() && ret.getName().startsWith("com.kucoin.universal.sdk.")) {
+        n += warm(mapper, ret, seen);
+      } else if (Response.class.isAssignableFrom(ret) && seen.add(ret)) {
+        n += warm(() -> mapper.readValue("{}", restResponse(mapper, ret)), ret);
+      }
+      for (Class<?> p : m.getParameterTypes()) {
+        if (Request.class.isAssignableFrom(p) && seen.add(p)) {
+          n += warm(() -> mapper.writeValueAsBytes(p.getDeclaredConstructor().newInstance()), p);
+        } else if (p.getDeclaringClass() != null && seen.add(p.getDeclaringClass())) {
+          // WebSocket events take their callback as a nested type
+          Class<?> event = p.getDeclaringClass();
+          n += warm(() -> mapper.readValue("{}", event), event);
+        }
+      }
+    }
+    return n;
+  }
+
+  /** Runs one mock (de)serialization, so the root (de)serializer is built and cached. */
+  private static int warm(Callable<?> call, Class<?> type) {
+    try {
+      call.call();
+      return 1;
+    } catch (Exception e) {
+      log.debug("pre-warm skipped {}", type.getName(), e);
+      return 0;
+    }
+  }
+
+  private static JavaType restResponse(ObjectMapper mapper, Class<?> data) {
+    return mapper.getTypeFactory().constructParametricType(RestResponse.class, data);
+  }
+
+  private static ObjectMapper create(boolean compactOrderBook) {
+    JsonFactory factory =
+        JsonFactory.builder().recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool()).build();
+    ObjectMapper mapper = new ObjectMapper(factory);
+    mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    if (compactOrderBook) {
+      mapper.registerModule(new CompactOrderBookModule());
+    }
+    Module accessors = accessorModule();
+    if (accessors != null) {
+      mapper.registerModule(accessors);
+      log.info("json mapper uses {}", accessors.getModuleName());
+    }
+    return mapper;
+  }
+
+  /** Blackbird or Afterburner, whichever is on the classpath and usable, else {@code null}. */
+  private static Module accessorModule() {
+    String version = System.getProperty("java.specification.version", "1.8");
+    boolean java11 = !version.startsWith("1.") && Integer.parseInt(version) >= 11;
+    String[] candidates =
+        java11 ? new String[] {BLACKBIRD, AFTERBURNER} : new String[] {AFTERBURNER};
+    for (String name : candidates) {
+      try {
+        return (Module) Class.forName(name).getDeclaredConstructor().newInstance();
+      } catch (ClassNotFoundException e) {
+        // not on the classpath
+      } catch (ReflectiveOperationException | LinkageError e) {
+        log.warn("cannot load {}, using reflection", name, e);
+      }
+    }
+    return null;
+  }
+
+  private static final class Default {
+    static final Shared SHARED = new Shared(false);
+  }
+
+  private static final class Compact {
+    static final Shared SHARED = new Shared(true);
+  }
+
+  private static final class Shared {
+    final ObjectMapper mapper;
+    final AtomicBoolean warm = new AtomicBoolean();
+
+    Shared(boolean compactOrderBook) {
+      this.mapper = create(compactOrderBook);
+    }
+  }
+}
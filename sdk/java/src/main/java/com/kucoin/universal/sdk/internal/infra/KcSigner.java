@@ -1,14 +1,22 @@
 package com.kucoin.universal.sdk.internal.infra;
 
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.extern.slf4j.Slf4j;
 
-/** Generates KuCoin authentication headers for both normal user mode and broker mode. */
+/**
+ * Generates KuCoin authentication headers for both normal user mode and broker mode.
+ *
+ * <p>Each thread keeps its own pre-initialized {@link Mac} per key and a reusable encode buffer, so
+ * signing a request does no JCA provider lookup and no intermediate {@code String} concatenation. A
+ * request body already serialized to bytes is signed in place.
+ */
 @Slf4j
 public final class KcSigner {
 
@@ -22,6 +30,12 @@ public final class KcSigner {
   private final String brokerPartner;
   private final String brokerKey;
 
+  private final ThreadLocal<Mac> apiMac;
+  private final ThreadLocal<Mac> brokerMac;
+
+  /** per-thread UTF-8 encode buffer, grown on demand */
+  private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
+
   public KcSigner(
       String apiKey,
       String apiSecret,
@@ -42,68 +56,178 @@ public final class KcSigner {
     this.brokerPartner = nullSafe(brokerPartner);
     this.brokerKey = nullSafe(brokerKey);
 
+    this.apiMac = macFor(this.apiSecret);
+    this.brokerMac = macFor(this.brokerKey);
+
     if (this.apiKey.isEmpty() || this.apiSecret.isEmpty() || this.apiPassphrase.isEmpty()) {
       log.warn(
           "[AUTH WARNING] API credentials incomplete. Access is restricted to public endpoints.");
     }
   }
 
+  private static ThreadLocal<Mac> macFor(String key) {
+    if (key.isEmpty()) {
+      return null;
+    }
+    SecretKeySpec spec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
+    return ThreadLocal.withInitial(
+        () -> {
+          try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(spec);
+            return mac;
+          } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 failure", e);
+          }
+        });
+  }
+
   /** Base64-encoded HMAC-SHA256. */
   private static String sign(String plain, String key) {
     try {
       Mac mac = Mac.getInstance(HMAC_SHA256);
       mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_SHA256));
       byte[] raw = mac.doFinal(plain.getBytes(StandardCharsets.UTF_8));
-      return java.util.Base64.getEncoder().encodeToString(raw);
+      return Base64.getEncoder().encodeToString(raw);
     } catch (Exception e) {
       throw new IllegalStateException("HMAC-SHA256 failure", e);
     }
   }
 
+  /** Base64-encoded HMAC-SHA256 of {@code a + b + c} using the thread's pre-initialized mac. */
+  private static String sign(ThreadLocal<Mac> macs, String a, String b, String c) {
+    return sign(macs, a, b, c, null, 0);
+  }
+
+  /**
+   * Base64-encoded HMAC-SHA256 of {@code a + b + c} followed by the first {@code tailLen} bytes of
+   * {@code tail}, using the thread's pre-initialized mac.
+   */
+  private static String sign(
+      ThreadLocal<Mac> macs, String a, String b, String c, byte[] tail, int tailLen) {
+    Mac mac = macs.get();
+    byte[] buf = BUFFER.get();
+    int len = a.length() + b.length() + c.length();
+    // worst case 3 bytes per UTF-16 unit
+    if (buf.length < len * 3) {
+      buf = new byte[Math.max(len * 3, buf.length << 1)];
+      BUFFER.set(buf);
+    }
+    int n = encode(a, buf, 0);
+    n = encode(b, buf, n);
+    n = encode(c, buf, n);
+    mac.update(buf, 0, n);
+    if (tailLen > 0) {
+      mac.update(tail, 0, tailLen);
+    }
+    return Base64.getEncoder().encodeToString(mac.doFinal());
+  }
+
+  /** UTF-8 encodes {@code s} into {@code buf} at {@code pos}; returns the new position. */
+  private static int encode(String s, byte[] buf, int pos) {
+    int len = s.length();
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        buf[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[pos++] = (byte) (0xC0 | (c >> 6));
+        buf[pos++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < len
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, s.charAt(++i));
+        buf[pos++] = (byte) (0xF0 | (cp >> 18));
+        buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+        buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+        buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        // malformed input, same replacement as String.getBytes
+        buf[pos++] = '?';
+      } else {
+        buf[pos++] = (byte) (0xE0 | (c >> 12));
+        buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        buf[pos++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    return pos;
+  }
+
   /** Milliseconds since epoch as String. */
   private static String ts() {
-    return Long.toString(Instant.now().toEpochMilli());
+    return Long.toString(System.currentTimeMillis());
   }
 
-  /** Headers for normal signed request. */
-  public Map<String, String> headers(String plain) {
+  /** Emits the headers for a normal signed request into {@code out}. */
+  public void headers(String plain, BiConsumer<String, String> out) {
+    headers(plain, "", null, 0, out);
+  }
+
+  /**
+   * Emits the headers for a normal signed request into {@code out}; the signed payload is {@code
+   * method + url} followed by the first {@code bodyLen} bytes of the UTF-8 encoded {@code body}.
+   */
+  public void headers(
+      String method, String url, byte[] body, int bodyLen, BiConsumer<String, String> out) {
     String timestamp = ts();
 
     String sig = "";
-    if (!apiSecret.isEmpty()) {
-      sig = sign(timestamp + plain, apiSecret);
+    if (apiMac != null) {
+      sig = sign(apiMac, timestamp, method, url, body, bodyLen);
     }
 
-    Map<String, String> h = new HashMap<>();
-    h.put("KC-API-KEY", apiKey);
-    h.put("KC-API-PASSPHRASE", apiPassphrase);
-    h.put("KC-API-TIMESTAMP", timestamp);
-    h.put("KC-API-SIGN", sig);
-    h.put("KC-API-KEY-VERSION", "3");
-    return h;
+    out.accept("KC-API-KEY", apiKey);
+    out.accept("KC-API-PASSPHRASE", apiPassphrase);
+    out.accept("KC-API-TIMESTAMP", timestamp);
+    out.accept("KC-API-SIGN", sig);
+    out.accept("KC-API-KEY-VERSION", "3");
   }
 
-  /** Headers for broker request (includes partner signature). */
-  public Map<String, String> brokerHeaders(String plain) {
+  /** Emits the headers for a broker request (includes partner signature) into {@code out}. */
+  public void brokerHeaders(String plain, BiConsumer<String, String> out) {
+    brokerHeaders(plain, "", null, 0, out);
+  }
+
+  /**
+   * Emits the headers for a broker request into {@code out}; the payload is built as in {@link
+   * #headers(String, String, byte[], int, BiConsumer)}.
+   */
+  public void brokerHeaders(
+      String method, String url, byte[] body, int bodyLen, BiConsumer<String, String> out) {
     if (brokerPartner.isEmpty() || brokerName.isEmpty()) {
       log.error("[BROKER ERROR] Missing broker information");
       throw new IllegalStateException("Broker information cannot be empty");
     }
+    if (apiMac == null || brokerMac == null) {
+      throw new IllegalStateException("HMAC-SHA256 failure: empty key");
+    }
 
     String timestamp = ts();
-    String sig = sign(timestamp + plain, apiSecret);
-    String partnerSig = sign(timestamp + brokerPartner + apiKey, brokerKey);
+    String sig = sign(apiMac, timestamp, method, url, body, bodyLen);
+    String partnerSig = sign(brokerMac, timestamp, brokerPartner, apiKey);
+
+    out.accept("KC-API-KEY", apiKey);
+    out.accept("KC-API-PASSPHRASE", apiPassphrase);
+    out.accept("KC-API-TIMESTAMP", timestamp);
+    out.accept("KC-API-SIGN", sig);
+    out.accept("KC-API-KEY-VERSION", "3");
+    out.accept("KC-API-PARTNER", brokerPartner);
+    out.accept("KC-BROKER-NAME", brokerName);
+    out.accept("KC-API-PARTNER-VERIFY", "true");
+    out.accept("KC-API-PARTNER-SIGN", partnerSig);
+  }
 
+  /** Headers for normal signed request. */
+  public Map<String, String> headers(String plain) {
+    Map<String, String> h = new HashMap<>();
+    headers(plain, h::put);
+    return h;
+  }
+
+  /** Headers for broker request (includes partner signature). */
+  public Map<String, String> brokerHeaders(String plain) {
     Map<String, String> h = new HashMap<>();
-    h.put("KC-API-KEY", apiKey);
-    h.put("KC-API-PASSPHRASE", apiPassphrase);
-    h.put("KC-API-TIMESTAMP", timestamp);
-    h.put("KC-API-SIGN", sig);
-    h.put("KC-API-KEY-VERSION", "3");
-    h.put("KC-API-PARTNER", brokerPartner);
-    h.put("KC-BROKER-NAME", brokerName);
-    h.put("KC-API-PARTNER-VERIFY", "true");
-    h.put("KC-API-PARTNER-SIGN", partnerSig);
+    brokerHeaders(plain, h::put);
     return h;
   }
 
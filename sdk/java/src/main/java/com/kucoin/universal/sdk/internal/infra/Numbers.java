@@ -0,0 +1,115 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+/** Parsing of the numeric text fields of generated events. */
+public final class Numbers {
+
+  private static final double[] POW10 = new double[19];
+
+  /** mantissas below 2^53 are exact doubles */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  static {
+    double p = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = p;
+      p *= 10;
+    }
+  }
+
+  private Numbers() {}
+
+  /**
+   * Parses a decimal as a double, without allocating for plain decimals of up to 15 significant
+   * digits; {@code NaN} if {@code s} is {@code null}.
+   *
+   * @throws NumberFormatException if {@code s} is not a number
+   */
+  public static double parseDouble(String s) {
+    if (s == null) {
+      return Double.NaN;
+    }
+    return parseDouble(s, null, 0, s.length());
+  }
+
+  /**
+   * Parses {@code len} chars of {@code buf} from {@code off} as a double, like {@link
+   * #parseDouble(String)}.
+   *
+   * @throws NumberFormatException if the chars are not a number
+   */
+  public static double parseDouble(char[] buf, int off, int len) {
+    return parseDouble(null, buf, off, off + len);
+  }
+
+  /**
+   * Parses {@code len} chars of {@code buf} from {@code off} as a decimal long, without allocating
+   * unless they are not one.
+   *
+   * @throws NumberFormatException if the chars are not a long
+   */
+  public static long parseLong(char[] buf, int off, int len) {
+    int i = off;
+    int n = off + len;
+    boolean neg = false;
+    if (i < n && (buf[i] == '-' || buf[i] == '+')) {
+      neg = buf[i] == '-';
+      i++;
+    }
+    if (i == n || n - i > 19) {
+      // empty or out of range: let the JDK report it
+      return Long.parseLong(new String(buf, off, len));
+    }
+    long v = 0;
+    for (; i < n; i++) {
+      int d = buf[i] - '0';
+      if (d < 0 || d > 9 || v > (Long.MAX_VALUE - d) / 10) {
+        // not a digit, overflow or Long.MIN_VALUE
+        return Long.parseLong(new String(buf, off, len));
+      }
+      v = v * 10 + d;
+    }
+    return neg ? -v : v;
+  }
+
+  /** Parses the chars {@code [from, to)} of {@code s}, or of {@code buf} if {@code s} is null. */
+  private static double parseDouble(String s, char[] buf, int from, int to) {
+    int i = from;
+    boolean neg = false;
+    if (i < to && (charAt(s, buf, i) == '-' || charAt(s, buf, i) == '+')) {
+      neg = charAt(s, buf, i) == '-';
+      i++;
+    }
+    long v = 0;
+    int decimals = -1;
+    int digits = 0;
+    for (; i < to; i++) {
+      char c = charAt(s, buf, i);
+      if (c == '.' && decimals < 0) {
+        decimals = 0;
+        continue;
+      }
+      if (c < '0' || c > '9' || v > (MAX_EXACT_DOUBLE - 10) / 10) {
+        return slowParse(s, buf, from, to);
+      }
+      v = v * 10 + (c - '0');
+      digits++;
+      if (decimals >= 0) {
+        decimals++;
+      }
+    }
+    if (digits == 0 || decimals >= POW10.length) {
+      return slowParse(s, buf, from, to);
+    }
+    // both operands are exact, so the quotient is correctly rounded
+    double d = decimals > 0 ? v / POW10[decimals] : v;
+    return neg ? -d : d;
+  }
+
+  private static char charAt(String s, char[] buf, int i) {
+    return s != null ? s.charAt(i) : buf[i];
+  }
+
+  private static double slowParse(String s, char[] buf, int from, int to) {
+    return Double.parseDouble(s != null ? s : new String(buf, from, to - from));
+  }
+}
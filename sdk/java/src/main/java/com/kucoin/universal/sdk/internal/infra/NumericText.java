@@ -0,0 +1,107 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Numeric text columns of a reusable event. {@code readFrom} parses each column straight from the
+ * parser buffer into a primitive and keeps a copy of its chars; the {@code String} is only created
+ * when the getter of the column is called. Buffers are reused across refills, so a refill does not
+ * allocate once they have grown to the longest text seen.
+ */
+public final class NumericText {
+
+  private final char[][] text;
+  private final int[] length;
+  private final long[] longs;
+  private final double[] doubles;
+
+  /** columns whose value came from the parser and whose String was not created yet */
+  private long pending;
+
+  /**
+   * @param columns number of columns, at most 64
+   */
+  public NumericText(int columns) {
+    if (columns > Long.SIZE) {
+      throw new IllegalArgumentException("too many columns: " + columns);
+    }
+    this.text = new char[columns][];
+    this.length = new int[columns];
+    this.longs = new long[columns];
+    this.doubles = new double[columns];
+  }
+
+  /** Forgets every parsed value, e.g. before a refill. */
+  public void clear() {
+    pending = 0;
+  }
+
+  /** Forgets the parsed value of {@code column}, e.g. when its String is set. */
+  public void reset(int column) {
+    pending &= ~(1L << column);
+  }
+
+  /** Whether {@code column} holds a parsed value whose String was not created yet. */
+  public boolean pending(int column) {
+    return (pending & (1L << column)) != 0;
+  }
+
+  /**
+   * Reads the current scalar token into {@code column} as a long; returns {@code false}, leaving
+   * the column unset, if its text is not one.
+   */
+  public boolean readLong(int column, JsonParser p) throws IOException {
+    int n = copy(column, p);
+    try {
+      longs[column] = Numbers.parseLong(text[column], 0, n);
+    } catch (NumberFormatException e) {
+      return false;
+    }
+    pending |= 1L << column;
+    return true;
+  }
+
+  /**
+   * Reads the current scalar token into {@code column} as a double; returns {@code false}, leaving
+   * the column unset, if its text is not a number.
+   */
+  public boolean readDouble(int column, JsonParser p) throws IOException {
+    int n = copy(column, p);
+    try {
+      doubles[column] = Numbers.parseDouble(text[column], 0, n);
+    } catch (NumberFormatException e) {
+      return false;
+    }
+    pending |= 1L << column;
+    return true;
+  }
+
+  private int copy(int column, JsonParser p) throws IOException {
+    int n = p.getTextLength();
+    char[] buf = text[column];
+    if (buf == null || buf.length < n) {
+      buf = new char[Math.max(n, 16)];
+      text[column] = buf;
+    }
+    System.arraycopy(p.getTextCharacters(), p.getTextOffset(), buf, 0, n);
+    length[column] = n;
+    return n;
+  }
+
+  /** Creates the String of a pending column; it is no longer pending afterwards. */
+  public String text(int column) {
+    reset(column);
+    return new String(text[column], 0, length[column]);
+  }
+
+  /** Parsed value of a pending long column. */
+  public long longValue(int column) {
+    return longs[column];
+  }
+
+  /** Parsed value of a pending double column. */
+  public double doubleValue(int column) {
+    return doubles[column];
+  }
+}
@@ -0,0 +1,184 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.PathVar;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of a REST path containing {@code {var}} placeholders bound to {@link PathVar}
+ * fields of a request class. Templates are compiled once per (path, request class) and cached, so
+ * expanding a path is a string concat over pre-split literals and pre-resolved field accessors.
+ * Values are percent-encoded as path segment text, so a value cannot add segments or a query.
+ */
+final class PathTemplate {
+
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\{(.*?)}");
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /** request class → path → template */
+  private static final ClassValue<ConcurrentMap<String, PathTemplate>> CACHE =
+      new ClassValue<ConcurrentMap<String, PathTemplate>>() {
+        @Override
+        protected ConcurrentMap<String, PathTemplate> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /** literal segments, always one more than {@link #getters} */
+  private final String[] literals;
+
+  private final String[] tokens;
+  private final MethodHandle[] getters;
+
+  /** names of the fields consumed by the path */
+  private final Set<String> used;
+
+  private final int baseLength;
+
+  private PathTemplate(
+      String[] literals, String[] tokens, MethodHandle[] getters, Set<String> used) {
+    this.literals = literals;
+    this.tokens = tokens;
+    this.getters = getters;
+    this.used = used;
+    int len = 0;
+    for (String l : literals) {
+      len += l.length();
+    }
+    this.baseLength = len;
+  }
+
+  static PathTemplate of(String path, Class<?> reqClass) {
+    ConcurrentMap<String, PathTemplate> byPath = CACHE.get(reqClass);
+    PathTemplate t = byPath.get(path);
+    if (t == null) {
+      t = compile(path, reqClass);
+      PathTemplate existed = byPath.putIfAbsent(path, t);
+      if (existed != null) {
+        t = existed;
+      }
+    }
+    return t;
+  }
+
+  private static PathTemplate compile(String path, Class<?> reqClass) {
+    List<String> literals = new ArrayList<>();
+    List<String> tokens = new ArrayList<>();
+    List<MethodHandle> getters = new ArrayList<>();
+    Set<String> used = new HashSet<>();
+
+    Matcher m = PLACEHOLDER.matcher(path);
+    int last = 0;
+    while (m.find()) {
+      String token = m.group(1);
+      Field f = findField(reqClass, token);
+      if (f == null) throw new IllegalArgumentException("no field bound for {" + token + '}');
+
+      literals.add(path.substring(last, m.start()));
+      tokens.add(token);
+      getters.add(getter(f));
+      used.add(f.getName());
+      last = m.end();
+    }
+    literals.add(path.substring(last));
+
+    return new PathTemplate(
+        literals.toArray(new String[0]),
+        tokens.toArray(new String[0]),
+        getters.toArray(new MethodHandle[0]),
+        used.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(used));
+  }
+
+  /** find matching field annotated with @PathVar("token") */
+  private static Field findField(Class<?> reqClass, String token) {
+    for (Field f : reqClass.getDeclaredFields()) {
+      PathVar pv = f.getAnnotation(PathVar.class);
+      if (pv != null && pv.value().equals(token)) {
+        return f;
+      }
+    }
+    return null;
+  }
+
+  private static MethodHandle getter(Field f) {
+    try {
+      f.setAccessible(true);
+      return MethodHandles.lookup().unreflectGetter(f).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Field names consumed by the path, to be excluded from the query string. */
+  Set<String> usedFields() {
+    return used;
+  }
+
+  /** Substitute every placeholder with the value of its bound field on {@code req}. */
+  String expand(Object req) {
+    if (getters.length == 0) {
+      return literals[0];
+    }
+
+    String[] values = new String[getters.length];
+    int len = baseLength;
+    for (int i = 0; i < getters.length; i++) {
+      Object v;
+      try {
+        v = (Object) getters[i].invokeExact(req);
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+      if (v == null) throw new IllegalStateException("path var '" + tokens[i] + "' is null");
+      values[i] = encodeSegment(String.valueOf(v));
+      len += values[i].length();
+    }
+
+    StringBuilder sb = new StringBuilder(len);
+    for (int i = 0; i < values.length; i++) {
+      sb.append(literals[i]).append(values[i]);
+    }
+    sb.append(literals[values.length]);
+    return sb.toString();
+  }
+
+  /** {@code s} with every char that is not allowed in a path segment percent-encoded as UTF-8. */
+  static String encodeSegment(String s) {
+    int i = 0;
+    int n = s.length();
+    while (i < n && isSegmentChar(s.charAt(i))) {
+      i++;
+    }
+    if (i == n) {
+      return s;
+    }
+    StringBuilder sb = new StringBuilder(n + 16).append(s, 0, i);
+    for (byte b : s.substring(i).getBytes(StandardCharsets.UTF_8)) {
+      if (b >= 0 && isSegmentChar((char) b)) {
+        sb.append((char) b);
+      } else {
+        sb.append('%').append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+      }
+    }
+    return sb.toString();
+  }
+
+  /** RFC 3986 pchar: unreserved, sub-delims, ':' and '@'. */
+  private static boolean isSegmentChar(char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || "-._~!$&'()*+,;=:@".indexOf(c) >= 0;
+  }
+}
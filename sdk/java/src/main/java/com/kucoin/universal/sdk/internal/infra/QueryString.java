@@ -0,0 +1,98 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.QueryWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Query string of a REST request built in a single pass. The raw form {@code k1=v1&k2=v2} is
+ * signed; the form sent on the wire is the same string unless a key or value contains a character
+ * that needs percent-encoding, in which case an encoded copy is kept alongside from that point on.
+ * Encoding matches {@code HttpUrl.Builder.addQueryParameter}.
+ */
+public final class QueryString implements QueryWriter {
+
+  /** characters percent-encoded in a query component besides controls, non-ASCII, '%' and '+' */
+  private static final String ENCODE_SET = " !\"#$&'(),/:;<=>?@[]\\^`{|}~";
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private final StringBuilder raw = new StringBuilder(64);
+
+  /** encoded form, {@code null} while it equals {@link #raw} */
+  private StringBuilder encoded;
+
+  @Override
+  public QueryString add(String key, Object value) {
+    if (value == null) {
+      return this;
+    }
+    String v = value instanceof String ? (String) value : String.valueOf(value);
+    if (raw.length() > 0) {
+      raw.append('&');
+      if (encoded != null) {
+        encoded.append('&');
+      }
+    }
+    append(key);
+    raw.append('=');
+    if (encoded != null) {
+      encoded.append('=');
+    }
+    append(v);
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return raw.length() == 0;
+  }
+
+  /** Query as signed, without percent-encoding. */
+  public String raw() {
+    return raw.toString();
+  }
+
+  /** Query as sent, percent-encoded. */
+  public String encoded() {
+    return encoded != null ? encoded.toString() : raw.toString();
+  }
+
+  private void append(String s) {
+    if (encoded == null) {
+      if (plain(s)) {
+        raw.append(s);
+        return;
+      }
+      encoded = new StringBuilder(raw.length() + s.length() * 3).append(raw);
+    }
+    raw.append(s);
+    encode(s, encoded);
+  }
+
+  private static boolean needsEncoding(int c) {
+    return c < 0x20 || c >= 0x7f || c == '%' || c == '+' || ENCODE_SET.indexOf(c) >= 0;
+  }
+
+  private static boolean plain(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      if (needsEncoding(s.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void encode(String s, StringBuilder out) {
+    for (int i = 0; i < s.length(); ) {
+      int cp = s.codePointAt(i);
+      int n = Character.charCount(cp);
+      if (!needsEncoding(cp)) {
+        out.append((char) cp);
+      } else {
+        for (byte b : s.substring(i, i + n).getBytes(StandardCharsets.UTF_8)) {
+          out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+      }
+      i += n;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Callback whose messages are decoded into a small pool of event instances, each taken back once
+ * the wrapped callback returns. A new instance is only created while every pooled one is queued or
+ * being handled, e.g. behind a slow dispatch thread.
+ */
+@Slf4j
+final class ReusingCallback implements WebSocketMessageCallback {
+
+  /** instances kept per subscription */
+  private static final int POOL_SIZE = 8;
+
+  private final WebSocketMessageCallback delegate;
+  private final Class<?> type;
+  private final AtomicReferenceArray<Object> pool = new AtomicReferenceArray<>(POOL_SIZE);
+
+  private ReusingCallback(WebSocketMessageCallback delegate, Class<?> type) {
+    this.delegate = delegate;
+    this.type = type;
+  }
+
+  /** Wraps {@code callback} if its event type is reusable, else returns it as is. */
+  static WebSocketMessageCallback wrap(WebSocketMessageCallback callback) {
+    if (callback instanceof ReusingCallback) {
+      return callback;
+    }
+    Class<?> type = callback.dataType();
+    if (type == null || !ReusableEvent.class.isAssignableFrom(type)) {
+      log.warn("{} is not reusable, events are allocated per message", type);
+      return callback;
+    }
+    return new ReusingCallback(callback, type);
+  }
+
+  @Override
+  public void onMessage(WsMessage message, ObjectMapper objectMapper) {
+    try {
+      delegate.onMessage(message, objectMapper);
+    } finally {
+      releaseData(message.getPayload());
+    }
+  }
+
+  @Override
+  public Class<?> dataType() {
+    return type;
+  }
+
+  @Override
+  public boolean conflate() {
+    return delegate.conflate();
+  }
+
+  @Override
+  public Object acquireData() {
+    for (int i = 0; i < POOL_SIZE; i++) {
+      Object o = pool.get(i);
+      if (o != null && pool.compareAndSet(i, o, null)) {
+        return o;
+      }
+    }
+    try {
+      return type.getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("cannot create " + type.getName(), e);
+    }
+  }
+
+  @Override
+  public void releaseData(Object data) {
+    if (!type.isInstance(data)) {
+      return;
+    }
+    for (int i = 0; i < POOL_SIZE; i++) {
+      if (pool.get(i) == null && pool.compareAndSet(i, null, data)) {
+        return;
+      }
+    }
+  }
+}
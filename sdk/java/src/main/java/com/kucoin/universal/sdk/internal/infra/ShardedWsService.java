@@ -0,0 +1,351 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketMessageCallback;
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketService;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import com.kucoin.universal.sdk.model.WebSocketEvent;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Public WebSocket service spread over several connections. Each subscription is placed on the
+ * connection with the lowest load, measured by its share of the subscribed topics and of the
+ * message rate. When a connection reconnects, its subscriptions are placed again across all
+ * connections instead of being restored on the same one.
+ */
+@Slf4j
+public final class ShardedWsService implements WebSocketService {
+
+  private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final double RATE_SMOOTHING = 0.5;
+
+  private final WebSocketClientOption option;
+  private final int maxTopics;
+  private final List<Shard> shards = new ArrayList<>();
+  private final Map<String, Placement> placements = new ConcurrentHashMap<>();
+  private long lastSample = System.nanoTime();
+
+  /**
+   * @param tokens bullet tokens shared with other services; may be {@code null}
+   * @param runtime HTTP resources shared with other services; may be {@code null}
+   */
+  public ShardedWsService(
+      ClientOption opt,
+      String domain,
+      String sdkVersion,
+      WsTokenCache tokens,
+      HttpRuntime runtime) {
+    this(opt, i -> new DefaultWsService(opt, domain, false, sdkVersion, tokens, runtime));
+  }
+
+  /**
+   * Service over the connections {@code connection} builds for each index, e.g. over a transport of
+   * the caller's.
+   */
+  public ShardedWsService(ClientOption opt, IntFunction<DefaultWsService> connection) {
+    this.option = opt.getWebsocketClientOption();
+    this.maxTopics = option.getMaxTopicsPerConnection();
+    if (option.getConnections() <= 0 || maxTopics <= 0) {
+      throw new IllegalArgumentException("connections and maxTopicsPerConnection must be positive");
+    }
+    for (int i = 0; i < option.getConnections(); i++) {
+      Shard shard = new Shard(i, connection.apply(i));
+      shard.service.onResubscribe(subs -> replace(shard, subs));
+      shards.add(shard);
+    }
+  }
+
+  @Override
+  public void start() {
+    try {
+      for (Shard shard : shards) {
+        shard.service.start();
+      }
+    } catch (RuntimeException e) {
+      stop();
+      throw e;
+    }
+  }
+
+  @Override
+  public void stop() {
+    for (Shard shard : shards) {
+      try {
+        shard.service.stop();
+      } catch (Exception e) {
+        log.error("stop connection error, shard:{}", shard.index, e);
+      }
+    }
+  }
+
+  @Override
+  public String subscribe(String prefix, String[] args, WebSocketMessageCallback callback) {
+    try {
+      return subscribeAsync(prefix, args, callback).join();
+    } catch (CompletionException e) {
+      throw new RuntimeException("subscribe failed", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<String> subscribeAsync(
+      String prefix, String[] args, WebSocketMessageCallback callback) {
+    if (option.getConflateTopics().contains(prefix)) {
+      callback = WebSocketMessageCallback.conflating(callback);
+    }
+    Placement p = new Placement(prefix, args, new Counted(callback));
+    String id = new SubInfo(prefix, Arrays.asList(args), null).toId();
+    if (placements.putIfAbsent(id, p) != null) {
+      throw new IllegalStateException("already subscribed");
+    }
+    try {
+      return subscribeOn(place(p), p)
+          .whenComplete(
+              (v, e) -> {
+                if (e != null) {
+                  placements.remove(id);
+                }
+              });
+    } catch (RuntimeException e) {
+      placements.remove(id);
+      throw e;
+    }
+  }
+
+  @Override
+  public void unsubscribe(String id) {
+    try {
+      unsubscribeAsync(id).join();
+    } catch (CompletionException e) {
+      throw new RuntimeException("unsubscribe failed", e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> unsubscribeAsync(String id) {
+    Placement p = placements.get(id);
+    if (p == null) {
+      throw new IllegalStateException("not subscribed");
+    }
+    Shard shard = p.callback.shard;
+    return shard
+        .service
+        .unsubscribeAsync(id)
+        .thenRun(
+            () -> {
+              placements.remove(id);
+              release(shard, p);
+            });
+  }
+
+  /** Subscribes {@code p} on {@code shard}, which already carries its topics. */
+  private CompletableFuture<String> subscribeOn(Shard shard, Placement p) {
+    p.callback.shard = shard;
+    CompletableFuture<String> f;
+    try {
+      f = shard.service.subscribeAsync(p.prefix, p.args, p.callback);
+    } catch (RuntimeException e) {
+      release(shard, p);
+      throw e;
+    }
+    return f.whenComplete(
+        (v, e) -> {
+          if (e != null) {
+            release(shard, p);
+          }
+        });
+  }
+
+  /** Places the subscriptions lost by a reconnected shard across all shards. */
+  private void replace(Shard from, List<SubInfo> subs) {
+    List<Placement> moving = new ArrayList<>();
+    for (SubInfo sub : subs) {
+      Placement p = placements.get(sub.toId());
+      if (p != null && p.callback.shard == from) {
+        release(from, p);
+        moving.add(p);
+      }
+    }
+    // busiest first so they spread before the quiet ones fill the gaps
+    moving.sort((a, b) -> Double.compare(b.callback.rate, a.callback.rate));
+
+    // send every frame first, then collect the acks
+    Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
+    for (Placement p : moving) {
+      String id = new SubInfo(p.prefix, Arrays.asList(p.args), null).toId();
+      CompletableFuture<String> f;
+      try {
+        Shard to = place(p);
+        log.info("resubscribe id:{}, shard:{} -> {}", id, from.index, to.index);
+        f = subscribeOn(to, p);
+      } catch (Exception e) {
+        f = new CompletableFuture<>();
+        f.completeExceptionally(e);
+      }
+      pending.put(id, f);
+    }
+
+    pending.forEach(
+        (id, f) -> {
+          try {
+            f.join();
+            notifyEvent(WebSocketEvent.RE_SUBSCRIBE_OK, id);
+          } catch (Exception e) {
+            log.error("resubscribe failed, id:{}", id, e);
+            placements.remove(id);
+            notifyEvent(WebSocketEvent.RE_SUBSCRIBE_ERROR, id);
+          }
+        });
+  }
+
+  /** Picks the least-loaded shard with room for {@code p} and reserves its topics there. */
+  private synchronized Shard place(Placement p) {
+    sample();
+    int totalTopics = 0;
+    double totalRate = 0;
+    for (Shard s : shards) {
+      totalTopics += s.topics;
+      totalRate += s.rate;
+    }
+    Shard best = null;
+    double bestLoad = Double.MAX_VALUE;
+    for (Shard s : shards) {
+      if (s.topics + p.topics > maxTopics) {
+        continue;
+      }
+      double load =
+          (totalTopics == 0 ? 0 : (double) s.topics / totalTopics)
+              + (totalRate == 0 ? 0 : s.rate / totalRate);
+      if (load < bestLoad) {
+        best = s;
+        bestLoad = load;
+      }
+    }
+    if (best == null) {
+      throw new IllegalStateException(
+          "no connection has room for " + p.topics + " topics, max:" + maxTopics);
+    }
+    best.topics += p.topics;
+    best.rate += p.callback.rate;
+    return best;
+  }
+
+  private synchronized void release(Shard shard, Placement p) {
+    shard.topics -= p.topics;
+    shard.rate = Math.max(0, shard.rate - p.callback.rate);
+  }
+
+  /** Refreshes the per-subscription message rates, at most once per interval. */
+  private void sample() {
+    long now = System.nanoTime();
+    long elapsed = now - lastSample;
+    if (elapsed < SAMPLE_INTERVAL_NANOS) {
+      return;
+    }
+    lastSample = now;
+    for (Shard s : shards) {
+      s.rate = 0;
+    }
+    for (Placement p : placements.values()) {
+      Counted c = p.callback;
+      long count = c.messages.sum();
+      double current = (count - c.sampled) * 1e9 / elapsed;
+      c.sampled = count;
+      c.rate = RATE_SMOOTHING * current + (1 - RATE_SMOOTHING) * c.rate;
+      Shard s = c.shard;
+      if (s != null) {
+        s.rate += c.rate;
+      }
+    }
+  }
+
+  private void notifyEvent(WebSocketEvent ev, String msg) {
+    if (option.getEventCallback() != null) {
+      try {
+        option.getEventCallback().onEvent(ev, msg);
+      } catch (Exception e) {
+        log.error("exception when notify event", e);
+      }
+    }
+  }
+
+  private static final class Shard {
+    final int index;
+    final DefaultWsService service;
+    // guarded by the enclosing service
+    int topics;
+    double rate;
+
+    Shard(int index, DefaultWsService service) {
+      this.index = index;
+      this.service = service;
+    }
+  }
+
+  private static final class Placement {
+    final String prefix;
+    final String[] args;
+    final int topics;
+    final Counted callback;
+
+    Placement(String prefix, String[] args, Counted callback) {
+      this.prefix = prefix;
+      this.args = args;
+      this.topics = Math.max(1, args.length);
+      this.callback = callback;
+    }
+  }
+
+  /** Counts the messages of one subscription for its rate. */
+  private static final class Counted implements WebSocketMessageCallback {
+    final WebSocketMessageCallback delegate;
+    final LongAdder messages = new LongAdder();
+    volatile Shard shard;
+    // guarded by the enclosing service
+    long sampled;
+    double rate;
+
+    Counted(WebSocketMessageCallback delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onMessage(WsMessage message, ObjectMapper objectMapper) {
+      messages.increment();
+      delegate.onMessage(message, objectMapper);
+    }
+
+    @Override
+    public Class<?> dataType() {
+      return delegate.dataType();
+    }
+
+    @Override
+    public Object acquireData() {
+      return delegate.acquireData();
+    }
+
+    @Override
+    public void releaseData(Object data) {
+      delegate.releaseData(data);
+    }
+
+    @Override
+    public boolean conflate() {
+      return delegate.conflate();
+    }
+  }
+}
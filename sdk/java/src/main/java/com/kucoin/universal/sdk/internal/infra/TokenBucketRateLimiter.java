@@ -0,0 +1,143 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.RateLimiter;
+import com.kucoin.universal.sdk.model.RestRateLimit;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lock-free token bucket per rate-limit pool, mirroring the fixed quota windows of the gateway.
+ *
+ * <p>A pool is unrestricted until the first response for it has been seen. From then on every
+ * response resynchronizes the quota, remaining tokens and window end from the {@code
+ * gw-ratelimit-*} headers, and requests draw their weight from the local bucket. When the bucket is
+ * exhausted the request is either scheduled into the window where it fits ({@link Mode#DELAY}) or
+ * rejected ({@link Mode#FAIL_FAST}) without a round trip.
+ */
+@Slf4j
+public final class TokenBucketRateLimiter implements RateLimiter {
+
+  public enum Mode {
+    /** Wait for the window the request fits in, up to the configured max delay. */
+    DELAY,
+    /** Reject as soon as the current window is exhausted. */
+    FAIL_FAST
+  }
+
+  /** Reset headers within this distance of the known window end belong to the same window. */
+  private static final long SAME_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Mode mode;
+  private final long maxDelayNanos;
+  private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+  /** Delaying limiter that waits at most 30 seconds. */
+  public TokenBucketRateLimiter() {
+    this(Mode.DELAY, Duration.ofSeconds(30));
+  }
+
+  /**
+   * @param mode behaviour once a window is exhausted
+   * @param maxDelay longest wait accepted in {@link Mode#DELAY}; longer waits fail fast
+   */
+  public TokenBucketRateLimiter(Mode mode, Duration maxDelay) {
+    this.mode = mode;
+    this.maxDelayNanos = maxDelay.toNanos();
+  }
+
+  @Override
+  public long reserve(String pool, int weight) {
+    Bucket b = buckets.get(pool);
+    if (b == null || b.limit <= 0 || weight <= 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    b.roll(now);
+
+    long left = b.tokens.addAndGet(-weight);
+    if (left >= 0) {
+      return 0;
+    }
+    // the request fits in a later window; deficit-1 so an exact fill stays in the next window
+    long windows = (-left - 1) / b.limit;
+    long wait = Math.max(0, b.windowEnd.get() - now) + windows * b.windowNanos;
+    if (mode == Mode.FAIL_FAST || wait > maxDelayNanos) {
+      b.tokens.addAndGet(weight);
+      throw new IllegalStateException(
+          "rate limit exhausted, pool:"
+              + pool
+              + ", weight:"
+              + weight
+              + ", retry in ms:"
+              + TimeUnit.NANOSECONDS.toMillis(wait));
+    }
+    log.debug("rate limit delay, pool:{}, weight:{}, ms:{}", pool, weight, wait / 1_000_000);
+    return wait;
+  }
+
+  @Override
+  public void update(String pool, RestRateLimit limit) {
+    if (limit == null
+        || limit.getLimit() <= 0
+        || limit.getRemaining() < 0
+        || limit.getReset() < 0) {
+      return;
+    }
+    buckets.computeIfAbsent(pool, k -> new Bucket()).sync(System.nanoTime(), limit);
+  }
+
+  /** One pool. Fields other than the atomics are written racily; readers tolerate stale values. */
+  private static final class Bucket {
+
+    final AtomicLong tokens = new AtomicLong();
+    final AtomicLong windowEnd = new AtomicLong();
+    volatile long limit;
+    volatile long windowNanos = TimeUnit.SECONDS.toNanos(30);
+
+    /** Start the next window(s) once the known one has ended, carrying over reserved deficit. */
+    void roll(long now) {
+      long end = windowEnd.get();
+      while (now - end >= 0) {
+        long periods = (now - end) / windowNanos + 1;
+        if (windowEnd.compareAndSet(end, end + periods * windowNanos)) {
+          long l = limit;
+          long t;
+          do {
+            t = tokens.get();
+          } while (!tokens.compareAndSet(t, Math.min(t + (periods - 1) * l, 0) + l));
+          return;
+        }
+        end = windowEnd.get();
+      }
+    }
+
+    void sync(long now, RestRateLimit rl) {
+      long end = now + TimeUnit.MILLISECONDS.toNanos(rl.getReset());
+      long serverRemaining = rl.getRemaining();
+      // gateway windows are 30s; a longer reset means a longer window
+      windowNanos = Math.max(windowNanos, TimeUnit.MILLISECONDS.toNanos(rl.getReset()));
+
+      long prevEnd = windowEnd.get();
+      boolean first = limit <= 0;
+      limit = rl.getLimit();
+      if (first || Math.abs(end - prevEnd) > SAME_WINDOW_NANOS) {
+        // a new server window: adopt its view, keeping requests already queued for it
+        windowEnd.set(end);
+        long t;
+        do {
+          t = tokens.get();
+        } while (!tokens.compareAndSet(t, serverRemaining + (first ? 0 : Math.min(t, 0))));
+        return;
+      }
+      // same window: the lower count wins, local reservations may not have reached the server
+      long t;
+      do {
+        t = tokens.get();
+      } while (t > serverRemaining && !tokens.compareAndSet(t, serverRemaining));
+    }
+  }
+}
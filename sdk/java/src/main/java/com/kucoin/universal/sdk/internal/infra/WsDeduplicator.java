@@ -0,0 +1,212 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Drops the second copy of a message received over two connections. A message is identified by a
+ * 64-bit hash of its topic, subject and the sequence/trade id/timestamp fields of its data;
+ * messages without any of those fields cannot be matched and yield the key {@link #NO_KEY}.
+ */
+final class WsDeduplicator {
+
+  /** key of a message that carries no identifying field */
+  static final long NO_KEY = 0;
+
+  /** data fields that together identify a message, in key order */
+  private static final String[] ID_FIELDS = {
+    "sequence", "sequenceEnd", "tradeId", "orderId", "type", "ts", "timestamp", "time"
+  };
+
+  /** sequence, trade id and timestamp fields; at least one must be present for a usable key */
+  private static final int ORDERING_FIELDS = 0b11100111;
+
+  private static final long ABSENT = 0x5bd1e9955bd1e995L;
+
+  private static final MethodType AS_LONG = MethodType.methodType(long.class, Object.class);
+  private static final MethodType AS_OBJECT = MethodType.methodType(Object.class, Object.class);
+
+  /**
+   * Per event class, one handle per {@link #ID_FIELDS} entry: the generated {@code xxxAsLong()}
+   * accessor where there is one, else the getter, else {@code null}.
+   */
+  private static final ClassValue<MethodHandle[]> ACCESSORS =
+      new ClassValue<MethodHandle[]>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+          MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+          MethodHandle[] accessors = new MethodHandle[ID_FIELDS.length];
+          for (int i = 0; i < ID_FIELDS.length; i++) {
+            String f = ID_FIELDS[i];
+            try {
+              accessors[i] =
+                  lookup
+                      .findVirtual(type, f + "AsLong", MethodType.methodType(long.class))
+                      .asType(AS_LONG);
+              continue;
+            } catch (ReflectiveOperationException e) {
+              // no typed accessor, fall back to the getter
+            }
+            try {
+              accessors[i] =
+                  lookup
+                      .unreflect(
+                          type.getMethod(
+                              "get" + Character.toUpperCase(f.charAt(0)) + f.substring(1)))
+                      .asType(AS_OBJECT);
+            } catch (ReflectiveOperationException e) {
+              // field not part of this event
+            }
+          }
+          return accessors;
+        }
+      };
+
+  private final int capacity;
+
+  /** keys seen since the last generation switch, and those of the generation before */
+  private long[] current;
+
+  private long[] previous;
+  private int size;
+
+  /**
+   * @param capacity recent keys remembered at least; a copy arriving after this many newer messages
+   *     may be delivered again
+   */
+  WsDeduplicator(int capacity) {
+    this.capacity = capacity;
+    int slots = Integer.highestOneBit(Math.max(capacity, 8) * 2 - 1) << 1;
+    this.current = new long[slots];
+    this.previous = new long[slots];
+  }
+
+  /** Records {@code key}; returns {@code false} if it was seen before. */
+  synchronized boolean firstSeen(long key) {
+    if (contains(previous, key) || !insert(current, key)) {
+      return false;
+    }
+    if (++size >= capacity) {
+      long[] t = previous;
+      previous = current;
+      Arrays.fill(t, 0);
+      current = t;
+      size = 0;
+    }
+    return true;
+  }
+
+  private static boolean contains(long[] table, long key) {
+    int mask = table.length - 1;
+    for (int i = (int) (key ^ (key >>> 32)) & mask; ; i = (i + 1) & mask) {
+      long k = table[i];
+      if (k == key) {
+        return true;
+      }
+      if (k == 0) {
+        return false;
+      }
+    }
+  }
+
+  /** Adds {@code key} to an open-addressed table; returns {@code false} if it was present. */
+  private static boolean insert(long[] table, long key) {
+    int mask = table.length - 1;
+    for (int i = (int) (key ^ (key >>> 32)) & mask; ; i = (i + 1) & mask) {
+      long k = table[i];
+      if (k == key) {
+        return false;
+      }
+      if (k == 0) {
+        table[i] = key;
+        return true;
+      }
+    }
+  }
+
+  /** Identity of {@code m}, or {@link #NO_KEY} if its data carries no identifying field. */
+  static long key(WsMessage m) {
+    long h = hash(hash(0x9e3779b97f4a7c15L, m.getTopic()), m.getSubject());
+    int present = 0;
+    if (m.getData() != null) {
+      JsonNode data = m.getData();
+      for (int i = 0; i < ID_FIELDS.length; i++) {
+        JsonNode v = data.get(ID_FIELDS[i]);
+        if (v == null || v.isNull()) {
+          h = mix(h, ABSENT);
+        } else {
+          present |= 1 << i;
+          h = v.isIntegralNumber() ? mix(h, v.longValue()) : hash(h, v.asText());
+        }
+      }
+    } else if (m.getPayload() != null) {
+      Object payload = m.getPayload();
+      MethodHandle[] accessors = ACCESSORS.get(payload.getClass());
+      for (int i = 0; i < accessors.length; i++) {
+        MethodHandle a = accessors[i];
+        boolean found = false;
+        if (a != null) {
+          try {
+            if (a.type() == AS_LONG) {
+              long v = (long) a.invokeExact(payload);
+              // typed accessors report an absent field as 0
+              if (v != 0) {
+                h = mix(h, v);
+                found = true;
+              }
+            } else {
+              Object v = (Object) a.invokeExact(payload);
+              if (v instanceof Number) {
+                h = mix(h, ((Number) v).longValue());
+                found = true;
+              } else if (v != null) {
+                h = hash(h, v.toString());
+                found = true;
+              }
+            }
+          } catch (Throwable e) {
+            // treated as absent
+          }
+        }
+        if (found) {
+          present |= 1 << i;
+        } else {
+          h = mix(h, ABSENT);
+        }
+      }
+    }
+    if ((present & ORDERING_FIELDS) == 0) {
+      return NO_KEY;
+    }
+    h = fmix(h);
+    return h == NO_KEY ? 1 : h;
+  }
+
+  private static long mix(long h, long v) {
+    return (h ^ v) * 0x100000001b3L + 0x9e3779b97f4a7c15L;
+  }
+
+  /** FNV-1a over the chars of {@code s}, terminated so adjacent fields cannot run together. */
+  private static long hash(long h, String s) {
+    if (s == null) {
+      return mix(h, ABSENT);
+    }
+    for (int i = 0, n = s.length(); i < n; i++) {
+      h = (h ^ s.charAt(i)) * 0x100000001b3L;
+    }
+    return mix(h, s.length());
+  }
+
+  private static long fmix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb53fe1a85ec3L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
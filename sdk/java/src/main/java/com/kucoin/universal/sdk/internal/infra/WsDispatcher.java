@@ -0,0 +1,247 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.model.WebSocketClientOption.OverflowPolicy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs WebSocket callbacks off the socket reader thread. Tasks are partitioned by key (the message
+ * topic) onto a fixed set of worker threads, so tasks with the same key keep their order. Each
+ * partition has a bounded ring buffer; when it is full the {@link OverflowPolicy} decides whether
+ * the producer blocks or the oldest pending task is dropped.
+ *
+ * <p>Conflating tasks replace the pending task with the same key in place, so at most one task per
+ * key is queued and the consumer always gets the newest one. A replaced or dropped task that
+ * implements {@link Task} is told so through {@link Task#discard()}.
+ */
+@Slf4j
+public final class WsDispatcher {
+
+  private final Partition[] partitions;
+  private final OverflowPolicy policy;
+  private final BiConsumer<String, Long> onDrop;
+
+  /**
+   * @param threads number of worker threads / partitions
+   * @param capacity pending tasks per partition
+   * @param policy behaviour when a partition is full
+   * @param name worker thread name prefix
+   * @param onDrop called with the key and the drop count of the partition when a task is dropped
+   *     after the partition last ran empty; may be {@code null}
+   */
+  public WsDispatcher(
+      int threads,
+      int capacity,
+      OverflowPolicy policy,
+      String name,
+      BiConsumer<String, Long> onDrop) {
+    if (threads <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("threads and capacity must be positive");
+    }
+    this.policy = policy;
+    this.onDrop = onDrop;
+    this.partitions = new Partition[threads];
+    for (int i = 0; i < threads; i++) {
+      partitions[i] = new Partition(capacity);
+      Thread t = new Thread(partitions[i], name + "-" + i);
+      t.setDaemon(true);
+      t.start();
+    }
+  }
+
+  /**
+   * Queues {@code task} on the partition of {@code key}.
+   *
+   * @param conflate replace a pending task with the same key instead of queueing behind it; always
+   *     the case under {@link OverflowPolicy#CONFLATE}
+   */
+  public void dispatch(String key, Runnable task, boolean conflate) {
+    Partition p = partitions[(key.hashCode() & 0x7fffffff) % partitions.length];
+    p.offer(key, task, conflate || policy == OverflowPolicy.CONFLATE);
+  }
+
+  /** Stops the workers; pending tasks are discarded and blocked producers released. */
+  public void shutdown() {
+    for (Partition p : partitions) {
+      p.stop();
+    }
+  }
+
+  /** Task holding resources that must be handed back when it does not run. */
+  public interface Task extends Runnable {
+
+    /** Called instead of {@link #run()} when the task is replaced, dropped or shut down. */
+    void discard();
+  }
+
+  private static void discard(Runnable task) {
+    if (task instanceof Task) {
+      try {
+        ((Task) task).discard();
+      } catch (Throwable t) {
+        log.error("discard task error", t);
+      }
+    }
+  }
+
+  private static final class Entry {
+    final String key;
+    final boolean conflate;
+    Runnable task;
+
+    Entry(String key, Runnable task, boolean conflate) {
+      this.key = key;
+      this.task = task;
+      this.conflate = conflate;
+    }
+  }
+
+  private final class Partition implements Runnable {
+
+    private final Entry[] ring;
+    private final Map<String, Entry> pending = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int head;
+    private int count;
+    private long dropped;
+    private boolean dropping;
+    private volatile boolean running = true;
+
+    Partition(int capacity) {
+      this.ring = new Entry[capacity];
+    }
+
+    void offer(String key, Runnable task, boolean conflate) {
+      String droppedKey = null;
+      long droppedCount = 0;
+      Runnable discarded = null;
+      lock.lock();
+      try {
+        if (!running) {
+          discarded = task;
+          return;
+        }
+        if (conflate) {
+          Entry e = pending.get(key);
+          if (e != null) {
+            discarded = e.task;
+            e.task = task;
+            return;
+          }
+        }
+        while (count == ring.length) {
+          if (!running) {
+            discarded = task;
+            return;
+          }
+          if (policy == OverflowPolicy.BLOCK) {
+            notFull.awaitUninterruptibly();
+            continue;
+          }
+          Entry old = poll();
+          discarded = old.task;
+          dropped++;
+          if (!dropping) {
+            dropping = true;
+            droppedKey = old.key;
+            droppedCount = dropped;
+          }
+        }
+        Entry e = new Entry(key, task, conflate);
+        ring[(head + count) % ring.length] = e;
+        count++;
+        if (conflate) {
+          pending.put(key, e);
+        }
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+        if (discarded != null) {
+          discard(discarded);
+        }
+      }
+      if (droppedKey != null) {
+        log.warn(
+            "dispatch queue full, dropping messages, topic:{}, dropped:{}",
+            droppedKey,
+            droppedCount);
+        if (onDrop != null) {
+          onDrop.accept(droppedKey, droppedCount);
+        }
+      }
+    }
+
+    /** Removes the head entry; caller holds the lock and checked {@code count > 0}. */
+    private Entry poll() {
+      Entry e = ring[head];
+      ring[head] = null;
+      head = (head + 1) % ring.length;
+      count--;
+      if (e.conflate) {
+        pending.remove(e.key, e);
+      }
+      notFull.signal();
+      return e;
+    }
+
+    void stop() {
+      Runnable[] discarded;
+      lock.lock();
+      try {
+        running = false;
+        discarded = new Runnable[count];
+        for (int i = 0; i < discarded.length; i++) {
+          discarded[i] = ring[(head + i) % ring.length].task;
+        }
+        count = 0;
+        pending.clear();
+        Arrays.fill(ring, null);
+        notEmpty.signalAll();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      for (Runnable task : discarded) {
+        discard(task);
+      }
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        Runnable task;
+        lock.lock();
+        try {
+          while (count == 0) {
+            if (!running) {
+              return;
+            }
+            notEmpty.await(1, TimeUnit.SECONDS);
+          }
+          task = poll().task;
+          if (count == 0) {
+            dropping = false;
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } finally {
+          lock.unlock();
+        }
+        try {
+          task.run();
+        } catch (Throwable t) {
+          log.error("dispatch task error", t);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransportListener;
+import com.kucoin.universal.sdk.model.Constants;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes WebSocket frames with a streaming parser. The envelope fields are read first; when the
+ * topic resolves to a typed callback of the listener, {@code data} is bound straight into the event
+ * class in the same pass instead of being materialized as a tree, or refilled into an instance lent
+ * by the callback when its event is reusable.
+ */
+public final class WsFrameDecoder {
+
+  private final ObjectMapper mapper;
+  private final WebsocketTransportListener listener;
+
+  public WsFrameDecoder(ObjectMapper mapper, WebsocketTransportListener listener) {
+    this.mapper = mapper;
+    this.listener = listener;
+  }
+
+  /** Decodes a text frame as received from the socket. */
+  public WsMessage decode(String json) throws IOException {
+    try (JsonParser p = mapper.getFactory().createParser(json)) {
+      return decode(p, json, null, 0, 0);
+    }
+  }
+
+  /** Decodes a frame from its UTF-8 bytes, e.g. as read back from a journal. */
+  public WsMessage decode(byte[] utf8, int offset, int length) throws IOException {
+    try (JsonParser p = mapper.getFactory().createParser(utf8, offset, length)) {
+      return decode(p, null, utf8, offset, length);
+    }
+  }
+
+  private WsMessage decode(JsonParser p, String json, byte[] utf8, int offset, int length)
+      throws IOException {
+    WsMessage m = new WsMessage();
+    if (p.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("unexpected frame: " + text(json, utf8, offset, length));
+    }
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      JsonToken t = p.nextToken();
+      switch (field) {
+        case "id":
+          m.setId(p.getValueAsString());
+          break;
+        case "type":
+          m.setType(p.getValueAsString());
+          break;
+        case "sn":
+          m.setSn(t == JsonToken.VALUE_NULL ? null : p.getValueAsLong());
+          break;
+        case "topic":
+          m.setTopic(p.getValueAsString());
+          break;
+        case "subject":
+          m.setSubject(p.getValueAsString());
+          break;
+        case "privateChannel":
+          m.setPrivateChannel(t == JsonToken.VALUE_NULL ? null : p.getValueAsBoolean());
+          break;
+        case "response":
+          m.setResponse(t == JsonToken.VALUE_NULL ? null : p.getValueAsBoolean());
+          break;
+        case "data":
+          {
+            Class<?> type = null;
+            if (m.getTopic() != null
+                && t != JsonToken.VALUE_NULL
+                && (m.getType() == null || Constants.WS_MESSAGE_TYPE_MESSAGE.equals(m.getType()))) {
+              type = listener.dataType(m.getTopic());
+            }
+            Object reused =
+                type != null
+                        && t == JsonToken.START_OBJECT
+                        && ReusableEvent.class.isAssignableFrom(type)
+                    ? listener.acquireData(m.getTopic())
+                    : null;
+            if (reused != null) {
+              ((ReusableEvent) reused).readFrom(p);
+              m.setPayload(reused);
+            } else if (type != null) {
+              m.setPayload(mapper.readValue(p, type));
+            } else {
+              m.setData(mapper.readTree(p));
+            }
+            break;
+          }
+        default:
+          p.skipChildren();
+      }
+    }
+    if (m.getType() == null) {
+      throw new IOException("missing type: " + text(json, utf8, offset, length));
+    }
+    return m;
+  }
+
+  private static String text(String json, byte[] utf8, int offset, int length) {
+    return json != null ? json : new String(utf8, offset, length, StandardCharsets.UTF_8);
+  }
+}
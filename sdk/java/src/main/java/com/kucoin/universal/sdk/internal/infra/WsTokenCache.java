@@ -0,0 +1,131 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import com.kucoin.universal.sdk.internal.interfaces.WsToken;
+import com.kucoin.universal.sdk.internal.interfaces.WsTokenProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bullet tokens shared by the WebSocket services of one client. A token is reused until its
+ * time-to-live passes and is fetched again in the background before that, while any service still
+ * uses it, so dials and reconnects normally skip the bullet request. Tokens are fetched over the
+ * given REST transport, which stays owned by the caller; refreshes are timed by the scheduler of
+ * the client's {@link HttpRuntime} and run on its dispatcher threads, so the cache holds no thread
+ * of its own.
+ */
+@Slf4j
+public final class WsTokenCache {
+
+  /** share of the time-to-live after which a token in use is fetched again */
+  private static final double REFRESH_AT = 0.8;
+
+  private final Transport transport;
+  private final long ttlNanos;
+  private final HttpRuntime runtime;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * @param runtime HTTP resources of the connections using the tokens; a refresh is only scheduled
+   *     while one of them holds the runtime
+   */
+  public WsTokenCache(Transport transport, Duration ttl, HttpRuntime runtime) {
+    this.transport = transport;
+    this.ttlNanos = ttl.toNanos();
+    this.runtime = runtime;
+  }
+
+  /**
+   * Token provider of one channel type; closing it releases the cached token, not the transport.
+   */
+  public WsTokenProvider provider(String domain, boolean privateChannel) {
+    Entry entry =
+        entries.computeIfAbsent(
+            domain + (privateChannel ? "-private" : "-public"),
+            k -> new Entry(new DefaultWsTokenProvider(transport, domain, privateChannel)));
+    entry.users.incrementAndGet();
+    return new WsTokenProvider() {
+      @Override
+      public List<WsToken> getToken() {
+        return entry.get();
+      }
+
+      @Override
+      public void invalidate() {
+        entry.invalidate();
+      }
+
+      @Override
+      public void close() {
+        entry.users.decrementAndGet();
+      }
+    };
+  }
+
+  private final class Entry {
+    final WsTokenProvider source;
+    final AtomicInteger users = new AtomicInteger();
+    volatile List<WsToken> tokens;
+    volatile long expiresAt;
+    ScheduledFuture<?> refresh;
+
+    Entry(WsTokenProvider source) {
+      this.source = source;
+    }
+
+    List<WsToken> get() {
+      List<WsToken> t = tokens;
+      if (t != null && System.nanoTime() - expiresAt < 0) {
+        return t;
+      }
+      synchronized (this) {
+        t = tokens;
+        if (t != null && System.nanoTime() - expiresAt < 0) {
+          return t;
+        }
+        return fetch();
+      }
+    }
+
+    synchronized List<WsToken> fetch() {
+      List<WsToken> t = source.getToken();
+      if (t.isEmpty()) {
+        return t;
+      }
+      tokens = t;
+      expiresAt = System.nanoTime() + ttlNanos;
+      if (refresh != null) {
+        refresh.cancel(false);
+      }
+      refresh = null;
+      if (users.get() > 0) {
+        // null once the runtime is released; the token is then fetched on demand when it expires
+        refresh =
+            runtime.scheduleBlocking(
+                this::prefetch, (long) (ttlNanos * REFRESH_AT), TimeUnit.NANOSECONDS);
+      }
+      return t;
+    }
+
+    void prefetch() {
+      if (users.get() <= 0) {
+        return;
+      }
+      try {
+        fetch();
+      } catch (Exception e) {
+        log.warn("prefetch ws token failed, fetched again on next dial", e);
+      }
+    }
+
+    synchronized void invalidate() {
+      tokens = null;
+    }
+  }
+}
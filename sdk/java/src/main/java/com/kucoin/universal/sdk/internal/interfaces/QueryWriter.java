@@ -0,0 +1,8 @@
+package com.kucoin.universal.sdk.internal.interfaces;
+
+/** Receives the query parameters of a request, see {@link Request#encodeQuery(QueryWriter)}. */
+public interface QueryWriter {
+
+  /** Appends {@code key=value}; {@code null} values are skipped. */
+  QueryWriter add(String key, Object value);
+}
@@ -0,0 +1,28 @@
+package com.kucoin.universal.sdk.internal.interfaces;
+
+import com.kucoin.universal.sdk.model.RestRateLimit;
+
+/**
+ * Client-side rate limiter consulted by the transport before every request. Pools are the lower
+ * case rate-limit pool names of the API (spot, futures, management, public, ...).
+ */
+public interface RateLimiter {
+
+  /**
+   * Reserves {@code weight} from {@code pool} for a request about to be sent.
+   *
+   * @param pool rate-limit pool of the endpoint
+   * @param weight rate-limit weight of the endpoint
+   * @return nanoseconds the caller has to wait before sending, {@code 0} to send immediately
+   * @throws IllegalStateException if the request must not be sent at all (fail-fast)
+   */
+  long reserve(String pool, int weight);
+
+  /**
+   * Resynchronizes {@code pool} from the {@code gw-ratelimit-*} headers of a response.
+   *
+   * @param pool rate-limit pool of the endpoint that answered
+   * @param limit parsed headers; fields are {@code -1} when a header was missing
+   */
+  void update(String pool, RestRateLimit limit);
+}
@@ -1,3 +1,13 @@
 package com.kucoin.universal.sdk.internal.interfaces;
 
-public interface Request {}
+public interface Request {
+
+  /**
+   * Writes the non-null fields, except path variables, as query parameters in declaration order.
+   * Generated requests override this; returns {@code false} if the request has no query encoder and
+   * must be converted by the object mapper instead.
+   */
+  default boolean encodeQuery(QueryWriter query) {
+    return false;
+  }
+}
@@ -0,0 +1,17 @@
+package com.kucoin.universal.sdk.internal.interfaces;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * WebSocket event that can be refilled in place from the next frame, so a subscription can keep
+ * delivering the same few instances instead of allocating one per message.
+ */
+public interface ReusableEvent {
+
+  /**
+   * Clears every field, then reads them from the JSON object whose {@code START_OBJECT} the parser
+   * has just returned. Leaves the parser at the matching {@code END_OBJECT}.
+   */
+  void readFrom(JsonParser parser) throws IOException;
+}
@@ -1,6 +1,7 @@
 package com.kucoin.universal.sdk.internal.interfaces;
 
 import com.kucoin.universal.sdk.model.RestResponse;
+import java.util.concurrent.CompletableFuture;
 
 public interface Transport {
 
@@ -15,6 +16,8 @@ public interface Transport {
    * @param requestObj The request payload (can be null)
    * @param responseClass The class of the expected response object
    * @param requestAsJson Whether to serialize the request as JSON
+   * @param rateLimitPool Rate-limit pool of the endpoint (e.g., spot, public); empty if unknown
+   * @param rateLimitWeight Rate-limit weight of the endpoint
    * @param <T> Type of response expected
    * @return Parsed response object of type T
    */
@@ -25,7 +28,62 @@ public interface Transport {
       String path,
       Request requestObj,
       Class<T> responseClass,
-      boolean requestAsJson);
+      boolean requestAsJson,
+      String rateLimitPool,
+      int rateLimitWeight);
+
+  /** Same as {@link #call} for an endpoint without rate-limit information. */
+  default <T extends Response<T, RestResponse<T>>> T call(
+      String domain,
+      boolean broker,
+      String method,
+      String path,
+      Request requestObj,
+      Class<T> responseClass,
+      boolean requestAsJson) {
+    return call(domain, broker, method, path, requestObj, responseClass, requestAsJson, "", 0);
+  }
+
+  /**
+   * Asynchronous variant of {@link #call}. The request is queued on the HTTP dispatcher and the
+   * returned future is completed on a dispatcher thread, so no caller thread is blocked while the
+   * request is in flight. Failures complete the future exceptionally with a {@link
+   * com.kucoin.universal.sdk.model.RestError}.
+   *
+   * @param domain Which endpoint to use (e.g., spot, futures, broker)
+   * @param broker Whether this is a broker service request
+   * @param method HTTP method such as GET, POST, etc.
+   * @param path Path or endpoint of the request
+   * @param requestObj The request payload (can be null)
+   * @param responseClass The class of the expected response object
+   * @param requestAsJson Whether to serialize the request as JSON
+   * @param rateLimitPool Rate-limit pool of the endpoint (e.g., spot, public); empty if unknown
+   * @param rateLimitWeight Rate-limit weight of the endpoint
+   * @param <T> Type of response expected
+   * @return Future of the parsed response object of type T
+   */
+  <T extends Response<T, RestResponse<T>>> CompletableFuture<T> callAsync(
+      String domain,
+      boolean broker,
+      String method,
+      String path,
+      Request requestObj,
+      Class<T> responseClass,
+      boolean requestAsJson,
+      String rateLimitPool,
+      int rateLimitWeight);
+
+  /** Same as {@link #callAsync} for an endpoint without rate-limit information. */
+  default <T extends Response<T, RestResponse<T>>> CompletableFuture<T> callAsync(
+      String domain,
+      boolean broker,
+      String method,
+      String path,
+      Request requestObj,
+      Class<T> responseClass,
+      boolean requestAsJson) {
+    return callAsync(domain, broker, method, path, requestObj, responseClass, requestAsJson, "", 0);
+  }
 
   /** Clean up resources or close the connection, if necessary. */
   void close();
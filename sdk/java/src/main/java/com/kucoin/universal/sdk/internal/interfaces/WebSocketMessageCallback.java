@@ -7,4 +7,84 @@ public interface WebSocketMessageCallback {
 
   /** Handles incoming WebSocket messages. */
   void onMessage(WsMessage message, ObjectMapper objectMapper);
+
+  /**
+   * Class the message {@code data} is bound to, or {@code null} to keep it as a JSON tree. When
+   * present, the transport decodes {@code data} straight into this type while parsing the frame.
+   */
+  default Class<?> dataType() {
+    return null;
+  }
+
+  /**
+   * Whether only the newest undelivered message per topic is kept when this callback falls behind.
+   * Conflating callbacks always run off the socket reader thread.
+   */
+  default boolean conflate() {
+    return false;
+  }
+
+  /**
+   * Instance to decode the data of the next message into, or {@code null} to decode into a new
+   * object of {@link #dataType()}. Only called for types implementing {@link ReusableEvent}.
+   */
+  default Object acquireData() {
+    return null;
+  }
+
+  /** Takes back an instance from {@link #acquireData()} whose message is not delivered. */
+  default void releaseData(Object data) {}
+
+  /** Wraps {@code callback} so that it receives conflated messages. */
+  static WebSocketMessageCallback conflating(WebSocketMessageCallback callback) {
+    if (callback.conflate()) {
+      return callback;
+    }
+    return new WebSocketMessageCallback() {
+      @Override
+      public void onMessage(WsMessage message, ObjectMapper objectMapper) {
+        callback.onMessage(message, objectMapper);
+      }
+
+      @Override
+      public Class<?> dataType() {
+        return callback.dataType();
+      }
+
+      @Override
+      public Object acquireData() {
+        return callback.acquireData();
+      }
+
+      @Override
+      public void releaseData(Object data) {
+        callback.releaseData(data);
+      }
+
+      @Override
+      public boolean conflate() {
+        return true;
+      }
+    };
+  }
+
+  /** Creates a callback whose message data is decoded into {@code type}. */
+  static <T> WebSocketMessageCallback typed(Class<T> type, TypedHandler<T> handler) {
+    return new WebSocketMessageCallback() {
+      @Override
+      public void onMessage(WsMessage message, ObjectMapper objectMapper) {
+        handler.onMessage(message, message.dataAs(type, objectMapper));
+      }
+
+      @Override
+      public Class<?> dataType() {
+        return type;
+      }
+    };
+  }
+
+  @FunctionalInterface
+  interface TypedHandler<T> {
+    void onMessage(WsMessage message, T data);
+  }
 }
@@ -1,7 +1,19 @@
 package com.kucoin.universal.sdk.internal.interfaces;
 
+import com.kucoin.universal.sdk.model.Constants;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+
 public interface WebSocketService {
 
+  /** joins the frame ids of a {@link #subscribeChunked} subscription */
+  String CHUNK_ID_SEPARATOR = "|";
+
   /** Starts the WebSocket service and handles incoming messages. */
   void start();
 
@@ -11,6 +23,112 @@ public interface WebSocketService {
   /** Subscribes to a topic with a callback handler. */
   String subscribe(String prefix, String[] args, WebSocketMessageCallback callback);
 
+  /**
+   * Subscribes to a topic; with {@code conflate} only the newest undelivered message per topic is
+   * delivered when the callback falls behind.
+   */
+  default String subscribe(
+      String prefix, String[] args, WebSocketMessageCallback callback, boolean conflate) {
+    return subscribe(
+        prefix, args, conflate ? WebSocketMessageCallback.conflating(callback) : callback);
+  }
+
+  /**
+   * Sends the subscribe frame without waiting for its ack; the future completes with the
+   * subscription id once the server acknowledged it.
+   */
+  default CompletableFuture<String> subscribeAsync(
+      String prefix, String[] args, WebSocketMessageCallback callback) {
+    return CompletableFuture.completedFuture(subscribe(prefix, args, callback));
+  }
+
+  /**
+   * Subscribes to {@code prefix} for any number of {@code args}. The args are packed into as few
+   * frames as the server allows, the frames are sent back to back and the acks awaited together.
+   * Either every frame is subscribed or none is.
+   *
+   * @return the subscription id of each frame
+   */
+  default List<String> subscribeAll(
+      String prefix, String[] args, WebSocketMessageCallback callback) {
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    RuntimeException rejected = null;
+    int step = Constants.WS_MAX_ARGS_PER_SUBSCRIBE;
+    for (int from = 0; from < Math.max(args.length, 1); from += step) {
+      String[] chunk = Arrays.copyOfRange(args, from, Math.min(args.length, from + step));
+      try {
+        futures.add(subscribeAsync(prefix, chunk, callback));
+      } catch (RuntimeException e) {
+        rejected = e;
+        break;
+      }
+    }
+
+    List<String> ids = new ArrayList<>();
+    Throwable failure = null;
+    for (CompletableFuture<String> f : futures) {
+      try {
+        ids.add(f.join());
+      } catch (CompletionException e) {
+        failure = e.getCause();
+      }
+    }
+    if (rejected != null || failure != null) {
+      unsubscribeAll(ids);
+      throw rejected != null ? rejected : new RuntimeException("subscribe failed", failure);
+    }
+    return ids;
+  }
+
+  /**
+   * Subscribes like {@link #subscribe(String, String[], WebSocketMessageCallback)} when {@code
+   * args} fit one frame, else like {@link #subscribeAll}; the ids of the frames are joined into one
+   * id that {@link #unsubscribeChunked} accepts.
+   */
+  default String subscribeChunked(String prefix, String[] args, WebSocketMessageCallback callback) {
+    if (args.length <= Constants.WS_MAX_ARGS_PER_SUBSCRIBE) {
+      return subscribe(prefix, args, callback);
+    }
+    return String.join(CHUNK_ID_SEPARATOR, subscribeAll(prefix, args, callback));
+  }
+
+  /** Unsubscribes an id returned by {@link #subscribeChunked}. */
+  default void unsubscribeChunked(String id) {
+    if (!id.contains(CHUNK_ID_SEPARATOR)) {
+      unsubscribe(id);
+      return;
+    }
+    unsubscribeAll(Arrays.asList(id.split(Pattern.quote(CHUNK_ID_SEPARATOR))));
+  }
+
   /** Unsubscribes from a topic. */
   void unsubscribe(String id);
+
+  /**
+   * Sends the unsubscribe frame without waiting for its ack; the future completes once the server
+   * acknowledged it.
+   */
+  default CompletableFuture<Void> unsubscribeAsync(String id) {
+    unsubscribe(id);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /** Unsubscribes every id in {@code ids}, sending the frames back to back. */
+  default void unsubscribeAll(Collection<String> ids) {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (String id : ids) {
+      futures.add(unsubscribeAsync(id));
+    }
+    Throwable failure = null;
+    for (CompletableFuture<Void> f : futures) {
+      try {
+        f.join();
+      } catch (CompletionException e) {
+        failure = e.getCause();
+      }
+    }
+    if (failure != null) {
+      throw new RuntimeException("unsubscribe failed", failure);
+    }
+  }
 }
@@ -10,4 +10,15 @@ public interface WebsocketTransportListener {
   void onMessage(WsMessage wsMessage);
 
   void onReconnected();
+
+  /** Class the data of messages on {@code topic} should be decoded into, or {@code null}. */
+  Class<?> dataType(String topic);
+
+  /**
+   * Instance of {@link #dataType(String)} to decode the data of the next message on {@code topic}
+   * into, or {@code null} to decode into a new object.
+   */
+  default Object acquireData(String topic) {
+    return null;
+  }
 }
@@ -0,0 +1,14 @@
+package com.kucoin.universal.sdk.internal.interfaces;
+
+/**
+ * Receives the raw data frames of a WebSocket connection as they arrive, before they are
+ * dispatched. Called from the socket reader threads of every connection it is configured on.
+ */
+public interface WsRecorder {
+
+  /**
+   * @param topic topic of the message
+   * @param frame frame text as received
+   */
+  void record(String topic, String frame);
+}
@@ -6,6 +6,9 @@ public interface WsTokenProvider {
   /** Retrieves the WebSocket token. */
   List<WsToken> getToken();
 
+  /** Discards a cached token after a dial with it failed. */
+  default void invalidate() {}
+
   /** Closes the token provider. */
   void close();
 }
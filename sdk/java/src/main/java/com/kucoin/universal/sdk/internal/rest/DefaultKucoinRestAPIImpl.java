@@ -21,6 +21,7 @@ import com.kucoin.universal.sdk.generate.service.SpotServiceImpl;
 import com.kucoin.universal.sdk.generate.service.VIPLendingService;
 import com.kucoin.universal.sdk.generate.service.VIPLendingServiceImpl;
 import com.kucoin.universal.sdk.internal.infra.DefaultTransport;
+import com.kucoin.universal.sdk.internal.infra.HttpRuntime;
 import com.kucoin.universal.sdk.internal.interfaces.Transport;
 import com.kucoin.universal.sdk.model.ClientOption;
 import lombok.extern.slf4j.Slf4j;
@@ -44,10 +45,12 @@ public final class DefaultKucoinRestAPIImpl implements KucoinRestService {
   private final Transport transport;
 
   public DefaultKucoinRestAPIImpl(ClientOption option) {
-    if (option.getTransportOption() == null) {
-      throw new RuntimeException("no transport option provided");
-    }
-    transport = new DefaultTransport(option, Version.SDK_VERSION);
+    this(newTransport(option, new HttpRuntime(option.getTransportOption())));
+  }
+
+  /** Wires the services with {@code transport}, which is closed by {@link #closeService()}. */
+  public DefaultKucoinRestAPIImpl(Transport transport) {
+    this.transport = transport;
 
     this.accountService = new AccountServiceImpl(transport);
     this.affiliateService = new AffiliateServiceImpl(transport);
@@ -62,6 +65,14 @@ public final class DefaultKucoinRestAPIImpl implements KucoinRestService {
     log.info("SDK version: {}", Version.SDK_VERSION);
   }
 
+  /** Creates the transport for {@code option} on {@code runtime}. */
+  public static Transport newTransport(ClientOption option, HttpRuntime runtime) {
+    if (option.getTransportOption() == null) {
+      throw new RuntimeException("no transport option provided");
+    }
+    return new DefaultTransport(option, Version.SDK_VERSION, runtime);
+  }
+
   @Override
   public AccountService getAccountService() {
     return accountService;
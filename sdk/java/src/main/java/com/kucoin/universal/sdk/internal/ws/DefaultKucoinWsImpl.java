@@ -14,9 +14,21 @@ import com.kucoin.universal.sdk.generate.spot.spotprivate.SpotPrivateWs;
 import com.kucoin.universal.sdk.generate.spot.spotprivate.SpotPrivateWsImpl;
 import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWs;
 import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWsImpl;
+import com.kucoin.universal.sdk.internal.infra.DefaultTransport;
 import com.kucoin.universal.sdk.internal.infra.DefaultWsService;
+import com.kucoin.universal.sdk.internal.infra.HttpRuntime;
+import com.kucoin.universal.sdk.internal.infra.ShardedWsService;
+import com.kucoin.universal.sdk.internal.infra.WsTokenCache;
+import com.kucoin.universal.sdk.internal.interfaces.Request;
+import com.kucoin.universal.sdk.internal.interfaces.Response;
+import com.kucoin.universal.sdk.internal.interfaces.Transport;
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketService;
 import com.kucoin.universal.sdk.model.ClientOption;
 import com.kucoin.universal.sdk.model.Constants;
+import com.kucoin.universal.sdk.model.RestResponse;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /** DefaultKucoinWsImpl provides WebSocket interfaces for Spot, Margin, and Futures trading. */
 public final class DefaultKucoinWsImpl implements KucoinWSService {
@@ -24,8 +36,34 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
   /** Client configuration options. */
   private final ClientOption clientOption;
 
+  /** HTTP resources shared by every service created here. */
+  private final HttpRuntime runtime;
+
+  /** Bullet tokens shared by every service created here. */
+  private final WsTokenCache tokenCache;
+
   public DefaultKucoinWsImpl(ClientOption clientOption) {
+    this(clientOption, new HttpRuntime(clientOption.getTransportOption()));
+  }
+
+  private DefaultKucoinWsImpl(ClientOption clientOption, HttpRuntime runtime) {
+    this(clientOption, new CallScopedTransport(clientOption, runtime), runtime);
+  }
+
+  /**
+   * @param transport REST transport the bullet tokens are fetched with, usually the one of the REST
+   *     service
+   * @param runtime HTTP resources the WebSocket connections derive from, usually the ones of {@code
+   *     transport}
+   */
+  public DefaultKucoinWsImpl(ClientOption clientOption, Transport transport, HttpRuntime runtime) {
     this.clientOption = clientOption;
+    this.runtime = runtime;
+    // REST-only clients may leave the WebSocket option unset
+    WebSocketClientOption wsOption =
+        Optional.ofNullable(clientOption.getWebsocketClientOption())
+            .orElseGet(WebSocketClientOption::defaults);
+    this.tokenCache = new WsTokenCache(transport, wsOption.getTokenTtl(), runtime);
   }
 
   /**
@@ -36,9 +74,7 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
    */
   @Override
   public SpotPublicWs newSpotPublicWS() {
-    DefaultWsService wsService =
-        new DefaultWsService(clientOption, Constants.DOMAIN_TYPE_SPOT, false, Version.SDK_VERSION);
-    return new SpotPublicWsImpl(wsService);
+    return new SpotPublicWsImpl(publicService(Constants.DOMAIN_TYPE_SPOT));
   }
 
   /**
@@ -50,7 +86,13 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
   @Override
   public SpotPrivateWs newSpotPrivateWS() {
     DefaultWsService wsService =
-        new DefaultWsService(clientOption, Constants.DOMAIN_TYPE_SPOT, true, Version.SDK_VERSION);
+        new DefaultWsService(
+            clientOption,
+            Constants.DOMAIN_TYPE_SPOT,
+            true,
+            Version.SDK_VERSION,
+            tokenCache,
+            runtime);
     return new SpotPrivateWsImpl(wsService);
   }
 
@@ -62,9 +104,7 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
    */
   @Override
   public MarginPublicWs newMarginPublicWS() {
-    DefaultWsService wsService =
-        new DefaultWsService(clientOption, Constants.DOMAIN_TYPE_SPOT, false, Version.SDK_VERSION);
-    return new MarginPublicWsImpl(wsService);
+    return new MarginPublicWsImpl(publicService(Constants.DOMAIN_TYPE_SPOT));
   }
 
   /**
@@ -76,7 +116,13 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
   @Override
   public MarginPrivateWs newMarginPrivateWS() {
     DefaultWsService wsService =
-        new DefaultWsService(clientOption, Constants.DOMAIN_TYPE_SPOT, true, Version.SDK_VERSION);
+        new DefaultWsService(
+            clientOption,
+            Constants.DOMAIN_TYPE_SPOT,
+            true,
+            Version.SDK_VERSION,
+            tokenCache,
+            runtime);
     return new MarginPrivateWsImpl(wsService);
   }
 
@@ -88,10 +134,7 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
    */
   @Override
   public FuturesPublicWs newFuturesPublicWS() {
-    DefaultWsService wsService =
-        new DefaultWsService(
-            clientOption, Constants.DOMAIN_TYPE_FUTURES, false, Version.SDK_VERSION);
-    return new FuturesPublicWsImpl(wsService);
+    return new FuturesPublicWsImpl(publicService(Constants.DOMAIN_TYPE_FUTURES));
   }
 
   /**
@@ -104,7 +147,99 @@ public final class DefaultKucoinWsImpl implements KucoinWSService {
   public FuturesPrivateWs newFuturesPrivateWS() {
     DefaultWsService wsService =
         new DefaultWsService(
-            clientOption, Constants.DOMAIN_TYPE_FUTURES, true, Version.SDK_VERSION);
+            clientOption,
+            Constants.DOMAIN_TYPE_FUTURES,
+            true,
+            Version.SDK_VERSION,
+            tokenCache,
+            runtime);
     return new FuturesPrivateWsImpl(wsService);
   }
+
+  /**
+   * Bullet transport of a standalone WebSocket client. It holds the runtime only for the duration
+   * of a call, so the runtime is freed once the last WebSocket service stops.
+   */
+  private static final class CallScopedTransport implements Transport {
+
+    private final ClientOption clientOption;
+    private final HttpRuntime runtime;
+
+    CallScopedTransport(ClientOption clientOption, HttpRuntime runtime) {
+      this.clientOption = clientOption;
+      this.runtime = runtime;
+    }
+
+    @Override
+    public <T extends Response<T, RestResponse<T>>> T call(
+        String domain,
+        boolean broker,
+        String method,
+        String path,
+        Request requestObj,
+        Class<T> responseClass,
+        boolean requestAsJson,
+        String rateLimitPool,
+        int rateLimitWeight) {
+      DefaultTransport transport = new DefaultTransport(clientOption, Version.SDK_VERSION, runtime);
+      try {
+        return transport.call(
+            domain,
+            broker,
+            method,
+            path,
+            requestObj,
+            responseClass,
+            requestAsJson,
+            rateLimitPool,
+            rateLimitWeight);
+      } finally {
+        transport.close();
+      }
+    }
+
+    @Override
+    public <T extends Response<T, RestResponse<T>>> CompletableFuture<T> callAsync(
+        String domain,
+        boolean broker,
+        String method,
+        String path,
+        Request requestObj,
+        Class<T> responseClass,
+        boolean requestAsJson,
+        String rateLimitPool,
+        int rateLimitWeight) {
+      DefaultTransport transport = new DefaultTransport(clientOption, Version.SDK_VERSION, runtime);
+      CompletableFuture<T> f;
+      try {
+        f =
+            transport.callAsync(
+                domain,
+                broker,
+                method,
+                path,
+                requestObj,
+                responseClass,
+                requestAsJson,
+                rateLimitPool,
+                rateLimitWeight);
+      } catch (RuntimeException e) {
+        transport.close();
+        throw e;
+      }
+      return f.whenComplete((v, e) -> transport.close());
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  /** Public channel service, sharded over several connections when configured. */
+  private WebSocketService publicService(String domain) {
+    if (clientOption.getWebsocketClientOption().getConnections() > 1) {
+      return new ShardedWsService(clientOption, domain, Version.SDK_VERSION, tokenCache, runtime);
+    }
+    return new DefaultWsService(
+        clientOption, domain, false, Version.SDK_VERSION, tokenCache, runtime);
+  }
 }
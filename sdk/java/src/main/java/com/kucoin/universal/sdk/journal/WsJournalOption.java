@@ -0,0 +1,39 @@
+package com.kucoin.universal.sdk.journal;
+
+import lombok.*;
+
+/**
+ * WsJournalOption holds the tuning knobs of a {@link WsJournalWriter} and {@link
+ * WsJournalReplayer}.
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WsJournalOption {
+
+  /**
+   * Bytes of one segment file. Segments are mapped whole and preallocated; a frame larger than a
+   * segment is dropped.
+   */
+  @Builder.Default private final int segmentSize = 64 << 20;
+
+  /**
+   * Whether a full segment is forced to disk before the next one is started. The force blocks the
+   * thread recording the frame, usually the WebSocket reader, until the disk is done; without it
+   * the OS writes the pages back on its own and {@link WsJournalWriter#flush()} forces them on
+   * demand.
+   */
+  @Builder.Default private final boolean forceOnRoll = false;
+
+  /**
+   * Replay pace relative to the recorded receive times: 1 = recorded speed, 2 = twice as fast, 0 =
+   * as fast as possible.
+   */
+  @Builder.Default private final double replaySpeed = 0;
+
+  /** no-op option with all defaults */
+  public static WsJournalOption defaults() {
+    return WsJournalOption.builder().build();
+  }
+}
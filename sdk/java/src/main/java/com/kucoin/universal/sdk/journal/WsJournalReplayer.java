@@ -0,0 +1,281 @@
+package com.kucoin.universal.sdk.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.futures.futurespublic.FuturesPublicWs;
+import com.kucoin.universal.sdk.generate.futures.futurespublic.FuturesPublicWsImpl;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWs;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWsImpl;
+import com.kucoin.universal.sdk.internal.infra.DefaultWsService;
+import com.kucoin.universal.sdk.internal.infra.JsonMappers;
+import com.kucoin.universal.sdk.internal.infra.WsFrameDecoder;
+import com.kucoin.universal.sdk.internal.interfaces.WebSocketService;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransport;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransportListener;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.Constants;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replays a journal written by {@link WsJournalWriter}, reading its segments through memory
+ * mappings and decoding the frames exactly like a live connection would.
+ *
+ * <p>To run code written against the WebSocket APIs offline, the replayer stands in for the
+ * connection of a service:
+ *
+ * <pre>{@code
+ * WsJournalReplayer replayer = WsJournalReplayer.open(dir, WsJournalOption.defaults());
+ * SpotPublicWs ws = replayer.newSpotPublicWS();
+ * ws.start();
+ * ws.trade(new String[] {"BTC-USDT"}, (topic, subject, event) -> strategy.onTrade(event));
+ * replayer.replay(); // returns once the journal is exhausted
+ * }</pre>
+ *
+ * Subscribing and unsubscribing succeed at once and select the recorded topics delivered; callbacks
+ * run on the thread calling {@link #replay()}, unless the client option sets dispatch threads.
+ */
+@Slf4j
+public final class WsJournalReplayer implements WebsocketTransport {
+
+  private final List<Path> segments;
+  private final double speed;
+  private final Set<String> subscribed = ConcurrentHashMap.newKeySet();
+  private WebsocketTransportListener listener;
+  private ObjectMapper mapper;
+  private volatile boolean stopped;
+
+  private WsJournalReplayer(List<Path> segments, double speed) {
+    this.segments = segments;
+    this.speed = speed;
+  }
+
+  /** Opens the journal of {@code dir}; segments created later are not read. */
+  public static WsJournalReplayer open(Path dir, WsJournalOption option) throws IOException {
+    WsJournalOption opt = option == null ? WsJournalOption.defaults() : option;
+    if (opt.getReplaySpeed() < 0) {
+      throw new IllegalArgumentException("replay speed must not be negative");
+    }
+    return new WsJournalReplayer(WsJournalWriter.segments(dir), opt.getReplaySpeed());
+  }
+
+  /** Public spot channels served from the journal, with the default client options. */
+  public SpotPublicWs newSpotPublicWS() {
+    return new SpotPublicWsImpl(service(defaultOption()));
+  }
+
+  /** Public spot channels served from the journal. */
+  public SpotPublicWs newSpotPublicWS(ClientOption option) {
+    return new SpotPublicWsImpl(service(option));
+  }
+
+  /** Public futures channels served from the journal, with the default client options. */
+  public FuturesPublicWs newFuturesPublicWS() {
+    return new FuturesPublicWsImpl(service(defaultOption()));
+  }
+
+  /** Public futures channels served from the journal. */
+  public FuturesPublicWs newFuturesPublicWS(ClientOption option) {
+    return new FuturesPublicWsImpl(service(option));
+  }
+
+  /**
+   * WebSocket service whose connection is this replayer; {@code option} must carry a {@link
+   * WebSocketClientOption}. A replayer serves a single service.
+   */
+  public synchronized WebSocketService service(ClientOption option) {
+    if (listener != null) {
+      throw new IllegalStateException("replayer already serves a service");
+    }
+    return new DefaultWsService(
+        option,
+        "replay",
+        false,
+        l -> {
+          this.listener = l;
+          this.mapper = JsonMappers.get(option);
+          return this;
+        });
+  }
+
+  private static ClientOption defaultOption() {
+    return ClientOption.builder().websocketClientOption(WebSocketClientOption.defaults()).build();
+  }
+
+  /**
+   * Delivers the recorded frames of the subscribed topics to the service, paced by {@code
+   * replaySpeed}. Returns at the end of the journal or once the service is stopped.
+   *
+   * @return number of messages delivered
+   */
+  public long replay() throws IOException {
+    WebsocketTransportListener l;
+    ObjectMapper m;
+    synchronized (this) {
+      l = listener;
+      m = mapper;
+    }
+    if (l == null) {
+      throw new IllegalStateException("no service; call service(...) or newSpotPublicWS() first");
+    }
+    return replay(l, m, subscribed::contains);
+  }
+
+  /**
+   * Delivers every recorded frame to {@code listener} through {@link
+   * WebsocketTransportListener#onMessage}, paced by {@code replaySpeed}.
+   *
+   * @param mapper mapper decoding the frames, e.g. {@code JsonMappers.get(clientOption)}
+   * @return number of messages delivered
+   */
+  public long replay(WebsocketTransportListener listener, ObjectMapper mapper) throws IOException {
+    return replay(listener, mapper, topic -> true);
+  }
+
+  private long replay(
+      WebsocketTransportListener listener, ObjectMapper mapper, Predicate<String> topics)
+      throws IOException {
+    WsFrameDecoder decoder = new WsFrameDecoder(mapper, listener);
+    byte[] frame = new byte[4096];
+    String[] names = new String[64];
+    long first = 0;
+    long startNanos = 0;
+    long delivered = 0;
+    for (Path path : segments) {
+      ByteBuffer buf = map(path);
+      int limit = buf.limit();
+      int pos = WsJournalWriter.SEGMENT_HEADER;
+      while (!stopped && pos + WsJournalWriter.RECORD_HEADER <= limit) {
+        int len = buf.getInt(pos);
+        if (len <= 0) {
+          break;
+        }
+        int id = buf.getInt(pos + 4);
+        long epochNanos = buf.getLong(pos + 8);
+        int body = pos + WsJournalWriter.RECORD_HEADER;
+        pos = body + len;
+        if (len > limit - body) {
+          throw new IOException("truncated ws journal record, path:" + path + ", at:" + body);
+        }
+        if (len > frame.length) {
+          frame = new byte[Math.max(len, frame.length * 2)];
+        }
+        buf.position(body);
+        buf.get(frame, 0, len);
+
+        if (id < 0) {
+          int defined = -id - 1;
+          if (defined >= names.length) {
+            names = Arrays.copyOf(names, Math.max(defined + 1, names.length * 2));
+          }
+          names[defined] = new String(frame, 0, len, StandardCharsets.UTF_8);
+          continue;
+        }
+        String topic = id < names.length ? names[id] : null;
+        if (topic == null) {
+          throw new IOException("undefined ws journal topic, path:" + path + ", id:" + id);
+        }
+        if (!topics.test(topic)) {
+          continue;
+        }
+        if (speed > 0) {
+          if (delivered == 0) {
+            first = epochNanos;
+            startNanos = System.nanoTime();
+          } else {
+            pace(startNanos + (long) ((epochNanos - first) / speed));
+          }
+        }
+        WsMessage m;
+        try {
+          m = decoder.decode(frame, 0, len);
+        } catch (IOException e) {
+          log.error("decode err, path:{}, topic:{}", path, topic, e);
+          continue;
+        }
+        listener.onMessage(m);
+        delivered++;
+      }
+    }
+    return delivered;
+  }
+
+  private static ByteBuffer map(Path path) throws IOException {
+    try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (ch.size() > Integer.MAX_VALUE || ch.size() < WsJournalWriter.SEGMENT_HEADER) {
+        throw new IOException("not a ws journal segment: " + path);
+      }
+      ByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+      buf.order(ByteOrder.LITTLE_ENDIAN);
+      if (buf.getInt(0) != WsJournalWriter.MAGIC) {
+        throw new IOException("not a ws journal segment: " + path);
+      }
+      if (buf.getInt(4) != WsJournalWriter.VERSION) {
+        throw new IOException("unsupported ws journal version " + buf.getInt(4) + ": " + path);
+      }
+      return buf;
+    }
+  }
+
+  /** Waits until {@code System.nanoTime()} reaches {@code deadline}. */
+  private void pace(long deadline) {
+    long wait;
+    while (!stopped && (wait = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(wait);
+    }
+  }
+
+  /* ---------------- transport ---------------- */
+
+  @Override
+  public void start() {
+    stopped = false;
+  }
+
+  @Override
+  public void stop() {
+    stopped = true;
+  }
+
+  /** Acknowledges (un)subscriptions at once, selecting the topics {@link #replay()} delivers. */
+  @Override
+  public CompletableFuture<Void> write(WsMessage msg, Duration timeout) {
+    if (Constants.WS_MESSAGE_TYPE_SUBSCRIBE.equals(msg.getType())) {
+      subscribed.addAll(topics(msg.getTopic()));
+    } else if (Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE.equals(msg.getType())) {
+      subscribed.removeAll(topics(msg.getTopic()));
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /** Topics of the messages of a subscription, e.g. {@code /market/match:BTC-USDT,ETH-USDT}. */
+  private static List<String> topics(String subscription) {
+    int colon = subscription.indexOf(':');
+    if (colon < 0) {
+      return Collections.singletonList(subscription);
+    }
+    String prefix = subscription.substring(0, colon + 1);
+    String[] args = subscription.substring(colon + 1).split(",");
+    String[] out = new String[args.length];
+    for (int i = 0; i < args.length; i++) {
+      out[i] = prefix + args[i];
+    }
+    return Arrays.asList(out);
+  }
+}
@@ -0,0 +1,250 @@
+package com.kucoin.universal.sdk.journal;
+
+import com.kucoin.universal.sdk.internal.interfaces.WsRecorder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of WebSocket data frames, written to memory-mapped segment files of a
+ * directory. Set it as {@code WebSocketClientOption.recorder} to capture every message the client
+ * receives, and read it back with {@link WsJournalReplayer}.
+ *
+ * <p>Segments are named {@code 0000000001.wsj}, {@code 0000000002.wsj}, ... and preallocated to
+ * {@code segmentSize}; a writer opened on an existing journal starts a new segment after the last
+ * one. Layout, little endian: an 8 byte segment header ({@code int} magic {@code WSJ1}, {@code int}
+ * version) followed by records of a 16 byte header ({@code int} payload length, {@code int} topic
+ * id, {@code long} receive time in epoch nanoseconds) and the payload. Frames carry their UTF-8
+ * text; a negative topic id {@code -(id + 1)} defines topic {@code id}, with the topic name as
+ * payload, before its first frame in every segment. A zero length ends the segment.
+ *
+ * <p>Frames reach the page cache as soon as they are recorded, so they survive a crash of the
+ * process; {@link #flush()} forces them to disk, as does starting a new segment with {@code
+ * WsJournalOption.forceOnRoll}. Frames recorded after {@link #close()} are dropped.
+ */
+@Slf4j
+public final class WsJournalWriter implements WsRecorder, AutoCloseable {
+
+  static final int MAGIC = 0x57534A31;
+  static final int VERSION = 1;
+  static final int SEGMENT_HEADER = 8;
+  static final int RECORD_HEADER = 16;
+  static final String SUFFIX = ".wsj";
+
+  private final Path dir;
+  private final int segmentSize;
+  private final boolean forceOnRoll;
+  private final long epochNanosAtStart = System.currentTimeMillis() * 1_000_000;
+  private final long nanoTimeAtStart = System.nanoTime();
+
+  private final Map<String, Integer> topicIds = new HashMap<>();
+  private final List<byte[]> topicNames = new ArrayList<>();
+  private final BitSet definedInSegment = new BitSet();
+  private long segment;
+  private MappedByteBuffer buf;
+  private long frames;
+  private boolean closed;
+
+  private WsJournalWriter(Path dir, WsJournalOption option, long lastSegment) {
+    this.dir = dir;
+    this.segmentSize = option.getSegmentSize();
+    this.forceOnRoll = option.isForceOnRoll();
+    this.segment = lastSegment;
+  }
+
+  /**
+   * Opens the journal of {@code dir}, creating the directory if needed. Segment files are created
+   * on the first frame.
+   */
+  public static WsJournalWriter open(Path dir, WsJournalOption option) throws IOException {
+    WsJournalOption opt = option == null ? WsJournalOption.defaults() : option;
+    if (opt.getSegmentSize() < SEGMENT_HEADER + 2 * RECORD_HEADER) {
+      throw new IllegalArgumentException("segment size too small: " + opt.getSegmentSize());
+    }
+    Files.createDirectories(dir);
+    long last = 0;
+    for (Path p : segments(dir)) {
+      last = Math.max(last, segmentNumber(p));
+    }
+    return new WsJournalWriter(dir, opt, last);
+  }
+
+  /** Segment files of {@code dir}, in order. */
+  static List<Path> segments(Path dir) throws IOException {
+    List<Path> out = new ArrayList<>();
+    try (Stream<Path> files = Files.list(dir)) {
+      files
+          .filter(p -> p.getFileName().toString().endsWith(SUFFIX) && segmentNumber(p) >= 0)
+          .sorted()
+          .forEach(out::add);
+    }
+    return out;
+  }
+
+  private static long segmentNumber(Path p) {
+    String name = p.getFileName().toString();
+    try {
+      return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /** Appends {@code frame}, received now. */
+  @Override
+  public void record(String topic, String frame) {
+    record(epochNanosAtStart + (System.nanoTime() - nanoTimeAtStart), topic, frame);
+  }
+
+  /**
+   * Appends {@code frame} received at {@code epochNanos}. Frames without a topic, and every frame
+   * once the writer is closed, are skipped.
+   *
+   * @throws UncheckedIOException if a new segment cannot be created
+   */
+  public synchronized void record(long epochNanos, String topic, String frame) {
+    if (closed) {
+      return;
+    }
+    if (topic == null || topic.isEmpty() || frame.isEmpty()) {
+      // a zero length would read as the end of the segment
+      return;
+    }
+    int id = topicId(topic);
+    int n = frame.length();
+    try {
+      if (buf == null || buf.remaining() < definition(id) + RECORD_HEADER + n) {
+        if (!fits(definition(id) + RECORD_HEADER + n, topic)) {
+          return;
+        }
+        roll();
+      }
+      define(id);
+      if (putAscii(frame)) {
+        buf.putInt(n).putInt(id).putLong(epochNanos);
+        buf.position(buf.position() + n);
+      } else {
+        byte[] utf8 = frame.getBytes(StandardCharsets.UTF_8);
+        if (buf.remaining() < RECORD_HEADER + utf8.length) {
+          if (!fits(definition(id) + RECORD_HEADER + utf8.length, topic)) {
+            return;
+          }
+          roll();
+          define(id);
+        }
+        buf.putInt(utf8.length).putInt(id).putLong(epochNanos).put(utf8);
+      }
+      frames++;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Number of frames recorded by this writer. */
+  public synchronized long frames() {
+    return frames;
+  }
+
+  /** Forces the frames recorded so far to disk. */
+  public synchronized void flush() {
+    if (buf != null) {
+      buf.force();
+    }
+  }
+
+  /**
+   * Forces the frames to disk; later frames are dropped. The current segment keeps its preallocated
+   * size.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    flush();
+    closed = true;
+    buf = null;
+  }
+
+  private int topicId(String topic) {
+    Integer id = topicIds.get(topic);
+    if (id == null) {
+      id = topicNames.size();
+      topicIds.put(topic, id);
+      topicNames.add(topic.getBytes(StandardCharsets.UTF_8));
+    }
+    return id;
+  }
+
+  /** Bytes taken by the definition of topic {@code id} if the current segment lacks it. */
+  private int definition(int id) {
+    return buf != null && definedInSegment.get(id) ? 0 : RECORD_HEADER + topicNames.get(id).length;
+  }
+
+  private void define(int id) {
+    if (definedInSegment.get(id)) {
+      return;
+    }
+    byte[] name = topicNames.get(id);
+    buf.putInt(name.length).putInt(-id - 1).putLong(0).put(name);
+    definedInSegment.set(id);
+  }
+
+  /** Whether a record of {@code bytes} fits in an empty segment; logs the frame dropped if not. */
+  private boolean fits(int bytes, String topic) {
+    if (bytes <= segmentSize - SEGMENT_HEADER) {
+      return true;
+    }
+    log.warn("ws frame larger than a journal segment dropped, topic:{}, bytes:{}", topic, bytes);
+    return false;
+  }
+
+  /**
+   * Writes {@code frame} after the record header if it is plain ASCII, the usual case, without
+   * encoding it into a temporary array. The caller checked that {@code frame.length()} bytes fit.
+   */
+  private boolean putAscii(String frame) {
+    int at = buf.position() + RECORD_HEADER;
+    for (int i = 0, n = frame.length(); i < n; i++) {
+      char c = frame.charAt(i);
+      if (c >= 0x80) {
+        return false;
+      }
+      buf.put(at + i, (byte) c);
+    }
+    return true;
+  }
+
+  private void roll() throws IOException {
+    if (buf != null && forceOnRoll) {
+      buf.force();
+    }
+    segment++;
+    Path path = dir.resolve(String.format("%010d%s", segment, SUFFIX));
+    try (FileChannel ch =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    buf.putInt(MAGIC).putInt(VERSION);
+    definedInSegment.clear();
+    log.info("ws journal segment created, path:{}", path);
+  }
+}
@@ -31,4 +31,18 @@ public class ClientOption {
   /* ---------- transport tuning ---------- */
   private final TransportOption transportOption;
   private final WebSocketClientOption websocketClientOption;
+
+  /* ---------- decoding ---------- */
+
+  /**
+   * Decode order book levels ({@code bids} / {@code asks}) into columnar {@link OrderBookLevels}
+   * instead of nested lists of boxed values.
+   */
+  private final boolean compactOrderBook;
+
+  /**
+   * Build the (de)serializers of all generated models when the client is created instead of on
+   * first use, moving that latency from the first request or message to startup.
+   */
+  private final boolean preWarmJson;
 }
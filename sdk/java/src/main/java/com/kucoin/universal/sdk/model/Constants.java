@@ -34,4 +34,8 @@ public final class Constants {
   public static final String WS_MESSAGE_TYPE_MESSAGE = "message";
   public static final String WS_MESSAGE_TYPE_NOTICE = "notice";
   public static final String WS_MESSAGE_TYPE_COMMAND = "command";
+
+  // ==== WebSocket Limits ====
+  /** Most topic arguments the server accepts in one subscribe frame. */
+  public static final int WS_MAX_ARGS_PER_SUBSCRIBE = 100;
 }
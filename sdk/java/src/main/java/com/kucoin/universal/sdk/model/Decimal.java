@@ -0,0 +1,380 @@
+package com.kucoin.universal.sdk.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Immutable fixed-point decimal, an unscaled {@code long} plus a decimal scale: the value is {@code
+ * unscaled * 10^-scale}. Generated models use it for prices, sizes, funds and other monetary fields
+ * when the generator runs with {@code FIXED_POINT_DECIMAL=true}, in place of {@code String} or
+ * {@code Double}.
+ *
+ * <p>Values are parsed straight from the JSON token characters, without an intermediate {@link
+ * String} or {@link BigDecimal}, and keep the scale sent by the server: {@link #toString()} gives
+ * the plain decimal text of the same value. Up to 18 significant digits are supported, which covers
+ * every amount the exchange sends; larger values fail with an {@link ArithmeticException}.
+ *
+ * <p>{@link #equals(Object)} and {@link #compareTo(Decimal)} compare numeric values, so {@code 1.5}
+ * equals {@code 1.50}.
+ */
+@JsonSerialize(using = Decimal.Serializer.class)
+@JsonDeserialize(using = Decimal.Deserializer.class)
+public final class Decimal extends Number implements Comparable<Decimal> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final double[] POW10 = new double[23];
+
+  private static final long[] LONG_POW10 = new long[19];
+
+  /** mantissas below 2^53 are exact doubles */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  static {
+    double p = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = p;
+      p *= 10;
+    }
+    long l = 1;
+    for (int i = 0; i < LONG_POW10.length; i++) {
+      LONG_POW10[i] = l;
+      l *= 10;
+    }
+  }
+
+  public static final Decimal ZERO = new Decimal(0, 0);
+
+  public static final Decimal ONE = new Decimal(1, 0);
+
+  private final long unscaled;
+  private final int scale;
+
+  private Decimal(long unscaled, int scale) {
+    this.unscaled = unscaled;
+    this.scale = scale;
+  }
+
+  /** {@code unscaled * 10^-scale}. */
+  public static Decimal of(long unscaled, int scale) {
+    return new Decimal(unscaled, scale);
+  }
+
+  /** The integer {@code value}. */
+  public static Decimal valueOf(long value) {
+    return new Decimal(value, 0);
+  }
+
+  /**
+   * Parses a decimal such as {@code 67523.1}, {@code -0.003} or {@code 1e-7}; {@code null} if
+   * {@code s} is {@code null}.
+   *
+   * @throws NumberFormatException if {@code s} is not a number
+   */
+  public static Decimal valueOf(String s) {
+    return s == null ? null : parse(s);
+  }
+
+  /** Same as {@link #valueOf(String)}, for any character sequence. */
+  public static Decimal parse(CharSequence s) {
+    int n = s.length();
+    char[] buf = new char[n];
+    for (int i = 0; i < n; i++) {
+      buf[i] = s.charAt(i);
+    }
+    return parse(buf, 0, n);
+  }
+
+  /**
+   * Parses the decimal in {@code buf[off, off + len)}, allocating nothing but the result for plain
+   * decimals.
+   *
+   * @throws NumberFormatException if the characters are not a number
+   * @throws ArithmeticException if the value has more than 18 significant digits
+   */
+  public static Decimal parse(char[] buf, int off, int len) {
+    int end = off + len;
+    int i = off;
+    boolean neg = false;
+    if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+      neg = buf[i] == '-';
+      i++;
+    }
+    long v = 0;
+    int scale = 0;
+    int digits = 0;
+    boolean dot = false;
+    for (; i < end; i++) {
+      char c = buf[i];
+      if (c == '.' && !dot) {
+        dot = true;
+        continue;
+      }
+      if (c < '0' || c > '9' || v > (Long.MAX_VALUE - 9) / 10) {
+        // exponent, overflow or garbage: take the slow path
+        return slowParse(new String(buf, off, len));
+      }
+      v = v * 10 + (c - '0');
+      digits++;
+      if (dot) {
+        scale++;
+      }
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("invalid decimal: " + new String(buf, off, len));
+    }
+    return new Decimal(neg ? -v : v, scale);
+  }
+
+  private static Decimal slowParse(String text) {
+    BigDecimal d;
+    try {
+      d = new BigDecimal(text);
+    } catch (NumberFormatException e) {
+      throw new NumberFormatException("invalid decimal: " + text);
+    }
+    try {
+      return new Decimal(d.unscaledValue().longValueExact(), d.scale());
+    } catch (ArithmeticException e) {
+      d = d.stripTrailingZeros();
+      try {
+        return new Decimal(d.unscaledValue().longValueExact(), d.scale());
+      } catch (ArithmeticException again) {
+        throw new ArithmeticException("decimal out of range: " + text);
+      }
+    }
+  }
+
+  /**
+   * Reads the current string or number token of {@code p}; {@code null} for an empty string. Used
+   * by the deserializer and by the in-place readers of the generated events.
+   */
+  public static Decimal read(JsonParser p) throws IOException {
+    int len = p.getTextLength();
+    if (len == 0 && p.currentToken() == JsonToken.VALUE_STRING) {
+      return null;
+    }
+    try {
+      return parse(p.getTextCharacters(), p.getTextOffset(), len);
+    } catch (NumberFormatException | ArithmeticException e) {
+      throw JsonMappingException.from(p, e.getMessage(), e);
+    }
+  }
+
+  /** Unscaled value; the decimal value is {@code unscaled * 10^-scale}. */
+  public long unscaled() {
+    return unscaled;
+  }
+
+  /** Decimal scale, the number of digits after the point. */
+  public int scale() {
+    return scale;
+  }
+
+  public int signum() {
+    return Long.signum(unscaled);
+  }
+
+  public Decimal negate() {
+    return new Decimal(Math.negateExact(unscaled), scale);
+  }
+
+  /**
+   * Exact sum, at the larger of both scales.
+   *
+   * @throws ArithmeticException on overflow
+   */
+  public Decimal add(Decimal other) {
+    if (scale == other.scale) {
+      return new Decimal(Math.addExact(unscaled, other.unscaled), scale);
+    }
+    int s = Math.max(scale, other.scale);
+    return new Decimal(Math.addExact(rescale(s), other.rescale(s)), s);
+  }
+
+  /**
+   * Exact difference, at the larger of both scales.
+   *
+   * @throws ArithmeticException on overflow
+   */
+  public Decimal subtract(Decimal other) {
+    return add(other.negate());
+  }
+
+  /**
+   * Exact product, at the sum of both scales.
+   *
+   * @throws ArithmeticException on overflow
+   */
+  public Decimal multiply(Decimal other) {
+    return new Decimal(
+        Math.multiplyExact(unscaled, other.unscaled), Math.addExact(scale, other.scale));
+  }
+
+  /** Unscaled value at the larger scale {@code s}. */
+  private long rescale(int s) {
+    int diff = s - scale;
+    if (diff >= LONG_POW10.length) {
+      if (unscaled == 0) {
+        return 0;
+      }
+      throw new ArithmeticException("decimal out of range");
+    }
+    return Math.multiplyExact(unscaled, LONG_POW10[diff]);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(unscaled, scale);
+  }
+
+  @Override
+  public double doubleValue() {
+    if (scale >= 0 && scale < POW10.length && Math.abs(unscaled) < MAX_EXACT_DOUBLE) {
+      // both operands are exact, so the quotient is correctly rounded
+      return unscaled / POW10[scale];
+    }
+    return toBigDecimal().doubleValue();
+  }
+
+  @Override
+  public float floatValue() {
+    return (float) doubleValue();
+  }
+
+  /** Integer part, truncated towards zero. */
+  @Override
+  public long longValue() {
+    if (scale == 0) {
+      return unscaled;
+    }
+    if (scale > 0 && scale < LONG_POW10.length) {
+      return unscaled / LONG_POW10[scale];
+    }
+    return toBigDecimal().longValue();
+  }
+
+  @Override
+  public int intValue() {
+    return (int) longValue();
+  }
+
+  @Override
+  public int compareTo(Decimal other) {
+    if (scale == other.scale) {
+      return Long.compare(unscaled, other.unscaled);
+    }
+    int s = Math.max(scale, other.scale);
+    try {
+      return Long.compare(rescale(s), other.rescale(s));
+    } catch (ArithmeticException e) {
+      return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || o instanceof Decimal && compareTo((Decimal) o) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    // trailing zeros do not change the value
+    long u = unscaled;
+    int s = scale;
+    while (u != 0 && u % 10 == 0) {
+      u /= 10;
+      s--;
+    }
+    return u == 0 ? 0 : 31 * Long.hashCode(u) + s;
+  }
+
+  /** Plain decimal text of the same value as sent by the server. */
+  @Override
+  public String toString() {
+    if (scale == 0) {
+      return Long.toString(unscaled);
+    }
+    if (scale < 0) {
+      return toBigDecimal().toPlainString();
+    }
+    String digits = Long.toString(Math.abs(unscaled));
+    StringBuilder sb = new StringBuilder(digits.length() + scale + 3);
+    if (unscaled < 0) {
+      sb.append('-');
+    }
+    int intLen = digits.length() - scale;
+    if (intLen > 0) {
+      sb.append(digits, 0, intLen).append('.').append(digits, intLen, digits.length());
+    } else {
+      sb.append("0.");
+      for (int i = intLen; i < 0; i++) {
+        sb.append('0');
+      }
+      sb.append(digits);
+    }
+    return sb.toString();
+  }
+
+  /** Reads string and number tokens alike. */
+  public static final class Deserializer extends StdDeserializer<Decimal> {
+
+    private static final long serialVersionUID = 1L;
+
+    public Deserializer() {
+      super(Decimal.class);
+    }
+
+    @Override
+    public Decimal deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      JsonToken t = p.currentToken();
+      if (t != JsonToken.VALUE_STRING
+          && t != JsonToken.VALUE_NUMBER_INT
+          && t != JsonToken.VALUE_NUMBER_FLOAT) {
+        return (Decimal) ctxt.handleUnexpectedToken(Decimal.class, p);
+      }
+      return read(p);
+    }
+  }
+
+  /** Writes the value as a JSON string, the way the API sends and expects most amounts. */
+  public static final class Serializer extends StdSerializer<Decimal> {
+
+    private static final long serialVersionUID = 1L;
+
+    public Serializer() {
+      super(Decimal.class);
+    }
+
+    @Override
+    public void serialize(Decimal value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeString(value.toString());
+    }
+  }
+
+  /** Writes the value as a JSON number, for fields the API declares as numbers. */
+  public static final class NumberSerializer extends StdSerializer<Decimal> {
+
+    private static final long serialVersionUID = 1L;
+
+    public NumberSerializer() {
+      super(Decimal.class);
+    }
+
+    @Override
+    public void serialize(Decimal value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeNumber(value.toString());
+    }
+  }
+}
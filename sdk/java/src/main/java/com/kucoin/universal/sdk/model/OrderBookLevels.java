@@ -0,0 +1,219 @@
+package com.kucoin.universal.sdk.model;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Columnar, read-only view over order book levels. Every cell is stored as an unscaled {@code long}
+ * plus a decimal scale, so a book of N levels is backed by two primitive arrays instead of N boxed
+ * rows.
+ *
+ * <p>Instances are produced when {@code ClientOption.compactOrderBook} is enabled, in place of the
+ * {@code List<List<String>>} / {@code List<List<Double>>} order book fields of the generated
+ * models. The {@link List} view stays available for existing code; hot paths should use the
+ * primitive accessors such as {@link #price(int)} and {@link #size(int)}.
+ *
+ * @param <E> element type of the boxed row view ({@link String} or {@link Double})
+ */
+public final class OrderBookLevels<E> extends AbstractList<List<E>> implements RandomAccess {
+
+  private static final double[] POW10 = new double[23];
+
+  static {
+    double p = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = p;
+      p *= 10;
+    }
+  }
+
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  private final Class<E> elementType;
+  private final int levels;
+  private final int width;
+  private final long[] unscaled;
+  private final byte[] scales;
+
+  public OrderBookLevels(
+      Class<E> elementType, int levels, int width, long[] unscaled, byte[] scales) {
+    if (elementType != String.class && elementType != Double.class) {
+      throw new IllegalArgumentException("unsupported element type " + elementType);
+    }
+    this.elementType = elementType;
+    this.levels = levels;
+    this.width = width;
+    this.unscaled = unscaled;
+    this.scales = scales;
+  }
+
+  /** Returns {@code levels} as a columnar view, converting it if it is not one already. */
+  @SuppressWarnings("unchecked")
+  public static OrderBookLevels<?> of(List<? extends List<?>> levels) {
+    if (levels instanceof OrderBookLevels) {
+      return (OrderBookLevels<?>) levels;
+    }
+    int rows = levels == null ? 0 : levels.size();
+    int width = rows == 0 ? 0 : levels.get(0).size();
+    long[] unscaled = new long[rows * width];
+    byte[] scales = new byte[rows * width];
+    Class<?> type = String.class;
+    for (int i = 0; i < rows; i++) {
+      List<?> row = levels.get(i);
+      if (row.size() != width) {
+        throw new IllegalArgumentException("ragged order book row at level " + i);
+      }
+      for (int j = 0; j < width; j++) {
+        Object v = row.get(j);
+        if (v instanceof Double) {
+          type = Double.class;
+        }
+        BigDecimal d = compact(new BigDecimal(String.valueOf(v)));
+        int idx = i * width + j;
+        unscaled[idx] = d.unscaledValue().longValue();
+        scales[idx] = (byte) d.scale();
+      }
+    }
+    return new OrderBookLevels<>((Class<Object>) type, rows, width, unscaled, scales);
+  }
+
+  /**
+   * Returns {@code d} with an unscaled value that fits a {@code long} and a scale that fits a
+   * {@code byte}, dropping trailing zeros if needed.
+   *
+   * @throws IllegalArgumentException if the value cannot be represented
+   */
+  public static BigDecimal compact(BigDecimal d) {
+    if (!fits(d)) {
+      d = d.stripTrailingZeros();
+      if (!fits(d)) {
+        throw new IllegalArgumentException("decimal out of range: " + d);
+      }
+    }
+    return d;
+  }
+
+  private static boolean fits(BigDecimal d) {
+    return d.unscaledValue().bitLength() < 64
+        && d.scale() >= Byte.MIN_VALUE
+        && d.scale() <= Byte.MAX_VALUE;
+  }
+
+  /** Number of price levels. */
+  public int levels() {
+    return levels;
+  }
+
+  /** Number of columns per level, e.g. 2 for [price, size] or 3 for [price, size, sequence]. */
+  public int width() {
+    return width;
+  }
+
+  /** Price of the given level. */
+  public double price(int level) {
+    return value(level, 0);
+  }
+
+  /** Size of the given level. */
+  public double size(int level) {
+    return value(level, 1);
+  }
+
+  /** Value of a cell as a {@code double}. */
+  public double value(int level, int column) {
+    int idx = index(level, column);
+    long u = unscaled[idx];
+    int s = scales[idx];
+    if (s >= 0 && s < POW10.length && Math.abs(u) < MAX_EXACT_DOUBLE) {
+      // both operands are exact, so the quotient is correctly rounded
+      return u / POW10[s];
+    }
+    return Double.parseDouble(text(level, column));
+  }
+
+  /** Unscaled value of a cell; the decimal value is {@code unscaled * 10^-scale}. */
+  public long unscaled(int level, int column) {
+    return unscaled[index(level, column)];
+  }
+
+  /** Decimal scale of a cell. */
+  public int scale(int level, int column) {
+    return scales[index(level, column)];
+  }
+
+  /** Plain decimal text of a cell, the same value as sent by the server. */
+  public String text(int level, int column) {
+    int idx = index(level, column);
+    return toPlainString(unscaled[idx], scales[idx]);
+  }
+
+  @Override
+  public List<E> get(int level) {
+    if (level < 0 || level >= levels) {
+      throw new IndexOutOfBoundsException("level: " + level + ", levels: " + levels);
+    }
+    return new Row(level);
+  }
+
+  @Override
+  public int size() {
+    return levels;
+  }
+
+  private int index(int level, int column) {
+    if (level < 0 || level >= levels || column < 0 || column >= width) {
+      throw new IndexOutOfBoundsException("level: " + level + ", column: " + column);
+    }
+    return level * width + column;
+  }
+
+  private static String toPlainString(long unscaled, int scale) {
+    if (scale == 0) {
+      return Long.toString(unscaled);
+    }
+    if (scale < 0) {
+      return BigDecimal.valueOf(unscaled, scale).toPlainString();
+    }
+    String digits = Long.toString(Math.abs(unscaled));
+    StringBuilder sb = new StringBuilder(digits.length() + scale + 3);
+    if (unscaled < 0) {
+      sb.append('-');
+    }
+    int intLen = digits.length() - scale;
+    if (intLen > 0) {
+      sb.append(digits, 0, intLen).append('.').append(digits, intLen, digits.length());
+    } else {
+      sb.append("0.");
+      for (int i = intLen; i < 0; i++) {
+        sb.append('0');
+      }
+      sb.append(digits);
+    }
+    return sb.toString();
+  }
+
+  /** Boxed view of one level, materialized on access. */
+  private final class Row extends AbstractList<E> implements RandomAccess {
+
+    private final int level;
+
+    Row(int level) {
+      this.level = level;
+    }
+
+    @Override
+    public E get(int column) {
+      if (elementType == Double.class) {
+        return elementType.cast(value(level, column));
+      }
+      return elementType.cast(text(level, column));
+    }
+
+    @Override
+    public int size() {
+      return width;
+    }
+  }
+}
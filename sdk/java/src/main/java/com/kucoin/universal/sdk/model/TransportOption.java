@@ -1,5 +1,6 @@
 package com.kucoin.universal.sdk.model;
 
+import com.kucoin.universal.sdk.internal.interfaces.RateLimiter;
 import java.net.Proxy;
 import java.time.Duration;
 import java.util.Collections;
@@ -65,6 +66,14 @@ public final class TransportOption {
   /** Custom executor for Dispatcher (call execution); null means use default */
   @Builder.Default private final ExecutorService dispatcherExecutor = null;
 
+  /* ---------- rate limit ---------- */
+
+  /**
+   * Client-side rate limiter consulted before every request, e.g. {@code TokenBucketRateLimiter};
+   * {@code null} disables client-side limiting.
+   */
+  @Builder.Default private final RateLimiter rateLimiter = null;
+
   public Optional<Proxy> proxy() {
     return Optional.ofNullable(proxy);
   }
@@ -77,6 +86,10 @@ public final class TransportOption {
     return Optional.ofNullable(dispatcherExecutor);
   }
 
+  public Optional<RateLimiter> rateLimiter() {
+    return Optional.ofNullable(rateLimiter);
+  }
+
   public List<Interceptor> interceptors() {
     return interceptors == null
         ? Collections.emptyList()
@@ -0,0 +1,60 @@
+package com.kucoin.universal.sdk.model;
+
+import com.kucoin.universal.sdk.generate.spot.order.AddOrderReq;
+import com.kucoin.universal.sdk.generate.spot.order.AddOrderResp;
+import com.kucoin.universal.sdk.generate.spot.order.CancelOrderByOrderIdResp;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import lombok.*;
+
+/** What {@code KucoinClient.warmUp} initializes before the first real request. */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WarmUpOption {
+
+  /* ---------------- connections ---------------- */
+
+  /**
+   * connections opened to each endpoint with concurrent {@code getServerTime} calls; at most {@code
+   * TransportOption.maxIdleConnections} stay pooled across all endpoints, for {@code
+   * TransportOption.keepAliveDuration}
+   */
+  @Builder.Default private final int connections = 1;
+
+  /** open connections to the spot endpoint */
+  @Builder.Default private final boolean spot = true;
+
+  /** open connections to the futures endpoint */
+  @Builder.Default private final boolean futures = true;
+
+  /** max time to wait for the warm-up calls */
+  @Builder.Default private final Duration timeout = Duration.ofSeconds(10);
+
+  /* ---------------- serialization ---------------- */
+
+  /** request / response classes serialized and parsed in a loop so the JIT compiles their paths */
+  @Builder.Default
+  private final List<Class<?>> models =
+      Arrays.asList(
+          AddOrderReq.class,
+          AddOrderResp.class,
+          CancelOrderByOrderIdResp.class,
+          com.kucoin.universal.sdk.generate.futures.order.AddOrderReq.class,
+          com.kucoin.universal.sdk.generate.futures.order.AddOrderResp.class);
+
+  /** round trips per model class */
+  @Builder.Default private final int iterations = 2000;
+
+  /** also build the (de)serializers of all generated models, as {@code ClientOption.preWarmJson} */
+  @Builder.Default private final boolean allModels = false;
+
+  /* ---------------- helper ---------------- */
+
+  /** option with all defaults */
+  public static WarmUpOption defaults() {
+    return WarmUpOption.builder().build();
+  }
+}
@@ -1,6 +1,9 @@
 package com.kucoin.universal.sdk.model;
 
+import com.kucoin.universal.sdk.internal.interfaces.WsRecorder;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
 import lombok.*;
 
 @Getter
@@ -18,6 +21,16 @@ public final class WebSocketClientOption {
     void onEvent(WebSocketEvent event, String message);
   }
 
+  /** What to do with a message when its dispatch queue is full. */
+  public enum OverflowPolicy {
+    /** block the socket reader until the callback catches up */
+    BLOCK,
+    /** drop the oldest pending message of the queue */
+    DROP_OLDEST,
+    /** keep only the newest pending message per topic; drop the oldest if still full */
+    CONFLATE
+  }
+
   /** auto reconnect after disconnect */
   @Builder.Default private final boolean reconnect = true;
 
@@ -33,9 +46,69 @@ public final class WebSocketClientOption {
   /** single send timeout */
   @Builder.Default private final Duration writeTimeout = Duration.ofSeconds(5);
 
+  /**
+   * how long a bullet token is reused by the services of one client; it is fetched again in the
+   * background before that
+   */
+  @Builder.Default private final Duration tokenTtl = Duration.ofHours(12);
+
   /** event dispatcher; may be {@code null} */
   @Builder.Default private final WebSocketCallback eventCallback = null;
 
+  /* ---------------- callback dispatch ---------------- */
+
+  /**
+   * threads running message callbacks, partitioned by topic so per-topic order is kept; 0 = run
+   * callbacks on the socket reader thread
+   */
+  @Builder.Default private final int dispatchThreads = 0;
+
+  /** pending messages per dispatch thread */
+  @Builder.Default private final int dispatchQueueCapacity = 1024;
+
+  /** behaviour when a dispatch queue is full */
+  @Builder.Default private final OverflowPolicy dispatchOverflowPolicy = OverflowPolicy.BLOCK;
+
+  /**
+   * topic prefixes (e.g. {@code /market/ticker}) whose callbacks only get the newest undelivered
+   * message per topic when they fall behind
+   */
+  @Builder.Default private final Set<String> conflateTopics = Collections.emptySet();
+
+  /**
+   * topic prefixes (e.g. {@code /market/match}) whose flat events are refilled in place: each
+   * subscription reuses a few mutable instances, so an event must not be kept after its callback
+   * returns
+   */
+  @Builder.Default private final Set<String> flyweightTopics = Collections.emptySet();
+
+  /* ---------------- redundancy ---------------- */
+
+  /**
+   * keep a second subscribed connection, on another instance server when the token lists one; each
+   * message is delivered from whichever connection receives it first
+   */
+  @Builder.Default private final boolean standby = false;
+
+  /* ---------------- sharding ---------------- */
+
+  /**
+   * connections behind one public WebSocket service; new topics go to the least-loaded one. 1 =
+   * single connection
+   */
+  @Builder.Default private final int connections = 1;
+
+  /** topics one connection may carry when {@code connections > 1} */
+  @Builder.Default private final int maxTopicsPerConnection = 400;
+
+  /* ---------------- recording ---------------- */
+
+  /**
+   * records the raw data frames received, e.g. a {@code WsJournalWriter}; may be {@code null}. Not
+   * closed by the client
+   */
+  @Builder.Default private final WsRecorder recorder = null;
+
   /* ---------------- helper ---------------- */
 
   /** no-op option with all defaults */
@@ -8,6 +8,7 @@ public enum WebSocketEvent {
   CALLBACK_ERROR, // user-callback threw exception
   RE_SUBSCRIBE_OK, // resubscribe succeeded
   RE_SUBSCRIBE_ERROR, // resubscribe failed
+  MESSAGE_DROPPED, // dispatch queue overflowed, messages dropped
   CLIENT_FAIL, // fatal failure, client unusable
   CLIENT_SHUTDOWN; // client closed normally
 }
@@ -1,13 +1,15 @@
 package com.kucoin.universal.sdk.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
 import lombok.ToString;
 
 @Data
-@ToString(exclude = "data")
+@ToString(exclude = {"data", "payload"})
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class WsMessage {
 
@@ -39,7 +41,18 @@ public class WsMessage {
   @JsonProperty("response")
   private Boolean response;
 
-  /** Raw message data */
+  /** Raw message data; {@code null} when the data was decoded straight into {@link #payload} */
   @JsonProperty("data")
   private JsonNode data;
+
+  /** Message data already bound to its event class while the frame was parsed */
+  @JsonIgnore private Object payload;
+
+  /** Returns the message data as {@code type}, converting the raw tree if it was not pre-bound. */
+  public <T> T dataAs(Class<T> type, ObjectMapper mapper) {
+    if (type.isInstance(payload)) {
+      return type.cast(payload);
+    }
+    return mapper.convertValue(data, type);
+  }
 }
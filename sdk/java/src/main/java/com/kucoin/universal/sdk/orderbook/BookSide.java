@@ -0,0 +1,87 @@
+package com.kucoin.universal.sdk.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * One side of the book as parallel sorted primitive arrays keyed on scaled prices. Keys are stored
+ * so that the best level is always the last element ({@code price} for bids, {@code -price} for
+ * asks), which keeps updates near the top of the book cheap.
+ *
+ * <p>Not thread-safe; guarded by the owning {@link LocalOrderBook}.
+ */
+final class BookSide {
+
+  private final boolean bid;
+  private long[] keys = new long[256];
+  private double[] sizes = new double[256];
+  private int count;
+
+  BookSide(boolean bid) {
+    this.bid = bid;
+  }
+
+  /** Set the size of a level; a size of zero removes it. */
+  void set(long price, double size) {
+    long key = bid ? price : -price;
+    int idx = Arrays.binarySearch(keys, 0, count, key);
+    if (idx >= 0) {
+      if (size == 0) {
+        System.arraycopy(keys, idx + 1, keys, idx, count - idx - 1);
+        System.arraycopy(sizes, idx + 1, sizes, idx, count - idx - 1);
+        count--;
+      } else {
+        sizes[idx] = size;
+      }
+      return;
+    }
+    if (size == 0) {
+      return;
+    }
+    int ins = -idx - 1;
+    if (count == keys.length) {
+      keys = Arrays.copyOf(keys, count << 1);
+      sizes = Arrays.copyOf(sizes, count << 1);
+    }
+    System.arraycopy(keys, ins, keys, ins + 1, count - ins);
+    System.arraycopy(sizes, ins, sizes, ins + 1, count - ins);
+    keys[ins] = key;
+    sizes[ins] = size;
+    count++;
+  }
+
+  void clear() {
+    count = 0;
+  }
+
+  int count() {
+    return count;
+  }
+
+  /** Best price, or {@link Long#MIN_VALUE} when empty. Same concurrency rules as {@link #top}. */
+  long best() {
+    long[] k = keys;
+    int c = count;
+    if (c == 0 || c > k.length) {
+      return Long.MIN_VALUE;
+    }
+    long key = k[c - 1];
+    return bid ? key : -key;
+  }
+
+  /**
+   * Copy up to {@code depth} levels, best first. Tolerates being called concurrently with the
+   * writer; the caller validates the result.
+   */
+  int top(int depth, long[] outPrices, double[] outSizes) {
+    long[] k = keys;
+    double[] s = sizes;
+    int c = Math.min(count, Math.min(k.length, s.length));
+    int n = Math.min(depth, c);
+    for (int i = 0; i < n; i++) {
+      long key = k[c - 1 - i];
+      outPrices[i] = bid ? key : -key;
+      outSizes[i] = s[c - 1 - i];
+    }
+    return n;
+  }
+}
@@ -0,0 +1,150 @@
+package com.kucoin.universal.sdk.orderbook;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/** Exact conversions between decimal text and scaled {@code long} values. */
+final class Decimals {
+
+  private static final long[] POW10 = new long[19];
+
+  /** integers below 2^53 are exact doubles */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  static {
+    long p = 1;
+    for (int i = 0; i < POW10.length; i++) {
+      POW10[i] = p;
+      p *= 10;
+    }
+  }
+
+  private Decimals() {}
+
+  /**
+   * Parses {@code s[from, to)} as a plain decimal scaled to {@code scale} decimal places.
+   *
+   * @throws ArithmeticException if the value has more decimals than {@code scale} or overflows
+   */
+  static long parseScaled(CharSequence s, int from, int to, int scale) {
+    int i = from;
+    boolean neg = false;
+    if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      neg = s.charAt(i) == '-';
+      i++;
+    }
+    long v = 0;
+    int decimals = -1;
+    int digits = 0;
+    for (; i < to; i++) {
+      char c = s.charAt(i);
+      if (c == '.' && decimals < 0) {
+        decimals = 0;
+        continue;
+      }
+      if (c == 'e' || c == 'E') {
+        return parseScientific(s, from, to, scale);
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("invalid decimal: " + s.subSequence(from, to));
+      }
+      if (decimals >= 0) {
+        if (decimals == scale) {
+          if (c == 'e' || c == 'E') {
+            return parseScientific(s, from, to, scale);
+          }
+          if (c != '0') {
+            if (hasExponent(s, i, to)) {
+              return parseScientific(s, from, to, scale);
+            }
+            throw new ArithmeticException("precision exceeds scale: " + s.subSequence(from, to));
+          }
+          continue;
+        }
+        decimals++;
+      }
+      v = Math.addExact(Math.multiplyExact(v, 10), c - '0');
+      digits++;
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("invalid decimal: " + s.subSequence(from, to));
+    }
+    v = rescale(v, Math.max(decimals, 0), scale);
+    return neg ? -v : v;
+  }
+
+  private static boolean hasExponent(CharSequence s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (c == 'e' || c == 'E') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Slow path of {@link #parseScaled} for text with an exponent, e.g. {@code 1.5E-7}. */
+  private static long parseScientific(CharSequence s, int from, int to, int scale) {
+    try {
+      return new BigDecimal(s.subSequence(from, to).toString())
+          .setScale(scale, RoundingMode.UNNECESSARY)
+          .unscaledValue()
+          .longValueExact();
+    } catch (ArithmeticException e) {
+      throw new ArithmeticException(
+          "precision exceeds scale or overflows: " + s.subSequence(from, to));
+    }
+  }
+
+  /**
+   * Converts a {@code double} parsed from a decimal, such as a futures price, to a value scaled to
+   * {@code scale} decimal places.
+   *
+   * @throws ArithmeticException if the value has more decimals than {@code scale} or overflows
+   */
+  static long scaled(double d, int scale) {
+    if (scale < POW10.length) {
+      double x = d * POW10[scale];
+      if (Math.abs(x) < MAX_EXACT_DOUBLE) {
+        long v = Math.round(x);
+        // both operands are exact, so the quotient is the double nearest to the decimal
+        if (v / (double) POW10[scale] == d) {
+          return v;
+        }
+      }
+    }
+    if (Double.isNaN(d) || Double.isInfinite(d)) {
+      throw new NumberFormatException("invalid decimal: " + d);
+    }
+    try {
+      return BigDecimal.valueOf(d)
+          .setScale(scale, RoundingMode.UNNECESSARY)
+          .unscaledValue()
+          .longValueExact();
+    } catch (ArithmeticException e) {
+      throw new ArithmeticException("precision exceeds scale or overflows: " + d);
+    }
+  }
+
+  /** Converts {@code unscaled * 10^-scale} to a value scaled by {@code target}. */
+  static long rescale(long unscaled, int scale, int target) {
+    if (scale == target) {
+      return unscaled;
+    }
+    if (scale < target) {
+      return Math.multiplyExact(unscaled, pow10(target - scale));
+    }
+    long div = pow10(scale - target);
+    if (unscaled % div != 0) {
+      throw new ArithmeticException("precision exceeds scale " + target);
+    }
+    return unscaled / div;
+  }
+
+  private static long pow10(int n) {
+    if (n >= POW10.length) {
+      throw new ArithmeticException("scale out of range: " + n);
+    }
+    return POW10[n];
+  }
+}
@@ -0,0 +1,582 @@
+package com.kucoin.universal.sdk.orderbook;
+
+import com.kucoin.universal.sdk.generate.futures.futurespublic.FuturesPublicWs;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookIncrementChanges;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookIncrementEvent;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWs;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.model.OrderBookLevels;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local order book maintained from {@code /market/level2} (spot) or {@code /contractMarket/level2}
+ * (futures) increments.
+ *
+ * <p>Increments are buffered while a REST snapshot is fetched, then replayed on top of it. Once
+ * live, every increment is checked for sequence continuity; a gap triggers an automatic resync.
+ * Levels are kept as sorted primitive arrays keyed on scaled {@code long} prices.
+ *
+ * <p>Reads ({@link #bestBidPrice()}, {@link #bids(int, long[], double[])}, ...) are optimistic and
+ * never block the writer; they may be called from any thread.
+ */
+@Slf4j
+public final class LocalOrderBook implements AutoCloseable {
+
+  /** Loads a full order book snapshot. */
+  @FunctionalInterface
+  public interface SnapshotLoader {
+    Snapshot load() throws Exception;
+  }
+
+  /** Full order book snapshot; levels are [price, size] rows as returned by the REST API. */
+  @Value
+  public static class Snapshot {
+    long sequence;
+    List<? extends List<?>> bids;
+    List<? extends List<?>> asks;
+  }
+
+  private final String symbol;
+  private final SnapshotLoader loader;
+  private final LocalOrderBookOption option;
+  private final ScheduledExecutorService executor;
+  private final int priceScale;
+  private final double priceDivisor;
+
+  /** subscribes this book to its increments, returning the subscription id */
+  private final Function<LocalOrderBook, String> subscribe;
+
+  private final Consumer<String> unsubscribe;
+  private String subscriptionId;
+
+  private final StampedLock lock = new StampedLock();
+  private final BookSide bids = new BookSide(true);
+  private final BookSide asks = new BookSide(false);
+  private volatile long sequence = -1;
+  private volatile boolean live;
+
+  // writer state, guarded by this
+  private final ArrayDeque<Increment> buffer = new ArrayDeque<>();
+  private long generation;
+  private boolean closed;
+
+  public LocalOrderBook(String symbol, SnapshotLoader loader, LocalOrderBookOption option) {
+    this(symbol, loader, option, null, null);
+  }
+
+  private LocalOrderBook(
+      String symbol,
+      SnapshotLoader loader,
+      LocalOrderBookOption option,
+      Function<LocalOrderBook, String> subscribe,
+      Consumer<String> unsubscribe) {
+    this.symbol = Objects.requireNonNull(symbol, "symbol");
+    this.loader = Objects.requireNonNull(loader, "loader");
+    this.option = option == null ? LocalOrderBookOption.defaults() : option;
+    this.executor =
+        this.option.getExecutor() != null ? this.option.getExecutor() : SharedExecutor.INSTANCE;
+    this.priceScale = this.option.getPriceScale();
+    this.priceDivisor = Math.pow(10, priceScale);
+    this.subscribe = subscribe;
+    this.unsubscribe = unsubscribe;
+  }
+
+  /** Book for a spot symbol fed by {@link SpotPublicWs#orderbookIncrement}. */
+  public static LocalOrderBook spot(
+      String symbol,
+      com.kucoin.universal.sdk.generate.spot.market.MarketApi marketApi,
+      SpotPublicWs ws,
+      LocalOrderBookOption option) {
+    SnapshotLoader loader =
+        () -> {
+          com.kucoin.universal.sdk.generate.spot.market.GetFullOrderBookResp resp =
+              marketApi.getFullOrderBook(
+                  com.kucoin.universal.sdk.generate.spot.market.GetFullOrderBookReq.builder()
+                      .symbol(symbol)
+                      .build());
+          return new Snapshot(Long.parseLong(resp.getSequence()), resp.getBids(), resp.getAsks());
+        };
+    return new LocalOrderBook(
+        symbol,
+        loader,
+        option,
+        book ->
+            ws.orderbookIncrement(
+                new String[] {symbol}, (topic, subject, event) -> book.onIncrement(event)),
+        ws::unSubscribe);
+  }
+
+  /** Book for a futures symbol fed by {@link FuturesPublicWs#orderbookIncrement}. */
+  public static LocalOrderBook futures(
+      String symbol,
+      com.kucoin.universal.sdk.generate.futures.market.MarketApi marketApi,
+      FuturesPublicWs ws,
+      LocalOrderBookOption option) {
+    SnapshotLoader loader =
+        () -> {
+          com.kucoin.universal.sdk.generate.futures.market.GetFullOrderBookResp resp =
+              marketApi.getFullOrderBook(
+                  com.kucoin.universal.sdk.generate.futures.market.GetFullOrderBookReq.builder()
+                      .symbol(symbol)
+                      .build());
+          return new Snapshot(resp.getSequence(), resp.getBids(), resp.getAsks());
+        };
+    return new LocalOrderBook(
+        symbol,
+        loader,
+        option,
+        book -> ws.orderbookIncrement(symbol, (topic, subject, event) -> book.onIncrement(event)),
+        ws::unSubscribe);
+  }
+
+  /** Subscribes to increments (when wired to a WebSocket service) and starts the initial sync. */
+  public void start() {
+    if (subscribe != null) {
+      subscriptionId = subscribe.apply(this);
+    }
+    synchronized (this) {
+      resync("initial sync");
+    }
+  }
+
+  /** Unsubscribes and stops any pending resync. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      live = false;
+      buffer.clear();
+      generation++;
+    }
+    if (unsubscribe != null && subscriptionId != null) {
+      unsubscribe.accept(subscriptionId);
+    }
+  }
+
+  /* ---------------- feed ---------------- */
+
+  /** Applies a spot {@code /market/level2} increment. */
+  public void onIncrement(OrderbookIncrementEvent event) {
+    OrderbookIncrementChanges changes = event.getChanges();
+    List<? extends List<?>> a = changes == null ? null : changes.getAsks();
+    List<? extends List<?>> b = changes == null ? null : changes.getBids();
+    Increment inc =
+        new Increment(
+            event.getSequenceStart(),
+            event.getSequenceEnd(),
+            (a == null ? 0 : a.size()) + (b == null ? 0 : b.size()));
+    try {
+      addLevels(inc, b, true);
+      addLevels(inc, a, false);
+    } catch (ArithmeticException | NumberFormatException e) {
+      invalidIncrement(e);
+      return;
+    }
+    onIncrement(inc);
+  }
+
+  /** Applies a futures {@code /contractMarket/level2} increment ("price,side,size"). */
+  public void onIncrement(
+      com.kucoin.universal.sdk.generate.futures.futurespublic.OrderbookIncrementEvent event) {
+    String change = event.getChange();
+    long seq = event.getSequence();
+    int c1 = change == null ? -1 : change.indexOf(',');
+    int c2 = c1 < 0 ? -1 : change.indexOf(',', c1 + 1);
+    if (c2 < 0) {
+      invalidIncrement(new IllegalArgumentException("invalid change: " + change));
+      return;
+    }
+    Increment inc = new Increment(seq, seq, 1);
+    try {
+      inc.add(
+          change.regionMatches(true, c1 + 1, "buy", 0, 3),
+          Decimals.parseScaled(change, 0, c1, priceScale),
+          Numbers.parseDouble(change.substring(c2 + 1)),
+          seq);
+    } catch (ArithmeticException | NumberFormatException e) {
+      invalidIncrement(e);
+      return;
+    }
+    onIncrement(inc);
+  }
+
+  /**
+   * Adds [price, size(, sequence)] rows to {@code inc}, parsing each cell straight into the book's
+   * representation: text from the spot models, numbers from the futures ones, or a compact view.
+   */
+  private void addLevels(Increment inc, List<? extends List<?>> levels, boolean bid) {
+    if (levels == null) {
+      return;
+    }
+    if (levels instanceof OrderBookLevels) {
+      OrderBookLevels<?> compact = (OrderBookLevels<?>) levels;
+      for (int i = 0; i < compact.levels(); i++) {
+        long price = Decimals.rescale(compact.unscaled(i, 0), compact.scale(i, 0), priceScale);
+        long seq = compact.width() > 2 ? compact.unscaled(i, 2) : inc.end;
+        inc.add(bid, price, compact.value(i, 1), seq);
+      }
+      return;
+    }
+    for (int i = 0, n = levels.size(); i < n; i++) {
+      List<?> row = levels.get(i);
+      inc.add(
+          bid,
+          price(row.get(0)),
+          size(row.get(1)),
+          row.size() > 2 ? sequence(row.get(2)) : inc.end);
+    }
+  }
+
+  private long price(Object cell) {
+    if (cell instanceof String) {
+      String s = (String) cell;
+      return Decimals.parseScaled(s, 0, s.length(), priceScale);
+    }
+    return Decimals.scaled(((Number) cell).doubleValue(), priceScale);
+  }
+
+  private static double size(Object cell) {
+    return cell instanceof String
+        ? Numbers.parseDouble((String) cell)
+        : ((Number) cell).doubleValue();
+  }
+
+  private static long sequence(Object cell) {
+    return cell instanceof String ? Long.parseLong((String) cell) : ((Number) cell).longValue();
+  }
+
+  /** An increment that cannot be applied leaves a hole in the book: start over from a snapshot. */
+  private synchronized void invalidIncrement(RuntimeException e) {
+    log.error("invalid order book increment, symbol:{}", symbol, e);
+    if (!closed && live) {
+      resync("invalid increment: " + e.getMessage());
+    } else if (!closed) {
+      // the replay would miss it as well
+      buffer.clear();
+    }
+  }
+
+  synchronized void onIncrement(Increment inc) {
+    if (closed) {
+      return;
+    }
+    if (!live) {
+      if (buffer.size() >= option.getMaxBufferedIncrements()) {
+        // the replay will detect the hole and fetch a newer snapshot
+        buffer.clear();
+      }
+      buffer.addLast(inc);
+      return;
+    }
+    if (inc.end <= sequence) {
+      return;
+    }
+    if (inc.start > sequence + 1) {
+      resync(String.format("sequence gap, expected %d, got %d", sequence + 1, inc.start));
+      buffer.addLast(inc);
+      return;
+    }
+    long stamp = lock.writeLock();
+    try {
+      apply(inc);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    notifyUpdate();
+  }
+
+  /* ---------------- sync ---------------- */
+
+  private void resync(String reason) {
+    live = false;
+    buffer.clear();
+    long gen = ++generation;
+    log.info("resync order book, symbol:{}, reason:{}", symbol, reason);
+    if (option.getListener() != null) {
+      try {
+        option.getListener().onResync(this, reason);
+      } catch (Exception e) {
+        log.error("exception when notify resync", e);
+      }
+    }
+    executor.execute(() -> fetch(gen));
+  }
+
+  private void scheduleFetch(long gen) {
+    executor.schedule(() -> fetch(gen), option.getResyncDelay().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void fetch(long gen) {
+    Snapshot snapshot;
+    Increment levels;
+    try {
+      snapshot = loader.load();
+      levels = levels(snapshot);
+    } catch (Exception e) {
+      log.error("load order book snapshot failed, symbol:{}", symbol, e);
+      synchronized (this) {
+        if (gen == generation && !closed) {
+          scheduleFetch(gen);
+        }
+      }
+      return;
+    }
+
+    synchronized (this) {
+      if (gen != generation || closed) {
+        return;
+      }
+
+      // the snapshot must overlap the buffered stream, otherwise wait for a newer one
+      Increment first = null;
+      for (Increment inc : buffer) {
+        if (inc.end > snapshot.getSequence()) {
+          first = inc;
+          break;
+        }
+      }
+      if (first != null && first.start > snapshot.getSequence() + 1) {
+        log.info(
+            "order book snapshot too old, symbol:{}, snapshot:{}, buffered:{}",
+            symbol,
+            snapshot.getSequence(),
+            first.start);
+        scheduleFetch(gen);
+        return;
+      }
+
+      long stamp = lock.writeLock();
+      try {
+        load(snapshot.getSequence(), levels);
+        for (Increment inc : buffer) {
+          if (inc.end <= sequence) {
+            continue;
+          }
+          if (inc.start > sequence + 1) {
+            lock.unlockWrite(stamp);
+            stamp = 0;
+            resync(String.format("sequence gap, expected %d, got %d", sequence + 1, inc.start));
+            return;
+          }
+          apply(inc);
+        }
+      } finally {
+        if (stamp != 0) {
+          lock.unlockWrite(stamp);
+        }
+      }
+      buffer.clear();
+      live = true;
+    }
+    notifyUpdate();
+  }
+
+  /** Levels of {@code snapshot}, parsed outside of the write lock. */
+  private Increment levels(Snapshot snapshot) {
+    List<? extends List<?>> b = snapshot.getBids();
+    List<? extends List<?>> a = snapshot.getAsks();
+    long seq = snapshot.getSequence();
+    Increment levels =
+        new Increment(seq, seq, (a == null ? 0 : a.size()) + (b == null ? 0 : b.size()));
+    addLevels(levels, b, true);
+    addLevels(levels, a, false);
+    return levels;
+  }
+
+  /** Caller holds the write lock. */
+  private void load(long snapshotSequence, Increment levels) {
+    bids.clear();
+    asks.clear();
+    for (int i = 0; i < levels.n; i++) {
+      (levels.bid[i] ? bids : asks).set(levels.price[i], levels.size[i]);
+    }
+    sequence = snapshotSequence;
+  }
+
+  /** Caller holds the write lock. */
+  private void apply(Increment inc) {
+    long current = sequence;
+    for (int i = 0; i < inc.n; i++) {
+      if (inc.seq[i] <= current || inc.price[i] == 0) {
+        // already in the snapshot, or a sequence-only placeholder
+        continue;
+      }
+      (inc.bid[i] ? bids : asks).set(inc.price[i], inc.size[i]);
+    }
+    sequence = Math.max(current, inc.end);
+  }
+
+  private void notifyUpdate() {
+    if (option.getListener() != null) {
+      try {
+        option.getListener().onUpdate(this);
+      } catch (Exception e) {
+        log.error("exception when notify update", e);
+      }
+    }
+  }
+
+  /* ---------------- read ---------------- */
+
+  public String symbol() {
+    return symbol;
+  }
+
+  /** Whether the book is synchronized with the server. */
+  public boolean isLive() {
+    return live;
+  }
+
+  /** Sequence of the last applied update, {@code -1} before the first snapshot. */
+  public long sequence() {
+    return sequence;
+  }
+
+  /** Decimal places of the scaled prices returned by {@link #bids} / {@link #asks}. */
+  public int priceScale() {
+    return priceScale;
+  }
+
+  /** Converts a scaled price to a {@code double}. */
+  public double toPrice(long scaledPrice) {
+    return scaledPrice / priceDivisor;
+  }
+
+  /** Best bid price, or {@code NaN} when the side is empty. */
+  public double bestBidPrice() {
+    return best(bids);
+  }
+
+  /** Best ask price, or {@code NaN} when the side is empty. */
+  public double bestAskPrice() {
+    return best(asks);
+  }
+
+  /**
+   * Copies up to {@code depth} bid levels, best first, into the given arrays.
+   *
+   * @return number of levels copied
+   */
+  public int bids(int depth, long[] scaledPrices, double[] sizes) {
+    return top(bids, depth, scaledPrices, sizes);
+  }
+
+  /**
+   * Copies up to {@code depth} ask levels, best first, into the given arrays.
+   *
+   * @return number of levels copied
+   */
+  public int asks(int depth, long[] scaledPrices, double[] sizes) {
+    return top(asks, depth, scaledPrices, sizes);
+  }
+
+  /** Number of bid levels. */
+  public int bidLevels() {
+    return count(bids);
+  }
+
+  /** Number of ask levels. */
+  public int askLevels() {
+    return count(asks);
+  }
+
+  private double best(BookSide side) {
+    long stamp = lock.tryOptimisticRead();
+    long price = side.best();
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        price = side.best();
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return price == Long.MIN_VALUE ? Double.NaN : toPrice(price);
+  }
+
+  private int top(BookSide side, int depth, long[] prices, double[] sizes) {
+    int max = Math.min(depth, Math.min(prices.length, sizes.length));
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      int n = side.top(max, prices, sizes);
+      if (lock.validate(stamp)) {
+        return n;
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return side.top(max, prices, sizes);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private int count(BookSide side) {
+    long stamp = lock.tryOptimisticRead();
+    int n = side.count();
+    if (lock.validate(stamp)) {
+      return n;
+    }
+    stamp = lock.readLock();
+    try {
+      return side.count();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /* ---------------- internals ---------------- */
+
+  /** Decoded increment; buffered as-is while syncing. */
+  static final class Increment {
+    final long start;
+    final long end;
+    int n;
+    final boolean[] bid;
+    final long[] price;
+    final double[] size;
+    final long[] seq;
+
+    Increment(long start, long end, int capacity) {
+      this.start = start;
+      this.end = end;
+      this.bid = new boolean[capacity];
+      this.price = new long[capacity];
+      this.size = new double[capacity];
+      this.seq = new long[capacity];
+    }
+
+    void add(boolean bid, long price, double size, long seq) {
+      this.bid[n] = bid;
+      this.price[n] = price;
+      this.size[n] = size;
+      this.seq[n] = seq;
+      n++;
+    }
+  }
+
+  private static final class SharedExecutor {
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    static final ScheduledExecutorService INSTANCE =
+        Executors.newScheduledThreadPool(
+            2,
+            r -> {
+              Thread t = new Thread(r);
+              t.setName("local-orderbook-sync-" + COUNTER.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            });
+  }
+}
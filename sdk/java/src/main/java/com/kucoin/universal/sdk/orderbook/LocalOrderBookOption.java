@@ -0,0 +1,54 @@
+package com.kucoin.universal.sdk.orderbook;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.*;
+
+/** LocalOrderBookOption holds the tuning knobs of a {@link LocalOrderBook}. */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocalOrderBookOption {
+
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Invoked on the writer thread after an increment or a snapshot has been applied.
+     *
+     * @param book the updated book
+     */
+    void onUpdate(LocalOrderBook book);
+
+    /**
+     * Invoked when the book leaves the live state to resynchronize.
+     *
+     * @param book the book being resynchronized
+     * @param reason sequence gap, snapshot failure, etc.
+     */
+    default void onResync(LocalOrderBook book, String reason) {}
+  }
+
+  /**
+   * Decimal places kept for prices. Prices are stored as {@code price * 10^priceScale} in a {@code
+   * long}, so the largest representable price is about {@code 9.2 * 10^(18 - priceScale)}.
+   */
+  @Builder.Default private final int priceScale = 10;
+
+  /** Maximum number of increments buffered while a snapshot is being fetched. */
+  @Builder.Default private final int maxBufferedIncrements = 100_000;
+
+  /** Delay before retrying after a failed snapshot or a snapshot older than the buffer. */
+  @Builder.Default private final Duration resyncDelay = Duration.ofSeconds(1);
+
+  /** Executor fetching snapshots; {@code null} means a shared daemon executor. */
+  @Builder.Default private final ScheduledExecutorService executor = null;
+
+  /** Update / resync listener; may be {@code null} */
+  @Builder.Default private final Listener listener = null;
+
+  /** no-op option with all defaults */
+  public static LocalOrderBookOption defaults() {
+    return LocalOrderBookOption.builder().build();
+  }
+}
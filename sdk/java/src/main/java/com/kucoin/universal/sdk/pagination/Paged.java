@@ -0,0 +1,297 @@
+package com.kucoin.universal.sdk.pagination;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Items of a paged endpoint, read page by page while later pages are already being fetched. An
+ * instance is single use: it can be iterated or streamed once, and {@link #close()} cancels the
+ * pages still in flight when the consumer stops early.
+ *
+ * <p>Requests go through the client's transport, so a configured rate limiter paces them like any
+ * other call. A failed page ends the iteration with its exception.
+ *
+ * @param <T> item type
+ */
+public final class Paged<T> implements Iterable<T>, AutoCloseable {
+
+  private final PageSource<T> source;
+  private boolean iterated;
+
+  private Paged(PageSource<T> source) {
+    this.source = source;
+  }
+
+  /**
+   * Endpoint paged by page number. The first page is fetched alone to learn the page count; then up
+   * to {@code parallelism} following pages are in flight at once, and are returned in order.
+   *
+   * @param firstPage number of the first page to read
+   * @param fetch fetches the page with the given number
+   * @param items items of a page
+   * @param totalPage page count reported by a page; {@code null} = only the first page
+   * @param parallelism pages fetched ahead of the consumer, at least 1
+   */
+  public static <P, T> Paged<T> byPage(
+      int firstPage,
+      IntFunction<CompletableFuture<P>> fetch,
+      Function<P, List<T>> items,
+      Function<P, Integer> totalPage,
+      int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+    return new Paged<>(new CountPages<>(firstPage, fetch, items, totalPage, parallelism));
+  }
+
+  /**
+   * Endpoint paged by the id of the last item returned. The next page is requested as soon as the
+   * current one arrives. Reading stops at an empty page, at a page shorter than {@code limit}, or
+   * when no next id is reported.
+   *
+   * @param firstLastId {@code lastId} of the first request; {@code null} = start from the latest
+   * @param fetch fetches the page after the given id
+   * @param items items of a page
+   * @param nextLastId {@code lastId} to request the page after the given one with
+   * @param limit requested page size; 0 = unknown
+   */
+  public static <P, T> Paged<T> byLastId(
+      Long firstLastId,
+      Function<Long, CompletableFuture<P>> fetch,
+      Function<P, List<T>> items,
+      Function<P, Long> nextLastId,
+      int limit) {
+    return new Paged<>(new LastIdPages<>(firstLastId, fetch, items, nextLastId, limit));
+  }
+
+  /** {@code lastId} of endpoints that page by the id of their last item. */
+  public static <T> Long lastId(List<T> items, Function<T, ?> id) {
+    if (items == null || items.isEmpty()) {
+      return null;
+    }
+    Object v = id.apply(items.get(items.size() - 1));
+    return v == null ? null : Long.valueOf(v.toString());
+  }
+
+  @Override
+  public synchronized Iterator<T> iterator() {
+    if (iterated) {
+      throw new IllegalStateException("already iterated");
+    }
+    iterated = true;
+    return new Items<>(source);
+  }
+
+  /** Sequential stream of the items; closing it cancels the pages in flight. */
+  public Stream<T> stream() {
+    Spliterator<T> s =
+        Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(s, false).onClose(this::close);
+  }
+
+  /** Cancels the pages still being fetched. */
+  @Override
+  public void close() {
+    source.cancel();
+  }
+
+  private static <P> P await(CompletableFuture<P> f) {
+    try {
+      return f.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw e;
+    }
+  }
+
+  private static <P, T> List<T> itemsOf(Function<P, List<T>> items, P page) {
+    List<T> l = items.apply(page);
+    return l != null ? l : Collections.emptyList();
+  }
+
+  /**
+   * Pages in order; {@code null} once exhausted. {@link #cancel()} may be called from any thread.
+   */
+  private interface PageSource<T> {
+    List<T> next();
+
+    void cancel();
+  }
+
+  private static final class CountPages<P, T> implements PageSource<T> {
+    private final IntFunction<CompletableFuture<P>> fetch;
+    private final Function<P, List<T>> items;
+    private final Function<P, Integer> totalPage;
+    private final int parallelism;
+    private final ConcurrentLinkedDeque<CompletableFuture<P>> inFlight =
+        new ConcurrentLinkedDeque<>();
+    private int nextPage;
+    private int lastPage = -1;
+    private volatile boolean cancelled;
+
+    CountPages(
+        int firstPage,
+        IntFunction<CompletableFuture<P>> fetch,
+        Function<P, List<T>> items,
+        Function<P, Integer> totalPage,
+        int parallelism) {
+      this.fetch = fetch;
+      this.items = items;
+      this.totalPage = totalPage;
+      this.parallelism = parallelism;
+      this.nextPage = firstPage;
+    }
+
+    @Override
+    public synchronized List<T> next() {
+      if (lastPage < 0) {
+        P first = await(fetch.apply(nextPage));
+        Integer total = totalPage.apply(first);
+        lastPage = total != null ? Math.max(nextPage, total) : nextPage;
+        nextPage++;
+        fill();
+        return itemsOf(items, first);
+      }
+      CompletableFuture<P> f = inFlight.peek();
+      if (f == null) {
+        return null;
+      }
+      P page = await(f);
+      inFlight.poll();
+      fill();
+      return itemsOf(items, page);
+    }
+
+    private void fill() {
+      while (!cancelled && inFlight.size() < parallelism && nextPage <= lastPage) {
+        inFlight.add(fetch.apply(nextPage++));
+      }
+      if (cancelled) {
+        // raced with cancel()
+        cancel();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      CompletableFuture<P> f;
+      while ((f = inFlight.poll()) != null) {
+        f.cancel(true);
+      }
+    }
+  }
+
+  private static final class LastIdPages<P, T> implements PageSource<T> {
+    private final Function<Long, CompletableFuture<P>> fetch;
+    private final Function<P, List<T>> items;
+    private final Function<P, Long> nextLastId;
+    private final int limit;
+    private Long lastId;
+    private volatile CompletableFuture<P> pending;
+    private boolean started;
+    private volatile boolean done;
+
+    LastIdPages(
+        Long firstLastId,
+        Function<Long, CompletableFuture<P>> fetch,
+        Function<P, List<T>> items,
+        Function<P, Long> nextLastId,
+        int limit) {
+      this.lastId = firstLastId;
+      this.fetch = fetch;
+      this.items = items;
+      this.nextLastId = nextLastId;
+      this.limit = limit;
+    }
+
+    @Override
+    public synchronized List<T> next() {
+      if (!started) {
+        started = true;
+        pending = fetch.apply(lastId);
+      }
+      CompletableFuture<P> f = pending;
+      if (f == null) {
+        return null;
+      }
+      P page = await(f);
+      pending = null;
+      List<T> l = itemsOf(items, page);
+      Long next = nextLastId.apply(page);
+      boolean more =
+          !done
+              && !l.isEmpty()
+              && (limit <= 0 || l.size() >= limit)
+              && next != null
+              && !next.equals(lastId);
+      if (more) {
+        lastId = next;
+        pending = fetch.apply(next);
+        if (done) {
+          // raced with cancel()
+          cancel();
+        }
+      }
+      return l;
+    }
+
+    @Override
+    public void cancel() {
+      done = true;
+      CompletableFuture<P> f = pending;
+      if (f != null) {
+        f.cancel(true);
+      }
+    }
+  }
+
+  /** Flattens the pages of a source. */
+  private static final class Items<T> implements Iterator<T> {
+    private final PageSource<T> source;
+    private Iterator<T> page = Collections.emptyIterator();
+    private boolean exhausted;
+
+    Items(PageSource<T> source) {
+      this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!page.hasNext()) {
+        if (exhausted) {
+          return false;
+        }
+        List<T> next = source.next();
+        if (next == null) {
+          exhausted = true;
+          return false;
+        }
+        page = next.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return page.next();
+    }
+  }
+}
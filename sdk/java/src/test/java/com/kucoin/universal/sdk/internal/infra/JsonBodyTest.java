@@ -0,0 +1,78 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import okhttp3.MediaType;
+import okio.Buffer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Same package as {@link JsonBody}, which is not part of the public API. */
+public class JsonBodyTest {
+
+  private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+  private static String sent(JsonBody body) throws Exception {
+    Buffer out = new Buffer();
+    body.toRequestBody(JSON).writeTo(out);
+    return out.readUtf8();
+  }
+
+  private static void write(JsonBody body, String text) {
+    byte[] b = text.getBytes(StandardCharsets.UTF_8);
+    body.write(b, 0, b.length);
+  }
+
+  @Test
+  public void testReuseDoesNotLeak() throws Exception {
+    JsonBody first = JsonBody.pooled();
+    write(first, "{\"clientOid\":\"secret-1\",\"size\":\"100\"}");
+    Assertions.assertEquals("{\"clientOid\":\"secret-1\",\"size\":\"100\"}", sent(first));
+    first.release();
+
+    // the same buffer, holding only the bytes of the next request
+    JsonBody second = JsonBody.pooled();
+    Assertions.assertSame(first, second);
+    Assertions.assertEquals(0, second.size());
+    Assertions.assertEquals("", sent(second));
+    write(second, "{\"a\":1}");
+    second.write('\n');
+    Assertions.assertEquals("{\"a\":1}\n", sent(second));
+    Assertions.assertEquals(8, second.toRequestBody(JSON).contentLength());
+
+    // a nested request while the buffer is in use gets a buffer of its own
+    JsonBody nested = JsonBody.pooled();
+    Assertions.assertNotSame(second, nested);
+    write(nested, "{}");
+    nested.release();
+    Assertions.assertEquals("{\"a\":1}\n", sent(second));
+    second.release();
+    JsonBody third = JsonBody.pooled();
+    Assertions.assertSame(second, third);
+    third.release();
+  }
+
+  @Test
+  public void testOversizedBufferNotKept() throws Exception {
+    JsonBody body = JsonBody.pooled();
+    char[] big = new char[100 * 1024];
+    Arrays.fill(big, 'x');
+    write(body, new String(big));
+    Assertions.assertEquals(big.length, body.size());
+    Assertions.assertTrue(body.array().length >= big.length);
+    body.release();
+
+    JsonBody next = JsonBody.pooled();
+    Assertions.assertSame(body, next);
+    Assertions.assertTrue(next.array().length < 64 * 1024, "kept " + next.array().length);
+    write(next, "{}");
+    Assertions.assertEquals("{}", sent(next));
+    next.release();
+
+    // unpooled buffers are left alone
+    JsonBody own = JsonBody.unpooled();
+    write(own, "{\"b\":2}");
+    own.release();
+    Assertions.assertEquals("{\"b\":2}", sent(own));
+  }
+}
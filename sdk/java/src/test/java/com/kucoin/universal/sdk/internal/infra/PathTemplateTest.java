@@ -0,0 +1,72 @@
+package com.kucoin.universal.sdk.internal.infra;
+
+import com.kucoin.universal.sdk.internal.interfaces.PathVar;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Same package as {@link PathTemplate}, which is not part of the public API. */
+public class PathTemplateTest {
+
+  private static final class OrderReq {
+    @PathVar("symbol")
+    private String symbol;
+
+    @PathVar("orderId")
+    private Object orderId;
+
+    private String side;
+
+    OrderReq(String symbol, Object orderId) {
+      this.symbol = symbol;
+      this.orderId = orderId;
+    }
+  }
+
+  @Test
+  public void testMultiplePlaceholders() {
+    PathTemplate t = PathTemplate.of("/api/v1/{symbol}/orders/{orderId}/fills", OrderReq.class);
+    Assertions.assertEquals(
+        "/api/v1/BTC-USDT/orders/123/fills", t.expand(new OrderReq("BTC-USDT", 123L)));
+    Assertions.assertEquals(new HashSet<>(Arrays.asList("symbol", "orderId")), t.usedFields());
+    Assertions.assertSame(
+        t, PathTemplate.of("/api/v1/{symbol}/orders/{orderId}/fills", OrderReq.class));
+
+    // adjacent placeholders and a path without any
+    Assertions.assertEquals(
+        "/a/ETH-USDTx",
+        PathTemplate.of("/a/{symbol}{orderId}", OrderReq.class)
+            .expand(new OrderReq("ETH-USDT", "x")));
+    PathTemplate plain = PathTemplate.of("/api/v1/orders", OrderReq.class);
+    Assertions.assertEquals("/api/v1/orders", plain.expand(new OrderReq(null, null)));
+    Assertions.assertTrue(plain.usedFields().isEmpty());
+  }
+
+  @Test
+  public void testMissingValues() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PathTemplate.of("/api/{side}", OrderReq.class));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> PathTemplate.of("/api/{unknown}", OrderReq.class));
+    PathTemplate t = PathTemplate.of("/api/{symbol}/{orderId}", OrderReq.class);
+    IllegalStateException e =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> t.expand(new OrderReq("BTC-USDT", null)));
+    Assertions.assertTrue(e.getMessage().contains("orderId"), e.getMessage());
+  }
+
+  @Test
+  public void testEscaping() {
+    PathTemplate t = PathTemplate.of("/api/orders/{orderId}", OrderReq.class);
+    // segment characters stay as they are
+    Assertions.assertEquals(
+        "/api/orders/a-b_c.d~e:f@g+h", t.expand(new OrderReq(null, "a-b_c.d~e:f@g+h")));
+    // a value cannot add segments or a query
+    Assertions.assertEquals(
+        "/api/orders/..%2Fadmin%3Fx=1%23y", t.expand(new OrderReq(null, "../admin?x=1#y")));
+    Assertions.assertEquals("/api/orders/a%20b%25c", t.expand(new OrderReq(null, "a b%c")));
+    // non-ASCII as UTF-8, including surrogate pairs
+    Assertions.assertEquals("/api/orders/%C3%BC%F0%9F%98%80", t.expand(new OrderReq(null, "ü😀")));
+  }
+}
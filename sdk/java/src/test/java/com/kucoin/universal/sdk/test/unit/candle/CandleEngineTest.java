@@ -0,0 +1,184 @@
+package com.kucoin.universal.sdk.test.unit.candle;
+
+import com.kucoin.universal.sdk.candle.Candle;
+import com.kucoin.universal.sdk.candle.CandleEngine;
+import com.kucoin.universal.sdk.candle.CandleEngineOption;
+import com.kucoin.universal.sdk.candle.CandleInterval;
+import com.kucoin.universal.sdk.candle.CandleSeries;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CandleEngineTest {
+
+  private static final long MIN = 60_000;
+
+  /** 10:00 UTC on some day, aligned on every interval up to 1 day */
+  private static final long T0 = 1_729_843_200_000L;
+
+  private static CandleEngineOption.CandleEngineOptionBuilder option(
+      List<Candle> closed, int capacity) {
+    return CandleEngineOption.builder()
+        .capacity(capacity)
+        .backfill(false)
+        .tickInterval(Duration.ZERO)
+        .listener(closed::add);
+  }
+
+  @Test
+  public void testTradesFeedEveryInterval() {
+    List<Candle> closed = new ArrayList<>();
+    CandleEngine engine =
+        new CandleEngine(
+            Arrays.asList("BTC-USDT", "ETH-USDT"),
+            Arrays.asList(CandleInterval.MIN_1, CandleInterval.MIN_5),
+            null,
+            option(closed, 10).build());
+
+    engine.onTrade("BTC-USDT", T0 + 1_000, 100, 1);
+    engine.onTrade("BTC-USDT", T0 + 2_000, 102, 2);
+    engine.onTrade("BTC-USDT", T0 + 3_000, 99, 1);
+    engine.onTrade("DOGE-USDT", T0 + 3_000, 1, 1);
+    Assertions.assertTrue(closed.isEmpty());
+
+    // two idle minutes are closed as flat bars
+    engine.onTrade("BTC-USDT", T0 + 3 * MIN + 500, 101, 3);
+    CandleSeries m1 = engine.series("BTC-USDT", CandleInterval.MIN_1);
+    Assertions.assertEquals(4, m1.size());
+    Assertions.assertEquals(
+        new Candle("BTC-USDT", CandleInterval.MIN_1, T0, 100, 102, 99, 99, 4, 403), closed.get(0));
+    Assertions.assertEquals(
+        new Candle("BTC-USDT", CandleInterval.MIN_1, T0 + MIN, 99, 99, 99, 99, 0, 0),
+        closed.get(1));
+    Assertions.assertEquals(3, closed.size());
+    Assertions.assertFalse(m1.isLastClosed());
+    Assertions.assertEquals(T0 + 3 * MIN, m1.openTime(3));
+    Assertions.assertEquals(101, m1.close(3));
+
+    CandleSeries m5 = engine.series("BTC-USDT", CandleInterval.MIN_5);
+    Assertions.assertEquals(1, m5.size());
+    Assertions.assertEquals(99, m5.low(0));
+    Assertions.assertEquals(102, m5.high(0));
+    Assertions.assertEquals(7, m5.volume(0));
+
+    // late trades are dropped
+    engine.onTrade("BTC-USDT", T0 + 1_000, 1, 1);
+    Assertions.assertEquals(99, m1.low(0));
+    Assertions.assertEquals(0, engine.series("ETH-USDT", CandleInterval.MIN_1).size());
+    Assertions.assertNull(engine.series("DOGE-USDT", CandleInterval.MIN_1));
+  }
+
+  @Test
+  public void testRingBufferAndClock() {
+    List<Candle> closed = new ArrayList<>();
+    CandleEngine engine =
+        new CandleEngine(
+            Collections.singletonList("BTC-USDT"),
+            Collections.singletonList(CandleInterval.MIN_1),
+            null,
+            option(closed, 3).build());
+    CandleSeries s = engine.series("BTC-USDT", CandleInterval.MIN_1);
+
+    engine.onTrade("BTC-USDT", T0, 10, 1);
+    engine.advanceTo(T0 + MIN - 1);
+    Assertions.assertTrue(closed.isEmpty());
+    engine.advanceTo(T0 + MIN);
+    Assertions.assertEquals(1, closed.size());
+    Assertions.assertTrue(s.isLastClosed());
+
+    // the clock fills idle minutes, but no more than the buffer holds
+    engine.advanceTo(T0 + 5 * MIN + 1);
+    Assertions.assertEquals(4, closed.size());
+    Assertions.assertEquals(3, s.size());
+    Assertions.assertEquals(T0 + 2 * MIN, s.openTime(0));
+    Assertions.assertEquals(T0 + 4 * MIN, s.last().getOpenTime());
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.close(3));
+
+    engine.onTrade("BTC-USDT", T0 + 5 * MIN + 2, 12, 1);
+    engine.onTrade("BTC-USDT", T0 + 100 * MIN, 13, 1);
+    Assertions.assertEquals(T0 + 98 * MIN, s.openTime(0));
+    Assertions.assertEquals(12, s.close(1));
+    double[] closes = new double[5];
+    Assertions.assertEquals(3, s.closes(closes));
+    Assertions.assertEquals(
+        Arrays.asList(12d, 12d, 13d), Arrays.asList(closes[0], closes[1], closes[2]));
+
+    // kline streams replace the forming bar
+    engine.onKline("BTC-USDT", CandleInterval.MIN_1, T0 + 100 * MIN, 13, 15, 11, 14, 9, 120);
+    Assertions.assertEquals(
+        new Candle("BTC-USDT", CandleInterval.MIN_1, T0 + 100 * MIN, 13, 15, 11, 14, 9, 120),
+        s.last());
+  }
+
+  @Test
+  public void testBackfillGoesInFrontOfLiveBars() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<Candle> closed = new CopyOnWriteArrayList<>();
+    CountDownLatch backfilled = new CountDownLatch(1);
+    CandleEngine engine =
+        new CandleEngine(
+            Collections.singletonList("BTC-USDT"),
+            Collections.singletonList(CandleInterval.MIN_1),
+            (symbol, interval, bars) -> {
+              release.await();
+              Assertions.assertEquals(5, bars);
+              // newest first, like the spot endpoint
+              return Arrays.asList(
+                  new Candle(symbol, interval, T0 + 2 * MIN, 20, 25, 18, 21, 5, 100),
+                  new Candle(symbol, interval, T0 + MIN, 19, 20, 18, 20, 1, 20),
+                  new Candle(symbol, interval, T0, 18, 19, 17, 19, 1, 18));
+            },
+            CandleEngineOption.builder()
+                .capacity(5)
+                .tickInterval(Duration.ZERO)
+                .executor(Executors.newSingleThreadScheduledExecutor())
+                .listener(
+                    new CandleEngineOption.Listener() {
+                      @Override
+                      public void onClose(Candle candle) {
+                        closed.add(candle);
+                      }
+
+                      @Override
+                      public void onBackfill(CandleSeries series) {
+                        backfilled.countDown();
+                      }
+                    })
+                .build());
+    engine.start();
+
+    TradeEvent trade = new TradeEvent();
+    trade.setSymbol("BTC-USDT");
+    trade.setPrice("22");
+    trade.setSize("2");
+    trade.setTime(String.valueOf((T0 + 2 * MIN + 30_000) * 1_000_000));
+    engine.onTrade(trade);
+    trade.setPrice("26");
+    trade.setTime(String.valueOf((T0 + 3 * MIN) * 1_000_000));
+    engine.onTrade(trade);
+    release.countDown();
+    Assertions.assertTrue(backfilled.await(5, TimeUnit.SECONDS));
+
+    CandleSeries s = engine.series("BTC-USDT", CandleInterval.MIN_1);
+    Assertions.assertTrue(s.isBackfilled());
+    Assertions.assertEquals(4, s.size());
+    Assertions.assertEquals(T0, s.openTime(0));
+    // the bar both have keeps the history's open and the live close
+    Assertions.assertEquals(
+        new Candle("BTC-USDT", CandleInterval.MIN_1, T0 + 2 * MIN, 20, 25, 18, 22, 5, 100),
+        s.get(2));
+    Assertions.assertEquals(26, s.close(3));
+    Assertions.assertFalse(s.isLastClosed());
+    Assertions.assertEquals(1, closed.size());
+    engine.close();
+  }
+}
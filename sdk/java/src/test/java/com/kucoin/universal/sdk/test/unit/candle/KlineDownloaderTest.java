@@ -0,0 +1,141 @@
+package com.kucoin.universal.sdk.test.unit.candle;
+
+import com.kucoin.universal.sdk.candle.CandleInterval;
+import com.kucoin.universal.sdk.candle.KlineColumns;
+import com.kucoin.universal.sdk.candle.KlineDownloader;
+import com.kucoin.universal.sdk.candle.KlineDownloaderOption;
+import com.kucoin.universal.sdk.candle.KlineFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KlineDownloaderTest {
+
+  private static final long MIN = 60_000;
+  private static final long T0 = 1_729_843_200_000L;
+
+  /**
+   * 1min bars of a window priced at their minute, newest first, plus the bar before the window like
+   * an inclusive server would send.
+   */
+  private static KlineColumns window(long startMs, long endMs) {
+    KlineColumns c = new KlineColumns();
+    for (long t = endMs - MIN; t >= startMs - MIN; t -= MIN) {
+      double p = t / MIN;
+      c.bar(t, p, p + 1, p - 1, p, 1, p);
+    }
+    return c;
+  }
+
+  @Test
+  public void testWindowsAreSplitFetchedAheadAndMerged() {
+    List<long[]> requested = new CopyOnWriteArrayList<>();
+    List<CompletableFuture<KlineColumns>> pending = new CopyOnWriteArrayList<>();
+    KlineDownloader downloader =
+        new KlineDownloader(
+            (symbol, interval, startMs, endMs) -> {
+              requested.add(new long[] {symbol.equals("BTC-USDT") ? 0 : 1, startMs, endMs});
+              CompletableFuture<KlineColumns> f = new CompletableFuture<>();
+              pending.add(f);
+              // complete out of order, once a second window is requested
+              if (pending.size() % 2 == 0) {
+                pending.get(pending.size() - 1).complete(window(startMs, endMs));
+                long[] prev = requested.get(requested.size() - 2);
+                pending.get(pending.size() - 2).complete(window(prev[1], prev[2]));
+              }
+              return f;
+            },
+            3,
+            KlineDownloaderOption.builder().parallelism(2).build());
+
+    // 8 bars: windows of 3, 3 and 2 per symbol; the start is rounded down
+    Map<String, KlineColumns> out =
+        downloader.download(
+            Arrays.asList("BTC-USDT", "ETH-USDT"), CandleInterval.MIN_1, T0 + 10, T0 + 8 * MIN);
+
+    Assertions.assertEquals(6, requested.size());
+    Assertions.assertArrayEquals(new long[] {0, T0, T0 + 3 * MIN}, requested.get(0));
+    Assertions.assertArrayEquals(new long[] {0, T0 + 6 * MIN, T0 + 8 * MIN}, requested.get(2));
+    Assertions.assertArrayEquals(new long[] {1, T0, T0 + 3 * MIN}, requested.get(3));
+    for (KlineColumns c : out.values()) {
+      Assertions.assertEquals(8, c.size());
+      for (int i = 0; i < 8; i++) {
+        Assertions.assertEquals(T0 + i * MIN, c.openTime(i));
+        Assertions.assertEquals(T0 / MIN + i, c.close(i));
+      }
+      Assertions.assertEquals(8, c.closes().length);
+    }
+  }
+
+  @Test
+  public void testFailedWindowIsRetried() {
+    AtomicInteger calls = new AtomicInteger();
+    KlineDownloader downloader =
+        new KlineDownloader(
+            (symbol, interval, startMs, endMs) -> {
+              CompletableFuture<KlineColumns> f = new CompletableFuture<>();
+              if (calls.incrementAndGet() == 1) {
+                f.completeExceptionally(new IllegalStateException("rate limit exhausted"));
+              } else {
+                f.complete(window(startMs, endMs));
+              }
+              return f;
+            },
+            10,
+            KlineDownloaderOption.builder().retries(1).retryDelay(Duration.ZERO).build());
+
+    KlineColumns c = downloader.download("BTC-USDT", CandleInterval.MIN_1, T0, T0 + 5 * MIN);
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(5, c.size());
+
+    KlineDownloader failing =
+        new KlineDownloader(
+            (symbol, interval, startMs, endMs) -> {
+              CompletableFuture<KlineColumns> f = new CompletableFuture<>();
+              f.completeExceptionally(new IllegalStateException("down"));
+              return f;
+            },
+            10,
+            KlineDownloaderOption.builder().retries(1).retryDelay(Duration.ZERO).build());
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> failing.download("BTC-USDT", CandleInterval.MIN_1, T0, T0 + 5 * MIN));
+  }
+
+  @Test
+  public void testDownloadToMappedFiles(@TempDir Path dir) throws Exception {
+    KlineDownloader downloader =
+        new KlineDownloader(
+            (symbol, interval, startMs, endMs) ->
+                CompletableFuture.completedFuture(window(startMs, endMs)),
+            1500,
+            null);
+
+    Map<String, Path> files =
+        downloader.downloadTo(
+            Arrays.asList("BTC-USDT", "ETH-USDT"), CandleInterval.MIN_1, T0, T0 + 4000 * MIN, dir);
+    Assertions.assertEquals(dir.resolve("ETH-USDT_1min.kline"), files.get("ETH-USDT"));
+
+    KlineFile file = KlineFile.open(files.get("BTC-USDT"));
+    Assertions.assertEquals(CandleInterval.MIN_1, file.interval());
+    Assertions.assertEquals(4000, file.size());
+    Assertions.assertEquals(T0 + 3999 * MIN, file.openTime(3999));
+    Assertions.assertEquals(T0 / MIN + 3999 + 1, file.high(3999));
+    KlineColumns columns = file.toColumns();
+    Assertions.assertEquals(T0 / MIN + 12, columns.turnovers()[12]);
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.close(4000));
+
+    Files.write(dir.resolve("bad.kline"), new byte[] {1, 2, 3});
+    Assertions.assertThrows(
+        java.io.IOException.class, () -> KlineFile.open(dir.resolve("bad.kline")));
+  }
+}
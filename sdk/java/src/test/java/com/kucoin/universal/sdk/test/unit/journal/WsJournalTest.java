@@ -0,0 +1,156 @@
+package com.kucoin.universal.sdk.test.unit.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWs;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransportListener;
+import com.kucoin.universal.sdk.journal.WsJournalOption;
+import com.kucoin.universal.sdk.journal.WsJournalReplayer;
+import com.kucoin.universal.sdk.journal.WsJournalWriter;
+import com.kucoin.universal.sdk.model.WebSocketEvent;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WsJournalTest {
+
+  private static final long T0 = 1_729_843_222_921_000_000L;
+
+  private static String trade(String symbol, int seq, String side) {
+    return "{\"topic\":\"/market/match:"
+        + symbol
+        + "\",\"type\":\"message\",\"subject\":\"trade.l3match\",\"data\":{\"price\":\""
+        + (67500 + seq)
+        + "\",\"sequence\":\""
+        + seq
+        + "\",\"side\":\""
+        + side
+        + "\",\"size\":\"0.01\",\"symbol\":\""
+        + symbol
+        + "\",\"time\":\""
+        + (T0 + seq)
+        + "\",\"tradeId\":\""
+        + seq
+        + "\",\"type\":\"match\"}}";
+  }
+
+  private static void record(Path dir, int frames, int segmentSize) {
+    WsJournalWriter w;
+    try {
+      w =
+          WsJournalWriter.open(
+              dir,
+              WsJournalOption.builder()
+                  .segmentSize(segmentSize)
+                  .forceOnRoll(segmentSize > 4096)
+                  .build());
+    } catch (Exception e) {
+      throw new AssertionError(e);
+    }
+    try {
+      for (int i = 0; i < frames; i++) {
+        String symbol = i % 2 == 0 ? "BTC-USDT" : "ETH-USDT";
+        // a non-ASCII frame now and then
+        w.record(
+            T0 + i * 1_000_000L,
+            "/market/match:" + symbol,
+            trade(symbol, i, i % 7 == 0 ? "bü" : "buy"));
+      }
+      Assertions.assertEquals(frames, w.frames());
+    } finally {
+      w.close();
+    }
+
+    // frames arriving after close are dropped
+    w.record("/market/match:BTC-USDT", trade("BTC-USDT", frames, "buy"));
+    Assertions.assertEquals(frames, w.frames());
+  }
+
+  @Test
+  public void testReplayThroughSpotPublicWs(@TempDir Path dir) throws Exception {
+    record(dir, 100, 4096);
+    try (Stream<Path> files = Files.list(dir)) {
+      List<String> names =
+          files.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toList());
+      Assertions.assertTrue(names.size() > 2, names.toString());
+      Assertions.assertEquals("0000000001.wsj", names.get(0));
+    }
+
+    WsJournalReplayer replayer = WsJournalReplayer.open(dir, WsJournalOption.defaults());
+    SpotPublicWs ws = replayer.newSpotPublicWS();
+    ws.start();
+    List<TradeEvent> trades = new ArrayList<>();
+    ws.trade(new String[] {"ETH-USDT"}, (topic, subject, event) -> trades.add(event));
+
+    Assertions.assertEquals(50, replayer.replay());
+    Assertions.assertEquals(50, trades.size());
+    for (int i = 0; i < 50; i++) {
+      TradeEvent t = trades.get(i);
+      int seq = 2 * i + 1;
+      Assertions.assertEquals("ETH-USDT", t.getSymbol());
+      Assertions.assertEquals(seq, t.sequenceAsLong());
+      Assertions.assertEquals(seq % 7 == 0 ? "bü" : "buy", t.getSide());
+    }
+    ws.stop();
+  }
+
+  @Test
+  public void testReplayToListenerAndAppendAfterReopen(@TempDir Path dir) throws Exception {
+    record(dir, 3, 1 << 20);
+    record(dir, 2, 1 << 20);
+
+    List<WsMessage> messages = new ArrayList<>();
+    WebsocketTransportListener listener =
+        new WebsocketTransportListener() {
+          @Override
+          public void onEvent(WebSocketEvent event, String message) {}
+
+          @Override
+          public void onMessage(WsMessage wsMessage) {
+            messages.add(wsMessage);
+          }
+
+          @Override
+          public void onReconnected() {}
+
+          @Override
+          public Class<?> dataType(String topic) {
+            return null;
+          }
+        };
+    long n =
+        WsJournalReplayer.open(dir, WsJournalOption.defaults())
+            .replay(listener, new ObjectMapper());
+    Assertions.assertEquals(5, n);
+    Assertions.assertEquals(
+        Arrays.asList("0", "1", "2", "0", "1"),
+        messages.stream()
+            .map(m -> m.getData().get("sequence").asText())
+            .collect(Collectors.toList()));
+    Assertions.assertEquals("/market/match:ETH-USDT", messages.get(4).getTopic());
+  }
+
+  @Test
+  public void testRecordedSpeed(@TempDir Path dir) throws Exception {
+    try (WsJournalWriter w = WsJournalWriter.open(dir, null)) {
+      w.record(T0, "/market/match:BTC-USDT", trade("BTC-USDT", 1, "buy"));
+      w.record(T0 + 200_000_000L, "/market/match:BTC-USDT", trade("BTC-USDT", 2, "buy"));
+    }
+    WsJournalReplayer replayer =
+        WsJournalReplayer.open(dir, WsJournalOption.builder().replaySpeed(2).build());
+    SpotPublicWs ws = replayer.newSpotPublicWS();
+    ws.start();
+    ws.trade(new String[] {"BTC-USDT"}, (topic, subject, event) -> {});
+    long start = System.nanoTime();
+    Assertions.assertEquals(2, replayer.replay());
+    Assertions.assertTrue(System.nanoTime() - start >= 100_000_000L);
+  }
+}
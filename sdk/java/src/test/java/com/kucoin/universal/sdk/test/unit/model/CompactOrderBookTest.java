@@ -0,0 +1,105 @@
+package com.kucoin.universal.sdk.test.unit.model;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.spot.market.GetFullOrderBookResp;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookLevel50Event;
+import com.kucoin.universal.sdk.internal.infra.JsonMappers;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.OrderBookLevels;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompactOrderBookTest {
+
+  private static final ObjectMapper PLAIN = new ObjectMapper();
+  private static final ObjectMapper COMPACT =
+      JsonMappers.get(ClientOption.builder().compactOrderBook(true).build());
+
+  @Test
+  public void testSpotStringLevels() throws Exception {
+    String json =
+        "{\"time\":1729843222921,\"sequence\":\"11067996\","
+            + "\"bids\":[[\"67000.5\",\"0.1\"],[\"66999\",\"2.50\"]],"
+            + "\"asks\":[[\"67001.25\",\"0.00000001\"]]}";
+    GetFullOrderBookResp resp = COMPACT.readValue(json, GetFullOrderBookResp.class);
+    Assertions.assertTrue(resp.getBids() instanceof OrderBookLevels);
+    OrderBookLevels<?> bids = (OrderBookLevels<?>) resp.getBids();
+    Assertions.assertEquals(2, bids.levels());
+    Assertions.assertEquals(2, bids.width());
+    Assertions.assertEquals(67000.5, bids.price(0));
+    Assertions.assertEquals(2.5, bids.size(1));
+    Assertions.assertEquals(250, bids.unscaled(1, 1));
+    Assertions.assertEquals(2, bids.scale(1, 1));
+    Assertions.assertEquals("0.00000001", ((OrderBookLevels<?>) resp.getAsks()).text(0, 1));
+
+    // the boxed view matches plain data binding
+    GetFullOrderBookResp plain = PLAIN.readValue(json, GetFullOrderBookResp.class);
+    Assertions.assertEquals(plain.getBids(), resp.getBids());
+    Assertions.assertEquals(plain.getAsks(), resp.getAsks());
+    Assertions.assertEquals(Arrays.asList("66999", "2.50"), resp.getBids().get(1));
+
+    String event =
+        "{\"asks\":[[\"67011\",\"0.0021\"]],\"bids\":[[\"67010.9\",\"1.3\"],[\"67010.8\",\"0\"]],"
+            + "\"timestamp\":1729843222921}";
+    OrderbookLevel50Event e = COMPACT.readValue(event, OrderbookLevel50Event.class);
+    Assertions.assertTrue(e.getBids() instanceof OrderBookLevels);
+    Assertions.assertEquals(
+        PLAIN.readValue(event, OrderbookLevel50Event.class).getBids(), e.getBids());
+    Assertions.assertEquals(67011, ((OrderBookLevels<?>) e.getAsks()).price(0));
+  }
+
+  @Test
+  public void testFuturesDoubleLevels() throws Exception {
+    String json =
+        "{\"sequence\":100,\"symbol\":\"XBTUSDTM\",\"bids\":[[66976.6,2],[66976.5,1.5e2]],"
+            + "\"asks\":[[66977,-3]],\"ts\":1729843222921000000}";
+    com.kucoin.universal.sdk.generate.futures.market.GetFullOrderBookResp resp =
+        COMPACT.readValue(
+            json, com.kucoin.universal.sdk.generate.futures.market.GetFullOrderBookResp.class);
+    OrderBookLevels<?> bids = (OrderBookLevels<?>) resp.getBids();
+    Assertions.assertEquals(66976.6, bids.price(0));
+    Assertions.assertEquals(150, bids.size(1));
+    Assertions.assertEquals(-3, ((OrderBookLevels<?>) resp.getAsks()).size(0));
+    Assertions.assertEquals(
+        PLAIN
+            .readValue(
+                json, com.kucoin.universal.sdk.generate.futures.market.GetFullOrderBookResp.class)
+            .getBids(),
+        resp.getBids());
+    Assertions.assertEquals(Double.valueOf(2), resp.getBids().get(0).get(1));
+  }
+
+  @Test
+  public void testNegativeExponentAndEmpty() throws Exception {
+    String json =
+        "{\"sequence\":\"1\",\"bids\":[[\"-1.5\",\"1.5E+3\"],[\"+2\",\"2.5e-3\"]],\"asks\":[]}";
+    GetFullOrderBookResp resp = COMPACT.readValue(json, GetFullOrderBookResp.class);
+    OrderBookLevels<?> bids = (OrderBookLevels<?>) resp.getBids();
+    Assertions.assertEquals(-1.5, bids.price(0));
+    Assertions.assertEquals("-1.5", bids.text(0, 0));
+    // exponent text comes back as plain decimal text of the same value
+    Assertions.assertEquals(1500, bids.size(0));
+    Assertions.assertEquals("1500", bids.text(0, 1));
+    Assertions.assertEquals(2, bids.price(1));
+    Assertions.assertEquals("0.0025", bids.text(1, 1));
+
+    OrderBookLevels<?> asks = (OrderBookLevels<?>) resp.getAsks();
+    Assertions.assertEquals(0, asks.levels());
+    Assertions.assertTrue(asks.isEmpty());
+
+    // trailing zeros beyond the supported digits are dropped, other overflows are rejected
+    resp =
+        COMPACT.readValue(
+            "{\"bids\":[[\"1.20000000000000000000000\",\"1\"]],\"asks\":[]}",
+            GetFullOrderBookResp.class);
+    Assertions.assertEquals("1.2", ((OrderBookLevels<?>) resp.getBids()).text(0, 0));
+    Assertions.assertThrows(
+        JsonMappingException.class,
+        () ->
+            COMPACT.readValue(
+                "{\"bids\":[[\"123456789012345678901.5\",\"1\"]],\"asks\":[]}",
+                GetFullOrderBookResp.class));
+  }
+}
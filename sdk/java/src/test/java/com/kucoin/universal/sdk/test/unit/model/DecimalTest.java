@@ -0,0 +1,94 @@
+package com.kucoin.universal.sdk.test.unit.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.kucoin.universal.sdk.model.Decimal;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DecimalTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  public static class Order {
+    @JsonProperty("price")
+    public Decimal price;
+
+    @JsonProperty("markPrice")
+    @JsonSerialize(using = Decimal.NumberSerializer.class)
+    public Decimal markPrice;
+  }
+
+  @Test
+  public void testParseKeepsText() {
+    String[] values = {"0", "67523", "67523.1", "-0.003", "0.00000001", "88987.40", "+2.5", ".5"};
+    for (String v : values) {
+      Decimal d = Decimal.valueOf(v);
+      BigDecimal expected = new BigDecimal(v);
+      Assertions.assertEquals(expected.unscaledValue().longValue(), d.unscaled(), v);
+      Assertions.assertEquals(expected.scale(), d.scale(), v);
+      Assertions.assertEquals(expected.toPlainString(), d.toString(), v);
+      Assertions.assertEquals(expected.doubleValue(), d.doubleValue(), v);
+    }
+    Assertions.assertEquals("0.0000001", Decimal.valueOf("1e-7").toString());
+    Assertions.assertEquals(
+        Decimal.of(123, 0), Decimal.valueOf("12300000000000000000000000000e-26"));
+    Assertions.assertNull(Decimal.valueOf(null));
+    Assertions.assertThrows(NumberFormatException.class, () -> Decimal.valueOf("1.2.3"));
+    Assertions.assertThrows(NumberFormatException.class, () -> Decimal.valueOf(""));
+    Assertions.assertThrows(
+        ArithmeticException.class, () -> Decimal.valueOf("1234567890.1234567891"));
+  }
+
+  @Test
+  public void testArithmeticIsExact() {
+    Decimal a = Decimal.valueOf("0.1");
+    Decimal b = Decimal.valueOf("0.20");
+    Assertions.assertEquals("0.30", a.add(b).toString());
+    Assertions.assertEquals("-0.10", a.subtract(b).toString());
+    Assertions.assertEquals("0.020", a.multiply(b).toString());
+    Assertions.assertEquals(Decimal.valueOf("0.3"), a.add(b));
+    Assertions.assertEquals(Decimal.valueOf("0.3").hashCode(), a.add(b).hashCode());
+    Assertions.assertTrue(a.compareTo(b) < 0);
+    Assertions.assertEquals(-1, a.subtract(b).signum());
+    Assertions.assertEquals(67523L, Decimal.valueOf("67523.9").longValue());
+    Assertions.assertEquals(-1L, Decimal.valueOf("-1.5").longValue());
+    Assertions.assertThrows(
+        ArithmeticException.class, () -> Decimal.of(Long.MAX_VALUE, 0).add(Decimal.valueOf(1)));
+  }
+
+  @Test
+  public void testJsonRoundTrip() throws Exception {
+    Order order = MAPPER.readValue("{\"price\":\"67523.10\",\"markPrice\":88987.4}", Order.class);
+    Assertions.assertEquals("67523.10", order.price.toString());
+    Assertions.assertEquals("88987.4", order.markPrice.toString());
+    Assertions.assertEquals(
+        "{\"price\":\"67523.10\",\"markPrice\":88987.4}", MAPPER.writeValueAsString(order));
+
+    order = MAPPER.readValue("{\"price\":\"\",\"markPrice\":null}", Order.class);
+    Assertions.assertNull(order.price);
+    Assertions.assertNull(order.markPrice);
+
+    Assertions.assertThrows(
+        JsonMappingException.class, () -> MAPPER.readValue("{\"price\":\"abc\"}", Order.class));
+    Assertions.assertThrows(
+        JsonMappingException.class, () -> MAPPER.readValue("{\"price\":[1]}", Order.class));
+  }
+
+  @Test
+  public void testReadFromParser() throws Exception {
+    try (JsonParser p = MAPPER.getFactory().createParser("[\"0.003\", 1729843222.921, 5]")) {
+      p.nextToken();
+      p.nextToken();
+      Assertions.assertEquals(Decimal.of(3, 3), Decimal.read(p));
+      p.nextToken();
+      Assertions.assertEquals("1729843222.921", Decimal.read(p).toString());
+      p.nextToken();
+      Assertions.assertEquals(Decimal.valueOf(5), Decimal.read(p));
+    }
+  }
+}
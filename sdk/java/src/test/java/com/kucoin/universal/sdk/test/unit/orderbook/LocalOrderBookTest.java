@@ -0,0 +1,196 @@
+package com.kucoin.universal.sdk.test.unit.orderbook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookIncrementChanges;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.OrderbookIncrementEvent;
+import com.kucoin.universal.sdk.orderbook.LocalOrderBook;
+import com.kucoin.universal.sdk.orderbook.LocalOrderBookOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LocalOrderBookTest {
+
+  private static List<List<String>> levels(String... priceSize) {
+    List<List<String>> out = new ArrayList<>();
+    for (String ps : priceSize) {
+      out.add(Arrays.asList(ps.split(",")));
+    }
+    return out;
+  }
+
+  private static OrderbookIncrementEvent increment(
+      long start, long end, List<List<String>> asks, List<List<String>> bids) {
+    OrderbookIncrementEvent event = new OrderbookIncrementEvent();
+    event.setSequenceStart(start);
+    event.setSequenceEnd(end);
+    event.setSymbol("BTC-USDT");
+    event.setChanges(new OrderbookIncrementChanges(asks, bids));
+    return event;
+  }
+
+  private static LocalOrderBookOption option(CountDownLatch live) {
+    return LocalOrderBookOption.builder()
+        .executor(Executors.newSingleThreadScheduledExecutor())
+        .resyncDelay(java.time.Duration.ofMillis(10))
+        .listener(
+            book -> {
+              if (book.isLive()) {
+                live.countDown();
+              }
+            })
+        .build();
+  }
+
+  @Test
+  public void testReplayBufferedIncrements() throws Exception {
+    CountDownLatch live = new CountDownLatch(1);
+    CountDownLatch fetched = new CountDownLatch(1);
+    LocalOrderBook book =
+        new LocalOrderBook(
+            "BTC-USDT",
+            () -> {
+              fetched.await();
+              return new LocalOrderBook.Snapshot(
+                  10, levels("100.5,1", "100.4,2"), levels("100.6,3", "100.7,4"));
+            },
+            option(live));
+    book.start();
+
+    // before the snapshot: stale, straddling and newer increments are buffered
+    book.onIncrement(increment(9, 10, levels("100.6,0,10"), levels()));
+    book.onIncrement(increment(10, 11, levels(), levels("100.5,0,11", "100.45,5,11")));
+    book.onIncrement(increment(12, 12, levels("100.55,1,12"), levels()));
+    fetched.countDown();
+
+    Assertions.assertTrue(live.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(12, book.sequence());
+    Assertions.assertEquals(100.45, book.bestBidPrice());
+    Assertions.assertEquals(100.55, book.bestAskPrice());
+
+    long[] prices = new long[5];
+    double[] sizes = new double[5];
+    Assertions.assertEquals(2, book.bids(5, prices, sizes));
+    Assertions.assertEquals(100.45, book.toPrice(prices[0]));
+    Assertions.assertEquals(5, sizes[0]);
+    Assertions.assertEquals(100.4, book.toPrice(prices[1]));
+    Assertions.assertEquals(3, book.asks(5, prices, sizes));
+    Assertions.assertEquals(100.55, book.toPrice(prices[0]));
+    Assertions.assertEquals(100.6, book.toPrice(prices[1]));
+    Assertions.assertEquals(3, sizes[1]);
+  }
+
+  @Test
+  public void testResyncOnGap() throws Exception {
+    CountDownLatch live = new CountDownLatch(2);
+    AtomicInteger loads = new AtomicInteger();
+    AtomicInteger resyncs = new AtomicInteger();
+    LocalOrderBookOption opt =
+        option(live).toBuilder()
+            .listener(
+                new LocalOrderBookOption.Listener() {
+                  @Override
+                  public void onUpdate(LocalOrderBook book) {
+                    if (book.isLive()) {
+                      live.countDown();
+                    }
+                  }
+
+                  @Override
+                  public void onResync(LocalOrderBook book, String reason) {
+                    resyncs.incrementAndGet();
+                  }
+                })
+            .build();
+    LocalOrderBook book =
+        new LocalOrderBook(
+            "BTC-USDT",
+            () ->
+                loads.incrementAndGet() == 1
+                    ? new LocalOrderBook.Snapshot(5, levels("1,1"), levels("2,1"))
+                    : new LocalOrderBook.Snapshot(20, levels("1.5,1"), levels("2,1")),
+            opt);
+    book.start();
+    while (!book.isLive()) {
+      Thread.sleep(5);
+    }
+
+    book.onIncrement(increment(8, 9, levels(), levels("1.2,1,9")));
+    book.onIncrement(increment(21, 21, levels(), levels("1.6,1,21")));
+
+    Assertions.assertTrue(live.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(2, resyncs.get());
+    Assertions.assertEquals(21, book.sequence());
+    Assertions.assertEquals(1.6, book.bestBidPrice());
+  }
+
+  @Test
+  public void testNumericSnapshotAndInvalidIncrement() throws Exception {
+    CountDownLatch live = new CountDownLatch(1);
+    List<String> reasons = new java.util.concurrent.CopyOnWriteArrayList<>();
+    AtomicInteger loads = new AtomicInteger();
+    LocalOrderBookOption opt =
+        option(live).toBuilder()
+            .priceScale(2)
+            .listener(
+                new LocalOrderBookOption.Listener() {
+                  @Override
+                  public void onUpdate(LocalOrderBook book) {}
+
+                  @Override
+                  public void onResync(LocalOrderBook book, String reason) {
+                    reasons.add(reason);
+                  }
+                })
+            .build();
+    // futures snapshots carry numbers
+    List<List<Double>> bids = Arrays.asList(Arrays.asList(100.25, 1.5), Arrays.asList(0.07, 2d));
+    List<List<Double>> asks = Arrays.asList(Arrays.asList(100.3, 4d));
+    LocalOrderBook book =
+        new LocalOrderBook(
+            "XBTUSDTM",
+            () -> {
+              loads.incrementAndGet();
+              return new LocalOrderBook.Snapshot(5, bids, asks);
+            },
+            opt);
+    book.start();
+    while (!book.isLive()) {
+      Thread.sleep(5);
+    }
+    Assertions.assertEquals(10025, book.bestBidPrice() * 100, 1e-9);
+    Assertions.assertEquals(100.3, book.bestAskPrice());
+
+    // exponent text still parses
+    book.onIncrement(increment(6, 6, levels("1.0029E+2,3,6"), levels()));
+    Assertions.assertEquals(100.29, book.bestAskPrice());
+
+    // more decimals than the price scale: the book starts over instead of failing the feed
+    book.onIncrement(increment(7, 7, levels("100.291,3,7"), levels()));
+    Assertions.assertEquals(2, reasons.size(), reasons.toString());
+    Assertions.assertTrue(reasons.get(1).startsWith("invalid increment"), reasons.get(1));
+    while (!book.isLive() || loads.get() < 2) {
+      Thread.sleep(5);
+    }
+    Assertions.assertEquals(100.3, book.bestAskPrice());
+
+    // a malformed futures change is handled the same way
+    book.onIncrement(
+        new ObjectMapper()
+            .readValue(
+                "{\"sequence\":8,\"change\":\"100.3-sell\",\"timestamp\":1729843222921}",
+                com.kucoin.universal.sdk.generate.futures.futurespublic.OrderbookIncrementEvent
+                    .class));
+    Assertions.assertEquals(3, reasons.size(), reasons.toString());
+    Assertions.assertTrue(reasons.get(2).startsWith("invalid increment"), reasons.get(2));
+    while (!book.isLive() || loads.get() < 3) {
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.kucoin.universal.sdk.test.unit.pagination;
+
+import com.kucoin.universal.sdk.pagination.Paged;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PagedTest {
+
+  /** page {@code n} of {@code total} holds the items {@code n*10} and {@code n*10+1} */
+  private static final class Page {
+    final int total;
+    final List<Integer> items;
+
+    Page(int n, int total) {
+      this.total = total;
+      this.items = Arrays.asList(n * 10, n * 10 + 1);
+    }
+  }
+
+  @Test
+  public void testPagesComeOutInOrderWhateverTheCompletionOrder() {
+    Map<Integer, CompletableFuture<Page>> requested = new ConcurrentHashMap<>();
+    Paged<Integer> paged =
+        Paged.byPage(
+            1,
+            n -> {
+              CompletableFuture<Page> f = new CompletableFuture<>();
+              if (n == 1) {
+                f.complete(new Page(1, 4));
+              }
+              requested.put(n, f);
+              return f;
+            },
+            p -> p.items,
+            p -> p.total,
+            2);
+
+    Iterator<Integer> it = paged.iterator();
+    Assertions.assertEquals(10, it.next());
+    // first page known: two more are in flight, no more
+    Assertions.assertEquals(Arrays.asList(1, 2, 3), sorted(requested.keySet()));
+
+    requested.get(3).complete(new Page(3, 4));
+    requested.get(2).complete(new Page(2, 4));
+    List<Integer> rest = new ArrayList<>();
+    rest.add(it.next());
+    rest.add(it.next());
+    rest.add(it.next());
+    Assertions.assertEquals(Arrays.asList(11, 20, 21), rest);
+    Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), sorted(requested.keySet()));
+
+    requested.get(4).complete(new Page(4, 4));
+    rest.clear();
+    it.forEachRemaining(rest::add);
+    Assertions.assertEquals(Arrays.asList(30, 31, 40, 41), rest);
+    Assertions.assertEquals(4, requested.size());
+  }
+
+  @Test
+  public void testCloseCancelsPagesInFlight() {
+    Map<Integer, CompletableFuture<Page>> requested = new ConcurrentHashMap<>();
+    Paged<Integer> paged =
+        Paged.byPage(
+            3,
+            n -> {
+              CompletableFuture<Page> f = new CompletableFuture<>();
+              if (n == 3) {
+                f.complete(new Page(3, 10));
+              }
+              requested.put(n, f);
+              return f;
+            },
+            p -> p.items,
+            p -> p.total,
+            3);
+
+    Assertions.assertEquals(
+        Arrays.asList(30, 31), paged.stream().limit(2).collect(Collectors.toList()));
+    paged.close();
+    Assertions.assertEquals(Arrays.asList(3, 4, 5, 6), sorted(requested.keySet()));
+    Assertions.assertTrue(requested.get(4).isCancelled());
+    Assertions.assertTrue(requested.get(6).isCancelled());
+  }
+
+  @Test
+  public void testFailedPageIsRethrown() {
+    Paged<Integer> paged =
+        Paged.byPage(
+            1,
+            n -> {
+              CompletableFuture<Page> f = new CompletableFuture<>();
+              if (n == 1) {
+                f.complete(new Page(1, 2));
+              } else {
+                f.completeExceptionally(new IllegalStateException("page " + n));
+              }
+              return f;
+            },
+            p -> p.items,
+            p -> p.total,
+            1);
+
+    Iterator<Integer> it = paged.iterator();
+    it.next();
+    it.next();
+    IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, it::next);
+    Assertions.assertEquals("page 2", e.getMessage());
+    Assertions.assertThrows(IllegalStateException.class, paged::iterator);
+  }
+
+  @Test
+  public void testByLastIdStopsAtShortPage() {
+    List<Long> requested = new ArrayList<>();
+    Paged<Long> paged =
+        Paged.byLastId(
+            null,
+            lastId -> {
+              requested.add(lastId);
+              long from = lastId == null ? 100 : lastId - 1;
+              int size = from > 95 ? 3 : 1;
+              List<Long> items = new ArrayList<>();
+              for (int i = 0; i < size; i++) {
+                items.add(from - i);
+              }
+              return CompletableFuture.completedFuture(items);
+            },
+            items -> items,
+            items -> Paged.lastId(items, String::valueOf),
+            3);
+
+    List<Long> all = new ArrayList<>();
+    paged.forEach(all::add);
+    Assertions.assertEquals(Arrays.asList(100L, 99L, 98L, 97L, 96L, 95L, 94L), all);
+    Assertions.assertEquals(Arrays.asList(null, 98L, 95L), requested);
+  }
+
+  @Test
+  public void testByLastIdStopsAtEmptyPage() {
+    Paged<Long> paged =
+        Paged.byLastId(
+            5L,
+            lastId ->
+                CompletableFuture.completedFuture(
+                    lastId > 1
+                        ? Collections.singletonList(lastId - 1)
+                        : Collections.<Long>emptyList()),
+            items -> items,
+            items -> Paged.lastId(items, v -> v),
+            0);
+
+    Assertions.assertEquals(
+        Arrays.asList(4L, 3L, 2L, 1L), paged.stream().collect(Collectors.toList()));
+  }
+
+  private static List<Integer> sorted(Collection<Integer> c) {
+    List<Integer> l = new ArrayList<>(c);
+    Collections.sort(l);
+    return l;
+  }
+}
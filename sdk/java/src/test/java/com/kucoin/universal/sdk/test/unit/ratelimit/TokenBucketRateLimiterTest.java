@@ -0,0 +1,73 @@
+package com.kucoin.universal.sdk.test.unit.ratelimit;
+
+import com.kucoin.universal.sdk.internal.infra.TokenBucketRateLimiter;
+import com.kucoin.universal.sdk.model.RestRateLimit;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketRateLimiterTest {
+
+  @Test
+  public void testUnknownPoolIsNotLimited() {
+    TokenBucketRateLimiter limiter = new TokenBucketRateLimiter();
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertEquals(0, limiter.reserve("spot", 20));
+    }
+    // responses without headers do not sync the pool
+    limiter.update("spot", new RestRateLimit(-1, -1, -1));
+    Assertions.assertEquals(0, limiter.reserve("spot", 20));
+  }
+
+  @Test
+  public void testDelayQueuesIntoLaterWindows() {
+    TokenBucketRateLimiter limiter =
+        new TokenBucketRateLimiter(TokenBucketRateLimiter.Mode.DELAY, Duration.ofMinutes(1));
+    limiter.update("spot", new RestRateLimit(10, 4, 20_000));
+
+    Assertions.assertEquals(0, limiter.reserve("spot", 2));
+    Assertions.assertEquals(0, limiter.reserve("spot", 2));
+
+    // next window
+    long wait = limiter.reserve("spot", 10);
+    Assertions.assertTrue(wait > TimeUnit.SECONDS.toNanos(19), "wait " + wait);
+    Assertions.assertTrue(wait <= TimeUnit.SECONDS.toNanos(20), "wait " + wait);
+
+    // next window is full, the one after that starts a 30s window later
+    long later = limiter.reserve("spot", 1);
+    Assertions.assertTrue(later > TimeUnit.SECONDS.toNanos(49), "wait " + later);
+
+    // pools are independent
+    Assertions.assertEquals(0, limiter.reserve("futures", 100));
+  }
+
+  @Test
+  public void testFailFast() {
+    TokenBucketRateLimiter limiter =
+        new TokenBucketRateLimiter(TokenBucketRateLimiter.Mode.FAIL_FAST, Duration.ofSeconds(30));
+    limiter.update("public", new RestRateLimit(100, 3, 10_000));
+
+    Assertions.assertEquals(0, limiter.reserve("public", 2));
+    Assertions.assertThrows(IllegalStateException.class, () -> limiter.reserve("public", 2));
+    // a rejected request does not consume tokens
+    Assertions.assertEquals(0, limiter.reserve("public", 1));
+    Assertions.assertThrows(IllegalStateException.class, () -> limiter.reserve("public", 1));
+  }
+
+  @Test
+  public void testServerViewWins() {
+    TokenBucketRateLimiter limiter =
+        new TokenBucketRateLimiter(TokenBucketRateLimiter.Mode.DELAY, Duration.ofMillis(1));
+    limiter.update("management", new RestRateLimit(50, 50, 30_000));
+    Assertions.assertEquals(0, limiter.reserve("management", 10));
+
+    // another client drained the pool within the same window
+    limiter.update("management", new RestRateLimit(50, 0, 29_900));
+    Assertions.assertThrows(IllegalStateException.class, () -> limiter.reserve("management", 1));
+
+    // a fresh window restores the quota
+    limiter.update("management", new RestRateLimit(50, 49, 60_000));
+    Assertions.assertEquals(0, limiter.reserve("management", 49));
+  }
+}
@@ -0,0 +1,77 @@
+package com.kucoin.universal.sdk.test.unit.rest;
+
+import com.kucoin.universal.sdk.internal.infra.DefaultTransport;
+import com.kucoin.universal.sdk.internal.infra.HttpRuntime;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.TransportOption;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HttpRuntimeTest {
+
+  @Test
+  public void testLastReleaseFreesResources() {
+    ClientOption opt = ClientOption.builder().key("k").secret("s").passphrase("p").build();
+    HttpRuntime runtime = new HttpRuntime(null);
+    OkHttpClient client = runtime.acquire();
+    ScheduledExecutorService scheduler = runtime.scheduler();
+
+    // a transport sharing the runtime leaves it running when closed
+    DefaultTransport transport = new DefaultTransport(opt, "test", runtime);
+    Assertions.assertSame(client, runtime.acquire());
+    runtime.release();
+    transport.close();
+    transport.close();
+    Assertions.assertFalse(client.dispatcher().executorService().isShutdown());
+    Assertions.assertFalse(scheduler.isShutdown());
+    Assertions.assertSame(scheduler, runtime.scheduler());
+
+    OkHttpClient ws = runtime.acquireWebSocket();
+    runtime.release();
+    Assertions.assertFalse(ws.dispatcher().executorService().isShutdown());
+
+    // the last release shuts everything down and does not bring the scheduler back
+    runtime.release();
+    Assertions.assertTrue(client.dispatcher().executorService().isShutdown());
+    Assertions.assertTrue(ws.dispatcher().executorService().isShutdown());
+    Assertions.assertTrue(scheduler.isShutdown());
+    Assertions.assertThrows(IllegalStateException.class, runtime::scheduler);
+    Assertions.assertNull(runtime.scheduleBlocking(() -> {}, 1, TimeUnit.SECONDS));
+
+    // acquiring again builds new resources
+    OkHttpClient again = runtime.acquire();
+    Assertions.assertNotSame(client, again);
+    Assertions.assertNotSame(scheduler, runtime.scheduler());
+    runtime.release();
+  }
+
+  @Test
+  public void testWebSocketClient() {
+    TransportOption option =
+        TransportOption.builder()
+            .maxRequests(4)
+            .maxRequestsPerHost(2)
+            .interceptor(chain -> chain.proceed(chain.request()))
+            .eventListener(new EventListener() {})
+            .build();
+    HttpRuntime runtime = new HttpRuntime(option);
+    OkHttpClient rest = runtime.acquire();
+    OkHttpClient ws = runtime.acquireWebSocket();
+
+    Assertions.assertSame(rest.connectionPool(), ws.connectionPool());
+    Assertions.assertNotSame(rest.dispatcher(), ws.dispatcher());
+    Assertions.assertEquals(2, rest.dispatcher().getMaxRequestsPerHost());
+    Assertions.assertEquals(Integer.MAX_VALUE, ws.dispatcher().getMaxRequests());
+    Assertions.assertEquals(Integer.MAX_VALUE, ws.dispatcher().getMaxRequestsPerHost());
+    Assertions.assertEquals(1, rest.interceptors().size());
+    Assertions.assertTrue(ws.interceptors().isEmpty());
+    Assertions.assertSame(ws, runtime.acquireWebSocket());
+    runtime.release();
+    runtime.release();
+    runtime.release();
+  }
+}
@@ -0,0 +1,110 @@
+package com.kucoin.universal.sdk.test.unit.rest;
+
+import com.kucoin.universal.sdk.internal.infra.KcSigner;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KcSignerTest {
+
+  private static final KcSigner SIGNER =
+      new KcSigner("key", "secret", "passphrase", "broker", "partner", "broker-key");
+
+  /** Base64 HMAC-SHA256 the straightforward way. */
+  private static String hmac(String key, byte[] payload) throws Exception {
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    return Base64.getEncoder().encodeToString(mac.doFinal(payload));
+  }
+
+  private static String hmac(String key, String payload) throws Exception {
+    return hmac(key, payload.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static byte[] concat(byte[] a, byte[] b, int bLen) {
+    byte[] out = Arrays.copyOf(a, a.length + bLen);
+    System.arraycopy(b, 0, out, a.length, bLen);
+    return out;
+  }
+
+  private static Map<String, String> headers(String method, String url, byte[] body, int len) {
+    Map<String, String> h = new java.util.HashMap<>();
+    SIGNER.headers(method, url, body, len, h::put);
+    return h;
+  }
+
+  @Test
+  public void testPlainPayloads() throws Exception {
+    String[] urls = {
+      "/api/v1/orders?symbol=BTC-USDT",
+      "/api/v1/accounts?currency=ü&remark=€",
+      // a surrogate pair, and lone surrogates encoded as '?' like String.getBytes does
+      "/api/v1/orders?remark=😀x",
+      "/api/v1/orders?remark=\ud83dx\ude00",
+      "",
+    };
+    for (String url : urls) {
+      Map<String, String> h = headers("GET", url, null, 0);
+      String ts = h.get("KC-API-TIMESTAMP");
+      Assertions.assertEquals(hmac("secret", ts + "GET" + url), h.get("KC-API-SIGN"), url);
+    }
+
+    Map<String, String> h = SIGNER.headers("GET/api/v1/timestamp");
+    Assertions.assertEquals(
+        hmac("secret", h.get("KC-API-TIMESTAMP") + "GET/api/v1/timestamp"), h.get("KC-API-SIGN"));
+    Assertions.assertEquals("key", h.get("KC-API-KEY"));
+    Assertions.assertEquals(hmac("secret", "passphrase"), h.get("KC-API-PASSPHRASE"));
+    Assertions.assertEquals("3", h.get("KC-API-KEY-VERSION"));
+
+    // longer than the initial encode buffer
+    char[] big = new char[3000];
+    Arrays.fill(big, 'é');
+    String url = "/api/v1/orders?remark=" + new String(big);
+    h = headers("GET", url, null, 0);
+    Assertions.assertEquals(
+        hmac("secret", h.get("KC-API-TIMESTAMP") + "GET" + url), h.get("KC-API-SIGN"));
+  }
+
+  @Test
+  public void testBytesBody() throws Exception {
+    byte[] body = "{\"clientOid\":\"1\",\"remark\":\"ü😀\"}".getBytes(StandardCharsets.UTF_8);
+    // a buffer larger than the body, as the pooled request buffers are
+    byte[] buf = Arrays.copyOf(body, body.length + 64);
+    Arrays.fill(buf, body.length, buf.length, (byte) 'x');
+
+    Map<String, String> h = headers("POST", "/api/v1/hf/orders", buf, body.length);
+    byte[] head =
+        (h.get("KC-API-TIMESTAMP") + "POST/api/v1/hf/orders").getBytes(StandardCharsets.UTF_8);
+    Assertions.assertEquals(hmac("secret", concat(head, body, body.length)), h.get("KC-API-SIGN"));
+  }
+
+  @Test
+  public void testBrokerSignatures() throws Exception {
+    byte[] body = "{\"uid\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+    Map<String, String> h = new java.util.HashMap<>();
+    SIGNER.brokerHeaders("POST", "/api/v1/broker/nd/transfer", body, body.length, h::put);
+    String ts = h.get("KC-API-TIMESTAMP");
+    Assertions.assertEquals(
+        hmac(
+            "secret",
+            concat(
+                (ts + "POST/api/v1/broker/nd/transfer").getBytes(StandardCharsets.UTF_8),
+                body,
+                body.length)),
+        h.get("KC-API-SIGN"));
+    Assertions.assertEquals(
+        hmac("broker-key", ts + "partner" + "key"), h.get("KC-API-PARTNER-SIGN"));
+    Assertions.assertEquals("partner", h.get("KC-API-PARTNER"));
+    Assertions.assertEquals("broker", h.get("KC-BROKER-NAME"));
+    Assertions.assertEquals("true", h.get("KC-API-PARTNER-VERIFY"));
+
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> new KcSigner("key", "secret", "passphrase", null, null, null).brokerHeaders("GET/"));
+  }
+}
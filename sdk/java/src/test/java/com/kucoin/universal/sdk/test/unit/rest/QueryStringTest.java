@@ -0,0 +1,61 @@
+package com.kucoin.universal.sdk.test.unit.rest;
+
+import com.kucoin.universal.sdk.internal.infra.QueryString;
+import java.util.Arrays;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class QueryStringTest {
+
+  private static String okhttp(String... kv) {
+    HttpUrl.Builder b = HttpUrl.get("https://api.kucoin.com/api/v1/orders").newBuilder();
+    for (int i = 0; i < kv.length; i += 2) {
+      b.addQueryParameter(kv[i], kv[i + 1]);
+    }
+    return b.build().encodedQuery();
+  }
+
+  @Test
+  public void testPlainValuesShareOneString() {
+    QueryString q =
+        new QueryString()
+            .add("symbol", "BTC-USDT")
+            .add("side", null)
+            .add("startAt", 1729823400000L)
+            .add("pageSize", 50)
+            .add("stop", false);
+    Assertions.assertEquals(
+        "symbol=BTC-USDT&startAt=1729823400000&pageSize=50&stop=false", q.raw());
+    Assertions.assertEquals(q.raw(), q.encoded());
+    Assertions.assertEquals(
+        okhttp("symbol", "BTC-USDT", "startAt", "1729823400000", "pageSize", "50", "stop", "false"),
+        q.encoded());
+  }
+
+  @Test
+  public void testEncodingMatchesOkHttp() {
+    String[] kv = {
+      "symbols", "BTC-USDT,ETH-USDT",
+      "remark", "a b+c&d=e%f/g?h#i",
+      "currency", "USDT",
+      "tag", "é€😀*~",
+      "list", Arrays.asList("a", "b").toString()
+    };
+    QueryString q = new QueryString();
+    for (int i = 0; i < kv.length; i += 2) {
+      q.add(kv[i], kv[i + 1]);
+    }
+    Assertions.assertEquals(okhttp(kv), q.encoded());
+    Assertions.assertEquals(
+        "symbols=BTC-USDT,ETH-USDT&remark=a b+c&d=e%f/g?h#i&currency=USDT&tag=é€😀*~&list=[a, b]",
+        q.raw());
+  }
+
+  @Test
+  public void testEmpty() {
+    QueryString q = new QueryString().add("symbol", null);
+    Assertions.assertTrue(q.isEmpty());
+    Assertions.assertEquals("", q.encoded());
+  }
+}
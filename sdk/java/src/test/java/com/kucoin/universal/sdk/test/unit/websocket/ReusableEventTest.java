@@ -0,0 +1,118 @@
+package com.kucoin.universal.sdk.test.unit.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.futures.futurespublic.TickerV2Event;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent;
+import com.kucoin.universal.sdk.internal.infra.Numbers;
+import com.kucoin.universal.sdk.internal.interfaces.ReusableEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReusableEventTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static <T extends ReusableEvent> T refill(T event, String json) throws Exception {
+    try (JsonParser p = MAPPER.getFactory().createParser(json)) {
+      Assertions.assertEquals(JsonToken.START_OBJECT, p.nextToken());
+      event.readFrom(p);
+      Assertions.assertEquals(JsonToken.END_OBJECT, p.currentToken());
+      Assertions.assertNull(p.nextToken());
+    }
+    return event;
+  }
+
+  @Test
+  public void testRefillMatchesDataBinding() throws Exception {
+    String first =
+        "{\"makerOrderId\":\"671b5007389355000701b1d3\",\"price\":\"67523\",\"sequence\":\"11067996\","
+            + "\"side\":\"buy\",\"size\":\"0.003\",\"symbol\":\"BTC-USDT\",\"takerOrderId\":"
+            + "\"671b50161777ff00074c168d\",\"time\":\"1729843222921000000\",\"tradeId\":"
+            + "\"11067996\",\"type\":\"match\",\"extra\":{\"a\":[1,{\"b\":2}]}}";
+    String second = "{\"price\":\"67524.5\",\"size\":1,\"symbol\":\"BTC-USDT\",\"time\":null}";
+
+    TradeEvent event = refill(new TradeEvent(), first);
+    Assertions.assertEquals(MAPPER.readValue(first, TradeEvent.class), event);
+    Assertions.assertEquals(67523d, event.priceAsDouble());
+    Assertions.assertEquals(11067996L, event.sequenceAsLong());
+
+    // fields missing from the next frame are cleared
+    Assertions.assertSame(event, refill(event, second));
+    Assertions.assertEquals(MAPPER.readValue(second, TradeEvent.class), event);
+    Assertions.assertEquals(67524.5, event.priceAsDouble());
+    Assertions.assertEquals(1d, event.sizeAsDouble());
+    Assertions.assertEquals(0L, event.timeAsLong());
+    Assertions.assertEquals(0L, event.tradeIdAsLong());
+    Assertions.assertTrue(Double.isNaN(new TradeEvent().priceAsDouble()));
+  }
+
+  @Test
+  public void testNumericTextIsParsedEagerlyAndKeptExact() throws Exception {
+    TradeEvent event =
+        refill(
+            new TradeEvent(),
+            "{\"price\":\"67524.50\",\"sequence\":\"x1\",\"time\":\"1729843222921000000\"}");
+    Assertions.assertEquals(67524.5, event.priceAsDouble());
+    Assertions.assertEquals(1729843222921000000L, event.timeAsLong());
+    // the text is created on demand, exactly as sent
+    Assertions.assertEquals("67524.50", event.getPrice());
+    Assertions.assertEquals(67524.5, event.priceAsDouble());
+    // text that is not a number is kept as is
+    Assertions.assertEquals("x1", event.getSequence());
+    Assertions.assertThrows(NumberFormatException.class, event::sequenceAsLong);
+
+    event.setTime("5");
+    Assertions.assertEquals(5L, event.timeAsLong());
+    Assertions.assertEquals("5", event.getTime());
+  }
+
+  @Test
+  public void testBoxedFields() throws Exception {
+    String json =
+        "{\"symbol\":\"XBTUSDTM\",\"sequence\":1709284589209,\"bestBidSize\":713,"
+            + "\"bestBidPrice\":\"88987.4\",\"bestAskPrice\":\"88987.5\",\"bestAskSize\":1037,"
+            + "\"ts\":1731665526461000000}";
+    TickerV2Event event = refill(new TickerV2Event(), json);
+    Assertions.assertEquals(MAPPER.readValue(json, TickerV2Event.class), event);
+    Assertions.assertEquals(88987.5, event.bestAskPriceAsDouble());
+  }
+
+  @Test
+  public void testParseDoubleMatchesJdk() {
+    String[] values = {
+      "0",
+      "-0",
+      "1",
+      "+2.5",
+      "0.1",
+      "0.30000000000000004",
+      "67523.1",
+      "0.00000001",
+      "123456789012345",
+      "1234567890.12345",
+      "9007199254740993",
+      "12345678901234567890.5",
+      "1e-7",
+      "3.14159265358979323846",
+      "-88987.40",
+      ".5",
+      "5."
+    };
+    for (String v : values) {
+      Assertions.assertEquals(Double.parseDouble(v), Numbers.parseDouble(v), v);
+    }
+    Assertions.assertTrue(Double.isNaN(Numbers.parseDouble(null)));
+    Assertions.assertThrows(NumberFormatException.class, () -> Numbers.parseDouble("1.2.3"));
+    Assertions.assertThrows(NumberFormatException.class, () -> Numbers.parseDouble(""));
+    for (String v : new String[] {"0", "-1", "+7", "1729843222921000000", "9223372036854775807"}) {
+      char[] buf = (" " + v + " ").toCharArray();
+      Assertions.assertEquals(Long.parseLong(v), Numbers.parseLong(buf, 1, v.length()), v);
+      Assertions.assertEquals(Double.parseDouble(v), Numbers.parseDouble(buf, 1, v.length()), v);
+    }
+    char[] big = "9223372036854775808".toCharArray();
+    Assertions.assertThrows(
+        NumberFormatException.class, () -> Numbers.parseLong(big, 0, big.length));
+  }
+}
@@ -0,0 +1,234 @@
+package com.kucoin.universal.sdk.test.unit.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWsImpl;
+import com.kucoin.universal.sdk.internal.infra.DefaultWsService;
+import com.kucoin.universal.sdk.internal.infra.ShardedWsService;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransport;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransportListener;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.Constants;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ShardedWsServiceTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Connection that acknowledges every write unless told to fail. */
+  private static final class FakeTransport implements WebsocketTransport {
+    final WebsocketTransportListener listener;
+    final List<WsMessage> writes = new ArrayList<>();
+    boolean failing;
+
+    FakeTransport(WebsocketTransportListener listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public synchronized CompletableFuture<Void> write(WsMessage msg, Duration timeout) {
+      writes.add(msg);
+      CompletableFuture<Void> f = new CompletableFuture<>();
+      if (failing) {
+        f.completeExceptionally(new IllegalStateException("write timeout"));
+      } else {
+        f.complete(null);
+      }
+      return f;
+    }
+
+    /** Topics of the subscribe frames written so far. */
+    synchronized List<String> subscribed() {
+      List<String> topics = new ArrayList<>();
+      for (WsMessage m : writes) {
+        if (Constants.WS_MESSAGE_TYPE_SUBSCRIBE.equals(m.getType())) {
+          topics.add(m.getTopic());
+        }
+      }
+      return topics;
+    }
+
+    void receive(String symbol) throws Exception {
+      WsMessage m = new WsMessage();
+      m.setTopic("/market/match:" + symbol);
+      m.setSubject("trade.l3match");
+      m.setType("message");
+      m.setData(MAPPER.readTree("{\"price\":\"1\",\"symbol\":\"" + symbol + "\"}"));
+      listener.onMessage(m);
+    }
+  }
+
+  private final List<FakeTransport> transports = new ArrayList<>();
+  private final List<String> events = new ArrayList<>();
+
+  private ShardedWsService service(int connections, int maxTopics) {
+    ClientOption opt =
+        ClientOption.builder()
+            .websocketClientOption(
+                WebSocketClientOption.builder()
+                    .connections(connections)
+                    .maxTopicsPerConnection(maxTopics)
+                    .eventCallback((event, message) -> events.add(event + " " + message))
+                    .build())
+            .build();
+    return new ShardedWsService(
+        opt,
+        i ->
+            new DefaultWsService(
+                opt,
+                "test",
+                false,
+                l -> {
+                  FakeTransport t = new FakeTransport(l);
+                  transports.add(t);
+                  return t;
+                }));
+  }
+
+  @Test
+  public void testPlacement() throws Exception {
+    SpotPublicWsImpl ws = new SpotPublicWsImpl(service(2, 3));
+    List<String> received = new ArrayList<>();
+    ws.trade(new String[] {"BTC-USDT"}, (topic, subject, e) -> received.add(e.getSymbol()));
+    ws.trade(new String[] {"ETH-USDT"}, (topic, subject, e) -> received.add(e.getSymbol()));
+    String both =
+        ws.trade(
+            new String[] {"XRP-USDT", "SOL-USDT"},
+            (topic, subject, e) -> received.add(e.getSymbol()));
+
+    // one topic each, then the pair goes to the first of two equally loaded connections
+    Assertions.assertEquals(
+        Arrays.asList("/market/match:BTC-USDT", "/market/match:XRP-USDT,SOL-USDT"),
+        transports.get(0).subscribed());
+    Assertions.assertEquals(
+        Arrays.asList("/market/match:ETH-USDT"), transports.get(1).subscribed());
+
+    transports.get(1).receive("ETH-USDT");
+    transports.get(0).receive("SOL-USDT");
+    Assertions.assertEquals(Arrays.asList("ETH-USDT", "SOL-USDT"), received);
+
+    // no connection has room for three more topics
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> ws.trade(new String[] {"A-USDT", "B-USDT", "C-USDT"}, (topic, subject, e) -> {}));
+
+    // the unsubscribe goes to the connection carrying the topics and frees its room
+    ws.unSubscribe(both);
+    Assertions.assertEquals(
+        Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE, last(transports.get(0)).getType());
+    ws.trade(new String[] {"A-USDT", "B-USDT"}, (topic, subject, e) -> {});
+    Assertions.assertEquals("/market/match:A-USDT,B-USDT", last(transports.get(0)).getTopic());
+  }
+
+  @Test
+  public void testReconnectMovesSubscriptions() throws Exception {
+    SpotPublicWsImpl ws = new SpotPublicWsImpl(service(2, 10));
+    List<String> received = new ArrayList<>();
+    ws.trade(new String[] {"BTC-USDT"}, (topic, subject, e) -> received.add(e.getSymbol()));
+    String eth = ws.trade(new String[] {"ETH-USDT"}, (topic, subject, e) -> {});
+    ws.trade(new String[] {"XRP-USDT"}, (topic, subject, e) -> received.add(e.getSymbol()));
+    ws.unSubscribe(eth);
+    Assertions.assertEquals(
+        Arrays.asList("/market/match:BTC-USDT", "/market/match:XRP-USDT"),
+        transports.get(0).subscribed());
+
+    // the first connection reconnects: its topics are spread over both connections again
+    transports.get(0).writes.clear();
+    transports.get(1).writes.clear();
+    transports.get(0).listener.onReconnected();
+    Assertions.assertEquals(1, transports.get(0).subscribed().size());
+    Assertions.assertEquals(1, transports.get(1).subscribed().size());
+    Assertions.assertEquals(2, events.size(), events.toString());
+    Assertions.assertTrue(events.get(0).startsWith("RE_SUBSCRIBE_OK"), events.get(0));
+
+    String moved = transports.get(1).subscribed().get(0);
+    String symbol = moved.substring(moved.indexOf(':') + 1);
+    transports.get(1).receive(symbol);
+    Assertions.assertEquals(Arrays.asList(symbol), received);
+
+    // a subscription that cannot be placed again is reported and dropped
+    events.clear();
+    transports.get(0).failing = true;
+    transports.get(1).failing = true;
+    transports.get(1).listener.onReconnected();
+    Assertions.assertEquals(1, events.size(), events.toString());
+    Assertions.assertTrue(events.get(0).startsWith("RE_SUBSCRIBE_ERROR"), events.get(0));
+    transports.get(0).failing = false;
+    transports.get(1).failing = false;
+    ws.trade(new String[] {symbol}, (topic, subject, e) -> {});
+  }
+
+  @Test
+  public void testReconnectWithStandbyMovesSubscriptions() throws Exception {
+    ClientOption opt =
+        ClientOption.builder()
+            .websocketClientOption(
+                WebSocketClientOption.builder()
+                    .connections(2)
+                    .maxTopicsPerConnection(10)
+                    .eventCallback((event, message) -> events.add(event + " " + message))
+                    .build())
+            .build();
+    List<FakeTransport> standbys = new ArrayList<>();
+    SpotPublicWsImpl ws =
+        new SpotPublicWsImpl(
+            new ShardedWsService(
+                opt,
+                i ->
+                    new DefaultWsService(
+                        opt,
+                        "test",
+                        false,
+                        l -> {
+                          FakeTransport t = new FakeTransport(l);
+                          transports.add(t);
+                          return t;
+                        },
+                        l -> {
+                          FakeTransport t = new FakeTransport(l);
+                          standbys.add(t);
+                          return t;
+                        })));
+    ws.trade(new String[] {"BTC-USDT"}, (topic, subject, e) -> {});
+    String eth = ws.trade(new String[] {"ETH-USDT"}, (topic, subject, e) -> {});
+    ws.trade(new String[] {"XRP-USDT"}, (topic, subject, e) -> {});
+    ws.unSubscribe(eth);
+    Assertions.assertEquals(2, standbys.get(0).subscribed().size());
+
+    // a failover of the first primary spreads its topics as without a standby
+    standbys.get(0).writes.clear();
+    transports.get(1).writes.clear();
+    transports.get(0).listener.onReconnected();
+    Assertions.assertEquals(1, transports.get(1).subscribed().size());
+    Assertions.assertEquals(2, events.size(), events.toString());
+
+    // the standby of the first connection drops both and takes back the one that stayed
+    List<String> types = new ArrayList<>();
+    for (WsMessage m : standbys.get(0).writes) {
+      types.add(m.getType());
+    }
+    Assertions.assertEquals(
+        Arrays.asList(
+            Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE,
+            Constants.WS_MESSAGE_TYPE_UNSUBSCRIBE,
+            Constants.WS_MESSAGE_TYPE_SUBSCRIBE),
+        types);
+  }
+
+  private static WsMessage last(FakeTransport t) {
+    return t.writes.get(t.writes.size() - 1);
+  }
+}
@@ -0,0 +1,249 @@
+package com.kucoin.universal.sdk.test.unit.websocket;
+
+import com.kucoin.universal.sdk.internal.infra.WsDispatcher;
+import com.kucoin.universal.sdk.model.WebSocketClientOption.OverflowPolicy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class WsDispatcherTest {
+
+  @Test
+  public void testOrderPerTopic() throws Exception {
+    WsDispatcher dispatcher = new WsDispatcher(4, 16, OverflowPolicy.BLOCK, "test", null);
+    Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+    String[] topics = {"/market/level2:BTC-USDT", "/market/level2:ETH-USDT", "/market/match:X"};
+    int n = 10_000;
+    CountDownLatch done = new CountDownLatch(n * topics.length);
+    for (int i = 0; i < n; i++) {
+      for (String topic : topics) {
+        int seq = i;
+        dispatcher.dispatch(
+            topic,
+            () -> {
+              seen.computeIfAbsent(topic, k -> Collections.synchronizedList(new ArrayList<>()))
+                  .add(seq);
+              done.countDown();
+            },
+            false);
+      }
+    }
+    Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+    for (String topic : topics) {
+      List<Integer> got = seen.get(topic);
+      Assertions.assertEquals(n, got.size());
+      for (int i = 0; i < n; i++) {
+        Assertions.assertEquals(i, got.get(i));
+      }
+    }
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void testDropOldest() throws Exception {
+    AtomicLong drops = new AtomicLong();
+    WsDispatcher dispatcher =
+        new WsDispatcher(1, 4, OverflowPolicy.DROP_OLDEST, "test", (t, d) -> drops.set(d));
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    // park the worker so the queue fills up
+    dispatcher.dispatch(
+        "a",
+        () -> {
+          started.countDown();
+          await(release);
+        },
+        false);
+    Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    List<Integer> got = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(4);
+    for (int i = 0; i < 10; i++) {
+      int seq = i;
+      dispatcher.dispatch(
+          "a",
+          () -> {
+            got.add(seq);
+            done.countDown();
+          },
+          false);
+    }
+    release.countDown();
+    Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(Arrays.asList(6, 7, 8, 9), got);
+    // reported once per overflow episode
+    Assertions.assertEquals(1, drops.get());
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void testConflateKeepsNewestPerTopic() throws Exception {
+    WsDispatcher dispatcher = new WsDispatcher(1, 16, OverflowPolicy.CONFLATE, "test", null);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    dispatcher.dispatch(
+        "park",
+        () -> {
+          started.countDown();
+          await(release);
+        },
+        false);
+    Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    List<String> got = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(2);
+    for (int i = 0; i < 100; i++) {
+      for (String topic : new String[] {"ticker:BTC", "ticker:ETH"}) {
+        String value = topic + "=" + i;
+        dispatcher.dispatch(
+            topic,
+            () -> {
+              got.add(value);
+              done.countDown();
+            },
+            false);
+      }
+    }
+    release.countDown();
+    Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+    // first-queued position is kept, the value is the newest
+    Assertions.assertEquals(Arrays.asList("ticker:BTC=99", "ticker:ETH=99"), got);
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void testConflatingTasksBesideOrderedOnes() throws Exception {
+    WsDispatcher dispatcher = new WsDispatcher(1, 16, OverflowPolicy.BLOCK, "test", null);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    dispatcher.dispatch(
+        "park",
+        () -> {
+          started.countDown();
+          await(release);
+        },
+        false);
+    Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    List<String> got = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(4);
+    for (int i = 0; i < 3; i++) {
+      String ticker = "ticker=" + i;
+      String trade = "trade=" + i;
+      dispatcher.dispatch(
+          "ticker",
+          () -> {
+            got.add(ticker);
+            done.countDown();
+          },
+          true);
+      dispatcher.dispatch(
+          "trade",
+          () -> {
+            got.add(trade);
+            done.countDown();
+          },
+          false);
+    }
+    release.countDown();
+    Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(Arrays.asList("ticker=2", "trade=0", "trade=1", "trade=2"), got);
+    dispatcher.shutdown();
+  }
+
+  @Test
+  public void testDiscardedTasksAreNotified() throws Exception {
+    for (OverflowPolicy policy :
+        new OverflowPolicy[] {OverflowPolicy.DROP_OLDEST, OverflowPolicy.CONFLATE}) {
+      WsDispatcher dispatcher = new WsDispatcher(1, 2, policy, "test", null);
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch started = new CountDownLatch(1);
+      dispatcher.dispatch(
+          "park",
+          () -> {
+            started.countDown();
+            await(release);
+          },
+          false);
+      Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+      List<Integer> discarded = Collections.synchronizedList(new ArrayList<>());
+      CountDownLatch done = new CountDownLatch(policy == OverflowPolicy.CONFLATE ? 1 : 2);
+      for (int i = 0; i < 5; i++) {
+        int seq = i;
+        dispatcher.dispatch(
+            "a",
+            new WsDispatcher.Task() {
+              @Override
+              public void run() {
+                ran.add(seq);
+                done.countDown();
+              }
+
+              @Override
+              public void discard() {
+                discarded.add(seq);
+              }
+            },
+            false);
+      }
+      release.countDown();
+      Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+      if (policy == OverflowPolicy.CONFLATE) {
+        Assertions.assertEquals(Arrays.asList(4), ran);
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3), discarded);
+      } else {
+        Assertions.assertEquals(Arrays.asList(3, 4), ran);
+        Assertions.assertEquals(Arrays.asList(0, 1, 2), discarded);
+      }
+
+      // tasks still queued at shutdown, and any offered after it, are discarded too
+      discarded.clear();
+      CountDownLatch parked = new CountDownLatch(1);
+      CountDownLatch hold = new CountDownLatch(1);
+      dispatcher.dispatch(
+          "park",
+          () -> {
+            parked.countDown();
+            await(hold);
+          },
+          false);
+      Assertions.assertTrue(parked.await(5, TimeUnit.SECONDS));
+      for (int i = 10; i < 12; i++) {
+        int seq = i;
+        dispatcher.dispatch(
+            "b" + i,
+            new WsDispatcher.Task() {
+              @Override
+              public void run() {}
+
+              @Override
+              public void discard() {
+                discarded.add(seq);
+              }
+            },
+            false);
+      }
+      dispatcher.shutdown();
+      hold.countDown();
+      Assertions.assertEquals(Arrays.asList(10, 11), discarded);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.kucoin.universal.sdk.test.unit.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.SpotPublicWsImpl;
+import com.kucoin.universal.sdk.generate.spot.spotpublic.TradeEvent;
+import com.kucoin.universal.sdk.internal.infra.DefaultWsService;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransport;
+import com.kucoin.universal.sdk.internal.interfaces.WebsocketTransportListener;
+import com.kucoin.universal.sdk.model.ClientOption;
+import com.kucoin.universal.sdk.model.WebSocketClientOption;
+import com.kucoin.universal.sdk.model.WebSocketEvent;
+import com.kucoin.universal.sdk.model.WsMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class WsStandbyTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Connection that acknowledges writes unless told to fail the next ones. */
+  private static final class FakeTransport implements WebsocketTransport {
+    final WebsocketTransportListener listener;
+    final List<WsMessage> writes = new ArrayList<>();
+    int failures;
+
+    FakeTransport(WebsocketTransportListener listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public synchronized CompletableFuture<Void> write(WsMessage msg, Duration timeout) {
+      writes.add(msg);
+      CompletableFuture<Void> f = new CompletableFuture<>();
+      if (failures > 0) {
+        failures--;
+        f.completeExceptionally(new IllegalStateException("write timeout"));
+      } else {
+        f.complete(null);
+      }
+      return f;
+    }
+
+    void receive(String data, boolean bind) throws Exception {
+      WsMessage m = new WsMessage();
+      m.setTopic("/market/match:BTC-USDT");
+      m.setSubject("trade.l3match");
+      m.setType("message");
+      if (bind) {
+        m.setPayload(MAPPER.readValue(data, TradeEvent.class));
+      } else {
+        m.setData(MAPPER.readTree(data));
+      }
+      listener.onMessage(m);
+    }
+  }
+
+  private FakeTransport primary;
+  private FakeTransport standby;
+  private final List<String> events = new ArrayList<>();
+
+  private DefaultWsService service() {
+    ClientOption opt =
+        ClientOption.builder()
+            .websocketClientOption(
+                WebSocketClientOption.builder()
+                    .eventCallback((event, message) -> events.add(event + " " + message))
+                    .build())
+            .build();
+    return new DefaultWsService(
+        opt,
+        "test",
+        false,
+        l -> primary = new FakeTransport(l),
+        l -> standby = new FakeTransport(l));
+  }
+
+  private static String trade(int seq) {
+    return "{\"price\":\"67523\",\"sequence\":\""
+        + seq
+        + "\",\"side\":\"buy\",\"size\":\"0.003\",\"symbol\":\"BTC-USDT\",\"time\":\""
+        + (1729843222921000000L + seq)
+        + "\",\"tradeId\":\""
+        + seq
+        + "\",\"type\":\"match\"}";
+  }
+
+  @Test
+  public void testDuplicatesDeliveredOnce() throws Exception {
+    DefaultWsService service = service();
+    List<Long> received = new ArrayList<>();
+    new SpotPublicWsImpl(service)
+        .trade(new String[] {"BTC-USDT"}, (topic, subject, e) -> received.add(e.sequenceAsLong()));
+    Assertions.assertEquals(1, primary.writes.size());
+    Assertions.assertEquals(1, standby.writes.size());
+
+    for (boolean bind : new boolean[] {false, true}) {
+      received.clear();
+      int base = bind ? 100 : 0;
+      primary.receive(trade(base + 1), bind);
+      standby.receive(trade(base + 1), bind);
+      standby.receive(trade(base + 2), bind);
+      primary.receive(trade(base + 2), bind);
+      primary.receive(trade(base + 3), bind);
+      Assertions.assertEquals(
+          Arrays.asList(base + 1L, base + 2L, base + 3L), received, "bind:" + bind);
+    }
+
+    // without identifying fields only the active connection is heard
+    received.clear();
+    String anonymous = "{\"price\":\"1\",\"symbol\":\"BTC-USDT\"}";
+    primary.receive(anonymous, false);
+    standby.receive(anonymous, false);
+    Assertions.assertEquals(1, received.size());
+    primary.listener.onEvent(WebSocketEvent.DISCONNECTED, "");
+    primary.receive(anonymous, false);
+    standby.receive(anonymous, false);
+    Assertions.assertEquals(2, received.size());
+  }
+
+  @Test
+  public void testStandbyWriteFailure() {
+    DefaultWsService service = service();
+    SpotPublicWsImpl ws = new SpotPublicWsImpl(service);
+
+    // a single failure is retried
+    standby.failures = 1;
+    ws.trade(new String[] {"BTC-USDT"}, (topic, subject, e) -> {});
+    Assertions.assertEquals(2, standby.writes.size());
+    Assertions.assertFalse(service.isStandbyDegraded());
+    Assertions.assertTrue(events.isEmpty(), events.toString());
+
+    // the subscribe still succeeds over the primary, but the standby is marked degraded
+    standby.failures = 2;
+    ws.trade(new String[] {"ETH-USDT"}, (topic, subject, e) -> {});
+    Assertions.assertEquals(4, standby.writes.size());
+    Assertions.assertTrue(service.isStandbyDegraded());
+    Assertions.assertEquals(1, events.size(), events.toString());
+    Assertions.assertTrue(events.get(0).startsWith("ERROR_RECEIVED standby degraded"));
+
+    // both failing fails the subscribe
+    primary.failures = 1;
+    standby.failures = 2;
+    Assertions.assertThrows(
+        RuntimeException.class, () -> ws.trade(new String[] {"XRP-USDT"}, (t, s, e) -> {}));
+
+    // a reconnect of the standby resubscribes every topic and clears the mark
+    int before = standby.writes.size();
+    standby.listener.onReconnected();
+    Assertions.assertFalse(service.isStandbyDegraded());
+    Assertions.assertEquals(before + 2, standby.writes.size());
+  }
+}